@@ -35,6 +35,7 @@ public final class RaftMemberContext {
   private final DefaultRaftMember member;
   private final DescriptiveStatistics timeStats = new DescriptiveStatistics(APPEND_WINDOW_SIZE);
   private final int maxAppendsPerMember;
+  private final int maxSnapshotChunksInFlight;
   private long term;
   private long configIndex;
   private long snapshotIndex;
@@ -47,7 +48,7 @@ public final class RaftMemberContext {
   private boolean appendSucceeded;
   private long appendTime;
   private boolean configuring;
-  private boolean installing;
+  private int inFlightInstallCount;
   private int failures;
   private long failureTime;
   private volatile RaftLogReader reader;
@@ -57,9 +58,11 @@ public final class RaftMemberContext {
   RaftMemberContext(
       final DefaultRaftMember member,
       final RaftClusterContext cluster,
-      final int maxAppendsPerMember) {
+      final int maxAppendsPerMember,
+      final int maxSnapshotChunksInFlight) {
     this.member = checkNotNull(member, "member cannot be null").setCluster(cluster);
     this.maxAppendsPerMember = maxAppendsPerMember;
+    this.maxSnapshotChunksInFlight = maxSnapshotChunksInFlight;
   }
 
   /** Resets the member state. */
@@ -73,7 +76,7 @@ public final class RaftMemberContext {
     inFlightAppendCount = 0;
     timeStats.clear();
     configuring = false;
-    installing = false;
+    inFlightInstallCount = 0;
     appendSucceeded = false;
     failures = 0;
     failureTime = 0;
@@ -209,20 +212,34 @@ public final class RaftMemberContext {
   /**
    * Returns a boolean indicating whether an install request can be sent to the member.
    *
+   * <p>The first chunk of a snapshot is only sent once all previous install requests completed, and
+   * must be acknowledged before any further chunk is sent. Afterwards, up to {@code
+   * maxSnapshotChunksInFlight} chunks may be sent without waiting for their responses.
+   *
    * @return Indicates whether an install request can be sent to the member.
    */
   public boolean canInstall() {
-    return !installing;
+    final int maxInFlightInstalls = nextSnapshotChunk == null ? 1 : maxSnapshotChunksInFlight;
+    return inFlightInstallCount < maxInFlightInstalls;
+  }
+
+  /**
+   * Returns a boolean indicating whether install requests to the member are in flight.
+   *
+   * @return Indicates whether install requests to the member are in flight.
+   */
+  public boolean isInstalling() {
+    return inFlightInstallCount > 0;
   }
 
   /** Starts an install request to the member. */
   public void startInstall() {
-    installing = true;
+    inFlightInstallCount++;
   }
 
   /** Completes an install request to the member. */
   public void completeInstall() {
-    installing = false;
+    inFlightInstallCount = Math.max(0, inFlightInstallCount - 1);
   }
 
   /**
@@ -258,7 +275,7 @@ public final class RaftMemberContext {
         .add("appendSucceeded", appendSucceeded)
         .add("appendTime", appendTime)
         .add("configuring", configuring)
-        .add("installing", installing)
+        .add("installing", inFlightInstallCount)
         .add("failures", failures)
         .toString();
   }
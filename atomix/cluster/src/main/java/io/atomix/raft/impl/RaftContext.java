@@ -1168,6 +1168,14 @@ public class RaftContext implements AutoCloseable, HealthMonitorable {
     partitionConfig.setPreferSnapshotReplicationThreshold(snapshotReplicationThreshold);
   }
 
+  public int getSnapshotChunkSize() {
+    return partitionConfig.getSnapshotChunkSize();
+  }
+
+  public int getMaxSnapshotChunksInFlight() {
+    return partitionConfig.getMaxSnapshotChunksInFlight();
+  }
+
   public int getPartitionId() {
     return partitionId;
   }
@@ -483,6 +483,30 @@ public final class RaftPartitionGroup implements ManagedPartitionGroup {
       return this;
     }
 
+    /**
+     * Sets the maximum size of a single snapshot chunk, in bytes. Snapshot files which are larger
+     * are replicated in multiple chunks to followers which support it.
+     *
+     * @param snapshotChunkSize the maximum size of a snapshot chunk in bytes
+     * @return this builder for chaining
+     */
+    public Builder withSnapshotChunkSize(final int snapshotChunkSize) {
+      config.getPartitionConfig().setSnapshotChunkSize(snapshotChunkSize);
+      return this;
+    }
+
+    /**
+     * Sets the maximum number of snapshot chunks which the leader sends to a follower without
+     * waiting for them to be acknowledged.
+     *
+     * @param maxSnapshotChunksInFlight the maximum number of unacknowledged snapshot chunks
+     * @return this builder for chaining
+     */
+    public Builder withMaxSnapshotChunksInFlight(final int maxSnapshotChunksInFlight) {
+      config.getPartitionConfig().setMaxSnapshotChunksInFlight(maxSnapshotChunksInFlight);
+      return this;
+    }
+
     /**
      * Sets whether segment files are pre-allocated at creation. If true, segment files are
      * pre-allocated to the maximum segment size (see {@link #withSegmentSize(long)}) at creation
@@ -16,19 +16,32 @@
  */
 package io.atomix.raft.protocol;
 
+import static com.google.common.base.MoreObjects.toStringHelper;
+
 import io.atomix.raft.RaftError;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
 
 /**
  * Snapshot installation response.
  *
  * <p>Install responses are sent once a snapshot installation request has been received and
- * processed. Install responses provide no additional metadata aside from indicating whether or not
- * the request was successful.
+ * processed. Besides indicating whether or not the request was successful, the response to the
+ * initial request of a snapshot lists the files which the member already holds, such that the
+ * leader does not have to send them again.
  */
 public class InstallResponse extends AbstractRaftResponse {
 
-  public InstallResponse(final Status status, final RaftError error) {
+  // null if the member does not support receiving files in multiple chunks
+  private final HashMap<String, Long> snapshotFileChecksums;
+
+  public InstallResponse(
+      final Status status,
+      final RaftError error,
+      final HashMap<String, Long> snapshotFileChecksums) {
     super(status, error);
+    this.snapshotFileChecksums = snapshotFileChecksums;
   }
 
   /**
@@ -40,13 +53,65 @@ public class InstallResponse extends AbstractRaftResponse {
     return new Builder();
   }
 
+  /**
+   * Returns the checksums of the files of the member's latest snapshot, by file name. It's only set
+   * in response to the initial request of a snapshot, and only by members which support receiving
+   * files in multiple chunks.
+   *
+   * @return the checksums of the files the member holds, or null if not set
+   */
+  public Map<String, Long> snapshotFileChecksums() {
+    return snapshotFileChecksums;
+  }
+
+  @Override
+  public int hashCode() {
+    return Objects.hash(getClass(), status, snapshotFileChecksums);
+  }
+
+  @Override
+  public boolean equals(final Object object) {
+    if (object instanceof InstallResponse) {
+      final InstallResponse response = (InstallResponse) object;
+      return response.status == status
+          && Objects.equals(response.error, error)
+          && Objects.equals(response.snapshotFileChecksums, snapshotFileChecksums);
+    }
+    return false;
+  }
+
+  @Override
+  public String toString() {
+    if (status == Status.OK) {
+      return toStringHelper(this)
+          .add("status", status)
+          .add("snapshotFiles", snapshotFileChecksums != null ? snapshotFileChecksums.size() : null)
+          .toString();
+    } else {
+      return toStringHelper(this).add("status", status).add("error", error).toString();
+    }
+  }
+
   /** Install response builder. */
   public static class Builder extends AbstractRaftResponse.Builder<Builder, InstallResponse> {
 
+    private HashMap<String, Long> snapshotFileChecksums;
+
+    /**
+     * Sets the checksums of the files of the member's latest snapshot.
+     *
+     * @param snapshotFileChecksums the checksums of the files the member holds, by file name
+     * @return The install response builder.
+     */
+    public Builder withSnapshotFileChecksums(final Map<String, Long> snapshotFileChecksums) {
+      this.snapshotFileChecksums = new HashMap<>(snapshotFileChecksums);
+      return this;
+    }
+
     @Override
     public InstallResponse build() {
       validate();
-      return new InstallResponse(status, error);
+      return new InstallResponse(status, error, snapshotFileChecksums);
     }
   }
 }
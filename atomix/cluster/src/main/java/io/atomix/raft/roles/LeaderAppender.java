@@ -356,6 +356,12 @@ final class LeaderAppender {
   private Optional<InstallRequest> buildInstallRequest(
       final RaftMemberContext member, final PersistedSnapshot persistedSnapshot) {
     if (member.getNextSnapshotIndex() != persistedSnapshot.getIndex()) {
+      if (member.isInstalling()) {
+        // wait until all chunks of the previous snapshot are acknowledged, as the member would
+        // otherwise abort the new snapshot when receiving them
+        return Optional.empty();
+      }
+
       try {
         final SnapshotChunkReader snapshotChunkReader = persistedSnapshot.newChunkReader();
         member.setSnapshotChunkReader(snapshotChunkReader);
@@ -376,6 +382,7 @@ final class LeaderAppender {
     }
 
     try {
+      final ByteBuffer chunkId = reader.nextId();
       final SnapshotChunk chunk = reader.next();
 
       // Create the install request, indicating whether this is the last chunk of data based on
@@ -390,7 +397,7 @@ final class LeaderAppender {
               .withTerm(persistedSnapshot.getTerm())
               .withVersion(persistedSnapshot.version())
               .withData(new SnapshotChunkImpl(chunk).toByteBuffer())
-              .withChunkId(ByteBuffer.wrap(chunk.getChunkName().getBytes()))
+              .withChunkId(chunkId)
               .withInitial(member.getNextSnapshotChunk() == null)
               .withComplete(!reader.hasNext())
               .withNextChunkId(reader.nextId())
@@ -440,9 +447,12 @@ final class LeaderAppender {
   private void handleInstallResponseFailure(
       final RaftMemberContext member, final InstallRequest request, final Throwable error) {
     // Reset the member's snapshot index and offset to resend the snapshot from the start
-    // once a connection to the member is re-established.
-    member.setNextSnapshotIndex(0);
-    member.setNextSnapshotChunk(null);
+    // once a connection to the member is re-established. Failures of requests which were sent
+    // before the snapshot was restarted already caused the restart, and are only logged.
+    if (member.getNextSnapshotIndex() == request.index()) {
+      member.setNextSnapshotIndex(0);
+      member.setNextSnapshotChunk(null);
+    }
 
     // Log the failed attempt to contact the member.
     failAttempt(member, request, error);
@@ -450,10 +460,26 @@ final class LeaderAppender {
 
   /** Handles an OK install response. */
   private void handleInstallResponseOk(
-      final RaftMemberContext member, final InstallRequest request) {
+      final RaftMemberContext member,
+      final InstallRequest request,
+      final InstallResponse response) {
     // Reset the member failure count and update the member's status if necessary.
     succeedAttempt(member);
 
+    // Ignore responses to requests which were sent before the snapshot was restarted; the
+    // remaining chunks are sent again from the start.
+    if (member.getNextSnapshotIndex() != request.index()) {
+      return;
+    }
+
+    // If the member lists the files it already has, it can also receive files in multiple chunks.
+    // Older members do not, in which case every file is sent as a whole.
+    if (request.isInitial() && response.snapshotFileChecksums() != null) {
+      final var reader = member.getSnapshotChunkReader();
+      reader.setMaximumChunkSize(raft.getSnapshotChunkSize());
+      reader.setReusableFiles(response.snapshotFileChecksums());
+    }
+
     // If the install request was completed successfully, set the member's snapshotIndex and reset
     // the next snapshot index/offset.
     if (request.complete()) {
@@ -483,8 +509,10 @@ final class LeaderAppender {
         member.getMember().memberId(),
         response.error().toString());
 
-    member.setNextSnapshotIndex(0);
-    member.setNextSnapshotChunk(null);
+    if (member.getNextSnapshotIndex() == request.index()) {
+      member.setNextSnapshotIndex(0);
+      member.setNextSnapshotChunk(null);
+    }
   }
 
   /**
@@ -778,7 +806,7 @@ final class LeaderAppender {
       final InstallResponse response,
       final long timestamp) {
     if (response.status() == RaftResponse.Status.OK) {
-      handleInstallResponseOk(member, request);
+      handleInstallResponseOk(member, request, response);
     } else {
       handleInstallResponseError(member, request, response);
     }
@@ -835,8 +863,14 @@ final class LeaderAppender {
         "Replicating snapshot {} to {}",
         persistedSnapshot.getIndex(),
         member.getMember().memberId());
-    buildInstallRequest(member, persistedSnapshot)
-        .ifPresent(installRequest -> sendInstallRequest(member, installRequest));
+    while (member.canInstall()) {
+      final var installRequest = buildInstallRequest(member, persistedSnapshot);
+      if (installRequest.isEmpty()) {
+        break;
+      }
+
+      sendInstallRequest(member, installRequest.get());
+    }
   }
 
   private void replicateEvents(final RaftMemberContext member) {
@@ -38,8 +38,10 @@ import io.atomix.raft.storage.log.RaftLogReader;
 import io.camunda.zeebe.journal.JournalException;
 import io.camunda.zeebe.journal.JournalException.InvalidChecksum;
 import io.camunda.zeebe.journal.JournalException.InvalidIndex;
+import io.camunda.zeebe.snapshots.PersistedSnapshot;
 import io.camunda.zeebe.snapshots.ReceivedSnapshot;
 import java.nio.ByteBuffer;
+import java.util.Map;
 import java.util.concurrent.CompletableFuture;
 import org.agrona.concurrent.UnsafeBuffer;
 
@@ -254,8 +256,17 @@ public class PassiveRole extends InactiveRole {
       setNextExpected(request.nextChunkId());
     }
 
-    return CompletableFuture.completedFuture(
-        logResponse(InstallResponse.builder().withStatus(RaftResponse.Status.OK).build()));
+    final var response = InstallResponse.builder().withStatus(RaftResponse.Status.OK);
+    if (request.isInitial() && !request.complete()) {
+      // let the leader know which files we already have, such that it does not send them again
+      response.withSnapshotFileChecksums(
+          raft.getPersistedSnapshotStore()
+              .getLatestSnapshot()
+              .map(PersistedSnapshot::getFileChecksums)
+              .orElse(Map.of()));
+    }
+
+    return CompletableFuture.completedFuture(logResponse(response.build()));
   }
 
   @Override
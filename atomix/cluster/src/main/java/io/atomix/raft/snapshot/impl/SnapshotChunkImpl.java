@@ -35,6 +35,8 @@ public final class SnapshotChunkImpl
   private String chunkName;
   private long checksum;
   private long snapshotChecksum;
+  private long fileBlockPosition;
+  private long totalFileSize;
 
   public SnapshotChunkImpl() {}
 
@@ -44,6 +46,8 @@ public final class SnapshotChunkImpl
     chunkName = chunk.getChunkName();
     checksum = chunk.getChecksum();
     snapshotChecksum = chunk.getSnapshotChecksum();
+    fileBlockPosition = chunk.getFileBlockPosition();
+    totalFileSize = chunk.getTotalFileSize();
     content.wrap(chunk.getContent());
   }
 
@@ -64,6 +68,8 @@ public final class SnapshotChunkImpl
     totalCount = SnapshotChunkDecoder.totalCountNullValue();
     checksum = SnapshotChunkDecoder.checksumNullValue();
     snapshotChecksum = SnapshotChunkDecoder.snapshotChecksumNullValue();
+    fileBlockPosition = 0;
+    totalFileSize = 0;
 
     snapshotId = "";
     chunkName = "";
@@ -91,6 +97,8 @@ public final class SnapshotChunkImpl
         .chunkName(chunkName)
         .checksum(checksum)
         .snapshotChecksum(snapshotChecksum)
+        .fileBlockPosition(fileBlockPosition)
+        .totalFileSize(totalFileSize)
         .putContent(content, 0, content.capacity());
   }
 
@@ -104,9 +112,20 @@ public final class SnapshotChunkImpl
     checksum = decoder.checksum();
     snapshotChecksum = decoder.snapshotChecksum();
 
+    fileBlockPosition = decoder.fileBlockPosition();
+    totalFileSize = decoder.totalFileSize();
+
     if (decoder.contentLength() > 0) {
       decoder.wrapContent(content);
     }
+
+    // chunks of previous versions always contain a complete file
+    if (fileBlockPosition == SnapshotChunkDecoder.fileBlockPositionNullValue()) {
+      fileBlockPosition = 0;
+    }
+    if (totalFileSize == SnapshotChunkDecoder.totalFileSizeNullValue()) {
+      totalFileSize = content.capacity();
+    }
   }
 
   @Override
@@ -139,6 +158,16 @@ public final class SnapshotChunkImpl
     return snapshotChecksum;
   }
 
+  @Override
+  public long getFileBlockPosition() {
+    return fileBlockPosition;
+  }
+
+  @Override
+  public long getTotalFileSize() {
+    return totalFileSize;
+  }
+
   @Override
   public String toString() {
     return "SnapshotChunkImpl{"
@@ -153,6 +182,10 @@ public final class SnapshotChunkImpl
         + checksum
         + ", snapshotChecksum="
         + snapshotChecksum
+        + ", fileBlockPosition="
+        + fileBlockPosition
+        + ", totalFileSize="
+        + totalFileSize
         + "} "
         + super.toString();
   }
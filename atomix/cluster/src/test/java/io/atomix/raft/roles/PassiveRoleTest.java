@@ -23,20 +23,31 @@ import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import io.atomix.cluster.MemberId;
+import io.atomix.raft.cluster.impl.RaftClusterContext;
 import io.atomix.raft.impl.RaftContext;
 import io.atomix.raft.metrics.RaftReplicationMetrics;
 import io.atomix.raft.protocol.AppendRequest;
 import io.atomix.raft.protocol.AppendResponse;
+import io.atomix.raft.protocol.InstallRequest;
+import io.atomix.raft.protocol.InstallResponse;
 import io.atomix.raft.protocol.PersistedRaftRecord;
+import io.atomix.raft.protocol.RaftResponse;
+import io.atomix.raft.snapshot.impl.SnapshotChunkImpl;
 import io.atomix.raft.storage.RaftStorage;
 import io.atomix.raft.storage.log.IndexedRaftLogEntry;
 import io.atomix.raft.storage.log.RaftLog;
 import io.camunda.zeebe.journal.JournalException;
 import io.camunda.zeebe.journal.JournalException.InvalidChecksum;
+import io.camunda.zeebe.scheduler.future.CompletableActorFuture;
 import io.camunda.zeebe.snapshots.PersistedSnapshot;
 import io.camunda.zeebe.snapshots.ReceivableSnapshotStore;
+import io.camunda.zeebe.snapshots.ReceivedSnapshot;
+import io.camunda.zeebe.snapshots.SnapshotChunk;
 import java.io.IOException;
+import java.nio.ByteBuffer;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.TimeUnit;
 import org.junit.Before;
@@ -62,9 +73,14 @@ public class PassiveRoleTest {
     final PersistedSnapshot snapshot = mock(PersistedSnapshot.class);
     when(snapshot.getIndex()).thenReturn(1L);
     when(snapshot.getTerm()).thenReturn(1L);
+    when(snapshot.getFileChecksums()).thenReturn(Map.of("file", 1L));
 
     final ReceivableSnapshotStore store = mock(ReceivableSnapshotStore.class);
     when(store.getLatestSnapshot()).thenReturn(Optional.of(snapshot));
+    final ReceivedSnapshot receivedSnapshot = mock(ReceivedSnapshot.class);
+    when(receivedSnapshot.index()).thenReturn(2L);
+    when(receivedSnapshot.apply(any())).thenReturn(CompletableActorFuture.completed(null));
+    when(store.newReceivedSnapshot(any())).thenReturn(receivedSnapshot);
 
     final RaftStorage storage = mock(RaftStorage.class);
     when(ctx.getStorage()).thenReturn(storage);
@@ -72,6 +88,7 @@ public class PassiveRoleTest {
     when(ctx.getPersistedSnapshotStore()).thenReturn(store);
     when(ctx.getTerm()).thenReturn(1L);
     when(ctx.getReplicationMetrics()).thenReturn(mock(RaftReplicationMetrics.class));
+    when(ctx.getCluster()).thenReturn(mock(RaftClusterContext.class));
 
     role = new PassiveRole(ctx);
   }
@@ -175,4 +192,50 @@ public class PassiveRoleTest {
     // then
     verify(log, times(1)).flush();
   }
+
+  @Test
+  public void shouldListSnapshotFilesInResponseToInitialChunk() {
+    // given
+    final InstallRequest request = newInstallRequest(true, false);
+
+    // when
+    final InstallResponse response = role.onInstall(request).join();
+
+    // then
+    assertThat(response.status()).isEqualTo(RaftResponse.Status.OK);
+    assertThat(response.snapshotFileChecksums()).containsExactly(Map.entry("file", 1L));
+  }
+
+  @Test
+  public void shouldNotListSnapshotFilesInResponseToFollowingChunks() {
+    // given
+    role.onInstall(newInstallRequest(true, false)).join();
+
+    // when
+    final InstallResponse response = role.onInstall(newInstallRequest(false, false)).join();
+
+    // then
+    assertThat(response.status()).isEqualTo(RaftResponse.Status.OK);
+    assertThat(response.snapshotFileChecksums()).isNull();
+  }
+
+  private InstallRequest newInstallRequest(final boolean initial, final boolean complete) {
+    final SnapshotChunk chunk = mock(SnapshotChunk.class);
+    when(chunk.getSnapshotId()).thenReturn("2-1-1-1");
+    when(chunk.getChunkName()).thenReturn("file");
+    when(chunk.getContent()).thenReturn(new byte[1]);
+
+    return InstallRequest.builder()
+        .withCurrentTerm(1)
+        .withLeader(MemberId.from("leader"))
+        .withIndex(2)
+        .withTerm(1)
+        .withVersion(1)
+        .withData(new SnapshotChunkImpl(chunk).toByteBuffer())
+        .withChunkId(ByteBuffer.wrap("file".getBytes()))
+        .withNextChunkId(complete ? null : ByteBuffer.wrap("file".getBytes()))
+        .withInitial(initial)
+        .withComplete(complete)
+        .build();
+  }
 }
@@ -0,0 +1,138 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.db.impl.rocksdb.transaction;
+
+import io.camunda.zeebe.db.ColumnFamily;
+import io.camunda.zeebe.db.ConsistencyChecksSettings;
+import io.camunda.zeebe.db.TransactionContext;
+import io.camunda.zeebe.db.ZeebeDb;
+import io.camunda.zeebe.db.impl.DbCompositeKey;
+import io.camunda.zeebe.db.impl.DbLong;
+import io.camunda.zeebe.db.impl.DefaultColumnFamily;
+import io.camunda.zeebe.db.impl.rocksdb.RocksDbConfiguration;
+import io.camunda.zeebe.db.impl.rocksdb.ZeebeRocksDbFactory;
+import io.camunda.zeebe.util.FileUtil;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Measures the cost of the most common {@link TransactionalColumnFamily} operations on the
+ * processing path: point lookups, upserts inside a transaction, and prefix iteration (which is how
+ * most of the engine state, e.g. activatable jobs or timers, is scanned).
+ *
+ * <p>The column family is pre-filled with {@code prefixCount * entriesPerPrefix} entries keyed by
+ * {@code (prefix, index)}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+public class TransactionalColumnFamilyBenchmark {
+
+  @Param({"100"})
+  private int prefixCount;
+
+  @Param({"1000"})
+  private int entriesPerPrefix;
+
+  private Path dataDirectory;
+  private ZeebeDb<DefaultColumnFamily> zeebeDb;
+  private TransactionContext transactionContext;
+
+  private DbLong prefix;
+  private DbLong index;
+  private DbLong value;
+  private DbCompositeKey<DbLong, DbLong> key;
+  private ColumnFamily<DbCompositeKey<DbLong, DbLong>, DbLong> columnFamily;
+
+  @Setup(Level.Trial)
+  public void setup() throws Exception {
+    dataDirectory = Files.createTempDirectory("zb-db-benchmark");
+    zeebeDb =
+        new ZeebeRocksDbFactory<DefaultColumnFamily>(
+                new RocksDbConfiguration(), new ConsistencyChecksSettings())
+            .createDb(dataDirectory.toFile());
+    transactionContext = zeebeDb.createContext();
+
+    prefix = new DbLong();
+    index = new DbLong();
+    value = new DbLong();
+    key = new DbCompositeKey<>(prefix, index);
+    columnFamily =
+        zeebeDb.createColumnFamily(DefaultColumnFamily.DEFAULT, transactionContext, key, value);
+
+    for (int p = 0; p < prefixCount; p++) {
+      final int currentPrefix = p;
+      transactionContext.runInTransaction(
+          () -> {
+            for (int i = 0; i < entriesPerPrefix; i++) {
+              prefix.wrapLong(currentPrefix);
+              index.wrapLong(i);
+              value.wrapLong(i);
+              columnFamily.upsert(key, value);
+            }
+          });
+    }
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() throws Exception {
+    zeebeDb.close();
+    FileUtil.deleteFolderIfExists(dataDirectory);
+  }
+
+  @Benchmark
+  public DbLong get() {
+    final var random = ThreadLocalRandom.current();
+    prefix.wrapLong(random.nextInt(prefixCount));
+    index.wrapLong(random.nextInt(entriesPerPrefix));
+    return columnFamily.get(key);
+  }
+
+  @Benchmark
+  public void upsert() {
+    final var random = ThreadLocalRandom.current();
+    transactionContext.runInTransaction(
+        () -> {
+          prefix.wrapLong(random.nextInt(prefixCount));
+          index.wrapLong(random.nextInt(entriesPerPrefix));
+          value.wrapLong(random.nextLong());
+          columnFamily.upsert(key, value);
+        });
+  }
+
+  @Benchmark
+  public void whileEqualPrefix(final Blackhole blackhole) {
+    final var scanPrefix = new DbLong();
+    scanPrefix.wrapLong(ThreadLocalRandom.current().nextInt(prefixCount));
+    columnFamily.whileEqualPrefix(
+        scanPrefix,
+        (compositeKey, currentValue) -> {
+          blackhole.consume(currentValue.getValue());
+          return true;
+        });
+  }
+}
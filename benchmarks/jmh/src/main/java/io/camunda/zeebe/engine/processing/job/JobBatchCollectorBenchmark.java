@@ -0,0 +1,160 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.engine.processing.job;
+
+import io.camunda.zeebe.db.ConsistencyChecksSettings;
+import io.camunda.zeebe.db.TransactionContext;
+import io.camunda.zeebe.db.ZeebeDb;
+import io.camunda.zeebe.db.impl.rocksdb.RocksDbConfiguration;
+import io.camunda.zeebe.db.impl.rocksdb.ZeebeRocksDbFactory;
+import io.camunda.zeebe.engine.processing.job.JobBatchCollector.TooLargeJob;
+import io.camunda.zeebe.engine.state.ProcessingDbState;
+import io.camunda.zeebe.engine.state.mutable.MutableProcessingState;
+import io.camunda.zeebe.engine.util.MockTypedRecord;
+import io.camunda.zeebe.msgpack.spec.MsgPackWriter;
+import io.camunda.zeebe.protocol.Protocol;
+import io.camunda.zeebe.protocol.ZbColumnFamilies;
+import io.camunda.zeebe.protocol.impl.record.RecordMetadata;
+import io.camunda.zeebe.protocol.impl.record.value.job.JobBatchRecord;
+import io.camunda.zeebe.protocol.impl.record.value.job.JobRecord;
+import io.camunda.zeebe.protocol.record.RecordType;
+import io.camunda.zeebe.protocol.record.ValueType;
+import io.camunda.zeebe.protocol.record.intent.JobBatchIntent;
+import io.camunda.zeebe.stream.impl.state.DbKeyGenerator;
+import io.camunda.zeebe.util.Either;
+import io.camunda.zeebe.util.FileUtil;
+import io.camunda.zeebe.util.buffer.BufferUtil;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import org.agrona.DirectBuffer;
+import org.agrona.ExpandableArrayBuffer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures how long it takes to collect a batch of activatable jobs, including their variables,
+ * from the state. The collector does not modify the state, so every invocation activates the same
+ * jobs again.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+public class JobBatchCollectorBenchmark {
+
+  private static final String JOB_TYPE = "benchmark";
+
+  @Param({"1000"})
+  private int activatableJobs;
+
+  @Param({"10", "100"})
+  private int maxJobsToActivate;
+
+  @Param({"10"})
+  private int variablesPerJob;
+
+  private Path dataDirectory;
+  private ZeebeDb<ZbColumnFamilies> zeebeDb;
+  private TransactionContext transactionContext;
+  private MutableProcessingState state;
+  private JobBatchCollector collector;
+
+  @Setup(Level.Trial)
+  public void setup() throws Exception {
+    dataDirectory = Files.createTempDirectory("job-batch-benchmark");
+    zeebeDb =
+        new ZeebeRocksDbFactory<ZbColumnFamilies>(
+                new RocksDbConfiguration(), new ConsistencyChecksSettings())
+            .createDb(dataDirectory.toFile());
+    transactionContext = zeebeDb.createContext();
+    state =
+        new ProcessingDbState(
+            Protocol.DEPLOYMENT_PARTITION,
+            zeebeDb,
+            transactionContext,
+            new DbKeyGenerator(Protocol.DEPLOYMENT_PARTITION, zeebeDb, transactionContext));
+
+    transactionContext.runInTransaction(
+        () -> {
+          for (int i = 0; i < activatableJobs; i++) {
+            createJobWithVariables();
+          }
+        });
+
+    collector =
+        new JobBatchCollector(state.getJobState(), state.getVariableState(), length -> true);
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() throws Exception {
+    zeebeDb.close();
+    FileUtil.deleteFolderIfExists(dataDirectory);
+  }
+
+  @Benchmark
+  public Either<TooLargeJob, Integer> collectJobs() {
+    final var metadata =
+        new RecordMetadata()
+            .recordType(RecordType.COMMAND)
+            .intent(JobBatchIntent.ACTIVATE)
+            .valueType(ValueType.JOB_BATCH);
+    final var batchRecord =
+        new JobBatchRecord()
+            .setTimeout(Duration.ofSeconds(10).toMillis())
+            .setMaxJobsToActivate(maxJobsToActivate)
+            .setType(JOB_TYPE)
+            .setWorker("benchmark-worker");
+
+    return collector.collectJobs(new MockTypedRecord<>(1L, metadata, batchRecord));
+  }
+
+  private void createJobWithVariables() {
+    final long scopeKey = state.getKeyGenerator().nextKey();
+    for (int i = 0; i < variablesPerJob; i++) {
+      state
+          .getVariableState()
+          .setVariableLocal(
+              state.getKeyGenerator().nextKey(),
+              scopeKey,
+              scopeKey,
+              BufferUtil.wrapString("variable-" + i),
+              packString("value-" + i));
+    }
+
+    final var job =
+        new JobRecord()
+            .setBpmnProcessId("process")
+            .setElementId("task")
+            .setElementInstanceKey(scopeKey)
+            .setRetries(3)
+            .setType(JOB_TYPE);
+    state.getJobState().create(state.getKeyGenerator().nextKey(), job);
+  }
+
+  private static DirectBuffer packString(final String value) {
+    final var buffer = new ExpandableArrayBuffer();
+    final var writer = new MsgPackWriter().wrap(buffer, 0);
+    writer.writeString(BufferUtil.wrapString(value));
+    return BufferUtil.cloneBuffer(buffer, 0, writer.getOffset());
+  }
+}
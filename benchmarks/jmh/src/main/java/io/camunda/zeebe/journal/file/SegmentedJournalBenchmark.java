@@ -0,0 +1,151 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.journal.file;
+
+import io.camunda.zeebe.journal.JournalMetaStore;
+import io.camunda.zeebe.journal.JournalReader;
+import io.camunda.zeebe.journal.JournalRecord;
+import io.camunda.zeebe.util.FileUtil;
+import io.camunda.zeebe.util.buffer.DirectBufferWriter;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import org.agrona.concurrent.UnsafeBuffer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures appending to and reading from a {@link SegmentedJournal}. Appends are not flushed, so
+ * they measure the cost of framing, checksumming and indexing an entry rather than the disk.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+public class SegmentedJournalBenchmark {
+
+  @Benchmark
+  public JournalRecord append(final AppendState state) {
+    return state.journal.append(state.asqn++, state.entryWriter);
+  }
+
+  @Benchmark
+  public JournalRecord seekAndRead(final ReadState state) {
+    state.reader.seek(ThreadLocalRandom.current().nextLong(1, state.entryCount + 1));
+    return state.reader.next();
+  }
+
+  @Benchmark
+  public JournalRecord readSequentially(final ReadState state) {
+    if (!state.reader.hasNext()) {
+      state.reader.seekToFirst();
+    }
+
+    return state.reader.next();
+  }
+
+  @Benchmark
+  public long seekToAsqn(final ReadState state) {
+    return state.reader.seekToAsqn(ThreadLocalRandom.current().nextLong(1, state.entryCount + 1));
+  }
+
+  private static SegmentedJournal newJournal(final Path directory) {
+    return SegmentedJournal.builder()
+        .withDirectory(directory.toFile())
+        .withMaxSegmentSize(64 * 1024 * 1024)
+        .withFreeDiskSpace(1)
+        .withPreallocateSegmentFiles(false)
+        .withMetaStore(new JournalMetaStore.InMemory())
+        .build();
+  }
+
+  private static DirectBufferWriter newEntryWriter(final int entrySize) {
+    final var data = new byte[entrySize];
+    ThreadLocalRandom.current().nextBytes(data);
+    return new DirectBufferWriter().wrap(new UnsafeBuffer(data));
+  }
+
+  @State(Scope.Thread)
+  public static class AppendState {
+
+    @Param({"128", "1024"})
+    private int entrySize;
+
+    private Path directory;
+    private SegmentedJournal journal;
+    private DirectBufferWriter entryWriter;
+    private long asqn;
+
+    @Setup(Level.Trial)
+    public void setup() throws Exception {
+      directory = Files.createTempDirectory("journal-benchmark");
+      journal = newJournal(directory);
+      entryWriter = newEntryWriter(entrySize);
+      asqn = 1;
+    }
+
+    /** Drops all entries between iterations so that the journal does not fill the disk. */
+    @TearDown(Level.Iteration)
+    public void reset() {
+      journal.reset(journal.getLastIndex() + 1);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws Exception {
+      journal.close();
+      FileUtil.deleteFolderIfExists(directory);
+    }
+  }
+
+  @State(Scope.Thread)
+  public static class ReadState {
+
+    private static final int ENTRY_SIZE = 128;
+
+    @Param({"100000"})
+    private int entryCount;
+
+    private Path directory;
+    private SegmentedJournal journal;
+    private JournalReader reader;
+
+    @Setup(Level.Trial)
+    public void setup() throws Exception {
+      directory = Files.createTempDirectory("journal-benchmark");
+      journal = newJournal(directory);
+
+      final var entryWriter = newEntryWriter(ENTRY_SIZE);
+      for (long asqn = 1; asqn <= entryCount; asqn++) {
+        journal.append(asqn, entryWriter);
+      }
+      journal.flush();
+
+      reader = journal.openReader();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws Exception {
+      reader.close();
+      journal.close();
+      FileUtil.deleteFolderIfExists(directory);
+    }
+  }
+}
@@ -0,0 +1,221 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.journal.file;
+
+import io.camunda.zeebe.journal.JournalRecord;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import org.agrona.DirectBuffer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares the {@link SparseJournalIndex} with the previous implementation based on {@link
+ * TreeMap}s, which is kept here as a baseline. Run with {@code -prof gc} to compare the allocation
+ * rates as well.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+public class SparseJournalIndexBenchmark {
+
+  private static final int DENSITY = 100;
+
+  @Param({"sparse", "treeMap"})
+  private String implementation;
+
+  @Param({"1000000"})
+  private int entryCount;
+
+  private JournalIndex index;
+  private IndexedRecord record;
+  private long nextIndex;
+
+  @Setup(Level.Iteration)
+  public void setup() {
+    index = newIndex();
+    record = new IndexedRecord();
+    for (long i = 1; i <= entryCount; i++) {
+      index.index(record.wrap(i), (int) i);
+    }
+    nextIndex = entryCount + 1L;
+  }
+
+  @Benchmark
+  public IndexInfo lookup() {
+    return index.lookup(ThreadLocalRandom.current().nextLong(1, entryCount + 1L));
+  }
+
+  @Benchmark
+  public Long lookupAsqn() {
+    return index.lookupAsqn(ThreadLocalRandom.current().nextLong(1, entryCount + 1L));
+  }
+
+  @Benchmark
+  public Long lookupAsqnWithUpperBound() {
+    final var random = ThreadLocalRandom.current();
+    return index.lookupAsqn(Long.MAX_VALUE, random.nextLong(1, entryCount + 1L));
+  }
+
+  @Benchmark
+  public JournalIndex append() {
+    // keep the index at a stable size, as a segment would be
+    if (nextIndex % entryCount == 0) {
+      index.deleteUntil(nextIndex - entryCount);
+    }
+
+    index.index(record.wrap(nextIndex), (int) nextIndex);
+    nextIndex++;
+    return index;
+  }
+
+  private JournalIndex newIndex() {
+    return switch (implementation) {
+      case "sparse" -> new SparseJournalIndex(DENSITY);
+      case "treeMap" -> new TreeMapJournalIndex(DENSITY);
+      default -> throw new IllegalArgumentException("Unknown implementation " + implementation);
+    };
+  }
+
+  /** A record whose asqn is equal to its index, which is the common case for a leader. */
+  private static final class IndexedRecord implements JournalRecord {
+    private long index;
+
+    private IndexedRecord wrap(final long index) {
+      this.index = index;
+      return this;
+    }
+
+    @Override
+    public long index() {
+      return index;
+    }
+
+    @Override
+    public long asqn() {
+      return index;
+    }
+
+    @Override
+    public long checksum() {
+      return 0;
+    }
+
+    @Override
+    public DirectBuffer data() {
+      return null;
+    }
+  }
+
+  /** The previous {@link JournalIndex} implementation, which boxes every key and value. */
+  private static final class TreeMapJournalIndex implements JournalIndex {
+    private final int density;
+    private final TreeMap<Long, Integer> indexToPosition = new TreeMap<>();
+    private final TreeMap<Long, Long> asqnToIndex = new TreeMap<>();
+    private final TreeMap<Long, Long> indexToAsqn = new TreeMap<>();
+
+    private TreeMapJournalIndex(final int density) {
+      this.density = density;
+    }
+
+    @Override
+    public void index(final JournalRecord indexedEntry, final int position) {
+      final long index = indexedEntry.index();
+      if (index % density == 0) {
+        indexToPosition.put(index, position);
+        final long asqn = indexedEntry.asqn();
+        if (asqn != SegmentedJournal.ASQN_IGNORE) {
+          asqnToIndex.put(asqn, index);
+          indexToAsqn.put(index, asqn);
+        }
+      }
+    }
+
+    @Override
+    public IndexInfo lookup(final long index) {
+      final Map.Entry<Long, Integer> entry = indexToPosition.floorEntry(index);
+      return entry != null ? new IndexInfo(entry.getKey(), entry.getValue()) : null;
+    }
+
+    @Override
+    public Long lookupAsqn(final long asqn) {
+      return lookupAsqn(asqn, Long.MAX_VALUE);
+    }
+
+    @Override
+    public Long lookupAsqn(final long asqn, final long indexUpperBound) {
+      final Map.Entry<Long, Long> entry = asqnToIndex.floorEntry(asqn);
+      if (entry != null) {
+        if (entry.getValue() <= indexUpperBound) {
+          return entry.getValue();
+        } else {
+          return indexToAsqn.floorKey(indexUpperBound);
+        }
+      }
+      return null;
+    }
+
+    @Override
+    public void deleteAfter(final long index) {
+      indexToPosition.tailMap(index, false).clear();
+      final var asqnEntryToDelete = indexToAsqn.ceilingEntry(index);
+      if (asqnEntryToDelete != null) {
+        final var asqnToDelete = asqnEntryToDelete.getValue();
+        indexToAsqn.tailMap(index, false).clear();
+        final boolean include = asqnEntryToDelete.getKey() > index;
+        asqnToIndex.tailMap(asqnToDelete, include).clear();
+      }
+    }
+
+    @Override
+    public void deleteUntil(final long index) {
+      indexToPosition.headMap(index, false).clear();
+
+      final var asqnEntryToDelete = indexToAsqn.floorEntry(index);
+      if (asqnEntryToDelete != null) {
+        final var asqnToDelete = asqnEntryToDelete.getValue();
+        indexToAsqn.headMap(index, false).clear();
+        asqnToIndex.headMap(asqnToDelete, false).clear();
+      }
+    }
+
+    @Override
+    public void clear() {
+      indexToPosition.clear();
+      indexToAsqn.clear();
+      asqnToIndex.clear();
+    }
+
+    @Override
+    public void forEach(final long fromIndex, final long toIndex, final IndexEntryVisitor visitor) {
+      indexToPosition
+          .subMap(fromIndex, true, toIndex, true)
+          .forEach(
+              (index, position) ->
+                  visitor.visit(
+                      index,
+                      position,
+                      indexToAsqn.getOrDefault(index, SegmentedJournal.ASQN_IGNORE)));
+    }
+  }
+}
@@ -0,0 +1,87 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.logstreams.impl.log;
+
+import io.camunda.zeebe.logstreams.log.LogAppendEntry;
+import io.camunda.zeebe.protocol.impl.record.RecordMetadata;
+import io.camunda.zeebe.protocol.impl.record.value.job.JobRecord;
+import io.camunda.zeebe.protocol.record.RecordType;
+import io.camunda.zeebe.protocol.record.ValueType;
+import io.camunda.zeebe.protocol.record.intent.JobIntent;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Group;
+import org.openjdk.jmh.annotations.GroupThreads;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the {@link Sequencer} with several concurrent writers and a single reader, as with the
+ * stream processor, scheduled tasks and command API writing to the same partition while the log
+ * storage appender drains the queue. Rejected writes are counted as operations too, as they are as
+ * cheap for the writer; run with {@code -prof gc} to compare the allocation rate per write.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@State(Scope.Group)
+public class SequencerBenchmark {
+
+  @Param({"1", "10"})
+  public int entriesPerBatch;
+
+  private Sequencer sequencer;
+  private List<LogAppendEntry> batch;
+
+  @Setup(Level.Trial)
+  public void setup() {
+    sequencer = new Sequencer(1, 4 * 1024 * 1024, new SequencerMetrics(1));
+    batch = new ArrayList<>(entriesPerBatch);
+    for (int i = 0; i < entriesPerBatch; i++) {
+      final var metadata =
+          new RecordMetadata()
+              .recordType(RecordType.COMMAND)
+              .valueType(ValueType.JOB)
+              .intent(JobIntent.COMPLETE);
+      batch.add(LogAppendEntry.of(metadata, new JobRecord().setType("benchmark").setRetries(3)));
+    }
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() {
+    sequencer.close();
+  }
+
+  @Benchmark
+  @Group("concurrentWriters")
+  @GroupThreads(3)
+  public long write() {
+    return sequencer.tryWrite(batch);
+  }
+
+  @Benchmark
+  @Group("concurrentWriters")
+  @GroupThreads(1)
+  public SequencedBatch read() {
+    return sequencer.tryRead();
+  }
+}
@@ -0,0 +1,102 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.msgpack;
+
+import io.camunda.zeebe.msgpack.spec.MsgPackReader;
+import io.camunda.zeebe.msgpack.spec.MsgPackWriter;
+import io.camunda.zeebe.protocol.impl.record.value.job.JobRecord;
+import io.camunda.zeebe.util.buffer.BufferUtil;
+import java.util.concurrent.TimeUnit;
+import org.agrona.DirectBuffer;
+import org.agrona.ExpandableArrayBuffer;
+import org.agrona.concurrent.UnsafeBuffer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares decoding a serialized {@link JobRecord} through {@link ObjectValue#read(MsgPackReader)}
+ * (what the engine does for every record it reads) against merely scanning the same document with
+ * the {@link MsgPackReader}, which is the lower bound of what decoding can cost.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+public class ObjectValueReadBenchmark {
+
+  @Param({"10", "100"})
+  private int variableCount;
+
+  private final JobRecord record = new JobRecord();
+  private final MsgPackReader reader = new MsgPackReader();
+  private DirectBuffer serializedRecord;
+
+  @Setup(Level.Trial)
+  public void setup() {
+    final var job =
+        new JobRecord()
+            .setType("benchmark-job")
+            .setWorker("benchmark-worker")
+            .setRetries(3)
+            .setBpmnProcessId("process")
+            .setElementId("service-task")
+            .setProcessInstanceKey(1L)
+            .setElementInstanceKey(2L)
+            .setProcessDefinitionKey(3L)
+            .setProcessDefinitionVersion(1)
+            .setDeadline(System.currentTimeMillis())
+            .setCustomHeaders(encodeDocument(5))
+            .setVariables(encodeDocument(variableCount));
+
+    final var buffer = new UnsafeBuffer(new byte[job.getLength()]);
+    job.write(buffer, 0);
+    serializedRecord = buffer;
+  }
+
+  @Benchmark
+  public JobRecord readObjectValue() {
+    record.wrap(serializedRecord);
+    return record;
+  }
+
+  @Benchmark
+  public int scanWithReader() {
+    reader.wrap(serializedRecord, 0, serializedRecord.capacity());
+    final int size = reader.readMapHeader();
+    for (int i = 0; i < size; i++) {
+      reader.skipValue(); // key
+      reader.skipValue(); // value
+    }
+
+    return reader.getOffset();
+  }
+
+  private static DirectBuffer encodeDocument(final int size) {
+    final var buffer = new ExpandableArrayBuffer();
+    final var writer = new MsgPackWriter().wrap(buffer, 0);
+    writer.writeMapHeader(size);
+    for (int i = 0; i < size; i++) {
+      writer.writeString(BufferUtil.wrapString("variable-" + i));
+      writer.writeString(BufferUtil.wrapString("value-" + i));
+    }
+
+    return BufferUtil.cloneBuffer(buffer, 0, writer.getOffset());
+  }
+}
@@ -0,0 +1,93 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.scheduler;
+
+import io.camunda.zeebe.scheduler.future.ActorFuture;
+import io.camunda.zeebe.scheduler.future.CompletableActorFuture;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the overhead of actor profiling, by running many tiny jobs on an actor with profiling
+ * enabled and disabled. Each job submits the next one, so the actor thread does nothing but
+ * executing jobs, which is the worst case for the profiler: real jobs do more work per job, which
+ * makes the relative overhead smaller.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+public class ActorProfilingBenchmark {
+
+  private static final int JOBS_PER_INVOCATION = 10_000;
+
+  @Param({"false", "true"})
+  public boolean profilingEnabled;
+
+  private ActorScheduler scheduler;
+  private JobLoopActor actor;
+
+  @Setup(Level.Trial)
+  public void setup() {
+    scheduler =
+        ActorScheduler.newActorScheduler()
+            .setCpuBoundActorThreadCount(1)
+            .setIoBoundActorThreadCount(1)
+            .setProfilingEnabled(profilingEnabled)
+            .build();
+    scheduler.start();
+    actor = new JobLoopActor();
+    scheduler.submitActor(actor).join();
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() throws Exception {
+    actor.closeAsync().join();
+    scheduler.close();
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(JOBS_PER_INVOCATION)
+  public long runJobs() {
+    return actor.runJobs(JOBS_PER_INVOCATION).join();
+  }
+
+  private static final class JobLoopActor extends Actor {
+    private long executedJobs;
+
+    private ActorFuture<Long> runJobs(final int jobs) {
+      final var future = new CompletableActorFuture<Long>();
+      actor.submit(() -> runJob(jobs, future));
+      return future;
+    }
+
+    private void runJob(final int remainingJobs, final CompletableActorFuture<Long> future) {
+      executedJobs++;
+      if (remainingJobs > 1) {
+        actor.submit(() -> runJob(remainingJobs - 1, future));
+      } else {
+        future.complete(executedJobs);
+      }
+    }
+  }
+}
@@ -0,0 +1,91 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.stream.impl;
+
+import io.camunda.zeebe.logstreams.storage.LogStorage;
+import io.camunda.zeebe.logstreams.storage.LogStorageReader;
+import io.camunda.zeebe.util.buffer.BufferWriter;
+import java.util.Map.Entry;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.concurrent.ConcurrentNavigableMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.CopyOnWriteArraySet;
+import org.agrona.DirectBuffer;
+import org.agrona.concurrent.UnsafeBuffer;
+
+/**
+ * A {@link LogStorage} which keeps all blocks in memory, indexed by their lowest position. Unlike
+ * the list based storage used in tests, appends are O(log n), which matters once a benchmark has
+ * appended millions of blocks.
+ */
+final class InMemoryLogStorage implements LogStorage {
+
+  private final ConcurrentNavigableMap<Long, DirectBuffer> blocks = new ConcurrentSkipListMap<>();
+  private final Set<CommitListener> commitListeners = new CopyOnWriteArraySet<>();
+
+  @Override
+  public LogStorageReader newReader() {
+    return new Reader();
+  }
+
+  @Override
+  public void append(
+      final long lowestPosition,
+      final long highestPosition,
+      final BufferWriter bufferWriter,
+      final AppendListener listener) {
+    final var block = new UnsafeBuffer(new byte[bufferWriter.getLength()]);
+    bufferWriter.write(block, 0);
+    blocks.put(lowestPosition, block);
+
+    listener.onWrite(highestPosition);
+    listener.onCommit(highestPosition);
+    commitListeners.forEach(CommitListener::onCommit);
+  }
+
+  @Override
+  public void addCommitListener(final CommitListener listener) {
+    commitListeners.add(listener);
+  }
+
+  @Override
+  public void removeCommitListener(final CommitListener listener) {
+    commitListeners.remove(listener);
+  }
+
+  private final class Reader implements LogStorageReader {
+    // the lowest position of the block which is returned by the next call to next()
+    private long nextBlock = Long.MIN_VALUE;
+
+    @Override
+    public void seek(final long position) {
+      final Entry<Long, DirectBuffer> block = blocks.floorEntry(position);
+      nextBlock = block == null ? Long.MIN_VALUE : block.getKey();
+    }
+
+    @Override
+    public void close() {}
+
+    @Override
+    public boolean hasNext() {
+      return blocks.ceilingKey(nextBlock) != null;
+    }
+
+    @Override
+    public DirectBuffer next() {
+      final Entry<Long, DirectBuffer> block = blocks.ceilingEntry(nextBlock);
+      if (block == null) {
+        throw new NoSuchElementException();
+      }
+
+      nextBlock = block.getKey() + 1;
+      return block.getValue();
+    }
+  }
+}
@@ -0,0 +1,252 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.stream.impl;
+
+import io.camunda.zeebe.db.ConsistencyChecksSettings;
+import io.camunda.zeebe.db.ZeebeDb;
+import io.camunda.zeebe.db.impl.rocksdb.RocksDbConfiguration;
+import io.camunda.zeebe.db.impl.rocksdb.ZeebeRocksDbFactory;
+import io.camunda.zeebe.logstreams.log.LogAppendEntry;
+import io.camunda.zeebe.logstreams.log.LogStream;
+import io.camunda.zeebe.logstreams.log.LogStreamWriter;
+import io.camunda.zeebe.logstreams.log.LoggedEvent;
+import io.camunda.zeebe.protocol.ZbColumnFamilies;
+import io.camunda.zeebe.protocol.impl.record.RecordMetadata;
+import io.camunda.zeebe.protocol.impl.record.UnifiedRecordValue;
+import io.camunda.zeebe.protocol.impl.record.value.job.JobRecord;
+import io.camunda.zeebe.protocol.record.RecordType;
+import io.camunda.zeebe.protocol.record.RejectionType;
+import io.camunda.zeebe.protocol.record.ValueType;
+import io.camunda.zeebe.protocol.record.intent.Intent;
+import io.camunda.zeebe.protocol.record.intent.JobIntent;
+import io.camunda.zeebe.scheduler.Actor;
+import io.camunda.zeebe.scheduler.ActorScheduler;
+import io.camunda.zeebe.scheduler.future.CompletableActorFuture;
+import io.camunda.zeebe.stream.api.InterPartitionCommandSender;
+import io.camunda.zeebe.stream.api.ProcessingResult;
+import io.camunda.zeebe.stream.api.ProcessingResultBuilder;
+import io.camunda.zeebe.stream.api.RecordProcessor;
+import io.camunda.zeebe.stream.api.RecordProcessorContext;
+import io.camunda.zeebe.stream.api.records.TypedRecord;
+import io.camunda.zeebe.stream.api.state.KeyGenerator;
+import io.camunda.zeebe.util.FileUtil;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the throughput of the {@link ProcessingStateMachine}: reading a command from the log,
+ * processing it, writing its follow-up event, committing the state transaction and marking the
+ * command as processed. The log is kept in memory and the record processor only writes a single
+ * follow-up event, such that the result reflects the overhead of the stream platform rather than
+ * the engine.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+public class ProcessingStateMachineBenchmark {
+
+  private static final int PARTITION_ID = 1;
+  private static final int COMMANDS_PER_INVOCATION = 100;
+
+  private final AtomicLong processedCommands = new AtomicLong();
+
+  private Path dataDirectory;
+  private ActorScheduler actorScheduler;
+  private LogStream logStream;
+  private ZeebeDb<ZbColumnFamilies> zeebeDb;
+  private StreamProcessor streamProcessor;
+  private LogStreamWriter writer;
+  private List<LogAppendEntry> commands;
+  private long expectedProcessedCommands;
+
+  @Setup(Level.Trial)
+  public void setup() throws Exception {
+    dataDirectory = Files.createTempDirectory("processing-benchmark");
+    actorScheduler =
+        ActorScheduler.newActorScheduler()
+            .setCpuBoundActorThreadCount(2)
+            .setIoBoundActorThreadCount(1)
+            .build();
+    actorScheduler.start();
+
+    logStream = buildLogStream();
+
+    zeebeDb =
+        new ZeebeRocksDbFactory<ZbColumnFamilies>(
+                new RocksDbConfiguration(), new ConsistencyChecksSettings())
+            .createDb(dataDirectory.toFile());
+
+    streamProcessor =
+        StreamProcessor.builder()
+            .logStream(logStream)
+            .zeebeDb(zeebeDb)
+            .actorSchedulingService(actorScheduler)
+            .recordProcessors(List.of(new JobCompletionProcessor()))
+            .partitionCommandSender(new NoopInterPartitionCommandSender())
+            .listener(new CountingListener())
+            .build();
+    streamProcessor.openAsync(false).join();
+
+    writer = logStream.newLogStreamWriter().join();
+    commands = new ArrayList<>(COMMANDS_PER_INVOCATION);
+    for (int i = 0; i < COMMANDS_PER_INVOCATION; i++) {
+      final var metadata =
+          new RecordMetadata()
+              .recordType(RecordType.COMMAND)
+              .valueType(ValueType.JOB)
+              .intent(JobIntent.COMPLETE);
+      commands.add(LogAppendEntry.of(metadata, new JobRecord().setType("benchmark").setRetries(3)));
+    }
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() throws Exception {
+    streamProcessor.closeAsync().join();
+    logStream.closeAsync().join();
+    zeebeDb.close();
+    actorScheduler.close();
+    FileUtil.deleteFolderIfExists(dataDirectory);
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(COMMANDS_PER_INVOCATION)
+  public long processCommands() {
+    // write the commands one by one, as independent client requests would be
+    for (final LogAppendEntry command : commands) {
+      while (writer.tryWrite(command) < 0) {
+        Thread.onSpinWait();
+      }
+    }
+
+    expectedProcessedCommands += COMMANDS_PER_INVOCATION;
+    while (processedCommands.get() < expectedProcessedCommands) {
+      Thread.onSpinWait();
+    }
+
+    return processedCommands.get();
+  }
+
+  private LogStream buildLogStream() {
+    // the log stream can only be built from within an actor
+    final var logStreamFuture = new CompletableActorFuture<LogStream>();
+    actorScheduler
+        .submitActor(
+            new Actor() {
+              @Override
+              protected void onActorStarted() {
+                actor.runOnCompletion(
+                    LogStream.builder()
+                        .withActorSchedulingService(actorScheduler)
+                        .withLogStorage(new InMemoryLogStorage())
+                        .withPartitionId(PARTITION_ID)
+                        .withLogName("benchmark-" + PARTITION_ID)
+                        .buildAsync(),
+                    (stream, error) -> {
+                      if (error == null) {
+                        logStreamFuture.complete(stream);
+                      } else {
+                        logStreamFuture.completeExceptionally(error);
+                      }
+                    });
+              }
+            })
+        .join();
+
+    return logStreamFuture.join();
+  }
+
+  private final class CountingListener implements StreamProcessorListener {
+
+    @Override
+    public void onProcessed(final TypedRecord<?> processedCommand) {
+      processedCommands.incrementAndGet();
+    }
+
+    @Override
+    public void onSkipped(final LoggedEvent skippedRecord) {}
+  }
+
+  /** Accepts every job command and writes a single follow-up event with a newly generated key. */
+  private static final class JobCompletionProcessor implements RecordProcessor {
+    private KeyGenerator keyGenerator;
+
+    @Override
+    public void init(final RecordProcessorContext recordProcessorContext) {
+      keyGenerator = recordProcessorContext.getKeyGenerator();
+    }
+
+    @Override
+    public boolean accepts(final ValueType valueType) {
+      return valueType == ValueType.JOB;
+    }
+
+    @Override
+    public void replay(final TypedRecord record) {}
+
+    @Override
+    public ProcessingResult process(
+        final TypedRecord record, final ProcessingResultBuilder processingResultBuilder) {
+      return processingResultBuilder
+          .appendRecord(
+              keyGenerator.nextKey(),
+              RecordType.EVENT,
+              JobIntent.COMPLETED,
+              RejectionType.NULL_VAL,
+              "",
+              record.getValue())
+          .build();
+    }
+
+    @Override
+    public ProcessingResult onProcessingError(
+        final Throwable processingException,
+        final TypedRecord record,
+        final ProcessingResultBuilder processingResultBuilder) {
+      return processingResultBuilder.build();
+    }
+  }
+
+  private static final class NoopInterPartitionCommandSender
+      implements InterPartitionCommandSender {
+
+    @Override
+    public void sendCommand(
+        final int receiverPartitionId,
+        final ValueType valueType,
+        final Intent intent,
+        final UnifiedRecordValue command) {}
+
+    @Override
+    public void sendCommand(
+        final int receiverPartitionId,
+        final ValueType valueType,
+        final Intent intent,
+        final Long recordKey,
+        final UnifiedRecordValue command) {}
+  }
+}
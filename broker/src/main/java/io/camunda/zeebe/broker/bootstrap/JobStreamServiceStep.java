@@ -14,14 +14,11 @@ import io.camunda.zeebe.broker.jobstream.RemoteJobStreamer;
 import io.camunda.zeebe.broker.jobstream.YieldingJobStreamErrorHandler;
 import io.camunda.zeebe.engine.processing.streamprocessor.JobActivationProperties;
 import io.camunda.zeebe.protocol.impl.stream.job.ActivatedJob;
+import io.camunda.zeebe.protocol.impl.stream.job.JobActivationPropertiesImpl;
 import io.camunda.zeebe.scheduler.ConcurrencyControl;
 import io.camunda.zeebe.scheduler.future.ActorFuture;
 import io.camunda.zeebe.transport.TransportFactory;
 import io.camunda.zeebe.transport.stream.api.RemoteStreamService;
-import java.util.Collection;
-import java.util.Collections;
-import org.agrona.DirectBuffer;
-import org.agrona.concurrent.UnsafeBuffer;
 
 /**
  * Sets up the {@link JobStreamService}, which manages the lifecycle of the job specific stream API
@@ -44,7 +41,7 @@ public final class JobStreamServiceStep extends AbstractBrokerStartupStep {
         new TransportFactory(scheduler)
             .createRemoteStreamServer(
                 clusterServices.getCommunicationService(),
-                DummyActivationProperties::new,
+                ActivationProperties::new,
                 errorHandlerService,
                 new JobStreamMetrics());
     final var errorHandlerStarted = scheduler.submitActor(errorHandlerService);
@@ -115,16 +112,6 @@ public final class JobStreamServiceStep extends AbstractBrokerStartupStep {
     return "JobStreamService";
   }
 
-  // TODO: replace with real activation properties
-  private record DummyActivationProperties(
-      DirectBuffer worker, long timeout, Collection<DirectBuffer> fetchVariables)
-      implements JobActivationProperties {
-
-    private DummyActivationProperties() {
-      this(new UnsafeBuffer(), -1L, Collections.emptyList());
-    }
-
-    @Override
-    public void wrap(final DirectBuffer buffer, final int offset, final int length) {}
-  }
+  private static final class ActivationProperties extends JobActivationPropertiesImpl
+      implements JobActivationProperties {}
 }
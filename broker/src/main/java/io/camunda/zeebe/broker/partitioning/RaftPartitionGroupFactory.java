@@ -87,6 +87,8 @@ public final class RaftPartitionGroupFactory {
             .withMinStepDownFailureCount(experimentalCfg.getRaft().getMinStepDownFailureCount())
             .withPreferSnapshotReplicationThreshold(
                 experimentalCfg.getRaft().getPreferSnapshotReplicationThreshold())
+            .withSnapshotChunkSize((int) experimentalCfg.getRaft().getSnapshotChunkSize().toBytes())
+            .withMaxSnapshotChunksInFlight(experimentalCfg.getRaft().getMaxSnapshotChunksInFlight())
             .withPreallocateSegmentFiles(experimentalCfg.getRaft().isPreallocateSegmentFiles());
 
     final int maxMessageSize = (int) networkCfg.getMaxMessageSizeInBytes();
@@ -7,9 +7,19 @@
  */
 package io.camunda.zeebe.broker.system.configuration;
 
+import java.time.Duration;
+
 public final class ProcessingCfg implements ConfigurationEntry {
   private static final int DEFAULT_PROCESSING_BATCH_LIMIT = 100;
+  private static final int DEFAULT_PROCESSING_GROUP_LIMIT = 1;
+  private static final int DEFAULT_PROCESSING_PIPELINE_LIMIT = 1;
+  private static final int DEFAULT_REPLAY_BATCH_LIMIT = 1;
+  private static final Duration DEFAULT_FOLLOWER_WARM_UP_INTERVAL = Duration.ZERO;
   private Integer maxCommandsInBatch = DEFAULT_PROCESSING_BATCH_LIMIT;
+  private Integer maxCommandsInGroup = DEFAULT_PROCESSING_GROUP_LIMIT;
+  private Integer maxCommandsInPipeline = DEFAULT_PROCESSING_PIPELINE_LIMIT;
+  private Integer maxBatchesInReplay = DEFAULT_REPLAY_BATCH_LIMIT;
+  private Duration followerWarmUpInterval = DEFAULT_FOLLOWER_WARM_UP_INTERVAL;
 
   @Override
   public void init(final BrokerCfg globalConfig, final String brokerBase) {
@@ -17,6 +27,28 @@ public final class ProcessingCfg implements ConfigurationEntry {
       throw new IllegalArgumentException(
           "maxCommandsInBatch must be >= 1 but was %s".formatted(maxCommandsInBatch));
     }
+    if (maxCommandsInGroup < 1) {
+      throw new IllegalArgumentException(
+          "maxCommandsInGroup must be >= 1 but was %s".formatted(maxCommandsInGroup));
+    }
+    if (maxCommandsInPipeline < 1) {
+      throw new IllegalArgumentException(
+          "maxCommandsInPipeline must be >= 1 but was %s".formatted(maxCommandsInPipeline));
+    }
+    if (maxCommandsInGroup > 1 && maxCommandsInPipeline > 1) {
+      throw new IllegalArgumentException(
+          "Expected either maxCommandsInGroup or maxCommandsInPipeline to be > 1, but both were (%s, %s)"
+              .formatted(maxCommandsInGroup, maxCommandsInPipeline));
+    }
+    if (maxBatchesInReplay < 1) {
+      throw new IllegalArgumentException(
+          "maxBatchesInReplay must be >= 1 but was %s".formatted(maxBatchesInReplay));
+    }
+    if (followerWarmUpInterval.isNegative()) {
+      throw new IllegalArgumentException(
+          "followerWarmUpInterval must not be negative but was %s"
+              .formatted(followerWarmUpInterval));
+    }
   }
 
   public int getMaxCommandsInBatch() {
@@ -27,8 +59,51 @@ public final class ProcessingCfg implements ConfigurationEntry {
     this.maxCommandsInBatch = maxCommandsInBatch;
   }
 
+  public int getMaxCommandsInGroup() {
+    return maxCommandsInGroup;
+  }
+
+  public void setMaxCommandsInGroup(final int maxCommandsInGroup) {
+    this.maxCommandsInGroup = maxCommandsInGroup;
+  }
+
+  public int getMaxCommandsInPipeline() {
+    return maxCommandsInPipeline;
+  }
+
+  public void setMaxCommandsInPipeline(final int maxCommandsInPipeline) {
+    this.maxCommandsInPipeline = maxCommandsInPipeline;
+  }
+
+  public int getMaxBatchesInReplay() {
+    return maxBatchesInReplay;
+  }
+
+  public void setMaxBatchesInReplay(final int maxBatchesInReplay) {
+    this.maxBatchesInReplay = maxBatchesInReplay;
+  }
+
+  public Duration getFollowerWarmUpInterval() {
+    return followerWarmUpInterval;
+  }
+
+  public void setFollowerWarmUpInterval(final Duration followerWarmUpInterval) {
+    this.followerWarmUpInterval = followerWarmUpInterval;
+  }
+
   @Override
   public String toString() {
-    return "ProcessingCfg{" + "maxCommandsInBatch=" + maxCommandsInBatch + '}';
+    return "ProcessingCfg{"
+        + "maxCommandsInBatch="
+        + maxCommandsInBatch
+        + ", maxCommandsInGroup="
+        + maxCommandsInGroup
+        + ", maxCommandsInPipeline="
+        + maxCommandsInPipeline
+        + ", maxBatchesInReplay="
+        + maxBatchesInReplay
+        + ", followerWarmUpInterval="
+        + followerWarmUpInterval
+        + '}';
   }
 }
@@ -8,6 +8,9 @@
 package io.camunda.zeebe.broker.system.configuration;
 
 import io.camunda.zeebe.db.impl.rocksdb.RocksDbConfiguration;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Objects;
 import java.util.Properties;
@@ -28,6 +31,10 @@ public final class RocksdbCfg implements ConfigurationEntry {
 
   private boolean enableSstPartitioning = RocksDbConfiguration.DEFAULT_SST_PARTITIONING_ENABLED;
 
+  private boolean enableSeparateColumnFamilies =
+      RocksDbConfiguration.DEFAULT_SEPARATE_COLUMN_FAMILIES_ENABLED;
+  private Map<String, Properties> separateColumnFamilyOptions = new HashMap<>();
+
   @Override
   public void init(final BrokerCfg globalConfig, final String brokerBase) {
     if (columnFamilyOptions == null) {
@@ -38,6 +45,14 @@ public final class RocksdbCfg implements ConfigurationEntry {
       // we must do some transformations on the entries of this properties object.
       columnFamilyOptions = initColumnFamilyOptions(columnFamilyOptions);
     }
+
+    // column families are named after the constants of ZbColumnFamilies, but environment variables
+    // are bound in lower case
+    final var separateOptions = new HashMap<String, Properties>();
+    separateColumnFamilyOptions.forEach(
+        (name, options) ->
+            separateOptions.put(name.toUpperCase(Locale.ROOT), initColumnFamilyOptions(options)));
+    separateColumnFamilyOptions = separateOptions;
   }
 
   private static Properties initColumnFamilyOptions(final Properties original) {
@@ -120,6 +135,23 @@ public final class RocksdbCfg implements ConfigurationEntry {
     this.enableSstPartitioning = enableSstPartitioning;
   }
 
+  public boolean isEnableSeparateColumnFamilies() {
+    return enableSeparateColumnFamilies;
+  }
+
+  public void setEnableSeparateColumnFamilies(final boolean enableSeparateColumnFamilies) {
+    this.enableSeparateColumnFamilies = enableSeparateColumnFamilies;
+  }
+
+  public Map<String, Properties> getSeparateColumnFamilyOptions() {
+    return separateColumnFamilyOptions;
+  }
+
+  public void setSeparateColumnFamilyOptions(
+      final Map<String, Properties> separateColumnFamilyOptions) {
+    this.separateColumnFamilyOptions = separateColumnFamilyOptions;
+  }
+
   public RocksDbConfiguration createRocksDbConfiguration() {
     return new RocksDbConfiguration()
         .setColumnFamilyOptions(columnFamilyOptions)
@@ -130,7 +162,9 @@ public final class RocksdbCfg implements ConfigurationEntry {
         .setStatisticsEnabled(enableStatistics)
         .setIoRateBytesPerSecond(ioRateBytesPerSecond)
         .setWalDisabled(disableWal)
-        .setSstPartitioningEnabled(enableSstPartitioning);
+        .setSstPartitioningEnabled(enableSstPartitioning)
+        .setSeparateColumnFamiliesEnabled(enableSeparateColumnFamilies)
+        .setSeparateColumnFamilyOptions(separateColumnFamilyOptions);
   }
 
   @Override
@@ -154,6 +188,10 @@ public final class RocksdbCfg implements ConfigurationEntry {
         + disableWal
         + ", enableSstPartitioning="
         + enableSstPartitioning
+        + ", enableSeparateColumnFamilies="
+        + enableSeparateColumnFamilies
+        + ", separateColumnFamilyOptions="
+        + separateColumnFamilyOptions
         + '}';
   }
 
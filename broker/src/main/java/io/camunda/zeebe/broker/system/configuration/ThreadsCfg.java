@@ -7,9 +7,24 @@
  */
 package io.camunda.zeebe.broker.system.configuration;
 
+import io.camunda.zeebe.scheduler.ActorThreadIdleStrategy;
+
 public final class ThreadsCfg implements ConfigurationEntry {
   private int cpuThreadCount = 2;
   private int ioThreadCount = 2;
+  private int spareIoThreadCount = 0;
+  private boolean partitionAffinity = false;
+  private boolean profilingEnabled = true;
+  private ActorThreadIdleStrategy idleStrategy = ActorThreadIdleStrategy.BACKOFF;
+
+  @Override
+  public void init(final BrokerCfg globalConfig, final String brokerBase) {
+    if (spareIoThreadCount < 0 || spareIoThreadCount > ioThreadCount) {
+      throw new IllegalArgumentException(
+          "spareIoThreadCount must be >= 0 and <= ioThreadCount (%d) but was %d"
+              .formatted(ioThreadCount, spareIoThreadCount));
+    }
+  }
 
   public int getCpuThreadCount() {
     return cpuThreadCount;
@@ -27,6 +42,38 @@ public final class ThreadsCfg implements ConfigurationEntry {
     ioThreadCount = ioThreads;
   }
 
+  public int getSpareIoThreadCount() {
+    return spareIoThreadCount;
+  }
+
+  public void setSpareIoThreadCount(final int spareIoThreadCount) {
+    this.spareIoThreadCount = spareIoThreadCount;
+  }
+
+  public boolean isPartitionAffinity() {
+    return partitionAffinity;
+  }
+
+  public void setPartitionAffinity(final boolean partitionAffinity) {
+    this.partitionAffinity = partitionAffinity;
+  }
+
+  public boolean isProfilingEnabled() {
+    return profilingEnabled;
+  }
+
+  public void setProfilingEnabled(final boolean profilingEnabled) {
+    this.profilingEnabled = profilingEnabled;
+  }
+
+  public ActorThreadIdleStrategy getIdleStrategy() {
+    return idleStrategy;
+  }
+
+  public void setIdleStrategy(final ActorThreadIdleStrategy idleStrategy) {
+    this.idleStrategy = idleStrategy;
+  }
+
   @Override
   public String toString() {
     return "ThreadsCfg{"
@@ -34,6 +81,14 @@ public final class ThreadsCfg implements ConfigurationEntry {
         + cpuThreadCount
         + ", ioThreadCount="
         + ioThreadCount
+        + ", spareIoThreadCount="
+        + spareIoThreadCount
+        + ", partitionAffinity="
+        + partitionAffinity
+        + ", profilingEnabled="
+        + profilingEnabled
+        + ", idleStrategy="
+        + idleStrategy
         + '}';
   }
 }
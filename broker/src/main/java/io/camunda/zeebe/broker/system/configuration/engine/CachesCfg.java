@@ -0,0 +1,46 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.broker.system.configuration.engine;
+
+import io.camunda.zeebe.broker.system.configuration.ConfigurationEntry;
+import io.camunda.zeebe.engine.EngineConfiguration;
+import org.springframework.util.unit.DataSize;
+
+public final class CachesCfg implements ConfigurationEntry {
+
+  private DataSize processCacheCapacity =
+      DataSize.ofBytes(EngineConfiguration.DEFAULT_PROCESS_CACHE_CAPACITY);
+  private DataSize drgCacheCapacity =
+      DataSize.ofBytes(EngineConfiguration.DEFAULT_DRG_CACHE_CAPACITY);
+
+  public DataSize getProcessCacheCapacity() {
+    return processCacheCapacity;
+  }
+
+  public void setProcessCacheCapacity(final DataSize processCacheCapacity) {
+    this.processCacheCapacity = processCacheCapacity;
+  }
+
+  public DataSize getDrgCacheCapacity() {
+    return drgCacheCapacity;
+  }
+
+  public void setDrgCacheCapacity(final DataSize drgCacheCapacity) {
+    this.drgCacheCapacity = drgCacheCapacity;
+  }
+
+  @Override
+  public String toString() {
+    return "CachesCfg{"
+        + "processCacheCapacity="
+        + processCacheCapacity
+        + ", drgCacheCapacity="
+        + drgCacheCapacity
+        + '}';
+  }
+}
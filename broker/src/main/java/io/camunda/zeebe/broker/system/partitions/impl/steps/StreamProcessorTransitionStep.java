@@ -144,6 +144,10 @@ public final class StreamProcessorTransitionStep implements PartitionTransitionS
         .nodeId(context.getNodeId())
         .commandResponseWriter(context.getCommandResponseWriter())
         .maxCommandsInBatch(context.getBrokerCfg().getProcessing().getMaxCommandsInBatch())
+        .maxCommandsInGroup(context.getBrokerCfg().getProcessing().getMaxCommandsInGroup())
+        .maxCommandsInPipeline(context.getBrokerCfg().getProcessing().getMaxCommandsInPipeline())
+        .maxBatchesInReplay(context.getBrokerCfg().getProcessing().getMaxBatchesInReplay())
+        .warmUpInterval(context.getBrokerCfg().getProcessing().getFollowerWarmUpInterval())
         .listener(
             new StreamProcessorListener() {
               @Override
@@ -14,15 +14,20 @@ import io.camunda.zeebe.broker.transport.backpressure.BackpressureMetrics;
 import io.camunda.zeebe.broker.transport.backpressure.RequestLimiter;
 import io.camunda.zeebe.logstreams.log.LogAppendEntry;
 import io.camunda.zeebe.logstreams.log.LogStreamWriter;
+import io.camunda.zeebe.protocol.impl.encoding.ExecuteCommandBatchRequest;
+import io.camunda.zeebe.protocol.impl.encoding.ExecuteCommandRequest;
 import io.camunda.zeebe.protocol.impl.record.RecordMetadata;
 import io.camunda.zeebe.protocol.impl.record.UnifiedRecordValue;
 import io.camunda.zeebe.protocol.record.ExecuteCommandRequestDecoder;
+import io.camunda.zeebe.protocol.record.MessageHeaderDecoder;
 import io.camunda.zeebe.protocol.record.RecordType;
 import io.camunda.zeebe.protocol.record.intent.Intent;
 import io.camunda.zeebe.scheduler.future.ActorFuture;
 import io.camunda.zeebe.scheduler.future.CompletableActorFuture;
 import io.camunda.zeebe.util.Either;
+import java.util.ArrayList;
 import org.agrona.collections.Int2ObjectHashMap;
+import org.agrona.collections.LongArrayList;
 import org.slf4j.Logger;
 
 final class CommandApiRequestHandler
@@ -33,10 +38,14 @@ final class CommandApiRequestHandler
   private final Int2ObjectHashMap<RequestLimiter<Intent>> partitionLimiters =
       new Int2ObjectHashMap<>();
   private final BackpressureMetrics metrics = new BackpressureMetrics();
+  private final MessageHeaderDecoder batchCommandHeader = new MessageHeaderDecoder();
+  private final ExecuteCommandRequest batchCommand = new ExecuteCommandRequest();
+  private final CommandBatchResponseCollector batchResponses;
   private boolean isDiskSpaceAvailable = true;
 
-  CommandApiRequestHandler() {
+  CommandApiRequestHandler(final CommandBatchResponseCollector batchResponses) {
     super(CommandApiRequestReader::new, CommandApiResponseWriter::new);
+    this.batchResponses = batchResponses;
   }
 
   @Override
@@ -56,6 +65,11 @@ final class CommandApiRequestHandler
       final CommandApiRequestReader requestReader,
       final CommandApiResponseWriter responseWriter,
       final ErrorResponseWriter errorWriter) {
+    if (requestReader.isBatch()) {
+      return handleExecuteCommandBatchRequest(
+          partitionId, requestId, requestReader.batch(), responseWriter, errorWriter);
+    }
+
     return handleExecuteCommandRequest(
         partitionId, requestId, requestReader, responseWriter, errorWriter);
   }
@@ -124,6 +138,135 @@ final class CommandApiRequestHandler
     }
   }
 
+  /**
+   * Appends all commands of the batch to the log at once. Each command takes up a slot of the
+   * request limiter like a single command; the commands which don't get one are answered with an
+   * error right away, while the others are answered by the engine. The responses are sent back
+   * together by the {@link CommandBatchResponseCollector}.
+   */
+  private Either<ErrorResponseWriter, CommandApiResponseWriter> handleExecuteCommandBatchRequest(
+      final int partitionId,
+      final long requestId,
+      final ExecuteCommandBatchRequest batch,
+      final CommandApiResponseWriter responseWriter,
+      final ErrorResponseWriter errorWriter) {
+
+    if (!isDiskSpaceAvailable) {
+      return Either.left(errorWriter.outOfDiskSpace(partitionId));
+    }
+
+    final var logStreamWriter = leadingStreams.get(partitionId);
+    final var limiter = partitionLimiters.get(partitionId);
+    if (logStreamWriter == null) {
+      errorWriter.partitionLeaderMismatch(partitionId);
+      return Either.left(errorWriter);
+    }
+
+    final int commandCount = batch.getCommandCount();
+    if (commandCount == 0) {
+      errorWriter.malformedRequest(
+          new IllegalArgumentException(
+              "Expected a batch with at least one command, but was empty"));
+      return Either.left(errorWriter);
+    }
+
+    final var commands = new ArrayList<BatchCommand>(commandCount);
+    for (int i = 0; i < commandCount; i++) {
+      final var command = batch.getCommand(i);
+      batchCommandHeader.wrap(command, 0);
+      if (batchCommandHeader.templateId() != ExecuteCommandRequestDecoder.TEMPLATE_ID) {
+        errorWriter.invalidMessageTemplate(
+            batchCommandHeader.templateId(), ExecuteCommandRequestDecoder.TEMPLATE_ID);
+        return Either.left(errorWriter);
+      }
+
+      batchCommand.wrap(command, 0, command.capacity());
+      final var valueType = batchCommand.getValueType();
+      final var recordSupplier = CommandApiRequestReader.RECORDS_BY_TYPE.get(valueType);
+      if (recordSupplier == null) {
+        errorWriter.unsupportedMessage(
+            valueType.name(), CommandApiRequestReader.RECORDS_BY_TYPE.keySet().toArray());
+        return Either.left(errorWriter);
+      }
+
+      // every command needs its own value and metadata, as they are all written at once
+      final var commandValue = batchCommand.getValue();
+      final var value = recordSupplier.get();
+      value.wrap(commandValue, 0, commandValue.capacity());
+      final var metadata = new RecordMetadata();
+      metadata
+          .protocolVersion(batchCommandHeader.version())
+          .requestStreamId(partitionId)
+          .recordType(RecordType.COMMAND)
+          .intent(batchCommand.getIntent())
+          .valueType(valueType);
+      commands.add(new BatchCommand(batchCommand.getKey(), metadata, value));
+    }
+
+    final long firstCommandRequestId = batchResponses.reserveCommandRequestIds(commandCount);
+    batchResponses.addBatch(partitionId, requestId, firstCommandRequestId, commandCount);
+
+    final var appendEntries = new ArrayList<LogAppendEntry>(commandCount);
+    final var acquiredRequestIds = new LongArrayList();
+    final var droppedRequestIds = new LongArrayList();
+    int appendEntriesLength = 0;
+    for (int i = 0; i < commandCount; i++) {
+      final var command = commands.get(i);
+      final long commandRequestId = firstCommandRequestId + i;
+      final var intent = command.metadata().getIntent();
+      command.metadata().requestId(commandRequestId);
+
+      metrics.receivedRequest(partitionId);
+      if (!limiter.tryAcquire(partitionId, commandRequestId, intent)) {
+        metrics.dropped(partitionId);
+        droppedRequestIds.addLong(commandRequestId);
+        continue;
+      }
+
+      acquiredRequestIds.addLong(commandRequestId);
+      final var appendEntry = command.toAppendEntry();
+      appendEntries.add(appendEntry);
+      appendEntriesLength += appendEntry.getLength();
+    }
+
+    if (appendEntries.isEmpty()) {
+      batchResponses.removeBatch(firstCommandRequestId, commandCount);
+      LOG.trace(
+          "Partition-{} receiving too many requests. Current limit {} inflight {}, dropping batch request {} from gateway",
+          partitionId,
+          limiter.getLimit(),
+          limiter.getInflightCount(),
+          requestId);
+      errorWriter.resourceExhausted();
+      return Either.left(errorWriter);
+    }
+
+    String failure;
+    try {
+      if (!logStreamWriter.canWriteEvents(appendEntries.size(), appendEntriesLength)) {
+        failure = "Request size is above configured maxMessageSize.";
+      } else if (logStreamWriter.tryWrite(appendEntries) < 0) {
+        failure = "Failed to write request to logstream";
+      } else {
+        // only answered now, as the batch must not be completed before any command was written
+        droppedRequestIds.forEachOrderedLong(
+            commandRequestId ->
+                batchResponses.completeCommand(
+                    commandRequestId, new ErrorResponseWriter().resourceExhausted()));
+        return Either.right(responseWriter);
+      }
+    } catch (final Exception ex) {
+      failure = ex.toString();
+    }
+
+    batchResponses.removeBatch(firstCommandRequestId, commandCount);
+    acquiredRequestIds.forEachOrderedLong(
+        commandRequestId -> limiter.onIgnore(partitionId, commandRequestId));
+    LOG.error("Unexpected error on writing batch of {} commands {}", commandCount, failure);
+    errorWriter.internalError("Failed writing request: %s", failure);
+    return Either.left(errorWriter);
+  }
+
   private static ErrorResponseWriter handleErrorOnWrite(
       final int partitionId,
       final long requestId,
@@ -174,6 +317,7 @@ final class CommandApiRequestHandler
         () -> {
           leadingStreams.remove(partitionId);
           partitionLimiters.remove(partitionId);
+          batchResponses.removePartition(partitionId);
         });
   }
 
@@ -188,4 +332,15 @@ final class CommandApiRequestHandler
   void onDiskSpaceAvailable() {
     actor.submit(() -> isDiskSpaceAvailable = true);
   }
+
+  private record BatchCommand(long key, RecordMetadata metadata, UnifiedRecordValue value) {
+
+    private LogAppendEntry toAppendEntry() {
+      if (key != ExecuteCommandRequestDecoder.keyNullValue()) {
+        return LogAppendEntry.of(key, metadata, value);
+      }
+
+      return LogAppendEntry.of(metadata, value);
+    }
+  }
 }
@@ -11,6 +11,7 @@ import static io.camunda.zeebe.protocol.record.ExecuteCommandRequestDecoder.TEMP
 
 import io.camunda.zeebe.broker.transport.AsyncApiRequestHandler.RequestReader;
 import io.camunda.zeebe.broker.transport.RequestReaderException;
+import io.camunda.zeebe.protocol.impl.encoding.ExecuteCommandBatchRequest;
 import io.camunda.zeebe.protocol.impl.record.RecordMetadata;
 import io.camunda.zeebe.protocol.impl.record.UnifiedRecordValue;
 import io.camunda.zeebe.protocol.impl.record.value.decision.DecisionEvaluationRecord;
@@ -26,6 +27,7 @@ import io.camunda.zeebe.protocol.impl.record.value.processinstance.ProcessInstan
 import io.camunda.zeebe.protocol.impl.record.value.processinstance.ProcessInstanceRecord;
 import io.camunda.zeebe.protocol.impl.record.value.signal.SignalRecord;
 import io.camunda.zeebe.protocol.impl.record.value.variable.VariableDocumentRecord;
+import io.camunda.zeebe.protocol.record.ExecuteCommandBatchRequestDecoder;
 import io.camunda.zeebe.protocol.record.ExecuteCommandRequestDecoder;
 import io.camunda.zeebe.protocol.record.MessageHeaderDecoder;
 import io.camunda.zeebe.protocol.record.ValueType;
@@ -60,6 +62,8 @@ public class CommandApiRequestReader implements RequestReader<ExecuteCommandRequ
   private final MessageHeaderDecoder messageHeaderDecoder = new MessageHeaderDecoder();
   private final ExecuteCommandRequestDecoder commandRequestDecoder =
       new ExecuteCommandRequestDecoder();
+  private final ExecuteCommandBatchRequest batchRequest = new ExecuteCommandBatchRequest();
+  private boolean isBatch;
 
   @Override
   public void reset() {
@@ -67,6 +71,8 @@ public class CommandApiRequestReader implements RequestReader<ExecuteCommandRequ
       value.reset();
     }
     metadata.reset();
+    batchRequest.reset();
+    isBatch = false;
   }
 
   @Override
@@ -79,6 +85,12 @@ public class CommandApiRequestReader implements RequestReader<ExecuteCommandRequ
     messageHeaderDecoder.wrap(buffer, offset);
 
     final int templateId = messageHeaderDecoder.templateId();
+    if (ExecuteCommandBatchRequestDecoder.TEMPLATE_ID == templateId) {
+      batchRequest.wrap(buffer, offset, length);
+      isBatch = true;
+      return;
+    }
+
     if (TEMPLATE_ID != templateId) {
       throw new RequestReaderException.InvalidTemplateException(
           messageHeaderDecoder.templateId(), templateId);
@@ -108,4 +120,16 @@ public class CommandApiRequestReader implements RequestReader<ExecuteCommandRequ
   public RecordMetadata metadata() {
     return metadata;
   }
+
+  /**
+   * @return true if the request is an {@link ExecuteCommandBatchRequest}, in which case only {@link
+   *     #batch()} is populated
+   */
+  public boolean isBatch() {
+    return isBatch;
+  }
+
+  public ExecuteCommandBatchRequest batch() {
+    return batchRequest;
+  }
 }
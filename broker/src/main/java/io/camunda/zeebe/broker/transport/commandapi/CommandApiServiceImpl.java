@@ -35,6 +35,7 @@ public final class CommandApiServiceImpl extends Actor
 
   private final PartitionAwareRequestLimiter limiter;
   private final ServerTransport serverTransport;
+  private final CommandBatchResponseCollector batchResponses;
   private final CommandApiRequestHandler commandHandler;
   private final QueryApiRequestHandler queryHandler;
   private final IntHashSet leadPartitions = new IntHashSet();
@@ -50,7 +51,8 @@ public final class CommandApiServiceImpl extends Actor
     this.serverTransport = serverTransport;
     this.limiter = limiter;
     this.scheduler = scheduler;
-    commandHandler = new CommandApiRequestHandler();
+    batchResponses = new CommandBatchResponseCollector(serverTransport);
+    commandHandler = new CommandApiRequestHandler(batchResponses);
     queryHandler = new QueryApiRequestHandler(queryApiCfg, localBroker.getNodeId());
     actorName = buildActorName(localBroker.getNodeId(), "CommandApiService");
   }
@@ -157,7 +159,7 @@ public final class CommandApiServiceImpl extends Actor
 
   @Override
   public CommandResponseWriter newCommandResponseWriter() {
-    return new CommandResponseWriterImpl(serverTransport);
+    return new CommandResponseWriterImpl(batchResponses);
   }
 
   @Override
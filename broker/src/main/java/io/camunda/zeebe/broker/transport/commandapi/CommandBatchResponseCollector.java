@@ -0,0 +1,155 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.broker.transport.commandapi;
+
+import io.camunda.zeebe.protocol.impl.encoding.ExecuteCommandBatchResponse;
+import io.camunda.zeebe.transport.ServerOutput;
+import io.camunda.zeebe.transport.ServerResponse;
+import io.camunda.zeebe.transport.impl.ServerResponseImpl;
+import io.camunda.zeebe.util.buffer.BufferUtil;
+import io.camunda.zeebe.util.buffer.BufferWriter;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import org.agrona.DirectBuffer;
+
+/**
+ * Collects the responses to the commands of an {@code ExecuteCommandBatchRequest}, and sends them
+ * as a single {@link ExecuteCommandBatchResponse} once all commands were answered.
+ *
+ * <p>Every command of a batch is written with its own request id, taken from a range which the
+ * transport never uses, such that the engine answers it like any other command, and the request
+ * limiter tracks it like any other command. Responses to all other request ids are passed through
+ * to the underlying output.
+ *
+ * <p>Responses are sent by the stream processors of all partitions, so this class is thread safe.
+ */
+final class CommandBatchResponseCollector implements ServerOutput {
+
+  // the transport counts its request ids up from 0, so it never reaches this range
+  private static final long FIRST_COMMAND_REQUEST_ID = 1L << 62;
+
+  private final ServerOutput output;
+  private final AtomicLong nextCommandRequestId = new AtomicLong(FIRST_COMMAND_REQUEST_ID);
+  private final Map<Long, PendingBatch> batchesByCommandRequestId = new ConcurrentHashMap<>();
+
+  CommandBatchResponseCollector(final ServerOutput output) {
+    this.output = output;
+  }
+
+  /**
+   * Reserves the request ids for the commands of a batch.
+   *
+   * @return the request id of the first command; the commands use consecutive ids
+   */
+  long reserveCommandRequestIds(final int commandCount) {
+    return nextCommandRequestId.getAndAdd(commandCount);
+  }
+
+  /**
+   * Starts collecting the responses to the commands of a batch. Must be called before the commands
+   * are written, as they may be answered right away.
+   */
+  void addBatch(
+      final int partitionId,
+      final long requestId,
+      final long firstCommandRequestId,
+      final int commandCount) {
+    final var batch = new PendingBatch(partitionId, requestId, firstCommandRequestId, commandCount);
+    for (int i = 0; i < commandCount; i++) {
+      batchesByCommandRequestId.put(firstCommandRequestId + i, batch);
+    }
+  }
+
+  /** Stops collecting the responses to a batch, e.g. because its commands could not be written. */
+  void removeBatch(final long firstCommandRequestId, final int commandCount) {
+    for (int i = 0; i < commandCount; i++) {
+      batchesByCommandRequestId.remove(firstCommandRequestId + i);
+    }
+  }
+
+  /**
+   * Forgets the batches of the given partition, whose missing responses will never be sent once the
+   * broker is not the leader of the partition anymore. The gateway times out these requests.
+   */
+  void removePartition(final int partitionId) {
+    batchesByCommandRequestId.values().removeIf(batch -> batch.partitionId == partitionId);
+  }
+
+  /**
+   * Answers a command of a batch without writing it, e.g. because it was rejected by the request
+   * limiter.
+   */
+  void completeCommand(final long commandRequestId, final BufferWriter response) {
+    final var batch = batchesByCommandRequestId.remove(commandRequestId);
+    if (batch != null) {
+      complete(batch, commandRequestId, BufferUtil.createCopy(response));
+    }
+  }
+
+  @Override
+  public void sendResponse(final ServerResponse response) {
+    final var batch = batchesByCommandRequestId.remove(response.getRequestId());
+    if (batch == null) {
+      output.sendResponse(response);
+      return;
+    }
+
+    // the response writers are reused, so the response must be copied before returning
+    complete(batch, response.getRequestId(), BufferUtil.createCopy(response));
+  }
+
+  private void complete(
+      final PendingBatch batch, final long commandRequestId, final DirectBuffer response) {
+    if (batch.complete(commandRequestId, response)) {
+      output.sendResponse(batch.toResponse());
+    }
+  }
+
+  private static final class PendingBatch {
+    private final int partitionId;
+    private final long requestId;
+    private final long firstCommandRequestId;
+    private final DirectBuffer[] responses;
+    private final AtomicInteger pendingResponses;
+
+    private PendingBatch(
+        final int partitionId,
+        final long requestId,
+        final long firstCommandRequestId,
+        final int commandCount) {
+      this.partitionId = partitionId;
+      this.requestId = requestId;
+      this.firstCommandRequestId = firstCommandRequestId;
+      responses = new DirectBuffer[commandCount];
+      pendingResponses = new AtomicInteger(commandCount);
+    }
+
+    /**
+     * @return true if this was the last missing response
+     */
+    private boolean complete(final long commandRequestId, final DirectBuffer response) {
+      responses[(int) (commandRequestId - firstCommandRequestId)] = response;
+      // the decrement publishes the response to the thread which completes the batch
+      return pendingResponses.decrementAndGet() == 0;
+    }
+
+    private ServerResponse toResponse() {
+      final var batchResponse = new ExecuteCommandBatchResponse().setPartitionId(partitionId);
+      for (final DirectBuffer response : responses) {
+        batchResponse.addResponse(response);
+      }
+
+      return new ServerResponseImpl()
+          .setPartitionId(partitionId)
+          .setRequestId(requestId)
+          .writer(batchResponse);
+    }
+  }
+}
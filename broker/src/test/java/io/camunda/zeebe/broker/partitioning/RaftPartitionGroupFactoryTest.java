@@ -167,6 +167,30 @@ final class RaftPartitionGroupFactoryTest {
     assertThat(config.getPartitionConfig().getPreferSnapshotReplicationThreshold()).isEqualTo(1000);
   }
 
+  @Test
+  void shouldSetSnapshotChunkSize() {
+    // given
+    brokerCfg.getExperimental().getRaft().setSnapshotChunkSize(DataSize.ofKilobytes(256));
+
+    // when
+    final var config = buildRaftPartitionGroup();
+
+    // then
+    assertThat(config.getPartitionConfig().getSnapshotChunkSize()).isEqualTo(256 * 1024);
+  }
+
+  @Test
+  void shouldSetMaxSnapshotChunksInFlight() {
+    // given
+    brokerCfg.getExperimental().getRaft().setMaxSnapshotChunksInFlight(8);
+
+    // when
+    final var config = buildRaftPartitionGroup();
+
+    // then
+    assertThat(config.getPartitionConfig().getMaxSnapshotChunksInFlight()).isEqualTo(8);
+  }
+
   @ParameterizedTest
   @ValueSource(booleans = {true, false})
   void shouldSetSegmentFilesPreallocation(final boolean value) {
@@ -10,7 +10,9 @@ package io.camunda.zeebe.broker.system.configuration;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
+import java.time.Duration;
 import java.util.Collections;
+import java.util.Map;
 import org.junit.jupiter.api.Test;
 
 final class ProcessingCfgTest {
@@ -78,4 +80,209 @@ final class ProcessingCfgTest {
         .isInstanceOf(IllegalArgumentException.class)
         .hasMessageContaining("maxCommandsInBatch must be >= 1");
   }
+
+  @Test
+  void shouldDisableGroupProcessingByDefault() {
+    // given
+    final var cfg = new ProcessingCfg();
+
+    // when
+    final int limit = cfg.getMaxCommandsInGroup();
+
+    // then
+    assertThat(limit).isEqualTo(1);
+  }
+
+  @Test
+  void shouldSetMaxCommandsInGroupFromConfig() {
+    // given
+    final var cfg =
+        TestConfigReader.readConfig("processing-cfg", Collections.emptyMap()).getProcessing();
+
+    // when
+    final int limit = cfg.getMaxCommandsInGroup();
+
+    // then
+    assertThat(limit).isEqualTo(20);
+  }
+
+  @Test
+  void shouldSetMaxCommandsInGroupFromEnvironment() {
+    // given
+    final var environment =
+        Collections.singletonMap("zeebe.broker.processing.maxCommandsInGroup", "10");
+    final var cfg = TestConfigReader.readConfig("processing-cfg", environment).getProcessing();
+
+    // when
+    final var limit = cfg.getMaxCommandsInGroup();
+
+    // then
+    assertThat(limit).isEqualTo(10);
+  }
+
+  @Test
+  void shouldRejectInvalidMaxCommandsInGroup() {
+    // given
+    final var environment =
+        Collections.singletonMap("zeebe.broker.processing.maxCommandsInGroup", "0");
+
+    // then
+    assertThatThrownBy(() -> TestConfigReader.readConfig("processing-cfg", environment))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessageContaining("maxCommandsInGroup must be >= 1");
+  }
+
+  @Test
+  void shouldProcessOneCommandPerPipelineByDefault() {
+    // given
+    final var cfg = new ProcessingCfg();
+
+    // when
+    final int limit = cfg.getMaxCommandsInPipeline();
+
+    // then
+    assertThat(limit).isEqualTo(1);
+  }
+
+  @Test
+  void shouldSetMaxCommandsInPipelineFromEnvironment() {
+    // given
+    final var environment =
+        Map.of(
+            "zeebe.broker.processing.maxCommandsInGroup", "1",
+            "zeebe.broker.processing.maxCommandsInPipeline", "10");
+    final var cfg = TestConfigReader.readConfig("processing-cfg", environment).getProcessing();
+
+    // when
+    final var limit = cfg.getMaxCommandsInPipeline();
+
+    // then
+    assertThat(limit).isEqualTo(10);
+  }
+
+  @Test
+  void shouldRejectInvalidMaxCommandsInPipeline() {
+    // given
+    final var environment =
+        Collections.singletonMap("zeebe.broker.processing.maxCommandsInPipeline", "0");
+
+    // then
+    assertThatThrownBy(() -> TestConfigReader.readConfig("processing-cfg", environment))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessageContaining("maxCommandsInPipeline must be >= 1");
+  }
+
+  @Test
+  void shouldRejectGroupAndPipelineProcessingTogether() {
+    // given
+    final var environment =
+        Collections.singletonMap("zeebe.broker.processing.maxCommandsInPipeline", "10");
+
+    // then
+    assertThatThrownBy(() -> TestConfigReader.readConfig("processing-cfg", environment))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessageContaining("Expected either maxCommandsInGroup or maxCommandsInPipeline");
+  }
+
+  @Test
+  void shouldReplayOneBatchPerTransactionByDefault() {
+    // given
+    final var cfg = new ProcessingCfg();
+
+    // when
+    final int limit = cfg.getMaxBatchesInReplay();
+
+    // then
+    assertThat(limit).isEqualTo(1);
+  }
+
+  @Test
+  void shouldSetMaxBatchesInReplayFromConfig() {
+    // given
+    final var cfg =
+        TestConfigReader.readConfig("processing-cfg", Collections.emptyMap()).getProcessing();
+
+    // when
+    final int limit = cfg.getMaxBatchesInReplay();
+
+    // then
+    assertThat(limit).isEqualTo(50);
+  }
+
+  @Test
+  void shouldSetMaxBatchesInReplayFromEnvironment() {
+    // given
+    final var environment =
+        Collections.singletonMap("zeebe.broker.processing.maxBatchesInReplay", "10");
+    final var cfg = TestConfigReader.readConfig("processing-cfg", environment).getProcessing();
+
+    // when
+    final var limit = cfg.getMaxBatchesInReplay();
+
+    // then
+    assertThat(limit).isEqualTo(10);
+  }
+
+  @Test
+  void shouldRejectInvalidMaxBatchesInReplay() {
+    // given
+    final var environment =
+        Collections.singletonMap("zeebe.broker.processing.maxBatchesInReplay", "0");
+
+    // then
+    assertThatThrownBy(() -> TestConfigReader.readConfig("processing-cfg", environment))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessageContaining("maxBatchesInReplay must be >= 1");
+  }
+
+  @Test
+  void shouldDisableFollowerWarmUpByDefault() {
+    // given
+    final var cfg = new ProcessingCfg();
+
+    // when
+    final var interval = cfg.getFollowerWarmUpInterval();
+
+    // then
+    assertThat(interval).isZero();
+  }
+
+  @Test
+  void shouldSetFollowerWarmUpIntervalFromConfig() {
+    // given
+    final var cfg =
+        TestConfigReader.readConfig("processing-cfg", Collections.emptyMap()).getProcessing();
+
+    // when
+    final var interval = cfg.getFollowerWarmUpInterval();
+
+    // then
+    assertThat(interval).isEqualTo(Duration.ofSeconds(30));
+  }
+
+  @Test
+  void shouldSetFollowerWarmUpIntervalFromEnvironment() {
+    // given
+    final var environment =
+        Collections.singletonMap("zeebe.broker.processing.followerWarmUpInterval", "5m");
+    final var cfg = TestConfigReader.readConfig("processing-cfg", environment).getProcessing();
+
+    // when
+    final var interval = cfg.getFollowerWarmUpInterval();
+
+    // then
+    assertThat(interval).isEqualTo(Duration.ofMinutes(5));
+  }
+
+  @Test
+  void shouldRejectNegativeFollowerWarmUpInterval() {
+    // given
+    final var environment =
+        Collections.singletonMap("zeebe.broker.processing.followerWarmUpInterval", "-1s");
+
+    // then
+    assertThatThrownBy(() -> TestConfigReader.readConfig("processing-cfg", environment))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessageContaining("followerWarmUpInterval must not be negative");
+  }
 }
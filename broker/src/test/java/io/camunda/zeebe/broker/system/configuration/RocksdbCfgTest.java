@@ -285,4 +285,28 @@ public final class RocksdbCfgTest {
     // then
     assertThat(rocksdb.isDisableWal()).isTrue();
   }
+
+  @Test
+  public void shouldDisableSeparateColumnFamiliesPerDefault() {
+    // when
+    final BrokerCfg cfg = TestConfigReader.readConfig("empty", environment);
+    final var rocksdb = cfg.getExperimental().getRocksdb();
+
+    // then
+    assertThat(rocksdb.isEnableSeparateColumnFamilies()).isFalse();
+    assertThat(rocksdb.getSeparateColumnFamilyOptions()).isEmpty();
+  }
+
+  @Test
+  public void shouldSetSeparateColumnFamiliesViaConfig() {
+    // when
+    final BrokerCfg cfg = TestConfigReader.readConfig("rocksdb-cfg", environment);
+    final var rocksDbConfiguration =
+        cfg.getExperimental().getRocksdb().createRocksDbConfiguration();
+
+    // then
+    assertThat(rocksDbConfiguration.isSeparateColumnFamiliesEnabled()).isTrue();
+    assertThat(rocksDbConfiguration.getSeparateColumnFamilyOptions().get("JOBS"))
+        .containsEntry("write_buffer_size", "8388608");
+  }
 }
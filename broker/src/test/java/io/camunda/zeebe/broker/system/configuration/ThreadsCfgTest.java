@@ -8,7 +8,9 @@
 package io.camunda.zeebe.broker.system.configuration;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
+import io.camunda.zeebe.scheduler.ActorThreadIdleStrategy;
 import java.util.Collections;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.parallel.Execution;
@@ -115,4 +117,180 @@ final class ThreadsCfgTest {
     // then
     assertThat(cpuThreadCount).isEqualTo(6);
   }
+
+  @Test
+  void shouldNotUseSpareIoThreadsByDefault() {
+    // given
+    final ThreadsCfg cfg = new ThreadsCfg();
+
+    // when
+    final int spareIoThreadCount = cfg.getSpareIoThreadCount();
+
+    // then
+    assertThat(spareIoThreadCount).isZero();
+  }
+
+  @Test
+  void shouldSetSpareIoThreadCountFromConfig() {
+    // given
+    final var cfg = TestConfigReader.readConfig("threads-cfg", Collections.emptyMap()).getThreads();
+
+    // when
+    final int spareIoThreadCount = cfg.getSpareIoThreadCount();
+
+    // then
+    assertThat(spareIoThreadCount).isEqualTo(3);
+  }
+
+  @Test
+  void shouldSetSpareIoThreadCountFromEnv() {
+    // given
+    final var environment =
+        Collections.singletonMap("zeebe.broker.threads.spareIoThreadCount", "4");
+    final var cfg = TestConfigReader.readConfig("threads-cfg", environment).getThreads();
+
+    // when
+    final int spareIoThreadCount = cfg.getSpareIoThreadCount();
+
+    // then
+    assertThat(spareIoThreadCount).isEqualTo(4);
+  }
+
+  @Test
+  void shouldRejectNegativeSpareIoThreadCount() {
+    // given
+    final var environment =
+        Collections.singletonMap("zeebe.broker.threads.spareIoThreadCount", "-1");
+
+    // then
+    assertThatThrownBy(() -> TestConfigReader.readConfig("threads-cfg", environment))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessageContaining("spareIoThreadCount must be >= 0 and <= ioThreadCount (7)");
+  }
+
+  @Test
+  void shouldRejectMoreSpareIoThreadsThanIoThreads() {
+    // given
+    final var environment =
+        Collections.singletonMap("zeebe.broker.threads.spareIoThreadCount", "8");
+
+    // then
+    assertThatThrownBy(() -> TestConfigReader.readConfig("threads-cfg", environment))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessageContaining("spareIoThreadCount must be >= 0 and <= ioThreadCount (7)");
+  }
+
+  @Test
+  void shouldDisablePartitionAffinityByDefault() {
+    // given
+    final ThreadsCfg cfg = new ThreadsCfg();
+
+    // when
+    final boolean partitionAffinity = cfg.isPartitionAffinity();
+
+    // then
+    assertThat(partitionAffinity).isFalse();
+  }
+
+  @Test
+  void shouldSetPartitionAffinityFromConfig() {
+    // given
+    final var cfg = TestConfigReader.readConfig("threads-cfg", Collections.emptyMap()).getThreads();
+
+    // when
+    final boolean partitionAffinity = cfg.isPartitionAffinity();
+
+    // then
+    assertThat(partitionAffinity).isTrue();
+  }
+
+  @Test
+  void shouldSetPartitionAffinityFromEnv() {
+    // given
+    final var environment =
+        Collections.singletonMap("zeebe.broker.threads.partitionAffinity", "false");
+    final var cfg = TestConfigReader.readConfig("threads-cfg", environment).getThreads();
+
+    // when
+    final boolean partitionAffinity = cfg.isPartitionAffinity();
+
+    // then
+    assertThat(partitionAffinity).isFalse();
+  }
+
+  @Test
+  void shouldEnableProfilingByDefault() {
+    // given
+    final ThreadsCfg cfg = new ThreadsCfg();
+
+    // when
+    final boolean profilingEnabled = cfg.isProfilingEnabled();
+
+    // then
+    assertThat(profilingEnabled).isTrue();
+  }
+
+  @Test
+  void shouldSetProfilingEnabledFromConfig() {
+    // given
+    final var cfg = TestConfigReader.readConfig("threads-cfg", Collections.emptyMap()).getThreads();
+
+    // when
+    final boolean profilingEnabled = cfg.isProfilingEnabled();
+
+    // then
+    assertThat(profilingEnabled).isFalse();
+  }
+
+  @Test
+  void shouldSetProfilingEnabledFromEnv() {
+    // given
+    final var environment =
+        Collections.singletonMap("zeebe.broker.threads.profilingEnabled", "true");
+    final var cfg = TestConfigReader.readConfig("threads-cfg", environment).getThreads();
+
+    // when
+    final boolean profilingEnabled = cfg.isProfilingEnabled();
+
+    // then
+    assertThat(profilingEnabled).isTrue();
+  }
+
+  @Test
+  void shouldUseBackoffIdleStrategyByDefault() {
+    // given
+    final ThreadsCfg cfg = new ThreadsCfg();
+
+    // when
+    final var idleStrategy = cfg.getIdleStrategy();
+
+    // then
+    assertThat(idleStrategy).isEqualTo(ActorThreadIdleStrategy.BACKOFF);
+  }
+
+  @Test
+  void shouldSetIdleStrategyFromConfig() {
+    // given
+    final var cfg = TestConfigReader.readConfig("threads-cfg", Collections.emptyMap()).getThreads();
+
+    // when
+    final var idleStrategy = cfg.getIdleStrategy();
+
+    // then
+    assertThat(idleStrategy).isEqualTo(ActorThreadIdleStrategy.ADAPTIVE);
+  }
+
+  @Test
+  void shouldSetIdleStrategyFromEnv() {
+    // given
+    final var environment =
+        Collections.singletonMap("zeebe.broker.threads.idleStrategy", "backoff");
+    final var cfg = TestConfigReader.readConfig("threads-cfg", environment).getThreads();
+
+    // when
+    final var idleStrategy = cfg.getIdleStrategy();
+
+    // then
+    assertThat(idleStrategy).isEqualTo(ActorThreadIdleStrategy.BACKOFF);
+  }
 }
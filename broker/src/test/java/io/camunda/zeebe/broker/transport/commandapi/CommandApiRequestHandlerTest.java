@@ -12,6 +12,8 @@ import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -21,29 +23,46 @@ import io.camunda.zeebe.gateway.impl.broker.request.BrokerPublishMessageRequest;
 import io.camunda.zeebe.logstreams.log.LogAppendEntry;
 import io.camunda.zeebe.logstreams.log.LogStreamWriter;
 import io.camunda.zeebe.protocol.impl.encoding.ErrorResponse;
+import io.camunda.zeebe.protocol.impl.encoding.ExecuteCommandBatchRequest;
+import io.camunda.zeebe.protocol.impl.encoding.ExecuteCommandBatchResponse;
 import io.camunda.zeebe.protocol.impl.encoding.ExecuteCommandRequest;
 import io.camunda.zeebe.protocol.impl.encoding.ExecuteCommandResponse;
 import io.camunda.zeebe.protocol.impl.encoding.ExecuteQueryRequest;
+import io.camunda.zeebe.protocol.impl.record.value.message.MessageRecord;
 import io.camunda.zeebe.protocol.record.ErrorCode;
+import io.camunda.zeebe.protocol.record.RecordType;
 import io.camunda.zeebe.protocol.record.ValueType;
 import io.camunda.zeebe.protocol.record.intent.Intent;
+import io.camunda.zeebe.protocol.record.intent.MessageIntent;
 import io.camunda.zeebe.scheduler.testing.ControlledActorSchedulerRule;
 import io.camunda.zeebe.transport.ServerOutput;
 import io.camunda.zeebe.util.Either;
 import io.camunda.zeebe.util.buffer.BufferUtil;
 import io.camunda.zeebe.util.buffer.BufferWriter;
 import java.time.Duration;
+import java.util.List;
 import java.util.concurrent.CompletableFuture;
+import org.agrona.DirectBuffer;
 import org.agrona.ExpandableArrayBuffer;
 import org.agrona.concurrent.UnsafeBuffer;
 import org.junit.Before;
 import org.junit.Rule;
 import org.junit.Test;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mockito;
 
 public class CommandApiRequestHandlerTest {
   @Rule public final ControlledActorSchedulerRule scheduler = new ControlledActorSchedulerRule();
-  final CommandApiRequestHandler handler = new CommandApiRequestHandler();
+  private final CompletableFuture<ExecuteCommandBatchResponse> batchResponseFuture =
+      new CompletableFuture<>();
+  private final CommandBatchResponseCollector batchResponses =
+      new CommandBatchResponseCollector(
+          serverResponse -> {
+            final var response = new ExecuteCommandBatchResponse();
+            response.wrap(BufferUtil.createCopy(serverResponse), 0, serverResponse.getLength());
+            batchResponseFuture.complete(response);
+          });
+  final CommandApiRequestHandler handler = new CommandApiRequestHandler(batchResponses);
   private LogStreamWriter logStreamWriter;
 
   @Before
@@ -194,6 +213,121 @@ public class CommandApiRequestHandlerTest {
             "Failed writing request: Request size is above configured maxMessageSize.");
   }
 
+  @Test
+  public void shouldWriteCommandsOfBatchToLogAtOnce() {
+    // given
+    final var logWriter = mock(LogStreamWriter.class);
+    when(logWriter.canWriteEvents(anyInt(), anyInt())).thenReturn(true);
+    handler.addPartition(0, logWriter, new NoopRequestLimiter<>());
+    scheduler.workUntilDone();
+
+    // when
+    handleRequest(newPublishMessageBatch("first", "second"));
+
+    // then
+    final var appendEntries = captureAppendEntries(logWriter);
+    assertThat(appendEntries)
+        .extracting(entry -> ((MessageRecord) entry.recordValue()).getCorrelationKey())
+        .containsExactly("first", "second");
+    assertThat(appendEntries)
+        .extracting(entry -> entry.recordMetadata().getRequestId())
+        .doesNotHaveDuplicates();
+  }
+
+  @Test
+  public void shouldRespondToBatchOnceAllCommandsWereAnswered() {
+    // given
+    final var logWriter = mock(LogStreamWriter.class);
+    when(logWriter.canWriteEvents(anyInt(), anyInt())).thenReturn(true);
+    handler.addPartition(0, logWriter, new NoopRequestLimiter<>());
+    scheduler.workUntilDone();
+    handleRequest(newPublishMessageBatch("first", "second"));
+    final var appendEntries = captureAppendEntries(logWriter);
+
+    // when
+    respondTo(appendEntries.get(1), 2);
+    assertThat(batchResponseFuture).isNotDone();
+    respondTo(appendEntries.get(0), 1);
+
+    // then
+    assertThat(batchResponseFuture)
+        .succeedsWithin(Duration.ofMinutes(1))
+        .extracting(ExecuteCommandBatchResponse::getResponses)
+        .asList()
+        .extracting(response -> decodeCommandResponse((DirectBuffer) response).getKey())
+        .containsExactly(1L, 2L);
+  }
+
+  @Test
+  public void shouldAnswerCommandsOfBatchRejectedByLimiter() {
+    // given
+    final RequestLimiter<Intent> limiter = mock(RequestLimiter.class);
+    when(limiter.tryAcquire(anyInt(), anyLong(), any())).thenReturn(true, false);
+    final var logWriter = mock(LogStreamWriter.class);
+    when(logWriter.canWriteEvents(anyInt(), anyInt())).thenReturn(true);
+    handler.addPartition(0, logWriter, limiter);
+    scheduler.workUntilDone();
+    handleRequest(newPublishMessageBatch("first", "second"));
+    final var appendEntries = captureAppendEntries(logWriter);
+
+    // when
+    respondTo(appendEntries.get(0), 1);
+
+    // then
+    assertThat(appendEntries).hasSize(1);
+    assertThat(batchResponseFuture).succeedsWithin(Duration.ofMinutes(1));
+    final var responses = batchResponseFuture.join().getResponses();
+    assertThat(decodeCommandResponse(responses.get(0)).getKey()).isEqualTo(1L);
+
+    final var error = new ErrorResponse();
+    error.wrap(responses.get(1), 0, responses.get(1).capacity());
+    assertThat(error.getErrorCode()).isEqualTo(ErrorCode.RESOURCE_EXHAUSTED);
+  }
+
+  @Test
+  public void shouldRejectBatchIfAllCommandsAreRejectedByLimiter() {
+    // given
+    final RequestLimiter<Intent> limiter = mock(RequestLimiter.class);
+    when(limiter.tryAcquire(anyInt(), anyLong(), any())).thenReturn(false);
+    final var logWriter = mock(LogStreamWriter.class);
+    handler.addPartition(0, logWriter, limiter);
+    scheduler.workUntilDone();
+
+    // when
+    final var responseFuture = handleRequest(newPublishMessageBatch("first", "second"));
+
+    // then
+    assertThat(responseFuture)
+        .succeedsWithin(Duration.ofMinutes(1))
+        .matches(Either::isLeft)
+        .extracting(Either::getLeft)
+        .extracting(ErrorResponse::getErrorCode)
+        .isEqualTo(ErrorCode.RESOURCE_EXHAUSTED);
+    verify(logWriter, never()).tryWrite(Mockito.<List<LogAppendEntry>>any());
+  }
+
+  @Test
+  public void shouldReleaseLimiterIfBatchCannotBeWritten() {
+    // given
+    final RequestLimiter<Intent> limiter = mock(RequestLimiter.class);
+    when(limiter.tryAcquire(anyInt(), anyLong(), any())).thenReturn(true);
+    when(logStreamWriter.canWriteEvents(anyInt(), anyInt())).thenReturn(false);
+    handler.addPartition(0, logStreamWriter, limiter);
+    scheduler.workUntilDone();
+
+    // when
+    final var responseFuture = handleRequest(newPublishMessageBatch("first", "second"));
+
+    // then
+    assertThat(responseFuture)
+        .succeedsWithin(Duration.ofMinutes(1))
+        .matches(Either::isLeft)
+        .extracting(Either::getLeft)
+        .extracting(ErrorResponse::getErrorCode)
+        .isEqualTo(ErrorCode.INTERNAL_ERROR);
+    verify(limiter, times(2)).onIgnore(anyInt(), anyLong());
+  }
+
   private CompletableFuture<Either<ErrorResponse, ExecuteCommandResponse>> handleRequest(
       final BufferWriter request) {
     final var future = new CompletableFuture<Either<ErrorResponse, ExecuteCommandResponse>>();
@@ -205,6 +339,45 @@ public class CommandApiRequestHandlerTest {
     return future;
   }
 
+  private static ExecuteCommandBatchRequest newPublishMessageBatch(
+      final String... correlationKeys) {
+    final var batch = new ExecuteCommandBatchRequest().setPartitionId(0);
+    for (final String correlationKey : correlationKeys) {
+      final var request =
+          new BrokerPublishMessageRequest("test", correlationKey)
+              .setMessageId(correlationKey)
+              .setTimeToLive(0);
+      request.serializeValue();
+      batch.addCommand(request);
+    }
+
+    return batch;
+  }
+
+  private List<LogAppendEntry> captureAppendEntries(final LogStreamWriter logWriter) {
+    final ArgumentCaptor<List<LogAppendEntry>> captor = ArgumentCaptor.forClass(List.class);
+    verify(logWriter).tryWrite(captor.capture());
+    return captor.getValue();
+  }
+
+  private void respondTo(final LogAppendEntry appendEntry, final long key) {
+    final var metadata = appendEntry.recordMetadata();
+    new CommandResponseWriterImpl(batchResponses)
+        .partitionId(0)
+        .key(key)
+        .recordType(RecordType.EVENT)
+        .valueType(ValueType.MESSAGE)
+        .intent(MessageIntent.PUBLISHED)
+        .valueWriter(appendEntry.recordValue())
+        .tryWriteResponse(metadata.getRequestStreamId(), metadata.getRequestId());
+  }
+
+  private static ExecuteCommandResponse decodeCommandResponse(final DirectBuffer buffer) {
+    final var response = new ExecuteCommandResponse();
+    response.wrap(buffer, 0, buffer.capacity());
+    return response;
+  }
+
   private ServerOutput createServerOutput(
       final CompletableFuture<Either<ErrorResponse, ExecuteCommandResponse>> future) {
     return serverResponse -> {
@@ -191,6 +191,23 @@ public interface JobWorkerBuilderStep1 {
      */
     JobWorkerBuilderStep3 backoffSupplier(BackoffSupplier backoffSupplier);
 
+    /**
+     * Opt-in flag to let the gateway push jobs to this worker as soon as they become available,
+     * instead of only waiting for the next poll. The worker keeps polling for jobs in addition to
+     * streaming them, such that jobs which were already available before the stream was opened are
+     * picked up as well.
+     *
+     * <p>Jobs are only pushed while the worker has capacity for them, as limited by {@link
+     * #maxJobsActive(int)}; otherwise, the gateway hands them to other workers. Requires a gateway
+     * which supports the {@code StreamActivatedJobs} RPC.
+     *
+     * <p>By default, streaming is disabled.
+     *
+     * @param streamEnabled whether jobs should be streamed to this worker
+     * @return the builder for this worker
+     */
+    JobWorkerBuilderStep3 streamEnabled(boolean streamEnabled);
+
     /**
      * Open the worker and start to work on available tasks.
      *
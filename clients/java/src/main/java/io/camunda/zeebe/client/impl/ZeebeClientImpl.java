@@ -339,7 +339,8 @@ public final class ZeebeClientImpl implements ZeebeClient {
 
   @Override
   public JobWorkerBuilderStep1 newWorker() {
-    return new JobWorkerBuilderImpl(config, jobClient, executorService, closeables);
+    return new JobWorkerBuilderImpl(
+        config, jobClient, asyncStub, jsonMapper, executorService, closeables);
   }
 
   @Override
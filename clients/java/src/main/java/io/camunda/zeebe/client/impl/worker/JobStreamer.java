@@ -0,0 +1,72 @@
+/*
+ * Copyright © 2017 camunda services GmbH (info@camunda.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.camunda.zeebe.client.impl.worker;
+
+import io.camunda.zeebe.client.api.response.ActivatedJob;
+import java.io.Closeable;
+import java.util.function.Consumer;
+import java.util.function.IntSupplier;
+
+/** Receives jobs pushed by the gateway, as a complement to polling for them. */
+public interface JobStreamer extends Closeable {
+
+  /**
+   * Opens the stream. Every job pushed over the stream is passed to the given consumer.
+   *
+   * @param jobConsumer consumes each pushed job individually
+   * @param capacitySupplier supplies how many jobs the worker can currently accept; used as the
+   *     initial demand whenever the stream is (re-)opened
+   */
+  void open(Consumer<ActivatedJob> jobConsumer, IntSupplier capacitySupplier);
+
+  /**
+   * Signals that the worker can accept {@code count} more jobs.
+   *
+   * @param count the number of additional jobs the worker can accept
+   */
+  void request(int count);
+
+  boolean isOpen();
+
+  @Override
+  void close();
+
+  /** Returns a streamer which never receives any jobs, used when streaming is disabled. */
+  static JobStreamer noop() {
+    return NoopJobStreamer.INSTANCE;
+  }
+
+  final class NoopJobStreamer implements JobStreamer {
+    private static final NoopJobStreamer INSTANCE = new NoopJobStreamer();
+
+    private NoopJobStreamer() {}
+
+    @Override
+    public void open(
+        final Consumer<ActivatedJob> jobConsumer, final IntSupplier capacitySupplier) {}
+
+    @Override
+    public void request(final int count) {}
+
+    @Override
+    public boolean isOpen() {
+      return false;
+    }
+
+    @Override
+    public void close() {}
+  }
+}
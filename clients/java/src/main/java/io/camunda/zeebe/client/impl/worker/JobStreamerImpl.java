@@ -0,0 +1,194 @@
+/*
+ * Copyright © 2017 camunda services GmbH (info@camunda.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.camunda.zeebe.client.impl.worker;
+
+import io.camunda.zeebe.client.api.JsonMapper;
+import io.camunda.zeebe.client.api.response.ActivatedJob;
+import io.camunda.zeebe.client.api.worker.BackoffSupplier;
+import io.camunda.zeebe.client.impl.Loggers;
+import io.camunda.zeebe.client.impl.response.ActivatedJobImpl;
+import io.camunda.zeebe.gateway.protocol.GatewayGrpc.GatewayStub;
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass;
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.StreamActivatedJobsRequest;
+import io.grpc.stub.ClientCallStreamObserver;
+import io.grpc.stub.ClientResponseObserver;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.function.IntSupplier;
+import org.slf4j.Logger;
+
+/**
+ * Opens a long-lived {@code StreamActivatedJobs} call, over which the gateway pushes jobs as soon
+ * as they are activated for this worker.
+ *
+ * <p>Inbound flow control is handled manually: whenever the stream is opened, it requests as many
+ * jobs as the worker can currently accept, and then one more every time the worker finished a job.
+ * This way the gateway stops pushing jobs while the worker is saturated, and those jobs are handed
+ * to other workers instead.
+ *
+ * <p>If the stream fails or is completed by the gateway, it is reopened after a delay given by the
+ * {@code backoffSupplier}, for as long as the streamer is open.
+ */
+public final class JobStreamerImpl implements JobStreamer {
+
+  private static final Logger LOG = Loggers.JOB_WORKER_LOGGER;
+
+  private final GatewayStub asyncStub;
+  private final JsonMapper jsonMapper;
+  private final StreamActivatedJobsRequest request;
+  private final ScheduledExecutorService executor;
+  private final BackoffSupplier backoffSupplier;
+  private final long initialRetryDelay;
+
+  private volatile boolean isOpen;
+  private volatile ClientCallStreamObserver<StreamActivatedJobsRequest> call;
+  private volatile long retryDelay;
+
+  private Consumer<ActivatedJob> jobConsumer;
+  private IntSupplier capacitySupplier;
+
+  public JobStreamerImpl(
+      final GatewayStub asyncStub,
+      final JsonMapper jsonMapper,
+      final String jobType,
+      final String workerName,
+      final Duration timeout,
+      final List<String> fetchVariables,
+      final ScheduledExecutorService executor,
+      final BackoffSupplier backoffSupplier,
+      final Duration initialRetryDelay) {
+    this.asyncStub = asyncStub;
+    this.jsonMapper = jsonMapper;
+    this.executor = executor;
+    this.backoffSupplier = backoffSupplier;
+    this.initialRetryDelay = initialRetryDelay.toMillis();
+    retryDelay = this.initialRetryDelay;
+
+    final StreamActivatedJobsRequest.Builder builder =
+        StreamActivatedJobsRequest.newBuilder()
+            .setType(jobType)
+            .setWorker(workerName)
+            .setTimeout(timeout.toMillis());
+    if (fetchVariables != null) {
+      builder.addAllFetchVariable(fetchVariables);
+    }
+    request = builder.build();
+  }
+
+  @Override
+  public void open(final Consumer<ActivatedJob> jobConsumer, final IntSupplier capacitySupplier) {
+    this.jobConsumer = jobConsumer;
+    this.capacitySupplier = capacitySupplier;
+    isOpen = true;
+
+    openStream();
+  }
+
+  @Override
+  public void request(final int count) {
+    final ClientCallStreamObserver<StreamActivatedJobsRequest> currentCall = call;
+    if (currentCall != null) {
+      currentCall.request(count);
+    }
+  }
+
+  @Override
+  public boolean isOpen() {
+    return isOpen;
+  }
+
+  @Override
+  public void close() {
+    isOpen = false;
+
+    final ClientCallStreamObserver<StreamActivatedJobsRequest> currentCall = call;
+    if (currentCall != null) {
+      currentCall.cancel("Job worker was closed", null);
+    }
+  }
+
+  private void openStream() {
+    if (!isOpen) {
+      return;
+    }
+
+    LOG.trace(
+        "Opening job stream for worker {} and job type {}", request.getWorker(), request.getType());
+    asyncStub.streamActivatedJobs(request, new JobStreamObserver());
+  }
+
+  private void reopenStream(final Throwable error) {
+    call = null;
+    if (!isOpen) {
+      return;
+    }
+
+    final long prevDelay = retryDelay;
+    try {
+      retryDelay = backoffSupplier.supplyRetryDelay(prevDelay);
+    } catch (final Exception e) {
+      LOG.warn("Failed to supply retry delay, falling back to default backoff supplier", e);
+      retryDelay = JobWorkerBuilderImpl.DEFAULT_BACKOFF_SUPPLIER.supplyRetryDelay(prevDelay);
+    }
+
+    if (error != null) {
+      LOG.warn(
+          "Job stream for worker {} and job type {} failed, reopening in {} ms",
+          request.getWorker(),
+          request.getType(),
+          retryDelay,
+          error);
+    } else {
+      LOG.debug(
+          "Job stream for worker {} and job type {} was closed by the gateway, reopening in {} ms",
+          request.getWorker(),
+          request.getType(),
+          retryDelay);
+    }
+
+    executor.schedule(this::openStream, retryDelay, TimeUnit.MILLISECONDS);
+  }
+
+  private final class JobStreamObserver
+      implements ClientResponseObserver<
+          StreamActivatedJobsRequest, GatewayOuterClass.ActivatedJob> {
+
+    @Override
+    public void beforeStart(final ClientCallStreamObserver<StreamActivatedJobsRequest> stream) {
+      stream.disableAutoRequestWithInitial(Math.max(0, capacitySupplier.getAsInt()));
+      call = stream;
+    }
+
+    @Override
+    public void onNext(final GatewayOuterClass.ActivatedJob job) {
+      retryDelay = initialRetryDelay;
+      jobConsumer.accept(new ActivatedJobImpl(jsonMapper, job));
+    }
+
+    @Override
+    public void onError(final Throwable error) {
+      reopenStream(error);
+    }
+
+    @Override
+    public void onCompleted() {
+      reopenStream(null);
+    }
+  }
+}
@@ -21,6 +21,7 @@ import static io.camunda.zeebe.client.impl.command.ArgumentUtil.ensureNotNullNor
 import static io.camunda.zeebe.client.impl.command.ArgumentUtil.ensurePositive;
 
 import io.camunda.zeebe.client.ZeebeClientConfiguration;
+import io.camunda.zeebe.client.api.JsonMapper;
 import io.camunda.zeebe.client.api.worker.BackoffSupplier;
 import io.camunda.zeebe.client.api.worker.JobClient;
 import io.camunda.zeebe.client.api.worker.JobHandler;
@@ -28,6 +29,7 @@ import io.camunda.zeebe.client.api.worker.JobWorker;
 import io.camunda.zeebe.client.api.worker.JobWorkerBuilderStep1;
 import io.camunda.zeebe.client.api.worker.JobWorkerBuilderStep1.JobWorkerBuilderStep2;
 import io.camunda.zeebe.client.api.worker.JobWorkerBuilderStep1.JobWorkerBuilderStep3;
+import io.camunda.zeebe.gateway.protocol.GatewayGrpc.GatewayStub;
 import java.io.Closeable;
 import java.time.Duration;
 import java.util.Arrays;
@@ -40,6 +42,8 @@ public final class JobWorkerBuilderImpl
   public static final BackoffSupplier DEFAULT_BACKOFF_SUPPLIER =
       BackoffSupplier.newBackoffBuilder().build();
   private final JobClient jobClient;
+  private final GatewayStub asyncStub;
+  private final JsonMapper jsonMapper;
   private final ScheduledExecutorService executorService;
   private final List<Closeable> closeables;
   private String jobType;
@@ -51,13 +55,18 @@ public final class JobWorkerBuilderImpl
   private Duration requestTimeout;
   private List<String> fetchVariables;
   private BackoffSupplier backoffSupplier;
+  private boolean streamEnabled;
 
   public JobWorkerBuilderImpl(
       final ZeebeClientConfiguration configuration,
       final JobClient jobClient,
+      final GatewayStub asyncStub,
+      final JsonMapper jsonMapper,
       final ScheduledExecutorService executorService,
       final List<Closeable> closeables) {
     this.jobClient = jobClient;
+    this.asyncStub = asyncStub;
+    this.jsonMapper = jsonMapper;
     this.executorService = executorService;
     this.closeables = closeables;
 
@@ -133,6 +142,12 @@ public final class JobWorkerBuilderImpl
     return this;
   }
 
+  @Override
+  public JobWorkerBuilderStep3 streamEnabled(final boolean streamEnabled) {
+    this.streamEnabled = streamEnabled;
+    return this;
+  }
+
   @Override
   public JobWorker open() {
     ensureNotNullNorEmpty("jobType", jobType);
@@ -145,6 +160,22 @@ public final class JobWorkerBuilderImpl
     final JobPoller jobPoller =
         new JobPoller(
             jobClient, requestTimeout, jobType, workerName, timeout, fetchVariables, maxJobsActive);
+    final JobStreamer jobStreamer;
+    if (streamEnabled) {
+      jobStreamer =
+          new JobStreamerImpl(
+              asyncStub,
+              jsonMapper,
+              jobType,
+              workerName,
+              timeout,
+              fetchVariables,
+              executorService,
+              backoffSupplier,
+              pollInterval);
+    } else {
+      jobStreamer = JobStreamer.noop();
+    }
 
     final JobWorkerImpl jobWorker =
         new JobWorkerImpl(
@@ -153,6 +184,7 @@ public final class JobWorkerBuilderImpl
             pollInterval,
             jobRunnableFactory,
             jobPoller,
+            jobStreamer,
             backoffSupplier);
     closeables.add(jobWorker);
     return jobWorker;
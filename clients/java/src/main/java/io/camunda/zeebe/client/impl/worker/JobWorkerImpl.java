@@ -46,6 +46,10 @@ import org.slf4j.Logger;
  * retryDelaySupplier} to ask for a new {@code pollInterval}. By default this retry delay supplier
  * is the {@link ExponentialBackoff}. This default is also used as a fallback for the user provided
  * backoff. On the next success, the {@code pollInterval} is reset to its original value.
+ *
+ * <p>If streaming is enabled, the worker additionally opens a job stream, over which jobs are
+ * pushed as soon as they become available. Streamed jobs are handled just like polled jobs. Polling
+ * still takes place to pick up jobs which were already available before the stream was opened.
  */
 public final class JobWorkerImpl implements JobWorker, Closeable {
 
@@ -65,6 +69,7 @@ public final class JobWorkerImpl implements JobWorker, Closeable {
   private final JobRunnableFactory jobHandlerFactory;
   private final long initialPollInterval;
   private final BackoffSupplier backoffSupplier;
+  private final JobStreamer jobStreamer;
 
   // state synchronization
   private final AtomicBoolean acquiringJobs = new AtomicBoolean(true);
@@ -79,6 +84,7 @@ public final class JobWorkerImpl implements JobWorker, Closeable {
       final Duration pollInterval,
       final JobRunnableFactory jobHandlerFactory,
       final JobPoller jobPoller,
+      final JobStreamer jobStreamer,
       final BackoffSupplier backoffSupplier) {
     this.maxJobsActive = maxJobsActive;
     activationThreshold = Math.round(maxJobsActive * 0.3f);
@@ -88,10 +94,12 @@ public final class JobWorkerImpl implements JobWorker, Closeable {
     this.jobHandlerFactory = jobHandlerFactory;
     initialPollInterval = pollInterval.toMillis();
     this.backoffSupplier = backoffSupplier;
+    this.jobStreamer = jobStreamer;
 
     claimableJobPoller = new AtomicReference<>(jobPoller);
     this.pollInterval = initialPollInterval;
 
+    jobStreamer.open(this::handleStreamedJob, () -> maxJobsActive - remainingJobs.get());
     schedulePoll();
   }
 
@@ -108,6 +116,7 @@ public final class JobWorkerImpl implements JobWorker, Closeable {
   @Override
   public void close() {
     acquiringJobs.set(false);
+    jobStreamer.close();
   }
 
   /**
@@ -213,8 +222,17 @@ public final class JobWorkerImpl implements JobWorker, Closeable {
     executor.execute(jobHandlerFactory.create(job, this::handleJobFinished));
   }
 
+  private void handleStreamedJob(final ActivatedJob job) {
+    remainingJobs.incrementAndGet();
+    handleJob(job);
+  }
+
   private void handleJobFinished() {
     final int actualRemainingJobs = remainingJobs.decrementAndGet();
+    if (isOpen()) {
+      // the worker has capacity for one more job, so let the stream push another one
+      jobStreamer.request(1);
+    }
     if (!isPollScheduled.get() && shouldPoll(actualRemainingJobs)) {
       tryPoll();
     }
@@ -43,7 +43,8 @@ class JobWorkerBuilderImplTest {
     executorService = mock();
     closeables = Collections.emptyList();
     jobWorkerBuilder =
-        new JobWorkerBuilderImpl(zeebeClientConfiguration, jobClient, executorService, closeables);
+        new JobWorkerBuilderImpl(
+            zeebeClientConfiguration, jobClient, null, null, executorService, closeables);
   }
 
   @Test
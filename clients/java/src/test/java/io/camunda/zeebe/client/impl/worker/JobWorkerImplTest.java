@@ -19,6 +19,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 
 import io.camunda.zeebe.client.ZeebeClient;
 import io.camunda.zeebe.client.api.worker.JobHandler;
+import io.camunda.zeebe.client.api.worker.JobWorker;
 import io.camunda.zeebe.client.impl.ZeebeClientBuilderImpl;
 import io.camunda.zeebe.client.impl.ZeebeClientImpl;
 import io.camunda.zeebe.gateway.protocol.GatewayGrpc;
@@ -27,17 +28,20 @@ import io.camunda.zeebe.gateway.protocol.GatewayOuterClass;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.ActivateJobsRequest;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.ActivateJobsResponse;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.ActivatedJob;
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.StreamActivatedJobsRequest;
 import io.grpc.ManagedChannel;
 import io.grpc.Status;
 import io.grpc.StatusRuntimeException;
 import io.grpc.inprocess.InProcessChannelBuilder;
 import io.grpc.inprocess.InProcessServerBuilder;
+import io.grpc.stub.ServerCallStreamObserver;
 import io.grpc.stub.StreamObserver;
 import io.grpc.testing.GrpcCleanupRule;
 import java.io.IOException;
 import java.time.Duration;
 import java.time.Instant;
 import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 import org.awaitility.Awaitility;
@@ -117,6 +121,56 @@ public final class JobWorkerImplTest {
                 assertThat(gateway.getTimeBetweenLatestPolls()).isGreaterThan(SLOW_POLL_THRESHOLD));
   }
 
+  @Test
+  public void shouldHandleStreamedJobs() {
+    // given
+    final List<Long> handledJobs = new CopyOnWriteArrayList<>();
+    try (final JobWorker ignored =
+        client
+            .newWorker()
+            .jobType("test")
+            .handler((jobClient, job) -> handledJobs.add(job.getKey()))
+            .streamEnabled(true)
+            .open()) {
+      Awaitility.await("until the job stream is opened").until(gateway::hasJobStream);
+
+      // when
+      gateway.pushJobs(TestData.jobs(3));
+
+      // then
+      Awaitility.await("until all streamed jobs are handled")
+          .untilAsserted(() -> assertThat(handledJobs).hasSize(3));
+      assertThat(gateway.getStreamRequest().getType()).isEqualTo("test");
+    }
+  }
+
+  @Test
+  public void shouldCancelJobStreamOnClose() {
+    // given
+    final JobWorker worker =
+        client.newWorker().jobType("test").handler(NOOP_JOB_HANDLER).streamEnabled(true).open();
+    Awaitility.await("until the job stream is opened").until(gateway::hasJobStream);
+
+    // when
+    worker.close();
+
+    // then
+    Awaitility.await("until the job stream is cancelled").until(gateway::isJobStreamCancelled);
+  }
+
+  @Test
+  public void shouldNotStreamJobsByDefault() {
+    // given
+    gateway.startMeasuring();
+
+    // when
+    client.newWorker().jobType("test").handler(NOOP_JOB_HANDLER).open();
+    Awaitility.await("until the worker polled").until(() -> gateway.getCountedPolls() > 0);
+
+    // then
+    assertThat(gateway.hasJobStream()).isFalse();
+  }
+
   /**
    * This mocked gateway is able to record metrics on polling for new jobs and easily switch how it
    * responds to polling.
@@ -140,6 +194,33 @@ public final class JobWorkerImplTest {
     private Instant lastPoll = null;
     private Duration timeBetweenLatestPolls = null;
 
+    private volatile StreamActivatedJobsRequest streamRequest;
+    private volatile ServerCallStreamObserver<ActivatedJob> jobStream;
+
+    @Override
+    public void streamActivatedJobs(
+        final StreamActivatedJobsRequest request,
+        final StreamObserver<ActivatedJob> responseObserver) {
+      streamRequest = request;
+      jobStream = (ServerCallStreamObserver<ActivatedJob>) responseObserver;
+    }
+
+    public void pushJobs(final List<ActivatedJob> jobs) {
+      jobs.forEach(jobStream::onNext);
+    }
+
+    public boolean hasJobStream() {
+      return jobStream != null;
+    }
+
+    public boolean isJobStreamCancelled() {
+      return jobStream.isCancelled();
+    }
+
+    public StreamActivatedJobsRequest getStreamRequest() {
+      return streamRequest;
+    }
+
     @Override
     public void activateJobs(
         final ActivateJobsRequest request,
@@ -39,7 +39,11 @@ public final class ActorSchedulerConfiguration {
         .setActorClock(actorClockConfiguration.getClock().orElse(null))
         .setCpuBoundActorThreadCount(cpuThreads)
         .setIoBoundActorThreadCount(ioThreads)
+        .setSpareIoBoundActorThreadCount(cfg.getSpareIoThreadCount())
         .setMetricsEnabled(metricsEnabled)
+        .setPartitionAffinityEnabled(cfg.isPartitionAffinity())
+        .setProfilingEnabled(cfg.isProfilingEnabled())
+        .setIdleStrategy(cfg.getIdleStrategy())
         .setSchedulerName(String.format("Broker-%d", brokerCfg.getCluster().getNodeId()))
         .build();
   }
@@ -0,0 +1,97 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.shared.management;
+
+import io.camunda.zeebe.scheduler.ActorProfile;
+import io.camunda.zeebe.scheduler.ActorScheduler;
+import io.camunda.zeebe.scheduler.ActorThreadProfile;
+import io.camunda.zeebe.util.VisibleForTesting;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.web.WebEndpointResponse;
+import org.springframework.boot.actuate.endpoint.web.annotation.WebEndpoint;
+import org.springframework.stereotype.Component;
+
+/**
+ * An actuator endpoint which exposes the profiles of the actor threads, as recorded by the actor
+ * scheduler when profiling is enabled (see {@code zeebe.broker.threads.profilingEnabled}).
+ *
+ * <p>GET /actuator/actors returns, for the last completed profiling window, the utilization of each
+ * thread and the actors it executed, as well as the profiles of all actors merged over all threads.
+ * Actors are sorted by their total execution time, so the actor saturating a thread comes first.
+ * All times are given in nanoseconds.
+ */
+@Component
+@WebEndpoint(id = "actors")
+public final class ActorProfilingEndpoint {
+  private static final Comparator<ActorProfile> BY_EXECUTION_TIME =
+      Comparator.comparingLong(ActorProfile::getExecutionTimeNanos).reversed();
+
+  private final ActorScheduler scheduler;
+
+  @Autowired
+  public ActorProfilingEndpoint(final ActorScheduler scheduler) {
+    this.scheduler = scheduler;
+  }
+
+  @ReadOperation
+  public WebEndpointResponse<Response> profiles() {
+    final List<ActorThreadProfile> profiles = scheduler.getProfiles();
+    final Map<String, ActorProfile> mergedActors = new LinkedHashMap<>();
+    for (final ActorThreadProfile profile : profiles) {
+      for (final ActorProfile actor : profile.actors()) {
+        mergedActors.merge(actor.getActorName(), actor, ActorProfile::merge);
+      }
+    }
+
+    final var threads = profiles.stream().map(ThreadResponse::of).toList();
+    final var actors =
+        mergedActors.values().stream().sorted(BY_EXECUTION_TIME).map(ActorResponse::of).toList();
+    return new WebEndpointResponse<>(new Response(threads, actors));
+  }
+
+  @VisibleForTesting
+  record Response(List<ThreadResponse> threads, List<ActorResponse> actors) {}
+
+  @VisibleForTesting
+  record ThreadResponse(
+      String name, long windowNanos, double utilization, List<ActorResponse> actors) {
+    private static ThreadResponse of(final ActorThreadProfile profile) {
+      return new ThreadResponse(
+          profile.threadName(),
+          profile.windowNanos(),
+          profile.utilization(),
+          profile.actors().stream().sorted(BY_EXECUTION_TIME).map(ActorResponse::of).toList());
+    }
+  }
+
+  @VisibleForTesting
+  record ActorResponse(
+      String name,
+      long executions,
+      long executionTimeNanos,
+      long p99ExecutionTimeNanos,
+      long maxExecutionTimeNanos,
+      long p99SchedulingLatencyNanos,
+      int maxQueueLength) {
+    private static ActorResponse of(final ActorProfile profile) {
+      return new ActorResponse(
+          profile.getActorName(),
+          profile.getExecutionCount(),
+          profile.getExecutionTimeNanos(),
+          profile.getExecutionTimePercentile(99),
+          profile.getMaxExecutionTimeNanos(),
+          profile.getSchedulingLatencyPercentile(99),
+          profile.getMaxQueueLength());
+    }
+  }
+}
@@ -0,0 +1,59 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.shared.management;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import io.camunda.zeebe.scheduler.ActorScheduler;
+import io.camunda.zeebe.scheduler.ActorThreadProfile;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+final class ActorProfilingEndpointTest {
+
+  @Test
+  void shouldReturnUtilizationPerThread() {
+    // given
+    final var scheduler = mock(ActorScheduler.class);
+    when(scheduler.getProfiles())
+        .thenReturn(
+            List.of(
+                new ActorThreadProfile("zb-actors-0", 1_000, 500, List.of()),
+                new ActorThreadProfile("zb-actors-1", 1_000, 1_000, List.of())));
+    final var endpoint = new ActorProfilingEndpoint(scheduler);
+
+    // when
+    final var response = endpoint.profiles();
+
+    // then
+    assertThat(response.getStatus()).isEqualTo(200);
+    assertThat(response.getBody().threads())
+        .extracting(
+            ActorProfilingEndpoint.ThreadResponse::name,
+            ActorProfilingEndpoint.ThreadResponse::utilization)
+        .containsExactly(tuple("zb-actors-0", 0.5), tuple("zb-actors-1", 1.0));
+    assertThat(response.getBody().actors()).isEmpty();
+  }
+
+  @Test
+  void shouldReturnNothingIfProfilingIsDisabled() {
+    // given
+    final var scheduler = ActorScheduler.newActorScheduler().build();
+    final var endpoint = new ActorProfilingEndpoint(scheduler);
+
+    // when
+    final var response = endpoint.profiles();
+
+    // then
+    assertThat(response.getBody().threads()).isEmpty();
+    assertThat(response.getBody().actors()).isEmpty();
+  }
+}
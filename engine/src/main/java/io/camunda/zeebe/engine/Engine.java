@@ -76,7 +76,8 @@ public class Engine implements RecordProcessor {
             recordProcessorContext.getPartitionId(),
             zeebeDb,
             recordProcessorContext.getTransactionContext(),
-            recordProcessorContext.getKeyGenerator());
+            recordProcessorContext.getKeyGenerator(),
+            config);
     final var scheduledTaskDbState = new ScheduledTaskDbState(zeebeDb, zeebeDb.createContext());
 
     eventApplier = new EventAppliers(processingState);
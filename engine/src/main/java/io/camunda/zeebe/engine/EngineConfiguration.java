@@ -13,9 +13,14 @@ public final class EngineConfiguration {
 
   public static final int DEFAULT_MESSAGES_TTL_CHECKER_BATCH_LIMIT = Integer.MAX_VALUE;
   public static final Duration DEFAULT_MESSAGES_TTL_CHECKER_INTERVAL = Duration.ofMinutes(1);
+  // the parsed models take up a multiple of the resource size in memory
+  public static final long DEFAULT_PROCESS_CACHE_CAPACITY = 32 * 1024 * 1024;
+  public static final long DEFAULT_DRG_CACHE_CAPACITY = 16 * 1024 * 1024;
 
   private int messagesTtlCheckerBatchLimit = DEFAULT_MESSAGES_TTL_CHECKER_BATCH_LIMIT;
   private Duration messagesTtlCheckerInterval = DEFAULT_MESSAGES_TTL_CHECKER_INTERVAL;
+  private long processCacheCapacity = DEFAULT_PROCESS_CACHE_CAPACITY;
+  private long drgCacheCapacity = DEFAULT_DRG_CACHE_CAPACITY;
 
   public int getMessagesTtlCheckerBatchLimit() {
     return messagesTtlCheckerBatchLimit;
@@ -36,4 +41,30 @@ public final class EngineConfiguration {
     this.messagesTtlCheckerInterval = messagesTtlCheckerInterval;
     return this;
   }
+
+  /**
+   * @return the maximum summed size in bytes of the BPMN resources whose parsed processes are kept
+   *     in memory, per partition
+   */
+  public long getProcessCacheCapacity() {
+    return processCacheCapacity;
+  }
+
+  public EngineConfiguration setProcessCacheCapacity(final long processCacheCapacity) {
+    this.processCacheCapacity = processCacheCapacity;
+    return this;
+  }
+
+  /**
+   * @return the maximum summed size in bytes of the DMN resources whose parsed decision
+   *     requirements graphs are kept in memory, per partition
+   */
+  public long getDrgCacheCapacity() {
+    return drgCacheCapacity;
+  }
+
+  public EngineConfiguration setDrgCacheCapacity(final long drgCacheCapacity) {
+    this.drgCacheCapacity = drgCacheCapacity;
+    return this;
+  }
 }
@@ -0,0 +1,68 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.engine.metrics;
+
+import io.prometheus.client.Counter;
+import io.prometheus.client.Gauge;
+
+/** Metrics of the in-memory caches which sit in front of the persisted engine state. */
+public final class StateCacheMetrics {
+
+  private static final Counter CACHE_LOOKUPS =
+      Counter.build()
+          .namespace("zeebe")
+          .name("state_cache_lookups_total")
+          .help("Number of lookups in an engine state cache, by result (hit or miss)")
+          .labelNames("partition", "cache", "result")
+          .register();
+
+  private static final Counter CACHE_EVICTIONS =
+      Counter.build()
+          .namespace("zeebe")
+          .name("state_cache_evictions_total")
+          .help("Number of entries evicted from an engine state cache to respect its capacity")
+          .labelNames("partition", "cache")
+          .register();
+
+  private static final Gauge CACHE_SIZE =
+      Gauge.build()
+          .namespace("zeebe")
+          .name("state_cache_size_bytes")
+          .help("Estimated size in bytes of the entries currently held by an engine state cache")
+          .labelNames("partition", "cache")
+          .register();
+
+  private final Counter.Child hits;
+  private final Counter.Child misses;
+  private final Counter.Child evictions;
+  private final Gauge.Child size;
+
+  public StateCacheMetrics(final int partitionId, final String cacheName) {
+    final String partitionIdLabel = String.valueOf(partitionId);
+    hits = CACHE_LOOKUPS.labels(partitionIdLabel, cacheName, "hit");
+    misses = CACHE_LOOKUPS.labels(partitionIdLabel, cacheName, "miss");
+    evictions = CACHE_EVICTIONS.labels(partitionIdLabel, cacheName);
+    size = CACHE_SIZE.labels(partitionIdLabel, cacheName);
+  }
+
+  public void hit() {
+    hits.inc();
+  }
+
+  public void miss() {
+    misses.inc();
+  }
+
+  public void evicted() {
+    evictions.inc();
+  }
+
+  public void setSize(final long sizeInBytes) {
+    size.set(sizeInBytes);
+  }
+}
@@ -11,6 +11,8 @@ import io.camunda.zeebe.db.DbKey;
 import io.camunda.zeebe.db.DbValue;
 import io.camunda.zeebe.db.TransactionContext;
 import io.camunda.zeebe.db.ZeebeDb;
+import io.camunda.zeebe.db.impl.ColumnFamilyWarmUp;
+import io.camunda.zeebe.engine.EngineConfiguration;
 import io.camunda.zeebe.engine.state.deployment.DbDecisionState;
 import io.camunda.zeebe.engine.state.deployment.DbDeploymentState;
 import io.camunda.zeebe.engine.state.deployment.DbProcessState;
@@ -51,11 +53,34 @@ import io.camunda.zeebe.engine.state.variable.DbVariableState;
 import io.camunda.zeebe.protocol.ZbColumnFamilies;
 import io.camunda.zeebe.stream.api.ReadonlyStreamProcessorContext;
 import io.camunda.zeebe.stream.api.state.KeyGenerator;
+import java.util.List;
 import java.util.Objects;
 import java.util.function.BiConsumer;
+import org.agrona.DirectBuffer;
 
 public class ProcessingDbState implements MutableProcessingState {
 
+  /**
+   * The column families which are read first after becoming leader, when looking up processes,
+   * activating jobs, and when the due date checkers and subscription states recover.
+   */
+  private static final List<ZbColumnFamilies> WARM_UP_COLUMN_FAMILIES =
+      List.of(
+          ZbColumnFamilies.PROCESS_CACHE,
+          ZbColumnFamilies.PROCESS_CACHE_BY_ID_AND_VERSION,
+          ZbColumnFamilies.PROCESS_CACHE_DIGEST_BY_ID,
+          ZbColumnFamilies.JOB_ACTIVATABLE,
+          ZbColumnFamilies.JOB_DEADLINES,
+          ZbColumnFamilies.JOB_BACKOFF,
+          ZbColumnFamilies.TIMER_DUE_DATES,
+          ZbColumnFamilies.MESSAGE_DEADLINES,
+          ZbColumnFamilies.MESSAGE_SUBSCRIPTION_BY_SENT_TIME,
+          ZbColumnFamilies.PROCESS_SUBSCRIPTION_BY_SENT_TIME,
+          ZbColumnFamilies.BLACKLIST);
+
+  private static final int MAX_WARM_UP_ENTRIES = 100_000;
+  private static final int WARM_UP_CHUNK_SIZE = 1_000;
+
   private final ZeebeDb<ZbColumnFamilies> zeebeDb;
   private final KeyGenerator keyGenerator;
 
@@ -79,18 +104,31 @@ public class ProcessingDbState implements MutableProcessingState {
   private final MutableDistributionState distributionState;
 
   private final int partitionId;
+  private TransactionContext warmUpContext;
+  private int warmUpColumnFamilyIndex;
+  private DirectBuffer warmUpKey;
+  private int warmUpEntries;
 
   public ProcessingDbState(
       final int partitionId,
       final ZeebeDb<ZbColumnFamilies> zeebeDb,
       final TransactionContext transactionContext,
       final KeyGenerator keyGenerator) {
+    this(partitionId, zeebeDb, transactionContext, keyGenerator, new EngineConfiguration());
+  }
+
+  public ProcessingDbState(
+      final int partitionId,
+      final ZeebeDb<ZbColumnFamilies> zeebeDb,
+      final TransactionContext transactionContext,
+      final KeyGenerator keyGenerator,
+      final EngineConfiguration config) {
     this.partitionId = partitionId;
     this.zeebeDb = zeebeDb;
     this.keyGenerator = Objects.requireNonNull(keyGenerator);
 
     variableState = new DbVariableState(zeebeDb, transactionContext);
-    processState = new DbProcessState(zeebeDb, transactionContext);
+    processState = new DbProcessState(zeebeDb, transactionContext, partitionId, config);
     timerInstanceState = new DbTimerInstanceState(zeebeDb, transactionContext);
     elementInstanceState = new DbElementInstanceState(zeebeDb, transactionContext, variableState);
     eventScopeInstanceState = new DbEventScopeInstanceState(zeebeDb, transactionContext);
@@ -105,7 +143,7 @@ public class ProcessingDbState implements MutableProcessingState {
         new DbProcessMessageSubscriptionState(zeebeDb, transactionContext);
     incidentState = new DbIncidentState(zeebeDb, transactionContext, partitionId);
     blackListState = new DbBlackListState(zeebeDb, transactionContext, partitionId);
-    decisionState = new DbDecisionState(zeebeDb, transactionContext);
+    decisionState = new DbDecisionState(zeebeDb, transactionContext, partitionId, config);
     signalSubscriptionState = new DbSignalSubscriptionState(zeebeDb, transactionContext);
     distributionState = new DbDistributionState(zeebeDb, transactionContext);
 
@@ -119,6 +157,29 @@ public class ProcessingDbState implements MutableProcessingState {
     blackListState.onRecovered(context);
   }
 
+  @Override
+  public boolean onWarmUp(final ReadonlyStreamProcessorContext context) {
+    if (warmUpContext == null) {
+      // reads in a separate transaction, in case the replay has one open
+      warmUpContext = zeebeDb.createContext();
+    }
+
+    final var columnFamily = WARM_UP_COLUMN_FAMILIES.get(warmUpColumnFamilyIndex);
+    final var chunkSize = Math.min(WARM_UP_CHUNK_SIZE, MAX_WARM_UP_ENTRIES - warmUpEntries);
+    warmUpKey =
+        ColumnFamilyWarmUp.readChunk(zeebeDb, columnFamily, warmUpContext, warmUpKey, chunkSize);
+    warmUpEntries += chunkSize;
+
+    if (warmUpKey == null || warmUpEntries >= MAX_WARM_UP_ENTRIES) {
+      // continue with the next column family
+      warmUpKey = null;
+      warmUpEntries = 0;
+      warmUpColumnFamilyIndex = (warmUpColumnFamilyIndex + 1) % WARM_UP_COLUMN_FAMILIES.size();
+    }
+
+    return warmUpColumnFamilyIndex > 0 || warmUpKey != null;
+  }
+
   @Override
   public MutableDeploymentState getDeploymentState() {
     return deploymentState;
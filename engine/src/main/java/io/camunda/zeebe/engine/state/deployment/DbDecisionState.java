@@ -16,10 +16,17 @@ import io.camunda.zeebe.db.impl.DbInt;
 import io.camunda.zeebe.db.impl.DbLong;
 import io.camunda.zeebe.db.impl.DbNil;
 import io.camunda.zeebe.db.impl.DbString;
+import io.camunda.zeebe.dmn.DecisionEngine;
+import io.camunda.zeebe.dmn.DecisionEngineFactory;
+import io.camunda.zeebe.dmn.ParsedDecisionRequirementsGraph;
+import io.camunda.zeebe.engine.EngineConfiguration;
+import io.camunda.zeebe.engine.metrics.StateCacheMetrics;
 import io.camunda.zeebe.engine.state.mutable.MutableDecisionState;
 import io.camunda.zeebe.protocol.ZbColumnFamilies;
 import io.camunda.zeebe.protocol.impl.record.value.deployment.DecisionRecord;
 import io.camunda.zeebe.protocol.impl.record.value.deployment.DecisionRequirementsRecord;
+import io.camunda.zeebe.util.buffer.BufferUtil;
+import java.io.ByteArrayInputStream;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
@@ -30,6 +37,12 @@ import org.agrona.DirectBuffer;
 
 public final class DbDecisionState implements MutableDecisionState {
 
+  private static final String DRG_CACHE_NAME = "drg";
+
+  private final DecisionEngine decisionEngine = DecisionEngineFactory.createDecisionEngine();
+  // parsing a DRG is expensive, so the parsed DRGs are kept in a size-bounded cache
+  private final WeightedLruCache<CachedDrg> parsedDrgsByKey;
+
   private final DbLong dbDecisionKey;
   private final DbForeignKey<DbLong> fkDecision;
   private final PersistedDecision dbPersistedDecision;
@@ -62,7 +75,10 @@ public final class DbDecisionState implements MutableDecisionState {
       decisionRequirementsKeyByIdAndVersion;
 
   public DbDecisionState(
-      final ZeebeDb<ZbColumnFamilies> zeebeDb, final TransactionContext transactionContext) {
+      final ZeebeDb<ZbColumnFamilies> zeebeDb,
+      final TransactionContext transactionContext,
+      final int partitionId,
+      final EngineConfiguration config) {
     dbDecisionKey = new DbLong();
     fkDecision = new DbForeignKey<>(dbDecisionKey, ZbColumnFamilies.DMN_DECISIONS);
 
@@ -125,6 +141,13 @@ public final class DbDecisionState implements MutableDecisionState {
             transactionContext,
             decisionRequirementsIdAndVersion,
             fkDecisionRequirements);
+
+    parsedDrgsByKey =
+        new WeightedLruCache<>(
+            config.getDrgCacheCapacity(),
+            CachedDrg::resourceLength,
+            drg -> {},
+            new StateCacheMetrics(partitionId, DRG_CACHE_NAME));
   }
 
   @Override
@@ -160,6 +183,28 @@ public final class DbDecisionState implements MutableDecisionState {
         .map(PersistedDecisionRequirements::copy);
   }
 
+  @Override
+  public Optional<ParsedDecisionRequirementsGraph> findParsedDecisionRequirementsByKey(
+      final long decisionRequirementsKey) {
+    final CachedDrg cachedDrg = parsedDrgsByKey.get(decisionRequirementsKey);
+    if (cachedDrg != null) {
+      return Optional.of(cachedDrg.parsedDrg());
+    }
+
+    dbDecisionRequirementsKey.wrapLong(decisionRequirementsKey);
+    final PersistedDecisionRequirements persistedDrg =
+        decisionRequirementsByKey.get(dbDecisionRequirementsKey);
+    if (persistedDrg == null) {
+      return Optional.empty();
+    }
+
+    final DirectBuffer resource = persistedDrg.getResource();
+    final ParsedDecisionRequirementsGraph parsedDrg =
+        decisionEngine.parse(new ByteArrayInputStream(BufferUtil.bufferAsArray(resource)));
+    parsedDrgsByKey.put(decisionRequirementsKey, new CachedDrg(parsedDrg, resource.capacity()));
+    return Optional.of(parsedDrg);
+  }
+
   @Override
   public List<PersistedDecision> findDecisionsByDecisionRequirementsKey(
       final long decisionRequirementsKey) {
@@ -250,6 +295,7 @@ public final class DbDecisionState implements MutableDecisionState {
     dbDecisionRequirementsKey.wrapLong(record.getDecisionRequirementsKey());
     dbPersistedDecisionRequirements.wrap(record);
     decisionRequirementsByKey.upsert(dbDecisionRequirementsKey, dbPersistedDecisionRequirements);
+    parsedDrgsByKey.remove(record.getDecisionRequirementsKey());
 
     dbDecisionRequirementsId.wrapString(record.getDecisionRequirementsId());
     dbDecisionRequirementsVersion.wrapInt(record.getDecisionRequirementsVersion());
@@ -323,6 +369,7 @@ public final class DbDecisionState implements MutableDecisionState {
 
     decisionRequirementsByKey.deleteExisting(dbDecisionRequirementsKey);
     decisionRequirementsKeyByIdAndVersion.deleteExisting(decisionRequirementsIdAndVersion);
+    parsedDrgsByKey.remove(record.getDecisionRequirementsKey());
   }
 
   private void updateLatestDecisionVersion(final DecisionRecord record) {
@@ -371,4 +418,6 @@ public final class DbDecisionState implements MutableDecisionState {
     dbDecisionRequirementsKey.wrapLong(record.getDecisionRequirementsKey());
     latestDecisionRequirementsKeysById.upsert(dbDecisionRequirementsId, fkDecisionRequirements);
   }
+
+  private record CachedDrg(ParsedDecisionRequirementsGraph parsedDrg, int resourceLength) {}
 }
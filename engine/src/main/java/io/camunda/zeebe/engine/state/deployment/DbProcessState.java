@@ -17,6 +17,8 @@ import io.camunda.zeebe.db.impl.DbForeignKey;
 import io.camunda.zeebe.db.impl.DbForeignKey.MatchType;
 import io.camunda.zeebe.db.impl.DbLong;
 import io.camunda.zeebe.db.impl.DbString;
+import io.camunda.zeebe.engine.EngineConfiguration;
+import io.camunda.zeebe.engine.metrics.StateCacheMetrics;
 import io.camunda.zeebe.engine.processing.deployment.model.BpmnFactory;
 import io.camunda.zeebe.engine.processing.deployment.model.element.ExecutableFlowElement;
 import io.camunda.zeebe.engine.processing.deployment.model.element.ExecutableProcess;
@@ -30,28 +32,33 @@ import io.camunda.zeebe.protocol.impl.record.value.deployment.ProcessMetadata;
 import io.camunda.zeebe.protocol.impl.record.value.deployment.ProcessRecord;
 import io.camunda.zeebe.protocol.record.value.deployment.DeploymentResource;
 import io.camunda.zeebe.util.buffer.BufferUtil;
+import java.util.ArrayList;
 import java.util.Collection;
-import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.NoSuchElementException;
 import org.agrona.DirectBuffer;
 import org.agrona.MutableDirectBuffer;
-import org.agrona.collections.Long2ObjectHashMap;
+import org.agrona.collections.Int2ObjectHashMap;
 import org.agrona.concurrent.UnsafeBuffer;
 import org.agrona.io.DirectBufferInputStream;
 
 public final class DbProcessState implements MutableProcessState {
 
   private static final int DEFAULT_VERSION_VALUE = 0;
+  private static final String CACHE_NAME = "process";
 
   private final BpmnTransformer transformer = BpmnFactory.createTransformer();
   private final ProcessRecord processRecordForDeployments = new ProcessRecord();
 
-  private final Map<DirectBuffer, Long2ObjectHashMap<DeployedProcess>>
+  // the parsed processes are kept in a size-bounded cache, as parsing is expensive but the models
+  // can take up a lot of memory; evicted processes are parsed again from the persisted state
+  private final WeightedLruCache<DeployedProcess> processesByKey;
+  // only indexes the processes which are currently cached, see #onProcessEvicted
+  private final Map<DirectBuffer, Int2ObjectHashMap<DeployedProcess>>
       processesByProcessIdAndVersion = new HashMap<>();
-  private final Long2ObjectHashMap<DeployedProcess> processesByKey;
+  private final StateCacheMetrics cacheMetrics;
 
   // process
   private final ColumnFamily<DbLong, PersistedProcess> processColumnFamily;
@@ -72,7 +79,10 @@ public final class DbProcessState implements MutableProcessState {
   private final ProcessVersionManager versionManager;
 
   public DbProcessState(
-      final ZeebeDb<ZbColumnFamilies> zeebeDb, final TransactionContext transactionContext) {
+      final ZeebeDb<ZbColumnFamilies> zeebeDb,
+      final TransactionContext transactionContext,
+      final int partitionId,
+      final EngineConfiguration config) {
     processDefinitionKey = new DbLong();
     persistedProcess = new PersistedProcess();
     processColumnFamily =
@@ -99,7 +109,13 @@ public final class DbProcessState implements MutableProcessState {
         zeebeDb.createColumnFamily(
             ZbColumnFamilies.PROCESS_CACHE_DIGEST_BY_ID, transactionContext, fkProcessId, digest);
 
-    processesByKey = new Long2ObjectHashMap<>();
+    cacheMetrics = new StateCacheMetrics(partitionId, CACHE_NAME);
+    processesByKey =
+        new WeightedLruCache<>(
+            config.getProcessCacheCapacity(),
+            process -> process.getResource().capacity(),
+            this::onProcessEvicted,
+            cacheMetrics);
 
     versionManager = new ProcessVersionManager(DEFAULT_VERSION_VALUE, zeebeDb, transactionContext);
   }
@@ -159,7 +175,14 @@ public final class DbProcessState implements MutableProcessState {
 
   // is called on getters, if process is not in memory
   private DeployedProcess updateInMemoryState(final PersistedProcess persistedProcess) {
+    final DeployedProcess deployedProcess = parseProcess(persistedProcess);
 
+    addProcessToInMemoryState(deployedProcess);
+
+    return deployedProcess;
+  }
+
+  private DeployedProcess parseProcess(final PersistedProcess persistedProcess) {
     // we have to copy to store this in cache
     final byte[] bytes = new byte[persistedProcess.getLength()];
     final MutableDirectBuffer buffer = new UnsafeBuffer(bytes);
@@ -185,11 +208,7 @@ public final class DbProcessState implements MutableProcessState {
                                 + " but after transformation no such executable process could be found.",
                             persistedProcess.getKey())));
 
-    final DeployedProcess deployedProcess = new DeployedProcess(executableProcess, copiedProcess);
-
-    addProcessToInMemoryState(deployedProcess);
-
-    return deployedProcess;
+    return new DeployedProcess(executableProcess, copiedProcess);
   }
 
   private BpmnModelInstance readModelInstanceFromBuffer(final DirectBuffer buffer) {
@@ -202,46 +221,77 @@ public final class DbProcessState implements MutableProcessState {
     final DirectBuffer bpmnProcessId = deployedProcess.getBpmnProcessId();
     processesByKey.put(deployedProcess.getKey(), deployedProcess);
 
-    final Long2ObjectHashMap<DeployedProcess> versionMap =
+    final Int2ObjectHashMap<DeployedProcess> versionMap =
         processesByProcessIdAndVersion.computeIfAbsent(
-            bpmnProcessId, id -> new Long2ObjectHashMap<>());
+            bpmnProcessId, id -> new Int2ObjectHashMap<>());
 
     final int version = deployedProcess.getVersion();
     versionMap.put(version, deployedProcess);
   }
 
-  @Override
-  public DeployedProcess getLatestProcessVersionByProcessId(final DirectBuffer processIdBuffer) {
-    final Long2ObjectHashMap<DeployedProcess> versionMap =
+  private void onProcessEvicted(final DeployedProcess deployedProcess) {
+    final DirectBuffer bpmnProcessId = deployedProcess.getBpmnProcessId();
+    final Int2ObjectHashMap<DeployedProcess> versionMap =
+        processesByProcessIdAndVersion.get(bpmnProcessId);
+    if (versionMap == null) {
+      return;
+    }
+
+    // the index may already point to a newer instance of the same process, which must be kept
+    final int version = deployedProcess.getVersion();
+    if (versionMap.get(version) == deployedProcess) {
+      versionMap.remove(version);
+      if (versionMap.isEmpty()) {
+        processesByProcessIdAndVersion.remove(bpmnProcessId);
+      }
+    }
+  }
+
+  /**
+   * Returns the deployed process from the index of cached processes, and marks it as recently used
+   * in the cache.
+   */
+  private DeployedProcess getCachedProcess(final DirectBuffer processIdBuffer, final int version) {
+    final Int2ObjectHashMap<DeployedProcess> versionMap =
         processesByProcessIdAndVersion.get(processIdBuffer);
+    final DeployedProcess indexedProcess = versionMap != null ? versionMap.get(version) : null;
+
+    if (indexedProcess == null) {
+      cacheMetrics.miss();
+      return null;
+    }
+    return processesByKey.get(indexedProcess.getKey());
+  }
 
+  /**
+   * Returns the cached process, or parses the persisted one without caching it. Neither marks the
+   * process as recently used nor records cache metrics, such that full scans don't evict the
+   * processes which are in use by the processing.
+   */
+  private DeployedProcess getScannedProcess(final PersistedProcess persistedProcess) {
+    final Int2ObjectHashMap<DeployedProcess> versionMap =
+        processesByProcessIdAndVersion.get(persistedProcess.getBpmnProcessId());
+    final DeployedProcess indexedProcess =
+        versionMap != null ? versionMap.get(persistedProcess.getVersion()) : null;
+    return indexedProcess != null ? indexedProcess : parseProcess(persistedProcess);
+  }
+
+  @Override
+  public DeployedProcess getLatestProcessVersionByProcessId(final DirectBuffer processIdBuffer) {
     processId.wrapBuffer(processIdBuffer);
     final long latestVersion = versionManager.getCurrentProcessVersion(processIdBuffer);
 
-    DeployedProcess deployedProcess;
-    if (versionMap == null) {
-      deployedProcess = lookupProcessByIdAndPersistedVersion(latestVersion);
-    } else {
-      deployedProcess = versionMap.get(latestVersion);
-      if (deployedProcess == null) {
-        deployedProcess = lookupProcessByIdAndPersistedVersion(latestVersion);
-      }
-    }
-    return deployedProcess;
+    final DeployedProcess deployedProcess = getCachedProcess(processIdBuffer, (int) latestVersion);
+    return deployedProcess != null
+        ? deployedProcess
+        : lookupProcessByIdAndPersistedVersion(latestVersion);
   }
 
   @Override
   public DeployedProcess getProcessByProcessIdAndVersion(
       final DirectBuffer processId, final int version) {
-    final Long2ObjectHashMap<DeployedProcess> versionMap =
-        processesByProcessIdAndVersion.get(processId);
-
-    if (versionMap != null) {
-      final DeployedProcess deployedProcess = versionMap.get(version);
-      return deployedProcess != null ? deployedProcess : lookupPersistenceState(processId, version);
-    } else {
-      return lookupPersistenceState(processId, version);
-    }
+    final DeployedProcess deployedProcess = getCachedProcess(processId, version);
+    return deployedProcess != null ? deployedProcess : lookupPersistenceState(processId, version);
   }
 
   @Override
@@ -257,21 +307,23 @@ public final class DbProcessState implements MutableProcessState {
 
   @Override
   public Collection<DeployedProcess> getProcesses() {
-    updateCompleteInMemoryState();
-    return processesByKey.values();
+    // read from the persisted state, as the cache only holds a subset of all processes
+    final List<DeployedProcess> processes = new ArrayList<>();
+    processColumnFamily.forEach(
+        persistedProcess -> processes.add(getScannedProcess(persistedProcess)));
+    return processes;
   }
 
   @Override
   public Collection<DeployedProcess> getProcessesByBpmnProcessId(final DirectBuffer bpmnProcessId) {
-    updateCompleteInMemoryState();
-
-    final Long2ObjectHashMap<DeployedProcess> processesByVersions =
-        processesByProcessIdAndVersion.get(bpmnProcessId);
-
-    if (processesByVersions != null) {
-      return processesByVersions.values();
-    }
-    return Collections.emptyList();
+    final List<DeployedProcess> processes = new ArrayList<>();
+    processId.wrapBuffer(bpmnProcessId);
+    processByIdAndVersionColumnFamily.whileEqualPrefix(
+        processId,
+        (key, persistedProcess) -> {
+          processes.add(getScannedProcess(persistedProcess));
+        });
+    return processes;
   }
 
   @Override
@@ -331,14 +383,7 @@ public final class DbProcessState implements MutableProcessState {
         processByIdAndVersionColumnFamily.get(idAndVersionKey);
 
     if (processWithVersionAndId != null) {
-      updateInMemoryState(processWithVersionAndId);
-
-      final Long2ObjectHashMap<DeployedProcess> newVersionMap =
-          processesByProcessIdAndVersion.get(processIdBuffer);
-
-      if (newVersionMap != null) {
-        return newVersionMap.get(version);
-      }
+      return updateInMemoryState(processWithVersionAndId);
     }
     // does not exist in persistence and in memory state
     return null;
@@ -349,15 +394,9 @@ public final class DbProcessState implements MutableProcessState {
 
     final PersistedProcess processWithKey = processColumnFamily.get(this.processDefinitionKey);
     if (processWithKey != null) {
-      updateInMemoryState(processWithKey);
-
-      return processesByKey.get(processDefinitionKey);
+      return updateInMemoryState(processWithKey);
     }
     // does not exist in persistence and in memory state
     return null;
   }
-
-  private void updateCompleteInMemoryState() {
-    processColumnFamily.forEach(this::updateInMemoryState);
-  }
 }
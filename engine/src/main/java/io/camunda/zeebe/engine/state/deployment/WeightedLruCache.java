@@ -0,0 +1,134 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.engine.state.deployment;
+
+import io.camunda.zeebe.engine.metrics.StateCacheMetrics;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map.Entry;
+import java.util.function.Consumer;
+import java.util.function.ToLongFunction;
+
+/**
+ * A least-recently-used cache keyed by a resource key (e.g. a process definition key), which is
+ * bounded by the summed weight of its entries rather than by their count. The weight of an entry is
+ * an estimation of its memory footprint, e.g. the size of the resource it was parsed from.
+ *
+ * <p>The cache only holds values which can be recreated from the persisted state, so evicted
+ * entries are simply dropped. The most recently added entry is always kept, even if its weight on
+ * its own exceeds the capacity, such that a caller can always use the value it just cached.
+ *
+ * <p>This class is not thread-safe; it is meant to be used by the single stream processing thread
+ * that owns the state.
+ *
+ * @param <V> the type of the cached values
+ */
+public final class WeightedLruCache<V> {
+
+  private final LinkedHashMap<Long, V> entries = new LinkedHashMap<>(16, 0.75f, true);
+  private final long capacity;
+  private final ToLongFunction<V> weigher;
+  private final Consumer<V> evictionListener;
+  private final StateCacheMetrics metrics;
+
+  private long weight;
+
+  /**
+   * @param capacity the maximum summed weight of all entries
+   * @param weigher computes the weight of a value; must return the same weight for a value for as
+   *     long as it is cached
+   * @param evictionListener notified of every value which is evicted or removed from the cache
+   * @param metrics the metrics to report cache hits, misses and evictions to
+   */
+  public WeightedLruCache(
+      final long capacity,
+      final ToLongFunction<V> weigher,
+      final Consumer<V> evictionListener,
+      final StateCacheMetrics metrics) {
+    if (capacity <= 0) {
+      throw new IllegalArgumentException(
+          String.format("Expected capacity to be greater than 0, but was %d", capacity));
+    }
+
+    this.capacity = capacity;
+    this.weigher = weigher;
+    this.evictionListener = evictionListener;
+    this.metrics = metrics;
+  }
+
+  /**
+   * Returns the cached value for the given key and marks it as most recently used.
+   *
+   * @return the cached value, or {@code null} if the key is not cached
+   */
+  public V get(final long key) {
+    final V value = entries.get(key);
+    if (value != null) {
+      metrics.hit();
+    } else {
+      metrics.miss();
+    }
+
+    return value;
+  }
+
+  /**
+   * Adds the value to the cache, replacing any previous value of the same key, and evicts the least
+   * recently used entries until the cache is within its capacity again.
+   */
+  public void put(final long key, final V value) {
+    final V previous = entries.put(key, value);
+    if (previous != null) {
+      onRemoved(previous);
+    }
+
+    weight += weigher.applyAsLong(value);
+    evictToCapacity();
+    metrics.setSize(weight);
+  }
+
+  /** Removes the value of the given key from the cache, if any. */
+  public void remove(final long key) {
+    final V value = entries.remove(key);
+    if (value != null) {
+      onRemoved(value);
+      metrics.setSize(weight);
+    }
+  }
+
+  /** Removes all entries from the cache. */
+  public void clear() {
+    entries.values().forEach(this::onRemoved);
+    entries.clear();
+    metrics.setSize(weight);
+  }
+
+  public int size() {
+    return entries.size();
+  }
+
+  public long weight() {
+    return weight;
+  }
+
+  private void evictToCapacity() {
+    final Iterator<Entry<Long, V>> iterator = entries.entrySet().iterator();
+    // never evict the last entry, which is the one that was just added
+    while (weight > capacity && entries.size() > 1) {
+      final V eldest = iterator.next().getValue();
+      iterator.remove();
+      onRemoved(eldest);
+      metrics.evicted();
+    }
+  }
+
+  private void onRemoved(final V value) {
+    weight -= weigher.applyAsLong(value);
+    evictionListener.accept(value);
+  }
+}
@@ -7,6 +7,7 @@
  */
 package io.camunda.zeebe.engine.state.immutable;
 
+import io.camunda.zeebe.dmn.ParsedDecisionRequirementsGraph;
 import io.camunda.zeebe.engine.state.deployment.PersistedDecision;
 import io.camunda.zeebe.engine.state.deployment.PersistedDecisionRequirements;
 import java.util.List;
@@ -52,6 +53,18 @@ public interface DecisionState {
   Optional<PersistedDecisionRequirements> findDecisionRequirementsByKey(
       long decisionRequirementsKey);
 
+  /**
+   * Query decision requirements (DRGs) by the given decision requirements key and return the parsed
+   * DRG. Parsed DRGs are cached, such that the DMN resource is only parsed again if the DRG was
+   * evicted from the cache in the meantime.
+   *
+   * @param decisionRequirementsKey the key of the DRG
+   * @return the parsed DRG, which is not valid if the DMN resource could not be parsed, or {@link
+   *     Optional#empty()} if no DRG is deployed with the given key
+   */
+  Optional<ParsedDecisionRequirementsGraph> findParsedDecisionRequirementsByKey(
+      long decisionRequirementsKey);
+
   /**
    * Query decisions by the given decision requirements (DRG) key.
    *
@@ -0,0 +1,143 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.engine.state.instance;
+
+import java.util.Arrays;
+import java.util.function.LongPredicate;
+
+/**
+ * The keys of the activatable jobs of a single job type, in ascending order, which is the order in
+ * which they are stored in the database.
+ *
+ * <p>The keys are loaded from the database lazily, in ascending order, and only as far as they're
+ * visited. The loaded keys are always exactly the keys in the database up to the last loaded key;
+ * keys beyond it are ignored until they're loaded.
+ *
+ * <p>The keys are kept in a sorted array, starting at a moving head. Since new jobs always get a
+ * higher key than existing ones, and activated jobs are taken from the head, adding a new job and
+ * removing an activated one are both O(1). Only jobs which become activatable again, e.g. after
+ * failing or timing out, are inserted in the middle.
+ */
+final class ActivatableJobKeys {
+
+  private static final int INITIAL_CAPACITY = 16;
+
+  private long[] keys = new long[INITIAL_CAPACITY];
+  private int head;
+  private int tail;
+  private long lastLoadedKey = -1;
+  private boolean fullyLoaded;
+
+  /**
+   * Adds a key which became activatable. The key is ignored if it's beyond the loaded keys, as it
+   * will be loaded from the database later.
+   */
+  void add(final long key) {
+    if (fullyLoaded || key <= lastLoadedKey) {
+      insert(key);
+    }
+  }
+
+  /** Adds a key which was loaded from the database; keys must be loaded in ascending order. */
+  void addLoaded(final long key) {
+    insert(key);
+    lastLoadedKey = key;
+  }
+
+  /** Marks that there are no more keys to load from the database. */
+  void markFullyLoaded() {
+    fullyLoaded = true;
+  }
+
+  boolean isFullyLoaded() {
+    return fullyLoaded;
+  }
+
+  long getLastLoadedKey() {
+    return lastLoadedKey;
+  }
+
+  private void insert(final long key) {
+    if (head == tail || key > keys[tail - 1]) {
+      ensureCapacity();
+      keys[tail++] = key;
+      return;
+    }
+
+    final int index = Arrays.binarySearch(keys, head, tail, key);
+    if (index >= 0) {
+      return;
+    }
+
+    ensureCapacity();
+    final int insertionPoint = -(index + 1);
+    System.arraycopy(keys, insertionPoint, keys, insertionPoint + 1, tail - insertionPoint);
+    keys[insertionPoint] = key;
+    tail++;
+  }
+
+  void remove(final long key) {
+    if (head == tail) {
+      return;
+    }
+
+    if (keys[head] == key) {
+      head++;
+    } else {
+      final int index = Arrays.binarySearch(keys, head, tail, key);
+      if (index < 0) {
+        return;
+      }
+
+      System.arraycopy(keys, index + 1, keys, index, tail - index - 1);
+      tail--;
+    }
+
+    if (head == tail) {
+      head = 0;
+      tail = 0;
+    }
+  }
+
+  /**
+   * Visits the loaded keys in ascending order, until the visitor returns false. The visitor must
+   * not modify the keys.
+   *
+   * @return true if all keys were visited, false if the visitor stopped the iteration
+   */
+  boolean forEach(final LongPredicate visitor) {
+    for (int i = head; i < tail; i++) {
+      if (!visitor.test(keys[i])) {
+        return false;
+      }
+    }
+
+    return true;
+  }
+
+  int size() {
+    return tail - head;
+  }
+
+  private void ensureCapacity() {
+    if (tail < keys.length) {
+      return;
+    }
+
+    final int size = size();
+    if (head > 0 && size <= keys.length / 2) {
+      // reuse the space freed by taking keys from the head
+      System.arraycopy(keys, head, keys, 0, size);
+    } else {
+      keys = Arrays.copyOfRange(keys, head, head + keys.length * 2);
+    }
+
+    head = 0;
+    tail = size;
+  }
+}
@@ -21,14 +21,22 @@ import io.camunda.zeebe.engine.state.mutable.MutableJobState;
 import io.camunda.zeebe.protocol.ZbColumnFamilies;
 import io.camunda.zeebe.protocol.impl.record.value.job.JobRecord;
 import io.camunda.zeebe.util.EnsureUtil;
+import io.camunda.zeebe.util.buffer.BufferUtil;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Map.Entry;
 import java.util.function.BiFunction;
 import java.util.function.BiPredicate;
+import java.util.function.LongPredicate;
 import org.agrona.DirectBuffer;
+import org.agrona.collections.MutableBoolean;
 import org.slf4j.Logger;
 
 public final class DbJobState implements JobState, MutableJobState {
 
   private static final Logger LOG = Loggers.PROCESS_PROCESSOR_LOGGER;
+  // the number of job types whose activatable job keys are kept in memory
+  private static final int MAX_CACHED_JOB_TYPES = 128;
 
   // key => job record value
   // we need two separate wrapper to not interfere with get and put
@@ -49,6 +57,15 @@ public final class DbJobState implements JobState, MutableJobState {
   private final DbCompositeKey<DbString, DbForeignKey<DbLong>> typeJobKey;
   private final ColumnFamily<DbCompositeKey<DbString, DbForeignKey<DbLong>>, DbNil>
       activatableColumnFamily;
+  // type => [key], in memory; only contains the most recently looked up types which have
+  // activatable jobs, since the last rollback
+  private final Map<DirectBuffer, ActivatableJobKeys> activatableJobKeys =
+      new LinkedHashMap<>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(final Entry<DirectBuffer, ActivatableJobKeys> eldest) {
+          return size() > MAX_CACHED_JOB_TYPES;
+        }
+      };
 
   // timeout => key
   private final DbLong deadlineKey;
@@ -94,6 +111,10 @@ public final class DbJobState implements JobState, MutableJobState {
     backoffColumnFamily =
         zeebeDb.createColumnFamily(
             ZbColumnFamilies.JOB_BACKOFF, transactionContext, backoffJobKey, DbNil.INSTANCE);
+
+    // the in-memory keys may contain changes of the rolled back transaction; they are loaded again
+    // from the database on the next lookup
+    transactionContext.addRollbackListener(activatableJobKeys::clear);
   }
 
   @Override
@@ -114,7 +135,7 @@ public final class DbJobState implements JobState, MutableJobState {
 
     updateJobState(State.ACTIVATED);
 
-    makeJobNotActivatable(type);
+    makeJobNotActivatable(type, key);
 
     deadlineKey.wrapLong(deadline);
     deadlinesColumnFamily.insert(deadlineJobKey, DbNil.INSTANCE);
@@ -153,13 +174,13 @@ public final class DbJobState implements JobState, MutableJobState {
   @Override
   public void disable(final long key, final JobRecord record) {
     updateJob(key, record, State.FAILED);
-    makeJobNotActivatable(record.getTypeBuffer());
+    makeJobNotActivatable(record.getTypeBuffer(), key);
   }
 
   @Override
   public void throwError(final long key, final JobRecord updatedValue) {
     updateJob(key, updatedValue, State.ERROR_THROWN);
-    makeJobNotActivatable(updatedValue.getTypeBuffer());
+    makeJobNotActivatable(updatedValue.getTypeBuffer(), key);
   }
 
   @Override
@@ -172,7 +193,7 @@ public final class DbJobState implements JobState, MutableJobState {
 
     statesJobColumnFamily.deleteExisting(fkJob);
 
-    makeJobNotActivatable(type);
+    makeJobNotActivatable(type, key);
 
     removeJobDeadline(deadline);
   }
@@ -190,7 +211,7 @@ public final class DbJobState implements JobState, MutableJobState {
       }
     } else {
       updateJob(key, updatedValue, State.FAILED);
-      makeJobNotActivatable(updatedValue.getTypeBuffer());
+      makeJobNotActivatable(updatedValue.getTypeBuffer(), key);
     }
   }
 
@@ -286,15 +307,11 @@ public final class DbJobState implements JobState, MutableJobState {
   @Override
   public void forEachActivatableJobs(
       final DirectBuffer type, final BiFunction<Long, JobRecord, Boolean> callback) {
-    jobTypeKey.wrapBuffer(type);
-
-    activatableColumnFamily.whileEqualPrefix(
-        jobTypeKey,
-        ((compositeKey, zbNil) -> {
-          final long jobKey = compositeKey.second().inner().getValue();
-          // TODO #6521 reconsider race condition and whether or not the cleanup task is needed
-          return visitJob(jobKey, callback::apply, () -> {});
-        }));
+    forEachActivatableJobKey(
+        type,
+        jobKey ->
+            // TODO #6521 reconsider race condition and whether or not the cleanup task is needed
+            visitJob(jobKey, callback::apply, () -> {}));
   }
 
   @Override
@@ -370,13 +387,76 @@ public final class DbJobState implements JobState, MutableJobState {
     // Need to upsert here because jobs can be marked as failed (and thus made activatable)
     // without activating them first
     activatableColumnFamily.upsert(typeJobKey, DbNil.INSTANCE);
+
+    final var keys = activatableJobKeys.get(type);
+    if (keys != null) {
+      keys.add(key);
+    }
   }
 
-  private void makeJobNotActivatable(final DirectBuffer type) {
+  private void makeJobNotActivatable(final DirectBuffer type, final long key) {
     EnsureUtil.ensureNotNullOrEmpty("type", type);
 
     jobTypeKey.wrapBuffer(type);
+    jobKey.wrapLong(key);
     activatableColumnFamily.deleteIfExists(typeJobKey);
+
+    final var keys = activatableJobKeys.get(type);
+    if (keys != null) {
+      keys.remove(key);
+    }
+  }
+
+  /**
+   * Visits the keys of the activatable jobs of the given type, until the visitor returns false. The
+   * keys are kept in memory and in sync with the database once loaded, which avoids iterating over
+   * the database for every job activation. They're only loaded as far as they're visited, and types
+   * without activatable jobs are not kept in memory.
+   */
+  private void forEachActivatableJobKey(final DirectBuffer type, final LongPredicate visitor) {
+    final var cachedKeys = activatableJobKeys.get(type);
+    final var keys = cachedKeys != null ? cachedKeys : new ActivatableJobKeys();
+
+    if (keys.forEach(visitor) && !keys.isFullyLoaded()) {
+      loadActivatableJobKeys(type, keys, visitor);
+    }
+
+    if (keys.size() == 0) {
+      if (cachedKeys != null) {
+        activatableJobKeys.remove(type);
+      }
+    } else if (cachedKeys == null) {
+      activatableJobKeys.put(BufferUtil.cloneBuffer(type), keys);
+    }
+  }
+
+  /**
+   * Loads and visits the keys after the last loaded key from the database, until the visitor
+   * returns false.
+   */
+  private void loadActivatableJobKeys(
+      final DirectBuffer type, final ActivatableJobKeys keys, final LongPredicate visitor) {
+    final var stoppedByVisitor = new MutableBoolean(false);
+
+    jobTypeKey.wrapBuffer(type);
+    jobKey.wrapLong(keys.getLastLoadedKey() + 1);
+    activatableColumnFamily.whileEqualPrefix(
+        jobTypeKey,
+        typeJobKey,
+        (compositeKey, nil) -> {
+          final long key = compositeKey.second().inner().getValue();
+          keys.addLoaded(key);
+
+          if (!visitor.test(key)) {
+            stoppedByVisitor.set(true);
+            return false;
+          }
+          return true;
+        });
+
+    if (!stoppedByVisitor.get()) {
+      keys.markFullyLoaded();
+    }
   }
 
   private void removeJobDeadline(final long deadline) {
@@ -0,0 +1,68 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.engine.state;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.camunda.zeebe.engine.state.mutable.MutableProcessingState;
+import io.camunda.zeebe.engine.util.ProcessingStateExtension;
+import io.camunda.zeebe.protocol.impl.record.value.job.JobRecord;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+@ExtendWith(ProcessingStateExtension.class)
+final class ProcessingDbStateTest {
+
+  @SuppressWarnings("unused") // injected by the extension
+  private MutableProcessingState state;
+
+  @Test
+  void shouldWarmUpEachEmptyColumnFamilyInOneChunk() {
+    // when
+    final var chunks = countWarmUpChunks();
+
+    // then
+    assertThat(chunks).isEqualTo(11);
+  }
+
+  @Test
+  void shouldWarmUpLargeColumnFamilyInSeveralChunks() {
+    // given
+    final var jobRecord = new JobRecord().setType("test").setRetries(3);
+    for (int i = 0; i < 2_500; i++) {
+      state.getJobState().create(state.getKeyGenerator().nextKey(), jobRecord);
+    }
+
+    // when
+    final var chunks = countWarmUpChunks();
+
+    // then - the activatable jobs are read in 3 chunks instead of one
+    assertThat(chunks).isEqualTo(13);
+  }
+
+  @Test
+  void shouldStartOverAfterWarmUpIsDone() {
+    // given
+    countWarmUpChunks();
+
+    // when
+    final var chunks = countWarmUpChunks();
+
+    // then
+    assertThat(chunks).isEqualTo(11);
+  }
+
+  private int countWarmUpChunks() {
+    final var processingDbState = (ProcessingDbState) state;
+    int chunks = 1;
+    while (processingDbState.onWarmUp(null)) {
+      chunks++;
+    }
+    return chunks;
+  }
+}
@@ -17,6 +17,9 @@ import io.camunda.zeebe.engine.state.mutable.MutableProcessingState;
 import io.camunda.zeebe.engine.util.ProcessingStateExtension;
 import io.camunda.zeebe.protocol.impl.record.value.deployment.DecisionRecord;
 import io.camunda.zeebe.protocol.impl.record.value.deployment.DecisionRequirementsRecord;
+import java.io.IOException;
+import org.agrona.DirectBuffer;
+import org.agrona.concurrent.UnsafeBuffer;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -608,6 +611,64 @@ public final class DecisionStateTest {
         .isEqualTo(drg1.getDecisionRequirementsVersion());
   }
 
+  @DisplayName("should return the parsed DRG by key")
+  @Test
+  void shouldReturnParsedDrgByKey() throws IOException {
+    // given
+    final var drg = sampleDecisionRequirementsRecord().setResource(readDmnResource());
+    decisionState.storeDecisionRequirements(drg);
+
+    // when
+    final var parsedDrg =
+        decisionState.findParsedDecisionRequirementsByKey(drg.getDecisionRequirementsKey());
+
+    // then
+    assertThat(parsedDrg).isNotEmpty();
+    assertThat(parsedDrg.get().isValid()).isTrue();
+    assertThat(parsedDrg.get().getId()).isEqualTo("force_users");
+    assertThat(decisionState.findParsedDecisionRequirementsByKey(drg.getDecisionRequirementsKey()))
+        .describedAs("Expected the parsed DRG to be cached")
+        .containsSame(parsedDrg.get());
+  }
+
+  @DisplayName("should return an invalid parsed DRG if the resource can't be parsed")
+  @Test
+  void shouldReturnInvalidParsedDrg() {
+    // given
+    final var drg = sampleDecisionRequirementsRecord();
+    decisionState.storeDecisionRequirements(drg);
+
+    // when
+    final var parsedDrg =
+        decisionState.findParsedDecisionRequirementsByKey(drg.getDecisionRequirementsKey());
+
+    // then
+    assertThat(parsedDrg).isNotEmpty();
+    assertThat(parsedDrg.get().isValid()).isFalse();
+  }
+
+  @DisplayName("should not return the parsed DRG after it is deleted")
+  @Test
+  void shouldNotReturnParsedDrgAfterDeletion() throws IOException {
+    // given
+    final var drg = sampleDecisionRequirementsRecord().setResource(readDmnResource());
+    decisionState.storeDecisionRequirements(drg);
+    decisionState.findParsedDecisionRequirementsByKey(drg.getDecisionRequirementsKey());
+
+    // when
+    decisionState.deleteDecisionRequirements(drg);
+
+    // then
+    assertThat(decisionState.findParsedDecisionRequirementsByKey(drg.getDecisionRequirementsKey()))
+        .isEmpty();
+  }
+
+  private DirectBuffer readDmnResource() throws IOException {
+    try (final var resource = getClass().getResourceAsStream("/dmn/decision-table.dmn")) {
+      return new UnsafeBuffer(resource.readAllBytes());
+    }
+  }
+
   private DecisionRecord sampleDecisionRecord() {
     return new DecisionRecord()
         .setDecisionId("decision-id")
@@ -10,6 +10,7 @@ package io.camunda.zeebe.engine.state.deployment;
 import static io.camunda.zeebe.util.buffer.BufferUtil.wrapString;
 import static org.assertj.core.api.Assertions.assertThat;
 
+import io.camunda.zeebe.engine.EngineConfiguration;
 import io.camunda.zeebe.engine.processing.deployment.model.element.AbstractFlowElement;
 import io.camunda.zeebe.engine.processing.deployment.model.element.ExecutableProcess;
 import io.camunda.zeebe.engine.state.mutable.MutableProcessState;
@@ -507,6 +508,75 @@ public final class ProcessStateTest {
     Assertions.assertThat(latestProcess.getVersion()).isEqualTo(2);
   }
 
+  @Test
+  public void shouldGetProcessesWhichWereEvictedFromTheCache() throws Exception {
+    // given
+    try (final var db = stateRule.createNewDb()) {
+      final var cacheOfOneProcess =
+          new DbProcessState(
+              db,
+              db.createContext(),
+              Protocol.DEPLOYMENT_PARTITION,
+              new EngineConfiguration().setProcessCacheCapacity(1));
+      final var firstRecord = creatingProcessRecord(processingState, "first", 1);
+      final var secondRecord = creatingProcessRecord(processingState, "second", 1);
+      cacheOfOneProcess.putProcess(firstRecord.getKey(), firstRecord);
+      cacheOfOneProcess.putProcess(secondRecord.getKey(), secondRecord);
+
+      // when
+      final var first = cacheOfOneProcess.getProcessByKey(firstRecord.getKey());
+      final var second = cacheOfOneProcess.getProcessByProcessIdAndVersion(wrapString("second"), 1);
+      final var firstAgain =
+          cacheOfOneProcess.getLatestProcessVersionByProcessId(wrapString("first"));
+
+      // then
+      assertThat(first.getKey()).isEqualTo(firstRecord.getKey());
+      assertThat(second.getKey()).isEqualTo(secondRecord.getKey());
+      assertThat(firstAgain.getKey()).isEqualTo(firstRecord.getKey());
+      assertThat(firstAgain.getProcess().getElementById(wrapString("test"))).isNotNull();
+      assertThat(firstAgain)
+          .describedAs("Expected the process to be parsed again after it was evicted")
+          .isNotSameAs(first);
+    }
+  }
+
+  @Test
+  public void shouldNotCacheProcessesOfScans() throws Exception {
+    // given
+    try (final var db = stateRule.createNewDb()) {
+      final var cacheOfOneProcess =
+          new DbProcessState(
+              db,
+              db.createContext(),
+              Protocol.DEPLOYMENT_PARTITION,
+              new EngineConfiguration().setProcessCacheCapacity(1));
+      final var firstRecord = creatingProcessRecord(processingState, "first", 1);
+      final var secondRecord = creatingProcessRecord(processingState, "second", 1);
+      cacheOfOneProcess.putProcess(firstRecord.getKey(), firstRecord);
+      cacheOfOneProcess.putProcess(secondRecord.getKey(), secondRecord);
+      final var first = cacheOfOneProcess.getProcessByKey(firstRecord.getKey());
+
+      // when
+      final var scannedProcesses = cacheOfOneProcess.getProcesses();
+      final var scannedSecondProcesses =
+          cacheOfOneProcess.getProcessesByBpmnProcessId(wrapString("second"));
+
+      // then
+      assertThat(scannedProcesses)
+          .extracting(DeployedProcess::getKey)
+          .containsExactlyInAnyOrder(firstRecord.getKey(), secondRecord.getKey());
+      assertThat(scannedProcesses)
+          .describedAs("Expected the scan to return the cached process")
+          .contains(first);
+      assertThat(scannedSecondProcesses)
+          .extracting(DeployedProcess::getKey)
+          .containsExactly(secondRecord.getKey());
+      assertThat(cacheOfOneProcess.getProcessByKey(firstRecord.getKey()))
+          .describedAs("Expected the cached process not to be evicted by the scans")
+          .isSameAs(first);
+    }
+  }
+
   public static DeploymentRecord creatingDeploymentRecord(
       final MutableProcessingState processingState) {
     return creatingDeploymentRecord(processingState, "processId");
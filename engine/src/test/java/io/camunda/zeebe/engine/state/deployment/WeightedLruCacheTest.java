@@ -0,0 +1,125 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.engine.state.deployment;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import io.camunda.zeebe.engine.metrics.StateCacheMetrics;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+final class WeightedLruCacheTest {
+
+  private final List<String> evicted = new ArrayList<>();
+  private final StateCacheMetrics metrics = new StateCacheMetrics(1, "test");
+
+  @Test
+  void shouldReturnCachedValue() {
+    // given
+    final var cache = newCache(10);
+    cache.put(1, "a");
+
+    // when
+    final var value = cache.get(1);
+
+    // then
+    assertThat(value).isEqualTo("a");
+    assertThat(cache.get(2)).isNull();
+  }
+
+  @Test
+  void shouldEvictLeastRecentlyUsedValuesWhenCapacityIsExceeded() {
+    // given
+    final var cache = newCache(6);
+    cache.put(1, "aa");
+    cache.put(2, "bb");
+    cache.put(3, "cc");
+    cache.get(1);
+
+    // when
+    cache.put(4, "dd");
+
+    // then
+    assertThat(evicted).containsExactly("bb");
+    assertThat(cache.get(2)).isNull();
+    assertThat(cache.get(1)).isEqualTo("aa");
+    assertThat(cache.weight()).isEqualTo(6);
+  }
+
+  @Test
+  void shouldEvictMultipleValuesToMakeRoomForHeavyValue() {
+    // given
+    final var cache = newCache(6);
+    cache.put(1, "aa");
+    cache.put(2, "bb");
+    cache.put(3, "cc");
+
+    // when
+    cache.put(4, "dddd");
+
+    // then
+    assertThat(evicted).containsExactly("aa", "bb");
+    assertThat(cache.size()).isEqualTo(2);
+    assertThat(cache.weight()).isEqualTo(6);
+  }
+
+  @Test
+  void shouldKeepValueWhichExceedsCapacityOnItsOwn() {
+    // given
+    final var cache = newCache(2);
+    cache.put(1, "a");
+
+    // when
+    cache.put(2, "bbb");
+
+    // then
+    assertThat(evicted).containsExactly("a");
+    assertThat(cache.get(2)).isEqualTo("bbb");
+  }
+
+  @Test
+  void shouldReplaceValueOfSameKey() {
+    // given
+    final var cache = newCache(10);
+    cache.put(1, "a");
+
+    // when
+    cache.put(1, "bb");
+
+    // then
+    assertThat(evicted).containsExactly("a");
+    assertThat(cache.get(1)).isEqualTo("bb");
+    assertThat(cache.weight()).isEqualTo(2);
+  }
+
+  @Test
+  void shouldRemoveValue() {
+    // given
+    final var cache = newCache(10);
+    cache.put(1, "a");
+
+    // when
+    cache.remove(1);
+
+    // then
+    assertThat(evicted).containsExactly("a");
+    assertThat(cache.get(1)).isNull();
+    assertThat(cache.weight()).isZero();
+  }
+
+  @Test
+  void shouldRejectNonPositiveCapacity() {
+    assertThatThrownBy(() -> newCache(0)).isInstanceOf(IllegalArgumentException.class);
+  }
+
+  private WeightedLruCache<String> newCache(final long capacity) {
+    return new WeightedLruCache<>(capacity, String::length, evicted::add, metrics);
+  }
+}
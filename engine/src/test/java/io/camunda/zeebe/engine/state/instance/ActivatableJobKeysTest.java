@@ -0,0 +1,147 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.engine.state.instance;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+final class ActivatableJobKeysTest {
+
+  private final ActivatableJobKeys keys = new ActivatableJobKeys();
+
+  @BeforeEach
+  void setUp() {
+    keys.markFullyLoaded();
+  }
+
+  @Test
+  void shouldVisitKeysInAscendingOrder() {
+    // given
+    keys.add(3);
+    keys.add(1);
+    keys.add(5);
+    keys.add(2);
+
+    // when - then
+    assertThat(collectKeys()).containsExactly(1L, 2L, 3L, 5L);
+  }
+
+  @Test
+  void shouldNotAddKeyTwice() {
+    // given
+    keys.add(1);
+    keys.add(2);
+
+    // when
+    keys.add(1);
+
+    // then
+    assertThat(collectKeys()).containsExactly(1L, 2L);
+  }
+
+  @Test
+  void shouldRemoveKeys() {
+    // given
+    keys.add(1);
+    keys.add(2);
+    keys.add(3);
+
+    // when
+    keys.remove(1);
+    keys.remove(3);
+    keys.remove(4);
+
+    // then
+    assertThat(collectKeys()).containsExactly(2L);
+  }
+
+  @Test
+  void shouldStopVisitingWhenVisitorReturnsFalse() {
+    // given
+    keys.add(1);
+    keys.add(2);
+    keys.add(3);
+    final List<Long> visited = new ArrayList<>();
+
+    // when
+    final boolean visitedAll = keys.forEach(key -> visited.add(key) && key < 2);
+
+    // then
+    assertThat(visitedAll).isFalse();
+    assertThat(visited).containsExactly(1L, 2L);
+  }
+
+  @Test
+  void shouldKeepOrderWhenGrowing() {
+    // given
+    final List<Long> expected = new ArrayList<>();
+    for (long key = 1; key <= 100; key++) {
+      keys.add(key);
+      expected.add(key);
+    }
+
+    // when - take from the head and add to the tail, as activating and creating jobs would
+    for (long key = 1; key <= 50; key++) {
+      keys.remove(key);
+      keys.add(key + 100);
+      expected.remove(key);
+      expected.add(key + 100);
+    }
+    keys.add(10);
+    expected.add(0, 10L);
+
+    // then
+    assertThat(keys.size()).isEqualTo(expected.size());
+    assertThat(collectKeys()).containsExactlyElementsOf(expected);
+  }
+
+  @Test
+  void shouldIgnoreKeysBeyondLoadedKeys() {
+    // given
+    final var partiallyLoadedKeys = new ActivatableJobKeys();
+    partiallyLoadedKeys.addLoaded(2);
+    partiallyLoadedKeys.addLoaded(4);
+
+    // when
+    partiallyLoadedKeys.add(3);
+    partiallyLoadedKeys.add(5);
+
+    // then
+    final List<Long> collected = new ArrayList<>();
+    assertThat(partiallyLoadedKeys.forEach(collected::add)).isTrue();
+    assertThat(collected).containsExactly(2L, 3L, 4L);
+    assertThat(partiallyLoadedKeys.getLastLoadedKey()).isEqualTo(4L);
+    assertThat(partiallyLoadedKeys.isFullyLoaded()).isFalse();
+  }
+
+  @Test
+  void shouldNotIgnoreKeysWhenFullyLoaded() {
+    // given
+    final var loadedKeys = new ActivatableJobKeys();
+    loadedKeys.addLoaded(2);
+    loadedKeys.markFullyLoaded();
+
+    // when
+    loadedKeys.add(5);
+
+    // then
+    final List<Long> collected = new ArrayList<>();
+    loadedKeys.forEach(collected::add);
+    assertThat(collected).containsExactly(2L, 5L);
+  }
+
+  private List<Long> collectKeys() {
+    final List<Long> collected = new ArrayList<>();
+    keys.forEach(collected::add);
+    return collected;
+  }
+}
@@ -573,6 +573,89 @@ public final class JobStateTest {
     assertThat(jobKeys).containsExactly(256L, 65536L);
   }
 
+  @Test
+  public void shouldKeepActivatableJobsInOrderWhenUpdated() {
+    // given
+    final DirectBuffer type = wrapString("test");
+    jobState.create(1L, newJobRecord().setType(type));
+    jobState.create(2L, newJobRecord().setType(type));
+    jobState.create(3L, newJobRecord().setType(type));
+    assertThat(getActivatableKeys(type)).containsExactly(1L, 2L, 3L);
+
+    // when
+    jobState.activate(1L, newJobRecord().setType(type));
+    jobState.activate(2L, newJobRecord().setType(type));
+    jobState.create(4L, newJobRecord().setType(type));
+    jobState.timeout(2L, newJobRecord().setType(type));
+
+    // then
+    assertThat(getActivatableKeys(type)).containsExactly(2L, 3L, 4L);
+  }
+
+  @Test
+  public void shouldVisitActivatableJobsWhichWereUpdatedAfterPartialVisit() {
+    // given
+    final DirectBuffer type = wrapString("test");
+    jobState.create(1L, newJobRecord().setType(type));
+    jobState.create(2L, newJobRecord().setType(type));
+    jobState.create(3L, newJobRecord().setType(type));
+    jobState.create(4L, newJobRecord().setType(type));
+    final List<Long> partiallyVisitedKeys = new ArrayList<>();
+    jobState.forEachActivatableJobs(type, (k, e) -> partiallyVisitedKeys.add(k) && k < 2);
+    assertThat(partiallyVisitedKeys).containsExactly(1L, 2L);
+
+    // when
+    jobState.activate(1L, newJobRecord().setType(type));
+    jobState.activate(3L, newJobRecord().setType(type));
+    jobState.create(5L, newJobRecord().setType(type));
+    jobState.timeout(3L, newJobRecord().setType(type));
+    jobState.activate(4L, newJobRecord().setType(type));
+
+    // then
+    assertThat(getActivatableKeys(type)).containsExactly(2L, 3L, 5L);
+  }
+
+  @Test
+  public void shouldVisitActivatableJobsOfTypeWithoutJobsWhenCreated() {
+    // given
+    final DirectBuffer type = wrapString("test");
+    assertThat(getActivatableKeys(type)).isEmpty();
+
+    // when
+    jobState.create(1L, newJobRecord().setType(type));
+
+    // then
+    assertThat(getActivatableKeys(type)).containsExactly(1L);
+  }
+
+  @Test
+  public void shouldDiscardActivatableJobsOfRolledBackTransaction() throws Exception {
+    try (final var db = stateRule.createNewDb()) {
+      // given
+      final var transactionContext = db.createContext();
+      final var state = new DbJobState(db, transactionContext, 1);
+      final DirectBuffer type = wrapString("test");
+      state.create(1L, newJobRecord().setType(type));
+      final List<Long> keysBeforeRollback = new ArrayList<>();
+      state.forEachActivatableJobs(type, (k, e) -> keysBeforeRollback.add(k));
+      assertThat(keysBeforeRollback).containsExactly(1L);
+
+      // when
+      final var transaction = transactionContext.getCurrentTransaction();
+      transaction.run(
+          () -> {
+            state.activate(1L, newJobRecord().setType(type));
+            state.create(2L, newJobRecord().setType(type));
+          });
+      transaction.rollback();
+
+      // then
+      final List<Long> keysAfterRollback = new ArrayList<>();
+      state.forEachActivatableJobs(type, (k, e) -> keysAfterRollback.add(k));
+      assertThat(keysAfterRollback).containsExactly(1L);
+    }
+  }
+
   @Test
   public void shouldNotDoAnythingIfNoActivatableJobs() {
     // given
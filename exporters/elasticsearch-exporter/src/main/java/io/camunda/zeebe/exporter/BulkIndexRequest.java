@@ -7,36 +7,49 @@
  */
 package io.camunda.zeebe.exporter;
 
+import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.core.JsonParser.Feature;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
 import com.fasterxml.jackson.databind.annotation.JsonAppend;
 import io.camunda.zeebe.exporter.dto.BulkIndexAction;
 import io.camunda.zeebe.protocol.record.Record;
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.OutputStream;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import org.apache.http.entity.ContentProducer;
 
 /**
- * Buffers indexing requests of records. Each bulk operation is serialized before being buffered to
- * avoid having to serialize it again on retry.
+ * Buffers indexing requests of records. Each bulk operation, i.e. the action metadata and the
+ * record source, is serialized as nd-json directly into a single buffer when it is indexed. This
+ * avoids having to serialize it again on retry, and allocating intermediate arrays per record.
+ *
+ * <p>The buffer is kept when the request is cleared, such that it can be reused for the next bulk
+ * without growing it again.
  */
 final class BulkIndexRequest implements ContentProducer {
 
   private static final ObjectMapper MAPPER =
       new ObjectMapper()
           .addMixIn(Record.class, RecordSequenceMixin.class)
-          .enable(Feature.ALLOW_SINGLE_QUOTES);
+          .enable(Feature.ALLOW_SINGLE_QUOTES)
+          .disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+  private static final ObjectWriter METADATA_WRITER = MAPPER.writerFor(BulkIndexAction.class);
+  private static final ObjectWriter RECORD_WRITER = MAPPER.writer();
 
   // The property of the ES record template to store the sequence of the record.
   private static final String RECORD_SEQUENCE_PROPERTY = "sequence";
 
-  private final List<BulkOperation> operations = new ArrayList<>();
+  private final BulkBuffer buffer = new BulkBuffer();
+  private final List<BulkIndexAction> actions = new ArrayList<>();
+  // offset and length of the source of each operation in the buffer, used only for introspection
+  private final List<int[]> sources = new ArrayList<>();
 
   private BulkIndexAction lastIndexedMetadata;
-  private int memoryUsageBytes = 0;
 
   /**
    * Indexes the given record for the given bulk action. See
@@ -56,52 +69,60 @@ final class BulkIndexRequest implements ContentProducer {
       return;
     }
 
-    final byte[] source;
+    final int operationOffset = buffer.size();
+    final int sourceOffset;
     try {
-      source = serializeRecord(record, recordSequence);
-
+      METADATA_WRITER.writeValue(buffer, action);
+      buffer.write('\n');
+      sourceOffset = buffer.size();
+      serializeRecord(record, recordSequence);
+      buffer.write('\n');
     } catch (final IOException e) {
+      // drop the partially serialized operation, such that the bulk remains valid
+      buffer.truncate(operationOffset);
       throw new ElasticsearchExporterException(
           String.format("Failed to serialize record to JSON for indexing action %s", action), e);
     }
 
-    final BulkOperation command = new BulkOperation(action, source);
-    memoryUsageBytes += command.source().length;
     lastIndexedMetadata = action;
-    operations.add(command);
+    actions.add(action);
+    sources.add(new int[] {sourceOffset, buffer.size() - sourceOffset - 1});
   }
 
-  private static byte[] serializeRecord(final Record<?> record, final RecordSequence recordSequence)
+  private void serializeRecord(final Record<?> record, final RecordSequence recordSequence)
       throws IOException {
-    return MAPPER
-        .writer()
+    RECORD_WRITER
         // Enhance the serialized record by its sequence number. The sequence number is not a part
         // of the record itself but a special property for Elasticsearch. It can be used to limit
         // the number of records when reading from the index, for example, by using a range query.
         // Read https://github.com/camunda/zeebe/issues/10568 for details.
         .withAttribute(RECORD_SEQUENCE_PROPERTY, recordSequence.sequence())
-        .writeValueAsBytes(record);
+        .writeValue(buffer, record);
   }
 
   /** Returns the number of operations indexed so far. */
   int size() {
-    return operations.size();
+    return actions.size();
   }
 
-  /** Returns an approximate amount of memory used by this buffer. */
+  /**
+   * Returns the amount of memory used by the serialized operations, i.e. the exact length of the
+   * request body.
+   */
   int memoryUsageBytes() {
-    return memoryUsageBytes;
+    return buffer.size();
   }
 
   /** Returns true if no operations were indexed, i.e. {@link #size()} is 0, false otherwise. */
   boolean isEmpty() {
-    return operations.isEmpty();
+    return actions.isEmpty();
   }
 
-  /** Clears the buffer entirely. */
+  /** Clears the buffer entirely, but keeps its capacity for the next bulk. */
   void clear() {
-    operations.clear();
-    memoryUsageBytes = 0;
+    buffer.reset();
+    actions.clear();
+    sources.clear();
     lastIndexedMetadata = null;
   }
 
@@ -110,27 +131,49 @@ final class BulkIndexRequest implements ContentProducer {
     return lastIndexedMetadata;
   }
 
-  /** Returns the currently indexed operations as an unmodifiable shallow copy. */
+  /**
+   * Returns a copy of the currently indexed operations. This copies every source from the buffer,
+   * and is meant for introspection only.
+   */
   List<BulkOperation> bulkOperations() {
+    final var operations = new ArrayList<BulkOperation>(actions.size());
+    for (int i = 0; i < actions.size(); i++) {
+      final var source = sources.get(i);
+      operations.add(
+          new BulkOperation(
+              actions.get(i),
+              Arrays.copyOfRange(buffer.array(), source[0], source[0] + source[1])));
+    }
+
     return Collections.unmodifiableList(operations);
   }
 
   /**
    * Writes the JSON serialized entries, separated by a line ending for each, effectively writing
-   * nd-json.
+   * nd-json. As the entries are serialized when indexed, this simply copies the buffer.
    */
   @Override
   public void writeTo(final OutputStream outStream) throws IOException {
-    for (final var operation : operations) {
-      MAPPER.writeValue(outStream, operation.metadata());
-      outStream.write('\n');
-      outStream.write(operation.source());
-      outStream.write('\n');
-    }
+    buffer.writeTo(outStream);
   }
 
   record BulkOperation(BulkIndexAction metadata, byte[] source) {}
 
   @JsonAppend(attrs = {@JsonAppend.Attr(value = RECORD_SEQUENCE_PROPERTY)})
   private static class RecordSequenceMixin {}
+
+  /** A byte array output stream which gives access to its backing array, and can be truncated. */
+  private static final class BulkBuffer extends ByteArrayOutputStream {
+    private BulkBuffer() {
+      super(8 * 1024);
+    }
+
+    private byte[] array() {
+      return buf;
+    }
+
+    private void truncate(final int size) {
+      count = size;
+    }
+  }
 }
@@ -23,11 +23,17 @@ import io.camunda.zeebe.protocol.record.Record;
 import io.camunda.zeebe.protocol.record.ValueType;
 import io.prometheus.client.Histogram;
 import java.io.IOException;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Deque;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 import java.util.stream.Collectors;
 import org.apache.http.entity.EntityTemplate;
 import org.elasticsearch.client.Request;
+import org.elasticsearch.client.Response;
+import org.elasticsearch.client.ResponseListener;
 import org.elasticsearch.client.RestClient;
 
 class ElasticsearchClient implements AutoCloseable {
@@ -37,7 +43,9 @@ class ElasticsearchClient implements AutoCloseable {
   private final ElasticsearchExporterConfiguration configuration;
   private final TemplateReader templateReader;
   private final RecordIndexRouter indexRouter;
-  private final BulkIndexRequest bulkIndexRequest;
+  private BulkIndexRequest bulkIndexRequest;
+  // acknowledged bulk requests, kept to reuse their buffers
+  private final Deque<BulkIndexRequest> releasedBulks = new ArrayDeque<>();
 
   private ElasticsearchMetrics metrics;
 
@@ -114,6 +122,82 @@ class ElasticsearchClient implements AutoCloseable {
     }
   }
 
+  /**
+   * Detaches the current bulk request from this client, such that records indexed afterwards are
+   * added to a new bulk request. Use {@link #flushAsync(BulkIndexRequest)} to send the detached
+   * bulk.
+   *
+   * @return the current bulk request, or null if it is empty
+   */
+  public BulkIndexRequest detachBulk() {
+    if (bulkIndexRequest.isEmpty()) {
+      return null;
+    }
+
+    final var bulk = bulkIndexRequest;
+    bulkIndexRequest = Objects.requireNonNullElseGet(releasedBulks.poll(), BulkIndexRequest::new);
+    return bulk;
+  }
+
+  /**
+   * Returns a detached bulk request which is not needed anymore, e.g. because it was acknowledged,
+   * such that its buffer can be reused by a later bulk.
+   */
+  public void releaseBulk(final BulkIndexRequest bulk) {
+    bulk.clear();
+    if (releasedBulks.size() < configuration.bulk.maxInFlightRequests) {
+      releasedBulks.offer(bulk);
+    }
+  }
+
+  /**
+   * Sends the given bulk request to Elastic without waiting for the response. The bulk request is
+   * not modified, such that it can be sent again if it fails.
+   *
+   * @param bulk the bulk request to send
+   * @return a future which is completed once all items of the bulk were flushed successfully, or
+   *     completed exceptionally with an {@link ElasticsearchExporterException} otherwise
+   */
+  public CompletableFuture<Void> flushAsync(final BulkIndexRequest bulk) {
+    final var result = new CompletableFuture<Void>();
+    metrics.recordBulkSize(bulk.size());
+    metrics.recordBulkMemorySize(bulk.memoryUsageBytes());
+
+    final Histogram.Timer timer = metrics.measureFlushDuration();
+    result.whenComplete(
+        (ok, error) -> {
+          timer.observeDuration();
+          if (error != null) {
+            metrics.recordFailedFlush();
+          }
+        });
+
+    client.performRequestAsync(
+        createBulkRequest(bulk),
+        new ResponseListener() {
+          @Override
+          public void onSuccess(final Response response) {
+            try {
+              checkBulkResponse(readResponse(response, BulkIndexResponse.class));
+              result.complete(null);
+            } catch (final IOException e) {
+              result.completeExceptionally(
+                  new ElasticsearchExporterException("Failed to flush bulk", e));
+            } catch (final RuntimeException e) {
+              result.completeExceptionally(e);
+            }
+          }
+
+          @Override
+          public void onFailure(final Exception exception) {
+            result.completeExceptionally(
+                new ElasticsearchExporterException("Failed to flush bulk", exception));
+          }
+        });
+
+    return result;
+  }
+
   /**
    * Returns whether the exporter should call {@link #flush()} or not.
    *
@@ -152,16 +236,23 @@ class ElasticsearchClient implements AutoCloseable {
   private void exportBulk() {
     final BulkIndexResponse response;
     try {
-      final var request = new Request("POST", "/_bulk");
-      final var body = new EntityTemplate(bulkIndexRequest);
-      body.setContentType("application/x-ndjson");
-      request.setEntity(body);
-
-      response = sendRequest(request, BulkIndexResponse.class);
+      response = sendRequest(createBulkRequest(bulkIndexRequest), BulkIndexResponse.class);
     } catch (final IOException e) {
       throw new ElasticsearchExporterException("Failed to flush bulk", e);
     }
 
+    checkBulkResponse(response);
+  }
+
+  private Request createBulkRequest(final BulkIndexRequest bulk) {
+    final var request = new Request("POST", "/_bulk");
+    final var body = new EntityTemplate(bulk);
+    body.setContentType("application/x-ndjson");
+    request.setEntity(body);
+    return request;
+  }
+
+  private void checkBulkResponse(final BulkIndexResponse response) {
     if (response.errors()) {
       throwCollectedBulkError(response);
     }
@@ -229,7 +320,11 @@ class ElasticsearchClient implements AutoCloseable {
   }
 
   private <T> T sendRequest(final Request request, final Class<T> responseType) throws IOException {
-    final var response = client.performRequest(request);
+    return readResponse(client.performRequest(request), responseType);
+  }
+
+  private <T> T readResponse(final Response response, final Class<T> responseType)
+      throws IOException {
     // buffer the complete response in memory before parsing it; this will give us a better error
     // message which contains the raw response should the deserialization fail
     final var responseBody = response.getEntity().getContent().readAllBytes();
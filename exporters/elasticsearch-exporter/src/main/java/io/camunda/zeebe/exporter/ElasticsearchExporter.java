@@ -37,6 +37,8 @@ public class ElasticsearchExporter implements Exporter {
   private ElasticsearchExporterConfiguration configuration;
   private ElasticsearchClient client;
   private ElasticsearchRecordCounters recordCounters;
+  // only set if bulks are flushed asynchronously
+  private InFlightBulkQueue inFlightBulks;
 
   private long lastPosition = -1;
   private boolean indexTemplatesCreated;
@@ -57,6 +59,11 @@ public class ElasticsearchExporter implements Exporter {
   public void open(final Controller controller) {
     this.controller = controller;
     client = createClient();
+    if (configuration.bulk.maxInFlightRequests > 0) {
+      inFlightBulks =
+          new InFlightBulkQueue(
+              configuration.bulk.maxInFlightRequests, client::flushAsync, client::releaseBulk, log);
+    }
 
     recordCounters =
         controller
@@ -74,7 +81,13 @@ public class ElasticsearchExporter implements Exporter {
   public void close() {
 
     try {
-      flush();
+      if (inFlightBulks != null) {
+        inFlightBulks.awaitCapacity(this::updateLastExportedPosition);
+        sendBulk();
+        inFlightBulks.awaitAll(this::updateLastExportedPosition);
+      } else {
+        flush();
+      }
       updateLastExportedPosition();
     } catch (final Exception e) {
       log.warn("Failed to flush records before closing exporter.", e);
@@ -95,21 +108,31 @@ public class ElasticsearchExporter implements Exporter {
       createIndexTemplates();
     }
 
+    if (inFlightBulks != null) {
+      inFlightBulks.acknowledgeCompleted(this::updateLastExportedPosition);
+    }
+
     final var recordSequence = recordCounters.getNextRecordSequence(record);
     client.index(record, recordSequence);
     lastPosition = record.getPosition();
 
-    if (client.shouldFlush()) {
+    if (!client.shouldFlush()) {
+      // If the exporter doesn't flush synchronously then it can update the record counters
+      // immediately. If the asynchronous flush fails then it will retry only the flush operation
+      // with the records in the pending bulk request.
+      recordCounters.updateRecordCounters(record, recordSequence);
+    } else if (inFlightBulks != null) {
+      // Make room for the bulk before updating the record counters. If no bulk can be sent, the
+      // exporter will be invoked with the same record again, which is then not indexed twice.
+      inFlightBulks.awaitCapacity(this::updateLastExportedPosition);
+      recordCounters.updateRecordCounters(record, recordSequence);
+      sendBulk();
+    } else {
       flush();
       // Update the record counters only after the flush was successful. If the synchronous flush
       // fails then the exporter will be invoked with the same record again.
       recordCounters.updateRecordCounters(record, recordSequence);
       updateLastExportedPosition();
-    } else {
-      // If the exporter doesn't flush synchronously then it can update the record counters
-      // immediately. If the asynchronous flush fails then it will retry only the flush operation
-      // with the records in the pending bulk request.
-      recordCounters.updateRecordCounters(record, recordSequence);
     }
   }
 
@@ -127,6 +150,13 @@ public class ElasticsearchExporter implements Exporter {
           RECOMMENDED_MAX_BULK_MEMORY_LIMIT);
     }
 
+    if (configuration.bulk.maxInFlightRequests < 0) {
+      throw new ExporterException(
+          String.format(
+              "Elasticsearch bulk maxInFlightRequests must be >= 0. Current value: %d",
+              configuration.bulk.maxInFlightRequests));
+    }
+
     final Integer numberOfShards = configuration.index.getNumberOfShards();
     if (numberOfShards != null && numberOfShards < 1) {
       throw new ExporterException(
@@ -149,8 +179,12 @@ public class ElasticsearchExporter implements Exporter {
 
   private void flushAndReschedule() {
     try {
-      flush();
-      updateLastExportedPosition();
+      if (inFlightBulks != null) {
+        flushAsync();
+      } else {
+        flush();
+        updateLastExportedPosition();
+      }
     } catch (final Exception e) {
       log.warn("Unexpected exception occurred on periodically flushing bulk, will retry later.", e);
     }
@@ -166,10 +200,40 @@ public class ElasticsearchExporter implements Exporter {
     client.flush();
   }
 
+  private void flushAsync() {
+    inFlightBulks.acknowledgeCompleted(this::updateLastExportedPosition);
+    if (!inFlightBulks.isFull()) {
+      sendBulk();
+    }
+
+    if (inFlightBulks.isEmpty()) {
+      // all indexed records were acknowledged already
+      updateLastExportedPosition();
+    }
+  }
+
+  /**
+   * Hands off the current bulk to the in-flight queue, together with the position and metadata
+   * which can be stored once it was acknowledged. The caller must ensure the queue is not full.
+   */
+  private void sendBulk() {
+    final var bulk = client.detachBulk();
+    if (bulk != null) {
+      inFlightBulks.send(bulk, lastPosition, serializeCurrentMetadata());
+    }
+  }
+
   private void updateLastExportedPosition() {
+    updateLastExportedPosition(lastPosition, serializeCurrentMetadata());
+  }
+
+  private void updateLastExportedPosition(final long position, final byte[] metadata) {
+    controller.updateLastExportedRecordPosition(position, metadata);
+  }
+
+  private byte[] serializeCurrentMetadata() {
     exporterMetadata.setRecordCountersByValueType(recordCounters.getRecordCounters());
-    final var serializeExporterMetadata = serializeExporterMetadata(exporterMetadata);
-    controller.updateLastExportedRecordPosition(lastPosition, serializeExporterMetadata);
+    return serializeExporterMetadata(exporterMetadata);
   }
 
   private byte[] serializeExporterMetadata(final ElasticsearchExporterMetadata metadata) {
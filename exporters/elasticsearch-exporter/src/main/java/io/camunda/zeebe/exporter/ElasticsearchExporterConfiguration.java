@@ -278,6 +278,10 @@ public class ElasticsearchExporterConfiguration {
     public int size = 1_000;
     // memory limit of the bulk in bytes before flush
     public int memoryLimit = 10 * 1024 * 1024;
+    // maximum number of bulks sent but not yet acknowledged; 0 flushes synchronously
+    public int maxInFlightRequests = 0;
+    // whether to gzip the bulk request bodies
+    public boolean compressionEnabled = false;
 
     @Override
     public String toString() {
@@ -288,6 +292,10 @@ public class ElasticsearchExporterConfiguration {
           + size
           + ", memoryLimit="
           + memoryLimit
+          + ", maxInFlightRequests="
+          + maxInFlightRequests
+          + ", compressionEnabled="
+          + compressionEnabled
           + '}';
     }
   }
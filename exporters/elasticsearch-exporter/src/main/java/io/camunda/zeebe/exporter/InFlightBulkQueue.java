@@ -0,0 +1,219 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.exporter;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import org.slf4j.Logger;
+
+/**
+ * Keeps track of the bulk requests which were sent to Elasticsearch but not yet acknowledged, in
+ * the order in which they were sent.
+ *
+ * <p>Responses may arrive in any order, but a bulk is only acknowledged once all bulks sent before
+ * it were acknowledged as well. This guarantees that the exported position, which is the highest
+ * position of the last acknowledged bulk, never skips a record which may still have to be retried.
+ * A failed bulk is sent again, and blocks acknowledging any later bulk until it succeeds.
+ *
+ * <p>This class is not thread safe, and is meant to be used only from the exporter's thread. The
+ * responses themselves may be completed on any thread.
+ */
+final class InFlightBulkQueue {
+
+  private final Deque<InFlightBulk> inFlightBulks = new ArrayDeque<>();
+  private final int maxInFlightBulks;
+  private final Function<BulkIndexRequest, CompletableFuture<Void>> sender;
+  private final Consumer<BulkIndexRequest> releaser;
+  private final Logger log;
+
+  /**
+   * @param maxInFlightBulks the maximum number of bulks which may be sent but not yet acknowledged
+   * @param sender sends the given bulk asynchronously; the returned future is completed when
+   *     Elasticsearch acknowledged all operations of the bulk, and completed exceptionally
+   *     otherwise
+   * @param releaser called with every acknowledged bulk, which is not used afterwards anymore
+   * @param log the logger used to report failed bulks
+   */
+  InFlightBulkQueue(
+      final int maxInFlightBulks,
+      final Function<BulkIndexRequest, CompletableFuture<Void>> sender,
+      final Consumer<BulkIndexRequest> releaser,
+      final Logger log) {
+    if (maxInFlightBulks <= 0) {
+      throw new IllegalArgumentException(
+          String.format(
+              "Expected the maximum number of in-flight bulks to be > 0, but was %d",
+              maxInFlightBulks));
+    }
+
+    this.maxInFlightBulks = maxInFlightBulks;
+    this.sender = sender;
+    this.releaser = releaser;
+    this.log = log;
+  }
+
+  /**
+   * Sends the given bulk, and keeps track of it until it is acknowledged. The caller must ensure
+   * that the queue is not full, e.g. via {@link #awaitCapacity(AcknowledgeListener)}.
+   *
+   * @param bulk the bulk to send
+   * @param position the highest position of the records contained in the bulk
+   * @param metadata the exporter metadata to store once the bulk is acknowledged
+   */
+  void send(final BulkIndexRequest bulk, final long position, final byte[] metadata) {
+    if (isFull()) {
+      throw new IllegalStateException(
+          String.format(
+              "Expected to send a bulk, but there are already %d in-flight bulks",
+              inFlightBulks.size()));
+    }
+
+    inFlightBulks.addLast(new InFlightBulk(bulk, position, metadata, sender.apply(bulk)));
+  }
+
+  /**
+   * Removes all bulks at the head of the queue which were acknowledged, and notifies the given
+   * listener once with the last of them, if any. If the first unacknowledged bulk failed, it is
+   * sent again.
+   *
+   * @param listener notified with the position and metadata of the last acknowledged bulk
+   */
+  void acknowledgeCompleted(final AcknowledgeListener listener) {
+    InFlightBulk lastAcknowledged = null;
+
+    while (!inFlightBulks.isEmpty()) {
+      final var head = inFlightBulks.peekFirst();
+      if (!head.response.isDone()) {
+        break;
+      }
+
+      if (head.response.isCompletedExceptionally()) {
+        retry(head, awaitResponse(head));
+        break;
+      }
+
+      lastAcknowledged = inFlightBulks.pollFirst();
+      releaser.accept(lastAcknowledged.request);
+    }
+
+    if (lastAcknowledged != null) {
+      listener.onAcknowledged(lastAcknowledged.position, lastAcknowledged.metadata);
+    }
+  }
+
+  /**
+   * Blocks until at least one more bulk can be sent, acknowledging completed bulks along the way.
+   *
+   * @param listener notified with the position and metadata of the last acknowledged bulk
+   * @throws ElasticsearchExporterException if the oldest in-flight bulk failed; it is sent again,
+   *     and the caller may retry later
+   */
+  void awaitCapacity(final AcknowledgeListener listener) {
+    while (isFull()) {
+      final var head = inFlightBulks.peekFirst();
+      final var failure = awaitResponse(head);
+      if (failure != null) {
+        retry(head, failure);
+        throw new ElasticsearchExporterException("Failed to flush bulk", failure);
+      }
+
+      acknowledgeCompleted(listener);
+    }
+  }
+
+  /**
+   * Blocks until all in-flight bulks were acknowledged, or until the first one fails. Failed bulks
+   * are not sent again; this is meant to be used when closing the exporter.
+   *
+   * @param listener notified with the position and metadata of the last acknowledged bulk
+   * @throws ElasticsearchExporterException if any of the in-flight bulks failed
+   */
+  void awaitAll(final AcknowledgeListener listener) {
+    InFlightBulk lastAcknowledged = null;
+
+    try {
+      while (!inFlightBulks.isEmpty()) {
+        final var head = inFlightBulks.peekFirst();
+        final var failure = awaitResponse(head);
+        if (failure != null) {
+          throw new ElasticsearchExporterException("Failed to flush bulk", failure);
+        }
+
+        lastAcknowledged = inFlightBulks.pollFirst();
+        releaser.accept(lastAcknowledged.request);
+      }
+    } finally {
+      if (lastAcknowledged != null) {
+        listener.onAcknowledged(lastAcknowledged.position, lastAcknowledged.metadata);
+      }
+    }
+  }
+
+  /** Returns true if no more bulks can be sent until some are acknowledged. */
+  boolean isFull() {
+    return inFlightBulks.size() >= maxInFlightBulks;
+  }
+
+  /** Returns true if there are no in-flight bulks. */
+  boolean isEmpty() {
+    return inFlightBulks.isEmpty();
+  }
+
+  /** Returns the number of in-flight bulks. */
+  int size() {
+    return inFlightBulks.size();
+  }
+
+  private void retry(final InFlightBulk bulk, final Throwable failure) {
+    log.warn(
+        "Failed to flush bulk of {} records up to position {}, will retry.",
+        bulk.request.size(),
+        bulk.position,
+        failure);
+    bulk.response = sender.apply(bulk.request);
+  }
+
+  private Throwable awaitResponse(final InFlightBulk bulk) {
+    return bulk.response.handle((ok, error) -> unwrap(error)).join();
+  }
+
+  private static Throwable unwrap(final Throwable error) {
+    if (error instanceof CompletionException && error.getCause() != null) {
+      return error.getCause();
+    }
+
+    return error;
+  }
+
+  @FunctionalInterface
+  interface AcknowledgeListener {
+    void onAcknowledged(long position, byte[] metadata);
+  }
+
+  private static final class InFlightBulk {
+    private final BulkIndexRequest request;
+    private final long position;
+    private final byte[] metadata;
+    private CompletableFuture<Void> response;
+
+    private InFlightBulk(
+        final BulkIndexRequest request,
+        final long position,
+        final byte[] metadata,
+        final CompletableFuture<Void> response) {
+      this.request = request;
+      this.position = position;
+      this.metadata = metadata;
+      this.response = response;
+    }
+  }
+}
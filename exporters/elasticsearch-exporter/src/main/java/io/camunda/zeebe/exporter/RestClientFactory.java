@@ -39,7 +39,9 @@ final class RestClientFactory {
                 b ->
                     b.setConnectTimeout(config.requestTimeoutMs)
                         .setSocketTimeout(config.requestTimeoutMs))
-            .setHttpClientConfigCallback(b -> configureHttpClient(config, b));
+            .setHttpClientConfigCallback(b -> configureHttpClient(config, b))
+            // compresses all request bodies, but only the bulk requests are of notable size
+            .setCompressionEnabled(config.bulk.compressionEnabled);
 
     return builder.build();
   }
@@ -47,7 +47,7 @@ final class BulkIndexRequestTest {
   private final BulkIndexRequest request = new BulkIndexRequest();
 
   @Test
-  void shouldReturnMemoryUsageAsLengthOfAllSerializedRecords() throws IOException {
+  void shouldReturnMemoryUsageAsLengthOfAllSerializedOperations() throws IOException {
     // given
     final var records = recordFactory.generateRecords().limit(2).toList();
     final var actions =
@@ -64,20 +64,30 @@ final class BulkIndexRequestTest {
 
     // then
     final var expectedMemoryUsage =
-        getRecordMemoryUsage(records.get(0), recordSequence1)
-            + getRecordMemoryUsage(records.get(1), recordSequence2);
+        getOperationMemoryUsage(actions.get(0), records.get(0), recordSequence1)
+            + getOperationMemoryUsage(actions.get(1), records.get(1), recordSequence2);
     assertThat(request.memoryUsageBytes()).isEqualTo(expectedMemoryUsage);
+    try (final var output = new ByteArrayOutputStream()) {
+      request.writeTo(output);
+      assertThat(output.size()).isEqualTo(expectedMemoryUsage);
+    }
   }
 
-  private static int getRecordMemoryUsage(
-      final Record<RecordValue> record, final RecordSequence recordSequence) throws IOException {
+  private static int getOperationMemoryUsage(
+      final BulkIndexAction action,
+      final Record<RecordValue> record,
+      final RecordSequence recordSequence)
+      throws IOException {
 
     final var serializedRecord = MAPPER.writeValueAsBytes(record);
     final var recordAsMap = MAPPER.readValue(serializedRecord, MAP_TYPE_REFERENCE);
     // The sequence property is not part of the record itself. It is added additionally in the
     // Elasticsearch exporter. We need to do the same in the test to get the correct memory usage.
     recordAsMap.put("sequence", recordSequence.sequence());
-    return MAPPER.writeValueAsBytes(recordAsMap).length;
+    // each operation consists of the action and the source, each followed by a line ending
+    return MAPPER.writeValueAsBytes(action).length
+        + MAPPER.writeValueAsBytes(recordAsMap).length
+        + 2;
   }
 
   @Test
@@ -102,6 +112,32 @@ final class BulkIndexRequestTest {
     assertThat(request.lastIndexedMetadata()).isNull();
   }
 
+  @Test
+  void shouldIndexAfterClear() {
+    // given
+    final var records = recordFactory.generateRecords().limit(2).toList();
+    final var action = new BulkIndexAction("index", "id", "routing");
+    request.index(action, records.get(0), new RecordSequence(PARTITION_ID, 1));
+    request.clear();
+
+    // when
+    request.index(action, records.get(1), new RecordSequence(PARTITION_ID, 2));
+
+    // then
+    assertThat(request.bulkOperations())
+        .hasSize(1)
+        .map(BulkOperation::metadata, operation -> readSource(operation.source()))
+        .containsExactly(Tuple.tuple(action, records.get(1)));
+  }
+
+  private static Record<?> readSource(final byte[] source) {
+    try {
+      return MAPPER.readValue(source, new TypeReference<Record<?>>() {});
+    } catch (final IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
   @Nested
   final class IndexTest {
     @Test
@@ -11,6 +11,7 @@ import static io.camunda.zeebe.exporter.ElasticsearchClient.buildPutIndexLifecyc
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatCode;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
@@ -27,11 +28,14 @@ import io.camunda.zeebe.protocol.record.ValueType;
 import io.camunda.zeebe.test.broker.protocol.ProtocolFactory;
 import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.time.Duration;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ExecutionException;
 import org.apache.http.entity.BasicHttpEntity;
 import org.elasticsearch.client.Request;
 import org.elasticsearch.client.Response;
+import org.elasticsearch.client.ResponseListener;
 import org.elasticsearch.client.RestClient;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Nested;
@@ -246,5 +250,76 @@ final class ElasticsearchClientTest {
       // then
       assertThat(bulkRequest.size()).isEqualTo(1);
     }
+
+    @Test
+    void shouldDetachBulk() {
+      // given
+      client.index(factory.generateRecord(), new RecordSequence(PARTITION_ID, 1));
+
+      // when
+      final var detachedBulk = client.detachBulk();
+
+      // then
+      assertThat(detachedBulk).isSameAs(bulkRequest);
+      assertThat(client.detachBulk()).as("the new bulk is empty").isNull();
+    }
+
+    @Test
+    void shouldFlushBulkAsynchronously() throws IOException {
+      // given
+      final ArgumentCaptor<Request> requestCaptor =
+          mockAsyncClientResponse(new BulkIndexResponse(false, List.of()));
+      client.index(factory.generateRecord(), new RecordSequence(PARTITION_ID, 1));
+
+      // when
+      final var response = client.flushAsync(client.detachBulk());
+
+      // then
+      assertThat(response).isCompleted();
+      assertThat(requestCaptor.getValue().getEndpoint()).isEqualTo("/_bulk");
+      assertThat(bulkRequest.size()).as("the bulk is kept to be retried").isEqualTo(1);
+    }
+
+    @Test
+    void shouldFailAsynchronousFlushOnBulkErrors() throws IOException {
+      // given
+      final var error = new BulkIndexResponse.Error("type", "reason");
+      final var item = new BulkIndexResponse.Item(new BulkIndexResponse.Index(500, error));
+      mockAsyncClientResponse(new BulkIndexResponse(true, List.of(item)));
+      client.index(factory.generateRecord(), new RecordSequence(PARTITION_ID, 1));
+
+      // when
+      final var response = client.flushAsync(client.detachBulk());
+
+      // then
+      assertThat(response)
+          .failsWithin(Duration.ZERO)
+          .withThrowableOfType(ExecutionException.class)
+          .havingCause()
+          .isInstanceOf(ElasticsearchExporterException.class);
+    }
+
+    private <T> ArgumentCaptor<Request> mockAsyncClientResponse(final T content)
+        throws IOException {
+      final var httpEntity = new BasicHttpEntity();
+      final var serializedContent = MAPPER.writeValueAsBytes(content);
+      final var requestCaptor = ArgumentCaptor.forClass(Request.class);
+      final var response = mock(Response.class);
+
+      httpEntity.setContent(new ByteArrayInputStream(serializedContent));
+      httpEntity.setContentLength(serializedContent.length);
+      httpEntity.setContentType("application/json");
+
+      when(response.getEntity()).thenReturn(httpEntity);
+      doAnswer(
+              invocation -> {
+                invocation.<ResponseListener>getArgument(1).onSuccess(response);
+                return null;
+              })
+          .when(restClient)
+          .performRequestAsync(requestCaptor.capture(), any());
+
+      return requestCaptor;
+    }
   }
 }
@@ -30,7 +30,9 @@ import io.camunda.zeebe.protocol.record.RecordType;
 import io.camunda.zeebe.protocol.record.ValueType;
 import java.nio.charset.StandardCharsets;
 import java.time.Duration;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
@@ -313,6 +315,122 @@ final class ElasticsearchExporterTest {
     }
   }
 
+  @Nested
+  final class PipelinedFlushTest {
+    private final List<CompletableFuture<Void>> responses = new ArrayList<>();
+
+    @BeforeEach
+    void beforeEach() {
+      config.bulk.maxInFlightRequests = 2;
+      when(client.shouldFlush()).thenReturn(true);
+      when(client.detachBulk()).thenAnswer(invocation -> new BulkIndexRequest());
+      when(client.flushAsync(any()))
+          .thenAnswer(
+              invocation -> {
+                final var response = new CompletableFuture<Void>();
+                responses.add(response);
+                return response;
+              });
+
+      exporter.configure(context);
+      exporter.open(controller);
+    }
+
+    @Test
+    void shouldNotWaitForBulkResponse() {
+      // when
+      exporter.export(newRecord(10L));
+
+      // then
+      verify(client, times(1)).flushAsync(any());
+      verify(client, never()).flush();
+      assertThat(controller.getPosition()).isEqualTo(-1L);
+    }
+
+    @Test
+    void shouldUpdatePositionOnceBulkIsAcknowledged() {
+      // given
+      exporter.export(newRecord(10L));
+
+      // when
+      responses.get(0).complete(null);
+      exporter.export(newRecord(11L));
+
+      // then
+      assertThat(controller.getPosition()).isEqualTo(10L);
+    }
+
+    @Test
+    void shouldAcknowledgeBulksInOrder() {
+      // given
+      exporter.export(newRecord(10L));
+      exporter.export(newRecord(11L));
+
+      // when
+      responses.get(1).complete(null);
+      controller.runScheduledTasks(Duration.ofSeconds(config.bulk.delay));
+
+      // then
+      assertThat(controller.getPosition()).isEqualTo(-1L);
+
+      // when
+      responses.get(0).complete(null);
+      controller.runScheduledTasks(Duration.ofSeconds(config.bulk.delay));
+
+      // then
+      assertThat(controller.getPosition()).isEqualTo(11L);
+    }
+
+    @Test
+    void shouldRetryFailedBulk() {
+      // given
+      exporter.export(newRecord(10L));
+      final var bulkCaptor = ArgumentCaptor.forClass(BulkIndexRequest.class);
+
+      // when
+      responses.get(0).completeExceptionally(new ElasticsearchExporterException("failed"));
+      exporter.export(newRecord(11L));
+
+      // then
+      verify(client, times(3)).flushAsync(bulkCaptor.capture());
+      assertThat(bulkCaptor.getAllValues().get(1)).isSameAs(bulkCaptor.getAllValues().get(0));
+      assertThat(controller.getPosition()).isEqualTo(-1L);
+    }
+
+    @Test
+    void shouldNotIncrementCounterIfNoBulkCanBeSent() {
+      // given
+      exporter.export(newRecord(10L));
+      exporter.export(newRecord(11L));
+      responses.get(0).completeExceptionally(new ElasticsearchExporterException("failed"));
+
+      // when - the retried bulk fails as well
+      when(client.flushAsync(any()))
+          .thenReturn(CompletableFuture.failedFuture(new ElasticsearchExporterException("failed")));
+      assertThatCode(() -> exporter.export(newRecord(12L)))
+          .isInstanceOf(ElasticsearchExporterException.class);
+
+      // retry successfully
+      when(client.flushAsync(any())).thenReturn(CompletableFuture.completedFuture(null));
+      exporter.export(newRecord(12L));
+
+      // then
+      final var recordSequenceCaptor = ArgumentCaptor.forClass(RecordSequence.class);
+      verify(client, times(4)).index(any(), recordSequenceCaptor.capture());
+      assertThat(recordSequenceCaptor.getAllValues())
+          .extracting(RecordSequence::counter)
+          .describedAs("Expect that the record counter is the same on retry")
+          .containsExactly(1L, 2L, 3L, 3L);
+    }
+
+    private Record<?> newRecord(final long position) {
+      return ImmutableRecord.builder()
+          .withPosition(position)
+          .withValueType(ValueType.PROCESS_INSTANCE)
+          .build();
+    }
+  }
+
   @Nested
   final class ValidationTest {
     @Test
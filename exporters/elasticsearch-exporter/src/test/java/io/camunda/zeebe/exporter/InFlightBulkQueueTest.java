@@ -0,0 +1,163 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.exporter;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import org.junit.jupiter.api.Test;
+import org.slf4j.LoggerFactory;
+
+final class InFlightBulkQueueTest {
+
+  private final List<BulkIndexRequest> sentBulks = new ArrayList<>();
+  private final List<CompletableFuture<Void>> responses = new ArrayList<>();
+  private final List<Long> acknowledgedPositions = new ArrayList<>();
+  private final List<BulkIndexRequest> releasedBulks = new ArrayList<>();
+  private final InFlightBulkQueue queue =
+      new InFlightBulkQueue(
+          2,
+          bulk -> {
+            final var response = new CompletableFuture<Void>();
+            sentBulks.add(bulk);
+            responses.add(response);
+            return response;
+          },
+          releasedBulks::add,
+          LoggerFactory.getLogger(InFlightBulkQueueTest.class));
+
+  @Test
+  void shouldRejectNonPositiveMaxInFlightBulks() {
+    assertThatCode(() -> new InFlightBulkQueue(0, bulk -> null, bulk -> {}, null))
+        .isInstanceOf(IllegalArgumentException.class);
+  }
+
+  @Test
+  void shouldBeFullWhenMaxInFlightBulksAreSent() {
+    // when
+    queue.send(new BulkIndexRequest(), 1, null);
+    queue.send(new BulkIndexRequest(), 2, null);
+
+    // then
+    assertThat(queue.isFull()).isTrue();
+    assertThatCode(() -> queue.send(new BulkIndexRequest(), 3, null))
+        .isInstanceOf(IllegalStateException.class);
+  }
+
+  @Test
+  void shouldAcknowledgeOnlyLastOfCompletedBulks() {
+    // given
+    queue.send(new BulkIndexRequest(), 1, null);
+    queue.send(new BulkIndexRequest(), 2, null);
+
+    // when
+    responses.forEach(response -> response.complete(null));
+    queue.acknowledgeCompleted(this::onAcknowledged);
+
+    // then
+    assertThat(acknowledgedPositions).containsExactly(2L);
+    assertThat(releasedBulks).containsExactlyElementsOf(sentBulks);
+    assertThat(queue.isEmpty()).isTrue();
+  }
+
+  @Test
+  void shouldNotAcknowledgeBulkBeforePreviousBulks() {
+    // given
+    queue.send(new BulkIndexRequest(), 1, null);
+    queue.send(new BulkIndexRequest(), 2, null);
+
+    // when
+    responses.get(1).complete(null);
+    queue.acknowledgeCompleted(this::onAcknowledged);
+
+    // then
+    assertThat(acknowledgedPositions).isEmpty();
+    assertThat(queue.size()).isEqualTo(2);
+  }
+
+  @Test
+  void shouldResendFailedBulk() {
+    // given
+    final var bulk = new BulkIndexRequest();
+    queue.send(bulk, 1, null);
+    queue.send(new BulkIndexRequest(), 2, null);
+
+    // when
+    responses.get(0).completeExceptionally(new ElasticsearchExporterException("failed"));
+    responses.get(1).complete(null);
+    queue.acknowledgeCompleted(this::onAcknowledged);
+
+    // then
+    assertThat(sentBulks).hasSize(3);
+    assertThat(sentBulks.get(2)).isSameAs(bulk);
+    assertThat(acknowledgedPositions).isEmpty();
+
+    // when
+    responses.get(2).complete(null);
+    queue.acknowledgeCompleted(this::onAcknowledged);
+
+    // then
+    assertThat(acknowledgedPositions).containsExactly(2L);
+  }
+
+  @Test
+  void shouldAwaitCapacity() {
+    // given
+    queue.send(new BulkIndexRequest(), 1, null);
+    queue.send(new BulkIndexRequest(), 2, null);
+
+    // when
+    CompletableFuture.runAsync(() -> responses.get(0).complete(null));
+    queue.awaitCapacity(this::onAcknowledged);
+
+    // then
+    assertThat(queue.isFull()).isFalse();
+    assertThat(acknowledgedPositions).containsExactly(1L);
+  }
+
+  @Test
+  void shouldFailToAwaitCapacityIfOldestBulkFailed() {
+    // given
+    queue.send(new BulkIndexRequest(), 1, null);
+    queue.send(new BulkIndexRequest(), 2, null);
+    final var failure = new ElasticsearchExporterException("failed");
+
+    // when
+    responses.get(0).completeExceptionally(failure);
+    responses.get(1).complete(null);
+
+    // then
+    assertThatCode(() -> queue.awaitCapacity(this::onAcknowledged))
+        .isInstanceOf(ElasticsearchExporterException.class);
+    assertThat(queue.isFull()).isTrue();
+    assertThat(acknowledgedPositions).isEmpty();
+  }
+
+  @Test
+  void shouldAcknowledgeUpToFailedBulkWhenAwaitingAll() {
+    // given
+    queue.send(new BulkIndexRequest(), 1, null);
+    queue.send(new BulkIndexRequest(), 2, null);
+
+    // when
+    responses.get(0).complete(null);
+    responses.get(1).completeExceptionally(new ElasticsearchExporterException("failed"));
+
+    // then
+    assertThatCode(() -> queue.awaitAll(this::onAcknowledged))
+        .isInstanceOf(ElasticsearchExporterException.class);
+    assertThat(acknowledgedPositions).containsExactly(1L);
+  }
+
+  private void onAcknowledged(final long position, final byte[] metadata) {
+    acknowledgedPositions.add(position);
+  }
+}
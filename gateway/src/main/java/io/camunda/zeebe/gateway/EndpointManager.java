@@ -10,15 +10,17 @@ package io.camunda.zeebe.gateway;
 import io.atomix.utils.net.Address;
 import io.camunda.zeebe.gateway.ResponseMapper.BrokerResponseMapper;
 import io.camunda.zeebe.gateway.grpc.ServerStreamObserver;
+import io.camunda.zeebe.gateway.impl.broker.BatchRequestSender;
 import io.camunda.zeebe.gateway.impl.broker.BrokerClient;
 import io.camunda.zeebe.gateway.impl.broker.RequestRetryHandler;
 import io.camunda.zeebe.gateway.impl.broker.cluster.BrokerClusterState;
 import io.camunda.zeebe.gateway.impl.broker.cluster.BrokerTopologyManager;
 import io.camunda.zeebe.gateway.impl.broker.request.BrokerRequest;
 import io.camunda.zeebe.gateway.impl.job.ActivateJobsHandler;
-import io.camunda.zeebe.gateway.impl.stream.JobActivationProperties;
+import io.camunda.zeebe.gateway.impl.stream.StreamJobsHandler;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.ActivateJobsRequest;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.ActivateJobsResponse;
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.ActivatedJob;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.BroadcastSignalRequest;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.BroadcastSignalResponse;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.BrokerInfo;
@@ -27,6 +29,8 @@ import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.CancelProcessInstance
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.CancelProcessInstanceResponse;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.CompleteJobRequest;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.CompleteJobResponse;
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.CompleteJobsRequest;
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.CompleteJobsResponse;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.CreateProcessInstanceRequest;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.CreateProcessInstanceResponse;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.CreateProcessInstanceWithResultRequest;
@@ -41,6 +45,8 @@ import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.EvaluateDecisionReque
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.EvaluateDecisionResponse;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.FailJobRequest;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.FailJobResponse;
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.FailJobsRequest;
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.FailJobsResponse;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.ModifyProcessInstanceRequest;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.ModifyProcessInstanceResponse;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.Partition;
@@ -48,17 +54,22 @@ import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.Partition.PartitionBr
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.Partition.PartitionBrokerRole;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.PublishMessageRequest;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.PublishMessageResponse;
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.PublishMessagesRequest;
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.PublishMessagesResponse;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.ResolveIncidentRequest;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.ResolveIncidentResponse;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.SetVariablesRequest;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.SetVariablesResponse;
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.StreamActivatedJobsRequest;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.ThrowErrorRequest;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.ThrowErrorResponse;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.TopologyResponse;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.UpdateJobRetriesRequest;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.UpdateJobRetriesResponse;
-import io.camunda.zeebe.transport.stream.api.ClientStreamer;
+import io.camunda.zeebe.protocol.Protocol;
+import io.camunda.zeebe.protocol.impl.SubscriptionUtil;
 import io.camunda.zeebe.util.VersionUtil;
+import io.camunda.zeebe.util.buffer.BufferUtil;
 import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Set;
@@ -70,21 +81,20 @@ public final class EndpointManager {
   private final BrokerTopologyManager topologyManager;
   private final ActivateJobsHandler activateJobsHandler;
   private final RequestRetryHandler requestRetryHandler;
-
-  // TODO: actually make use of it
-  @SuppressWarnings({"FieldCanBeLocal", "unused"})
-  private final ClientStreamer<JobActivationProperties> jobStreamer;
+  private final StreamJobsHandler streamJobsHandler;
+  private final BatchRequestSender batchRequestSender;
 
   public EndpointManager(
       final BrokerClient brokerClient,
       final ActivateJobsHandler activateJobsHandler,
-      final ClientStreamer<JobActivationProperties> jobStreamer) {
+      final StreamJobsHandler streamJobsHandler) {
     this.brokerClient = brokerClient;
     this.activateJobsHandler = activateJobsHandler;
-    this.jobStreamer = jobStreamer;
+    this.streamJobsHandler = streamJobsHandler;
 
     topologyManager = brokerClient.getTopologyManager();
     requestRetryHandler = new RequestRetryHandler(brokerClient, topologyManager);
+    batchRequestSender = new BatchRequestSender(brokerClient);
   }
 
   private void addBrokerInfo(
@@ -167,6 +177,12 @@ public final class EndpointManager {
     activateJobsHandler.activateJobs(request, responseObserver);
   }
 
+  public void streamActivatedJobs(
+      final StreamActivatedJobsRequest request,
+      final ServerStreamObserver<ActivatedJob> responseObserver) {
+    streamJobsHandler.handle(request, responseObserver);
+  }
+
   public void cancelProcessInstance(
       final CancelProcessInstanceRequest request,
       final ServerStreamObserver<CancelProcessInstanceResponse> responseObserver) {
@@ -187,6 +203,18 @@ public final class EndpointManager {
         responseObserver);
   }
 
+  public void completeJobs(
+      final CompleteJobsRequest request,
+      final ServerStreamObserver<CompleteJobsResponse> responseObserver) {
+    batchRequestSender.sendRequests(
+        request.getJobsList(),
+        job -> Protocol.decodePartitionId(job.getJobKey()),
+        RequestMapper::toCompleteJobRequest,
+        (job, key, status) -> ResponseMapper.toJobCommandResult(job.getJobKey(), status),
+        ResponseMapper::toCompleteJobsResponse,
+        responseObserver);
+  }
+
   public void createProcessInstance(
       final CreateProcessInstanceRequest request,
       final ServerStreamObserver<CreateProcessInstanceResponse> responseObserver) {
@@ -257,6 +285,18 @@ public final class EndpointManager {
         responseObserver);
   }
 
+  public void failJobs(
+      final FailJobsRequest request,
+      final ServerStreamObserver<FailJobsResponse> responseObserver) {
+    batchRequestSender.sendRequests(
+        request.getJobsList(),
+        job -> Protocol.decodePartitionId(job.getJobKey()),
+        RequestMapper::toFailJobRequest,
+        (job, key, status) -> ResponseMapper.toJobCommandResult(job.getJobKey(), status),
+        ResponseMapper::toFailJobsResponse,
+        responseObserver);
+  }
+
   public void throwError(
       final ThrowErrorRequest request,
       final ServerStreamObserver<ThrowErrorResponse> responseObserver) {
@@ -278,6 +318,21 @@ public final class EndpointManager {
         responseObserver);
   }
 
+  public void publishMessages(
+      final PublishMessagesRequest request,
+      final ServerStreamObserver<PublishMessagesResponse> responseObserver) {
+    final var topology = topologyManager.getTopology();
+    final var partitionsCount = topology == null ? 0 : topology.getPartitionsCount();
+
+    batchRequestSender.sendRequests(
+        request.getMessagesList(),
+        message -> getMessagePartitionId(message, partitionsCount),
+        RequestMapper::toPublishMessageRequest,
+        ResponseMapper::toPublishMessageResult,
+        ResponseMapper::toPublishMessagesResponse,
+        responseObserver);
+  }
+
   public void resolveIncident(
       final ResolveIncidentRequest request,
       final ServerStreamObserver<ResolveIncidentResponse> responseObserver) {
@@ -435,6 +490,18 @@ public final class EndpointManager {
         timeout);
   }
 
+  private static int getMessagePartitionId(
+      final PublishMessageRequest message, final int partitionsCount) {
+    if (partitionsCount == 0) {
+      // the batch request sender fails the messages of this partition without sending them
+      return BrokerClusterState.PARTITION_ID_NULL;
+    }
+
+    // must match the partition picked by the broker client when sending the request
+    return SubscriptionUtil.getSubscriptionPartitionId(
+        BufferUtil.wrapString(message.getCorrelationKey()), partitionsCount);
+  }
+
   private <BrokerResponseT, GrpcResponseT> void consumeResponse(
       final BrokerResponseMapper<BrokerResponseT, GrpcResponseT> responseMapper,
       final ServerStreamObserver<GrpcResponseT> streamObserver,
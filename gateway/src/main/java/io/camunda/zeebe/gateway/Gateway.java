@@ -19,6 +19,7 @@ import io.camunda.zeebe.gateway.impl.job.ActivateJobsHandler;
 import io.camunda.zeebe.gateway.impl.job.LongPollingActivateJobsHandler;
 import io.camunda.zeebe.gateway.impl.job.RoundRobinActivateJobsHandler;
 import io.camunda.zeebe.gateway.impl.stream.JobActivationProperties;
+import io.camunda.zeebe.gateway.impl.stream.StreamJobsHandler;
 import io.camunda.zeebe.gateway.interceptors.impl.ContextInjectingInterceptor;
 import io.camunda.zeebe.gateway.interceptors.impl.DecoratedInterceptor;
 import io.camunda.zeebe.gateway.interceptors.impl.IdentityInterceptor;
@@ -96,14 +97,18 @@ public final class Gateway implements CloseableSilently {
     healthManager.setStatus(Status.STARTING);
 
     createAndStartActivateJobsHandler(brokerClient)
+        .thenCombine(
+            createAndStartStreamJobsHandler(),
+            (activateJobsHandler, streamJobsHandler) ->
+                new EndpointManager(brokerClient, activateJobsHandler, streamJobsHandler))
         .whenComplete(
-            (activateJobsHandler, error) -> {
+            (endpointManager, error) -> {
               if (error != null) {
                 resultFuture.completeExceptionally(error);
                 return;
               }
 
-              final var serverResult = createAndStartServer(activateJobsHandler);
+              final var serverResult = createAndStartServer(endpointManager);
               if (serverResult.isLeft()) {
                 final var exception = serverResult.getLeft();
                 resultFuture.completeExceptionally(exception);
@@ -117,10 +122,7 @@ public final class Gateway implements CloseableSilently {
     return resultFuture;
   }
 
-  private Either<Exception, Server> createAndStartServer(
-      final ActivateJobsHandler activateJobsHandler) {
-    final EndpointManager endpointManager =
-        new EndpointManager(brokerClient, activateJobsHandler, jobStreamer);
+  private Either<Exception, Server> createAndStartServer(final EndpointManager endpointManager) {
     final GatewayGrpcService gatewayGrpcService = new GatewayGrpcService(endpointManager);
 
     try {
@@ -225,16 +227,32 @@ public final class Gateway implements CloseableSilently {
     return future;
   }
 
+  private CompletableFuture<StreamJobsHandler> createAndStartStreamJobsHandler() {
+    final var handler = new StreamJobsHandler(jobStreamer);
+    final var future = new CompletableFuture<StreamJobsHandler>();
+    final var actor =
+        Actor.newActor()
+            .name("StreamJobsHandler")
+            .actorStartedHandler(handler.andThen(t -> future.complete(handler)))
+            .build();
+    actorSchedulingService.submitActor(actor);
+    return future;
+  }
+
   private ActivateJobsHandler buildActivateJobsHandler(final BrokerClient brokerClient) {
     if (gatewayCfg.getLongPolling().isEnabled()) {
       return buildLongPollingHandler(brokerClient);
     } else {
-      return new RoundRobinActivateJobsHandler(brokerClient);
+      return new RoundRobinActivateJobsHandler(
+          brokerClient, gatewayCfg.getJobActivation().getParallelism());
     }
   }
 
   private LongPollingActivateJobsHandler buildLongPollingHandler(final BrokerClient brokerClient) {
-    return LongPollingActivateJobsHandler.newBuilder().setBrokerClient(brokerClient).build();
+    return LongPollingActivateJobsHandler.newBuilder()
+        .setBrokerClient(brokerClient)
+        .setActivationParallelism(gatewayCfg.getJobActivation().getParallelism())
+        .build();
   }
 
   private ServerServiceDefinition applyInterceptors(final BindableService service) {
@@ -15,6 +15,7 @@ import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.ActivatedJob;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.BroadcastSignalResponse;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.CancelProcessInstanceResponse;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.CompleteJobResponse;
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.CompleteJobsResponse;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.CreateProcessInstanceResponse;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.CreateProcessInstanceWithResultResponse;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.DecisionMetadata;
@@ -27,10 +28,15 @@ import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.EvaluatedDecision;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.EvaluatedDecisionInput;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.EvaluatedDecisionOutput;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.FailJobResponse;
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.FailJobsResponse;
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.JobCommandResult;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.MatchedDecisionRule;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.ModifyProcessInstanceResponse;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.ProcessMetadata;
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.PublishMessageRequest;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.PublishMessageResponse;
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.PublishMessageResult;
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.PublishMessagesResponse;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.ResolveIncidentResponse;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.SetVariablesResponse;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.ThrowErrorResponse;
@@ -50,7 +56,9 @@ import io.camunda.zeebe.protocol.impl.record.value.resource.ResourceDeletionReco
 import io.camunda.zeebe.protocol.impl.record.value.signal.SignalRecord;
 import io.camunda.zeebe.protocol.impl.record.value.variable.VariableDocumentRecord;
 import io.camunda.zeebe.protocol.record.value.EvaluatedDecisionValue;
+import io.grpc.Status;
 import java.util.Iterator;
+import java.util.List;
 import org.agrona.DirectBuffer;
 
 public final class ResponseMapper {
@@ -122,6 +130,22 @@ public final class ResponseMapper {
     return PublishMessageResponse.newBuilder().setKey(key).build();
   }
 
+  public static PublishMessageResult toPublishMessageResult(
+      final PublishMessageRequest grpcRequest, final long key, final Status status) {
+    final var result =
+        PublishMessageResult.newBuilder().setKey(key).setCode(status.getCode().value());
+    if (status.getDescription() != null) {
+      result.setMessage(status.getDescription());
+    }
+
+    return result.build();
+  }
+
+  public static PublishMessagesResponse toPublishMessagesResponse(
+      final List<PublishMessageResult> results) {
+    return PublishMessagesResponse.newBuilder().addAllResults(results).build();
+  }
+
   public static UpdateJobRetriesResponse toUpdateJobRetriesResponse(
       final long key, final JobRecord brokerResponse) {
     return UpdateJobRetriesResponse.getDefaultInstance();
@@ -131,6 +155,20 @@ public final class ResponseMapper {
     return FailJobResponse.getDefaultInstance();
   }
 
+  public static FailJobsResponse toFailJobsResponse(final List<JobCommandResult> results) {
+    return FailJobsResponse.newBuilder().addAllResults(results).build();
+  }
+
+  public static JobCommandResult toJobCommandResult(final long jobKey, final Status status) {
+    final var result =
+        JobCommandResult.newBuilder().setJobKey(jobKey).setCode(status.getCode().value());
+    if (status.getDescription() != null) {
+      result.setMessage(status.getDescription());
+    }
+
+    return result.build();
+  }
+
   public static ThrowErrorResponse toThrowErrorResponse(
       final long key, final JobRecord brokerResponse) {
     return ThrowErrorResponse.getDefaultInstance();
@@ -141,6 +179,10 @@ public final class ResponseMapper {
     return CompleteJobResponse.getDefaultInstance();
   }
 
+  public static CompleteJobsResponse toCompleteJobsResponse(final List<JobCommandResult> results) {
+    return CompleteJobsResponse.newBuilder().addAllResults(results).build();
+  }
+
   public static CreateProcessInstanceResponse toCreateProcessInstanceResponse(
       final long key, final ProcessInstanceCreationRecord brokerResponse) {
     return CreateProcessInstanceResponse.newBuilder()
@@ -252,29 +294,30 @@ public final class ResponseMapper {
     while (jobKeys.hasNext() && jobs.hasNext()) {
       final LongValue jobKey = jobKeys.next();
       final JobRecord job = jobs.next();
-      final ActivatedJob activatedJob =
-          ActivatedJob.newBuilder()
-              .setKey(jobKey.getValue())
-              .setType(bufferAsString(job.getTypeBuffer()))
-              .setBpmnProcessId(job.getBpmnProcessId())
-              .setElementId(job.getElementId())
-              .setProcessInstanceKey(job.getProcessInstanceKey())
-              .setProcessDefinitionVersion(job.getProcessDefinitionVersion())
-              .setProcessDefinitionKey(job.getProcessDefinitionKey())
-              .setElementInstanceKey(job.getElementInstanceKey())
-              .setCustomHeaders(bufferAsJson(job.getCustomHeadersBuffer()))
-              .setWorker(bufferAsString(job.getWorkerBuffer()))
-              .setRetries(job.getRetries())
-              .setDeadline(job.getDeadline())
-              .setVariables(bufferAsJson(job.getVariablesBuffer()))
-              .build();
-
-      responseBuilder.addJobs(activatedJob);
+      responseBuilder.addJobs(toActivatedJob(jobKey.getValue(), job));
     }
 
     return responseBuilder.build();
   }
 
+  public static ActivatedJob toActivatedJob(final long key, final JobRecord job) {
+    return ActivatedJob.newBuilder()
+        .setKey(key)
+        .setType(bufferAsString(job.getTypeBuffer()))
+        .setBpmnProcessId(job.getBpmnProcessId())
+        .setElementId(job.getElementId())
+        .setProcessInstanceKey(job.getProcessInstanceKey())
+        .setProcessDefinitionVersion(job.getProcessDefinitionVersion())
+        .setProcessDefinitionKey(job.getProcessDefinitionKey())
+        .setElementInstanceKey(job.getElementInstanceKey())
+        .setCustomHeaders(bufferAsJson(job.getCustomHeadersBuffer()))
+        .setWorker(bufferAsString(job.getWorkerBuffer()))
+        .setRetries(job.getRetries())
+        .setDeadline(job.getDeadline())
+        .setVariables(bufferAsJson(job.getVariablesBuffer()))
+        .build();
+  }
+
   public static ResolveIncidentResponse toResolveIncidentResponse(
       final long key, final IncidentRecord incident) {
     return ResolveIncidentResponse.getDefaultInstance();
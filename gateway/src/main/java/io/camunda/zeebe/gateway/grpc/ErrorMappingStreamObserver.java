@@ -117,7 +117,11 @@ public final class ErrorMappingStreamObserver<GrpcResponseT>
 
   @Override
   public void setOnCancelHandler(final Runnable onCancelHandler) {
-    delegate.setOnCancelHandler(onCancelHandler);
+    delegate.setOnCancelHandler(
+        () -> {
+          onCancel();
+          onCancelHandler.run();
+        });
   }
 
   @Override
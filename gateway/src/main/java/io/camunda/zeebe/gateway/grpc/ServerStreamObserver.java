@@ -20,4 +20,16 @@ import io.grpc.stub.StreamObserver;
  */
 public interface ServerStreamObserver<GrpcResponseT> extends StreamObserver<GrpcResponseT> {
   boolean isCancelled();
+
+  /**
+   * Returns whether the call can accept more messages without buffering them. Long-lived streams
+   * should stop sending when this returns false, to respect the client's flow control.
+   */
+  boolean isReady();
+
+  /**
+   * Sets a handler which is called when the call is cancelled, e.g. when the client goes away. Must
+   * be set before the service method returns.
+   */
+  void setOnCancelHandler(Runnable onCancelHandler);
 }
@@ -0,0 +1,256 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.gateway.impl.broker;
+
+import io.camunda.zeebe.gateway.cmd.BrokerErrorException;
+import io.camunda.zeebe.gateway.cmd.BrokerRejectionException;
+import io.camunda.zeebe.gateway.cmd.NoTopologyAvailableException;
+import io.camunda.zeebe.gateway.grpc.GrpcErrorMapper;
+import io.camunda.zeebe.gateway.grpc.ServerStreamObserver;
+import io.camunda.zeebe.gateway.impl.broker.cluster.BrokerClusterState;
+import io.camunda.zeebe.gateway.impl.broker.request.BrokerCommandBatchRequest;
+import io.camunda.zeebe.gateway.impl.broker.request.BrokerExecuteCommand;
+import io.camunda.zeebe.gateway.impl.broker.response.BrokerResponse;
+import io.camunda.zeebe.protocol.impl.encoding.ExecuteCommandBatchRequest;
+import io.grpc.Status;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.Function;
+import java.util.function.ToIntFunction;
+
+/**
+ * Sends the requests of a batch call (e.g. {@code CompleteJobs}), and replies once all of them were
+ * answered, with one result per request, in request order.
+ *
+ * <p>The requests are grouped by their target partition, and the commands for the same partition
+ * are sent as a single {@link BrokerCommandBatchRequest}, which the broker appends to the log at
+ * once. A partition's commands are split over several batch requests only if there are more than
+ * {@link ExecuteCommandBatchRequest#MAX_COMMANDS} of them. At most {@code maxInFlightRequests}
+ * batch requests are sent at once; the next one is sent whenever one is answered. A request which
+ * cannot be mapped or is rejected only fails its own result, not the whole call.
+ */
+public final class BatchRequestSender {
+
+  public static final long NO_KEY = -1L;
+
+  /** The maximum number of requests of a single batch call. */
+  public static final int MAX_REQUESTS_PER_CALL = 1000;
+
+  /** The default maximum number of broker requests of a single batch call sent at once. */
+  public static final int DEFAULT_MAX_IN_FLIGHT_REQUESTS = 32;
+
+  private static final GrpcErrorMapper ERROR_MAPPER = new GrpcErrorMapper();
+
+  private final BrokerClient brokerClient;
+  private final int maxInFlightRequests;
+
+  public BatchRequestSender(final BrokerClient brokerClient) {
+    this(brokerClient, DEFAULT_MAX_IN_FLIGHT_REQUESTS);
+  }
+
+  public BatchRequestSender(final BrokerClient brokerClient, final int maxInFlightRequests) {
+    if (maxInFlightRequests < 1) {
+      throw new IllegalArgumentException(
+          "Expected the maximum number of in-flight requests to be at least 1, but was "
+              + maxInFlightRequests);
+    }
+
+    this.brokerClient = brokerClient;
+    this.maxInFlightRequests = maxInFlightRequests;
+  }
+
+  public <GrpcRequestT, ResultT, GrpcResponseT> void sendRequests(
+      final List<GrpcRequestT> grpcRequests,
+      final ToIntFunction<GrpcRequestT> partitionIdMapper,
+      final Function<GrpcRequestT, BrokerExecuteCommand<?>> requestMapper,
+      final ResultMapper<GrpcRequestT, ResultT> resultMapper,
+      final Function<List<ResultT>, GrpcResponseT> responseMapper,
+      final ServerStreamObserver<GrpcResponseT> responseObserver) {
+    if (grpcRequests.size() > MAX_REQUESTS_PER_CALL) {
+      responseObserver.onError(
+          new IllegalArgumentException(
+              String.format(
+                  "Expected to send at most %d requests with a single call, but got %d",
+                  MAX_REQUESTS_PER_CALL, grpcRequests.size())));
+      return;
+    }
+
+    if (grpcRequests.isEmpty()) {
+      responseObserver.onNext(responseMapper.apply(List.of()));
+      responseObserver.onCompleted();
+      return;
+    }
+
+    final var batch =
+        new PendingBatch<>(grpcRequests, resultMapper, responseMapper, responseObserver);
+
+    // map all requests up front, such that requests which cannot be mapped are answered right
+    // away and only the valid ones are sent to the brokers
+    for (final var partition : groupByPartition(grpcRequests, partitionIdMapper).entrySet()) {
+      final int partitionId = partition.getKey();
+      if (partitionId == BrokerClusterState.PARTITION_ID_NULL) {
+        final var error = new NoTopologyAvailableException();
+        partition.getValue().forEach(index -> batch.complete(index, NO_KEY, toStatus(error)));
+        continue;
+      }
+
+      PendingRequest pendingRequest = null;
+      for (final var index : partition.getValue()) {
+        final BrokerExecuteCommand<?> command;
+        try {
+          command = requestMapper.apply(grpcRequests.get(index));
+        } catch (final Exception e) {
+          batch.complete(index, NO_KEY, toStatus(e));
+          continue;
+        }
+
+        if (pendingRequest == null || pendingRequest.isFull()) {
+          pendingRequest = new PendingRequest(partitionId);
+          batch.enqueue(pendingRequest);
+        }
+        pendingRequest.add(index, command);
+      }
+    }
+
+    for (int i = 0; i < maxInFlightRequests; i++) {
+      batch.sendNext();
+    }
+  }
+
+  private <GrpcRequestT> Map<Integer, List<Integer>> groupByPartition(
+      final List<GrpcRequestT> grpcRequests, final ToIntFunction<GrpcRequestT> partitionIdMapper) {
+    final Map<Integer, List<Integer>> partitions = new LinkedHashMap<>();
+    for (int i = 0; i < grpcRequests.size(); i++) {
+      final var partitionId = partitionIdMapper.applyAsInt(grpcRequests.get(i));
+      partitions.computeIfAbsent(partitionId, ignored -> new ArrayList<>()).add(i);
+    }
+
+    return partitions;
+  }
+
+  private static Status toStatus(final Throwable error) {
+    return ERROR_MAPPER.mapError(error).getStatus();
+  }
+
+  /** Maps the outcome of a single request of the batch to its result. */
+  @FunctionalInterface
+  public interface ResultMapper<GrpcRequestT, ResultT> {
+
+    /**
+     * @param grpcRequest the request of the batch
+     * @param key the key of the record returned by the broker, or {@link #NO_KEY} if it failed
+     * @param status {@link Status#OK} if the request was applied, otherwise the status it would
+     *     have failed with if sent on its own
+     */
+    ResultT toResult(GrpcRequestT grpcRequest, long key, Status status);
+  }
+
+  /** The commands for a single partition, and the indexes of the requests they were mapped from. */
+  private static final class PendingRequest {
+    private final BrokerCommandBatchRequest brokerRequest;
+    private final List<Integer> indexes = new ArrayList<>();
+
+    private PendingRequest(final int partitionId) {
+      brokerRequest = new BrokerCommandBatchRequest(partitionId);
+    }
+
+    private boolean isFull() {
+      return indexes.size() >= ExecuteCommandBatchRequest.MAX_COMMANDS;
+    }
+
+    private void add(final int index, final BrokerExecuteCommand<?> command) {
+      brokerRequest.addCommand(command);
+      indexes.add(index);
+    }
+  }
+
+  /**
+   * The state of a single batch call. Requests are answered from the broker client's actor, so the
+   * results are collected through atomics; the last answer replies to the call.
+   */
+  private final class PendingBatch<GrpcRequestT, ResultT, GrpcResponseT> {
+    private final List<GrpcRequestT> grpcRequests;
+    private final AtomicReferenceArray<ResultT> results;
+    private final AtomicInteger pendingResults;
+    private final List<PendingRequest> requests = new ArrayList<>();
+    private final AtomicInteger nextRequest = new AtomicInteger();
+    private final ResultMapper<GrpcRequestT, ResultT> resultMapper;
+    private final Function<List<ResultT>, GrpcResponseT> responseMapper;
+    private final ServerStreamObserver<GrpcResponseT> responseObserver;
+
+    private PendingBatch(
+        final List<GrpcRequestT> grpcRequests,
+        final ResultMapper<GrpcRequestT, ResultT> resultMapper,
+        final Function<List<ResultT>, GrpcResponseT> responseMapper,
+        final ServerStreamObserver<GrpcResponseT> responseObserver) {
+      this.grpcRequests = grpcRequests;
+      results = new AtomicReferenceArray<>(grpcRequests.size());
+      pendingResults = new AtomicInteger(grpcRequests.size());
+      this.resultMapper = resultMapper;
+      this.responseMapper = responseMapper;
+      this.responseObserver = responseObserver;
+    }
+
+    private void enqueue(final PendingRequest request) {
+      requests.add(request);
+    }
+
+    private void sendNext() {
+      final var next = nextRequest.getAndIncrement();
+      if (next >= requests.size()) {
+        return;
+      }
+
+      final var request = requests.get(next);
+      brokerClient.sendRequestWithRetry(
+          request.brokerRequest,
+          (key, responses) -> {
+            for (int i = 0; i < responses.size(); i++) {
+              complete(request.indexes.get(i), responses.get(i));
+            }
+            sendNext();
+          },
+          error -> {
+            final var status = toStatus(error);
+            request.indexes.forEach(index -> complete(index, NO_KEY, status));
+            sendNext();
+          });
+    }
+
+    private void complete(final int index, final BrokerResponse<?> response) {
+      if (response.isResponse()) {
+        complete(index, response.getKey(), Status.OK);
+      } else if (response.isRejection()) {
+        complete(index, NO_KEY, toStatus(new BrokerRejectionException(response.getRejection())));
+      } else {
+        complete(index, NO_KEY, toStatus(new BrokerErrorException(response.getError())));
+      }
+    }
+
+    private void complete(final int index, final long key, final Status status) {
+      results.set(index, resultMapper.toResult(grpcRequests.get(index), key, status));
+      if (pendingResults.decrementAndGet() == 0) {
+        responseObserver.onNext(responseMapper.apply(toList()));
+        responseObserver.onCompleted();
+      }
+    }
+
+    private List<ResultT> toList() {
+      final var list = new ArrayList<ResultT>(results.length());
+      for (int i = 0; i < results.length(); i++) {
+        list.add(results.get(i));
+      }
+
+      return list;
+    }
+  }
+}
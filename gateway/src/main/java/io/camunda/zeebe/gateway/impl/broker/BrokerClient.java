@@ -13,6 +13,7 @@ import io.camunda.zeebe.gateway.impl.broker.response.BrokerResponse;
 import io.camunda.zeebe.scheduler.future.ActorFuture;
 import java.time.Duration;
 import java.util.Collection;
+import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
 import java.util.function.Consumer;
 
@@ -93,5 +94,12 @@ public interface BrokerClient extends AutoCloseable {
 
   BrokerTopologyManager getTopologyManager();
 
+  /**
+   * @return the load-aware strategy used to pick a partition for requests which can be processed by
+   *     any partition, if it is enabled; it is informed about the load of each partition by the
+   *     responses of the requests sent through this client, so it must be shared by all users
+   */
+  Optional<RequestDispatchStrategy> getLoadAwareDispatchStrategy();
+
   void subscribeJobAvailableNotification(String topic, Consumer<String> handler);
 }
@@ -22,6 +22,7 @@ import io.camunda.zeebe.transport.impl.AtomixClientTransportAdapter;
 import java.time.Duration;
 import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
 import java.util.function.Consumer;
 import org.slf4j.Logger;
@@ -31,6 +32,7 @@ public final class BrokerClientImpl implements BrokerClient {
 
   private final BrokerTopologyManagerImpl topologyManager;
   private final BrokerRequestManager requestManager;
+  private final LoadAwareDispatchStrategy loadAwareDispatchStrategy;
   private boolean isClosed;
   private Subscription jobAvailableSubscription;
   private final ClusterEventService eventService;
@@ -43,6 +45,27 @@ public final class BrokerClientImpl implements BrokerClient {
       final ClusterMembershipService membershipService,
       final ClusterEventService eventService,
       final ActorSchedulingService schedulingService) {
+    this(
+        requestTimeout,
+        messagingService,
+        membershipService,
+        eventService,
+        schedulingService,
+        false);
+  }
+
+  /**
+   * @param loadAwareDispatchEnabled if true, requests which can be processed by any partition avoid
+   *     slow and backpressured partitions, see {@link LoadAwareDispatchStrategy}; otherwise, their
+   *     partition is picked round-robin
+   */
+  public BrokerClientImpl(
+      final Duration requestTimeout,
+      final MessagingService messagingService,
+      final ClusterMembershipService membershipService,
+      final ClusterEventService eventService,
+      final ActorSchedulingService schedulingService,
+      final boolean loadAwareDispatchEnabled) {
     this.eventService = eventService;
     this.schedulingService = schedulingService;
 
@@ -50,11 +73,15 @@ public final class BrokerClientImpl implements BrokerClient {
     membershipService.addListener(topologyManager);
 
     atomixTransportAdapter = new AtomixClientTransportAdapter(messagingService);
+    loadAwareDispatchStrategy =
+        loadAwareDispatchEnabled ? new LoadAwareDispatchStrategy(topologyManager) : null;
     requestManager =
         new BrokerRequestManager(
             atomixTransportAdapter,
             topologyManager,
-            new RoundRobinDispatchStrategy(topologyManager),
+            loadAwareDispatchEnabled
+                ? loadAwareDispatchStrategy
+                : new RoundRobinDispatchStrategy(topologyManager),
             requestTimeout);
   }
 
@@ -131,6 +158,11 @@ public final class BrokerClientImpl implements BrokerClient {
     return topologyManager;
   }
 
+  @Override
+  public Optional<RequestDispatchStrategy> getLoadAwareDispatchStrategy() {
+    return Optional.ofNullable(loadAwareDispatchStrategy);
+  }
+
   @Override
   public void subscribeJobAvailableNotification(
       final String topic, final Consumer<String> handler) {
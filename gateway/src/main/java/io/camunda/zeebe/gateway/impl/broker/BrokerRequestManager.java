@@ -17,8 +17,15 @@ import io.camunda.zeebe.gateway.cmd.PartitionNotFoundException;
 import io.camunda.zeebe.gateway.impl.ErrorResponseHandler;
 import io.camunda.zeebe.gateway.impl.broker.cluster.BrokerClusterState;
 import io.camunda.zeebe.gateway.impl.broker.cluster.BrokerTopologyManagerImpl;
+import io.camunda.zeebe.gateway.impl.broker.request.BrokerCompleteJobRequest;
+import io.camunda.zeebe.gateway.impl.broker.request.BrokerCreateProcessInstanceRequest;
+import io.camunda.zeebe.gateway.impl.broker.request.BrokerFailJobRequest;
 import io.camunda.zeebe.gateway.impl.broker.request.BrokerPublishMessageRequest;
 import io.camunda.zeebe.gateway.impl.broker.request.BrokerRequest;
+import io.camunda.zeebe.gateway.impl.broker.request.BrokerResolveIncidentRequest;
+import io.camunda.zeebe.gateway.impl.broker.request.BrokerSetVariablesRequest;
+import io.camunda.zeebe.gateway.impl.broker.request.BrokerThrowErrorRequest;
+import io.camunda.zeebe.gateway.impl.broker.request.BrokerUpdateJobRetriesRequest;
 import io.camunda.zeebe.gateway.impl.broker.response.BrokerResponse;
 import io.camunda.zeebe.gateway.metrics.GatewayMetrics;
 import io.camunda.zeebe.protocol.Protocol;
@@ -31,6 +38,7 @@ import io.camunda.zeebe.transport.ClientRequest;
 import io.camunda.zeebe.transport.ClientTransport;
 import io.camunda.zeebe.util.buffer.BufferUtil;
 import java.time.Duration;
+import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.TimeoutException;
 import java.util.function.Supplier;
@@ -42,6 +50,23 @@ final class BrokerRequestManager extends Actor {
   private static final TransportRequestSender SENDER_WITH_RETRY =
       (c, s, r, t) -> c.sendRequestWithRetry(s, BrokerRequestManager::responseValidation, r, t);
   private static final TransportRequestSender SENDER_WITHOUT_RETRY = ClientTransport::sendRequest;
+
+  /**
+   * The requests whose latency is reported to the dispatch strategy. These are answered as soon as
+   * the partition processed them, so their latency reflects the load of the partition. Others, like
+   * a process instance creation awaiting the result or a job activation, may take arbitrarily long.
+   */
+  private static final Set<Class<?>> SHORT_REQUEST_TYPES =
+      Set.of(
+          BrokerCreateProcessInstanceRequest.class,
+          BrokerPublishMessageRequest.class,
+          BrokerCompleteJobRequest.class,
+          BrokerFailJobRequest.class,
+          BrokerThrowErrorRequest.class,
+          BrokerUpdateJobRetriesRequest.class,
+          BrokerSetVariablesRequest.class,
+          BrokerResolveIncidentRequest.class);
+
   private final ClientTransport clientTransport;
   private final RequestDispatchStrategy dispatchStrategy;
   private final BrokerTopologyManagerImpl topologyManager;
@@ -145,6 +170,9 @@ final class BrokerRequestManager extends Actor {
                 final long elapsedTime = System.currentTimeMillis() - startTime;
                 GatewayMetrics.registerSuccessfulRequest(
                     request.getPartitionId(), request.getType(), elapsedTime);
+                if (request.addressesSpecificPartition() && isShortRequest(request)) {
+                  dispatchStrategy.onRequestProcessed(request.getPartitionId(), elapsedTime);
+                }
                 return;
               }
             } else {
@@ -158,9 +186,16 @@ final class BrokerRequestManager extends Actor {
         });
   }
 
+  static boolean isShortRequest(final BrokerRequest<?> request) {
+    return SHORT_REQUEST_TYPES.contains(request.getClass());
+  }
+
   private <T> void registerFailure(
       final BrokerRequest<T> request, final RequestResult result, final Throwable error) {
     if (result != null && result.getErrorCode() == ErrorCode.RESOURCE_EXHAUSTED) {
+      if (request.addressesSpecificPartition()) {
+        dispatchStrategy.onRequestBackpressured(request.getPartitionId());
+      }
       return;
     }
     final String code;
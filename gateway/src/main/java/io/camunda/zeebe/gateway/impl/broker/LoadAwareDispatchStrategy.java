@@ -0,0 +1,158 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.gateway.impl.broker;
+
+import io.camunda.zeebe.gateway.impl.broker.cluster.BrokerClusterState;
+import io.camunda.zeebe.gateway.impl.broker.cluster.BrokerTopologyManager;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.LongSupplier;
+
+/**
+ * A round-robin strategy which avoids partitions that are currently slower or under backpressure.
+ *
+ * <p>For every pick, the next partition in round-robin order is compared with an alternative
+ * partition, and the less loaded one is returned. A partition is considered more loaded if it
+ * refused a request due to backpressure recently, or if its average latency is significantly higher
+ * than the other one's. When there is no recent load information, or both partitions are equally
+ * loaded, the round-robin partition is returned, i.e. the strategy behaves exactly like {@link
+ * RoundRobinDispatchStrategy}.
+ *
+ * <p>The alternative of a partition rotates through all other partitions with each round, such that
+ * the share of an avoided partition is spread evenly over the other partitions, instead of doubling
+ * the load of its round-robin successor. For example, with four partitions of which the second one
+ * is slow, its picks go to the fourth, first and third partition in turn, so each of them receives
+ * a third of the requests.
+ *
+ * <p>Load information expires after a while, such that a partition which is avoided and thus does
+ * not receive requests anymore is eventually tried again.
+ */
+public final class LoadAwareDispatchStrategy implements RequestDispatchStrategy {
+
+  static final Duration BACKPRESSURE_WINDOW = Duration.ofSeconds(1);
+  static final Duration LATENCY_EXPIRY = Duration.ofSeconds(10);
+
+  /** How much slower a partition must be to be avoided; prevents flapping on small variations. */
+  private static final double LATENCY_THRESHOLD = 1.5;
+
+  /** Weight of the newest sample in the moving average. */
+  private static final double LATENCY_SMOOTHING = 0.2;
+
+  private final BrokerTopologyManager topologyManager;
+  private final LongSupplier clock;
+  private final AtomicInteger partitions = new AtomicInteger(0);
+  private final Map<Integer, PartitionLoad> loads = new ConcurrentHashMap<>();
+
+  public LoadAwareDispatchStrategy(final BrokerTopologyManager topologyManager) {
+    this(topologyManager, System::currentTimeMillis);
+  }
+
+  LoadAwareDispatchStrategy(final BrokerTopologyManager topologyManager, final LongSupplier clock) {
+    this.topologyManager = topologyManager;
+    this.clock = clock;
+  }
+
+  @Override
+  public int determinePartition() {
+    final BrokerClusterState topology = topologyManager.getTopology();
+
+    if (topology != null) {
+      final int partitionsCount = topology.getPartitionsCount();
+      for (int i = 0; i < partitionsCount; i++) {
+        final int offset = partitions.getAndIncrement();
+        final int partition = topology.getPartition(offset);
+        if (!hasLeader(topology, partition)) {
+          continue;
+        }
+
+        if (partitionsCount < 2) {
+          return partition;
+        }
+
+        // the offset of a partition advances by partitionsCount per round, which shifts the
+        // remainder by one, so the alternative rotates through all other partitions
+        final int alternative =
+            topology.getPartition(offset + 1 + Math.floorMod(offset, partitionsCount - 1));
+        if (alternative != partition
+            && hasLeader(topology, alternative)
+            && isLessLoaded(alternative, partition)) {
+          return alternative;
+        }
+
+        return partition;
+      }
+    }
+
+    return BrokerClusterState.PARTITION_ID_NULL;
+  }
+
+  @Override
+  public void onRequestProcessed(final int partitionId, final long latencyMillis) {
+    loads.computeIfAbsent(partitionId, id -> new PartitionLoad()).onLatency(latencyMillis);
+  }
+
+  @Override
+  public void onRequestBackpressured(final int partitionId) {
+    loads.computeIfAbsent(partitionId, id -> new PartitionLoad()).onBackpressure();
+  }
+
+  private boolean isLessLoaded(final int partition, final int other) {
+    final long now = clock.getAsLong();
+    final var load = loads.get(partition);
+    final var otherLoad = loads.get(other);
+
+    final boolean isBackpressured = load != null && load.isBackpressured(now);
+    final boolean isOtherBackpressured = otherLoad != null && otherLoad.isBackpressured(now);
+    if (isBackpressured != isOtherBackpressured) {
+      return isOtherBackpressured;
+    }
+
+    if (load == null || otherLoad == null || !load.hasLatency(now) || !otherLoad.hasLatency(now)) {
+      return false;
+    }
+
+    return load.latency * LATENCY_THRESHOLD < otherLoad.latency;
+  }
+
+  private static boolean hasLeader(final BrokerClusterState topology, final int partition) {
+    return topology.getLeaderForPartition(partition) != BrokerClusterState.NODE_ID_NULL;
+  }
+
+  /**
+   * Only updated by the request manager actor, but read concurrently by any thread picking a
+   * partition; a slightly stale read only affects a single pick.
+   */
+  private final class PartitionLoad {
+    private volatile double latency = -1;
+    private volatile long lastLatencyUpdate;
+    private volatile long lastBackpressure = Long.MIN_VALUE;
+
+    private void onLatency(final long latencyMillis) {
+      latency =
+          latency < 0
+              ? latencyMillis
+              : LATENCY_SMOOTHING * latencyMillis + (1 - LATENCY_SMOOTHING) * latency;
+      lastLatencyUpdate = clock.getAsLong();
+    }
+
+    private void onBackpressure() {
+      lastBackpressure = clock.getAsLong();
+    }
+
+    private boolean isBackpressured(final long now) {
+      return lastBackpressure != Long.MIN_VALUE
+          && now - lastBackpressure < BACKPRESSURE_WINDOW.toMillis();
+    }
+
+    private boolean hasLatency(final long now) {
+      return latency >= 0 && now - lastLatencyUpdate < LATENCY_EXPIRY.toMillis();
+    }
+  }
+}
@@ -16,4 +16,21 @@ public interface RequestDispatchStrategy {
    * @return {@link BrokerClusterState#PARTITION_ID_NULL} if no partition can be determined
    */
   int determinePartition();
+
+  /**
+   * Called whenever a partition processed a request, i.e. accepted or rejected it. Only requests
+   * which are answered as soon as they were processed are reported, as the latency of long-running
+   * requests (e.g. awaiting a process instance's result) does not reflect the partition's load.
+   *
+   * @param partitionId the partition which processed the request
+   * @param latencyMillis the time between sending the request and receiving the response
+   */
+  default void onRequestProcessed(final int partitionId, final long latencyMillis) {}
+
+  /**
+   * Called whenever a partition refused a request due to backpressure.
+   *
+   * @param partitionId the partition which refused the request
+   */
+  default void onRequestBackpressured(final int partitionId) {}
 }
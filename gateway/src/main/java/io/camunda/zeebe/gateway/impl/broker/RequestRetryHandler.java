@@ -30,13 +30,16 @@ import java.util.function.Function;
 public final class RequestRetryHandler {
 
   private final BrokerClient brokerClient;
-  private final RequestDispatchStrategy roundRobinDispatchStrategy;
+  private final RequestDispatchStrategy dispatchStrategy;
   private final BrokerTopologyManager topologyManager;
 
   public RequestRetryHandler(
       final BrokerClient brokerClient, final BrokerTopologyManager topologyManager) {
     this.brokerClient = brokerClient;
-    roundRobinDispatchStrategy = new RoundRobinDispatchStrategy(topologyManager);
+    dispatchStrategy =
+        brokerClient
+            .getLoadAwareDispatchStrategy()
+            .orElseGet(() -> new RoundRobinDispatchStrategy(topologyManager));
     this.topologyManager = topologyManager;
   }
 
@@ -140,7 +143,7 @@ public final class RequestRetryHandler {
   }
 
   private PartitionIdIterator partitionIdIteratorForType(final int partitionsCount) {
-    final int nextPartitionId = roundRobinDispatchStrategy.determinePartition();
+    final int nextPartitionId = dispatchStrategy.determinePartition();
     return new PartitionIdIterator(nextPartitionId, partitionsCount, topologyManager);
   }
 }
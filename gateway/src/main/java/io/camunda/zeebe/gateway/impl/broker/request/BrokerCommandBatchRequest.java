@@ -0,0 +1,152 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.gateway.impl.broker.request;
+
+import io.camunda.zeebe.gateway.cmd.IllegalBrokerResponseException;
+import io.camunda.zeebe.gateway.impl.broker.response.BrokerResponse;
+import io.camunda.zeebe.protocol.impl.encoding.ExecuteCommandBatchRequest;
+import io.camunda.zeebe.protocol.impl.encoding.ExecuteCommandBatchResponse;
+import io.camunda.zeebe.protocol.record.ExecuteCommandBatchResponseDecoder;
+import io.camunda.zeebe.transport.RequestType;
+import io.camunda.zeebe.util.buffer.BufferWriter;
+import java.util.ArrayList;
+import java.util.List;
+import org.agrona.DirectBuffer;
+import org.agrona.MutableDirectBuffer;
+
+/**
+ * Sends several commands for the same partition as a single request, which the broker appends to
+ * the log at once. The response contains the response of each command, in the order of the
+ * commands; a command which is rejected or fails does not fail the other commands.
+ */
+public final class BrokerCommandBatchRequest extends BrokerRequest<List<BrokerResponse<?>>> {
+
+  private final ExecuteCommandBatchRequest request = new ExecuteCommandBatchRequest();
+  private final ExecuteCommandBatchResponse response = new ExecuteCommandBatchResponse();
+  private final List<BrokerExecuteCommand<?>> commands = new ArrayList<>();
+
+  public BrokerCommandBatchRequest(final int partitionId) {
+    super(
+        ExecuteCommandBatchResponseDecoder.SCHEMA_ID,
+        ExecuteCommandBatchResponseDecoder.TEMPLATE_ID);
+    request.setPartitionId(partitionId);
+  }
+
+  /**
+   * @throws IllegalStateException if the batch already contains {@link
+   *     ExecuteCommandBatchRequest#MAX_COMMANDS} commands
+   */
+  public BrokerCommandBatchRequest addCommand(final BrokerExecuteCommand<?> command) {
+    if (commands.size() >= ExecuteCommandBatchRequest.MAX_COMMANDS) {
+      throw new IllegalStateException(
+          "Expected to add at most "
+              + ExecuteCommandBatchRequest.MAX_COMMANDS
+              + " commands to a batch, but it is full");
+    }
+
+    command.setPartitionId(getPartitionId());
+    commands.add(command);
+    return this;
+  }
+
+  public List<BrokerExecuteCommand<?>> getCommands() {
+    return commands;
+  }
+
+  @Override
+  public int getPartitionId() {
+    return request.getPartitionId();
+  }
+
+  @Override
+  public void setPartitionId(final int partitionId) {
+    request.setPartitionId(partitionId);
+    commands.forEach(command -> command.setPartitionId(partitionId));
+  }
+
+  @Override
+  public boolean addressesSpecificPartition() {
+    return true;
+  }
+
+  @Override
+  public boolean requiresPartitionId() {
+    return true;
+  }
+
+  /**
+   * @return null, as the value of each command is serialized by the command itself
+   */
+  @Override
+  public BufferWriter getRequestWriter() {
+    return null;
+  }
+
+  @Override
+  public void serializeValue() {
+    final var partitionId = request.getPartitionId();
+    request.reset().setPartitionId(partitionId);
+    for (final var command : commands) {
+      command.serializeValue();
+      request.addCommand(command);
+    }
+  }
+
+  @Override
+  protected void setSerializedValue(final DirectBuffer buffer) {
+    throw new UnsupportedOperationException();
+  }
+
+  @Override
+  protected void wrapResponse(final DirectBuffer buffer) {
+    response.wrap(buffer, 0, buffer.capacity());
+  }
+
+  @Override
+  protected BrokerResponse<List<BrokerResponse<?>>> readResponse() {
+    final var responses = response.getResponses();
+    if (responses.size() != commands.size()) {
+      throw new IllegalBrokerResponseException(
+          String.format(
+              "Expected a response for each of the %d commands of the batch, but got %d",
+              commands.size(), responses.size()));
+    }
+
+    final var commandResponses = new ArrayList<BrokerResponse<?>>(responses.size());
+    for (int i = 0; i < responses.size(); i++) {
+      commandResponses.add(commands.get(i).getResponse(responses.get(i)));
+    }
+
+    return new BrokerResponse<>(commandResponses, response.getPartitionId(), -1);
+  }
+
+  @Override
+  protected List<BrokerResponse<?>> toResponseDto(final DirectBuffer buffer) {
+    throw new UnsupportedOperationException();
+  }
+
+  @Override
+  public String getType() {
+    return commands.isEmpty() ? "Batch" : "Batch#" + commands.get(0).getType();
+  }
+
+  @Override
+  public RequestType getRequestType() {
+    return RequestType.COMMAND;
+  }
+
+  @Override
+  public int getLength() {
+    return request.getLength();
+  }
+
+  @Override
+  public void write(final MutableDirectBuffer buffer, final int offset) {
+    request.write(buffer, offset);
+  }
+}
@@ -14,6 +14,7 @@ import static io.camunda.zeebe.gateway.impl.configuration.ConfigurationDefaults.
 import static io.camunda.zeebe.gateway.impl.configuration.ConfigurationDefaults.DEFAULT_CLUSTER_PORT;
 import static io.camunda.zeebe.gateway.impl.configuration.ConfigurationDefaults.DEFAULT_CONTACT_POINT_HOST;
 import static io.camunda.zeebe.gateway.impl.configuration.ConfigurationDefaults.DEFAULT_CONTACT_POINT_PORT;
+import static io.camunda.zeebe.gateway.impl.configuration.ConfigurationDefaults.DEFAULT_LOAD_AWARE_DISPATCH_ENABLED;
 import static io.camunda.zeebe.gateway.impl.configuration.ConfigurationDefaults.DEFAULT_REQUEST_TIMEOUT;
 import static io.camunda.zeebe.util.StringUtil.LIST_SANITIZER;
 
@@ -29,6 +30,7 @@ public final class ClusterCfg {
   private List<String> initialContactPoints =
       Collections.singletonList(DEFAULT_CONTACT_POINT_HOST + ":" + DEFAULT_CONTACT_POINT_PORT);
   private Duration requestTimeout = DEFAULT_REQUEST_TIMEOUT;
+  private boolean loadAwareDispatchEnabled = DEFAULT_LOAD_AWARE_DISPATCH_ENABLED;
   private String clusterName = DEFAULT_CLUSTER_NAME;
   private String memberId = DEFAULT_CLUSTER_MEMBER_ID;
   private String host = DEFAULT_CLUSTER_HOST;
@@ -101,6 +103,15 @@ public final class ClusterCfg {
     return this;
   }
 
+  public boolean isLoadAwareDispatchEnabled() {
+    return loadAwareDispatchEnabled;
+  }
+
+  public ClusterCfg setLoadAwareDispatchEnabled(final boolean loadAwareDispatchEnabled) {
+    this.loadAwareDispatchEnabled = loadAwareDispatchEnabled;
+    return this;
+  }
+
   public String getClusterName() {
     return clusterName;
   }
@@ -149,6 +160,7 @@ public final class ClusterCfg {
     return Objects.hash(
         initialContactPoints,
         requestTimeout,
+        loadAwareDispatchEnabled,
         clusterName,
         memberId,
         host,
@@ -170,6 +182,7 @@ public final class ClusterCfg {
     return port == that.port
         && Objects.equals(initialContactPoints, that.initialContactPoints)
         && Objects.equals(requestTimeout, that.requestTimeout)
+        && loadAwareDispatchEnabled == that.loadAwareDispatchEnabled
         && Objects.equals(clusterName, that.clusterName)
         && Objects.equals(memberId, that.memberId)
         && Objects.equals(host, that.host)
@@ -185,6 +198,8 @@ public final class ClusterCfg {
         + initialContactPoints
         + ", requestTimeout="
         + requestTimeout
+        + ", loadAwareDispatchEnabled="
+        + loadAwareDispatchEnabled
         + ", clusterName='"
         + clusterName
         + '\''
@@ -0,0 +1,48 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.gateway.impl.configuration;
+
+import static io.camunda.zeebe.gateway.impl.configuration.ConfigurationDefaults.DEFAULT_JOB_ACTIVATION_PARALLELISM;
+
+import java.util.Objects;
+
+public final class JobActivationCfg {
+
+  private int parallelism = DEFAULT_JOB_ACTIVATION_PARALLELISM;
+
+  public int getParallelism() {
+    return parallelism;
+  }
+
+  public JobActivationCfg setParallelism(final int parallelism) {
+    this.parallelism = parallelism;
+    return this;
+  }
+
+  @Override
+  public int hashCode() {
+    return Objects.hash(parallelism);
+  }
+
+  @Override
+  public boolean equals(final Object o) {
+    if (this == o) {
+      return true;
+    }
+    if (o == null || getClass() != o.getClass()) {
+      return false;
+    }
+    final JobActivationCfg that = (JobActivationCfg) o;
+    return parallelism == that.parallelism;
+  }
+
+  @Override
+  public String toString() {
+    return "JobActivationCfg{" + "parallelism=" + parallelism + '}';
+  }
+}
@@ -58,9 +58,10 @@ public final class LongPollingActivateJobsHandler implements ActivateJobsHandler
       final BrokerClient brokerClient,
       final long longPollingTimeout,
       final long probeTimeoutMillis,
-      final int failedAttemptThreshold) {
+      final int failedAttemptThreshold,
+      final int activationParallelism) {
     this.brokerClient = brokerClient;
-    activateJobsHandler = new RoundRobinActivateJobsHandler(brokerClient);
+    activateJobsHandler = new RoundRobinActivateJobsHandler(brokerClient, activationParallelism);
     this.longPollingTimeout = Duration.ofMillis(longPollingTimeout);
     this.probeTimeoutMillis = probeTimeoutMillis;
     this.failedAttemptThreshold = failedAttemptThreshold;
@@ -307,6 +308,7 @@ public final class LongPollingActivateJobsHandler implements ActivateJobsHandler
     private long longPollingTimeout = DEFAULT_LONG_POLLING_TIMEOUT;
     private long probeTimeoutMillis = DEFAULT_PROBE_TIMEOUT;
     private int minEmptyResponses = EMPTY_RESPONSE_THRESHOLD;
+    private int activationParallelism = 1;
 
     public Builder setBrokerClient(final BrokerClient brokerClient) {
       this.brokerClient = brokerClient;
@@ -328,10 +330,19 @@ public final class LongPollingActivateJobsHandler implements ActivateJobsHandler
       return this;
     }
 
+    public Builder setActivationParallelism(final int activationParallelism) {
+      this.activationParallelism = activationParallelism;
+      return this;
+    }
+
     public LongPollingActivateJobsHandler build() {
       Objects.requireNonNull(brokerClient, "brokerClient");
       return new LongPollingActivateJobsHandler(
-          brokerClient, longPollingTimeout, probeTimeoutMillis, minEmptyResponses);
+          brokerClient,
+          longPollingTimeout,
+          probeTimeoutMillis,
+          minEmptyResponses,
+          activationParallelism);
     }
   }
 }
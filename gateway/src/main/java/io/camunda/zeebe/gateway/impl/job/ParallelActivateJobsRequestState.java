@@ -0,0 +1,108 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.gateway.impl.job;
+
+import io.camunda.zeebe.gateway.impl.broker.PartitionIdIterator;
+import java.util.ArrayDeque;
+import java.util.Deque;
+
+/**
+ * State of an activation which queries up to {@code parallelism} partitions at the same time.
+ *
+ * <p>All concurrent broker requests share the remaining amount of jobs to activate: every request
+ * reserves a part of the amount which is not yet reserved by other in-flight requests, and releases
+ * its reservation once its response arrived. The sum of jobs requested from all partitions thus
+ * never exceeds the amount the client asked for.
+ */
+final class ParallelActivateJobsRequestState {
+
+  private final PartitionIdIterator iterator;
+  private final Deque<Integer> partitionsToPollAgain = new ArrayDeque<>();
+  private final int parallelism;
+  private int remainingAmount;
+  private int reservedAmount;
+  private int inflightRequests;
+  private boolean resourceExhaustedWasPresent;
+  private boolean isDone;
+
+  ParallelActivateJobsRequestState(
+      final PartitionIdIterator iterator, final int remainingAmount, final int parallelism) {
+    this.iterator = iterator;
+    this.remainingAmount = remainingAmount;
+    this.parallelism = parallelism;
+  }
+
+  boolean shouldActivateJobs() {
+    return !isDone
+        && inflightRequests < parallelism
+        && remainingAmount - reservedAmount > 0
+        && (!partitionsToPollAgain.isEmpty() || iterator.hasNext());
+  }
+
+  /**
+   * @return true if no request is in flight anymore, and no further request should be sent
+   */
+  boolean isCompleted() {
+    return !isDone && inflightRequests == 0 && !shouldActivateJobs();
+  }
+
+  int getNextPartition() {
+    final var partitionId = partitionsToPollAgain.poll();
+    return partitionId != null ? partitionId : iterator.next();
+  }
+
+  /**
+   * Reserves a fair share of the unreserved amount for a new request, such that the requests which
+   * can still be sent concurrently can get a share as well.
+   *
+   * @return the amount of jobs the new request may activate
+   */
+  int reserveAmount() {
+    final var unreservedAmount = remainingAmount - reservedAmount;
+    final var freeSlots = parallelism - inflightRequests;
+    final var amount = (unreservedAmount + freeSlots - 1) / freeSlots;
+
+    reservedAmount += amount;
+    inflightRequests++;
+    return amount;
+  }
+
+  void releaseAmount(final int reservedAmount, final int activatedAmount) {
+    this.reservedAmount -= reservedAmount;
+    remainingAmount -= activatedAmount;
+    inflightRequests--;
+  }
+
+  void pollAgain(final int partitionId) {
+    partitionsToPollAgain.add(partitionId);
+  }
+
+  int getRemainingAmount() {
+    return remainingAmount;
+  }
+
+  boolean wasResourceExhaustedPresent() {
+    return resourceExhaustedWasPresent;
+  }
+
+  void setResourceExhaustedWasPresent() {
+    resourceExhaustedWasPresent = true;
+  }
+
+  /**
+   * @return true if the activation was completed or failed; responses which arrive afterwards must
+   *     not be passed on anymore
+   */
+  boolean isDone() {
+    return isDone;
+  }
+
+  void setDone() {
+    isDone = true;
+  }
+}
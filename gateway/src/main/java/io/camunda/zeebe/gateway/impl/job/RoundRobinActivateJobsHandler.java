@@ -40,6 +40,10 @@ import java.util.function.Consumer;
 /**
  * Iterates in round-robin fashion over partitions to activate jobs. Uses a map from job type to
  * partition-IDs to determine the next partition to use.
+ *
+ * <p>By default, one partition is queried after the other. With a {@code parallelism} greater than
+ * one, up to that many partitions are queried concurrently, sharing the amount of jobs which are
+ * left to activate (see {@link ParallelActivateJobsRequestState}).
  */
 public final class RoundRobinActivateJobsHandler implements ActivateJobsHandler {
 
@@ -51,11 +55,17 @@ public final class RoundRobinActivateJobsHandler implements ActivateJobsHandler
       new ConcurrentHashMap<>();
   private final BrokerClient brokerClient;
   private final BrokerTopologyManager topologyManager;
+  private final int parallelism;
 
   private ActorControl actor;
 
   public RoundRobinActivateJobsHandler(final BrokerClient brokerClient) {
+    this(brokerClient, 1);
+  }
+
+  public RoundRobinActivateJobsHandler(final BrokerClient brokerClient, final int parallelism) {
     this.brokerClient = brokerClient;
+    this.parallelism = parallelism;
     topologyManager = brokerClient.getTopologyManager();
   }
 
@@ -87,12 +97,17 @@ public final class RoundRobinActivateJobsHandler implements ActivateJobsHandler
     final var jobType = request.getType();
     final var maxJobsToActivate = request.getMaxJobsToActivate();
     final var partitionIterator = partitionIdIteratorForType(jobType, partitionsCount);
-
-    final var requestState =
-        new InflightActivateJobsRequestState(partitionIterator, maxJobsToActivate);
     final var delegate = new ResponseObserverDelegate(onError, onCompleted);
 
-    activateJobs(request, requestState, delegate);
+    if (parallelism > 1) {
+      final var requestState =
+          new ParallelActivateJobsRequestState(partitionIterator, maxJobsToActivate, parallelism);
+      actor.run(() -> activateJobsInParallel(request, requestState, delegate));
+    } else {
+      final var requestState =
+          new InflightActivateJobsRequestState(partitionIterator, maxJobsToActivate);
+      activateJobs(request, requestState, delegate);
+    }
   }
 
   private void activateJobs(
@@ -179,6 +194,109 @@ public final class RoundRobinActivateJobsHandler implements ActivateJobsHandler
         });
   }
 
+  private void activateJobsInParallel(
+      final InflightActivateJobsRequest request,
+      final ParallelActivateJobsRequestState requestState,
+      final ResponseObserverDelegate delegate) {
+    if (!request.isOpen()) {
+      requestState.setDone();
+      return;
+    }
+
+    while (requestState.shouldActivateJobs()) {
+      final var partitionId = requestState.getNextPartition();
+      final var amount = requestState.reserveAmount();
+
+      // the request is copied, as the partition and amount differ for each in-flight request
+      final var brokerRequest = request.getRequest().copy();
+      brokerRequest.setPartitionId(partitionId);
+      brokerRequest.setMaxJobsToActivate(amount);
+
+      brokerClient
+          .sendRequest(brokerRequest)
+          .whenComplete(
+              (brokerResponse, error) ->
+                  actor.run(
+                      () ->
+                          handleParallelResponse(
+                              request,
+                              requestState,
+                              delegate,
+                              partitionId,
+                              amount,
+                              brokerResponse,
+                              error)));
+    }
+
+    if (requestState.isCompleted()) {
+      // enough jobs activated or no more partitions left to check
+      requestState.setDone();
+      delegate.onCompleted(
+          requestState.getRemainingAmount(), requestState.wasResourceExhaustedPresent());
+    }
+  }
+
+  private void handleParallelResponse(
+      final InflightActivateJobsRequest request,
+      final ParallelActivateJobsRequestState requestState,
+      final ResponseObserverDelegate delegate,
+      final int partitionId,
+      final int reservedAmount,
+      final BrokerResponse<JobBatchRecord> brokerResponse,
+      final Throwable error) {
+    if (error != null) {
+      requestState.releaseAmount(reservedAmount, 0);
+      if (requestState.isDone()) {
+        return;
+      }
+
+      if (isRejection(error)) {
+        requestState.setDone();
+        delegate.onError(error);
+        return;
+      } else if (wasResourceExhausted(error)) {
+        requestState.setResourceExhaustedWasPresent();
+      } else {
+        logErrorResponse(partitionId, request.getType(), error);
+      }
+
+      activateJobsInParallel(request, requestState, delegate);
+      return;
+    }
+
+    final var response = brokerResponse.getResponse();
+    final ActivateJobsResponse grpcResponse =
+        ResponseMapper.toActivateJobsResponse(brokerResponse.getKey(), response);
+    final var jobsCount = grpcResponse.getJobsCount();
+    requestState.releaseAmount(reservedAmount, jobsCount);
+
+    if (jobsCount > 0) {
+      final Either<Exception, Boolean> result =
+          requestState.isDone()
+              ? Either.right(false)
+              : request.tryToSendActivatedJobs(grpcResponse);
+
+      if (!result.getOrElse(false)) {
+        final var reason = createReasonMessage(result);
+        logResponseNotSent(request.getType(), response.getJobKeys(), reason);
+        reactivateJobs(grpcResponse.getJobsList(), reason);
+
+        if (!requestState.isDone()) {
+          requestState.setDone();
+          cancelActivateJobsRequest(reason, delegate);
+        }
+        return;
+      }
+    }
+
+    // the partition may have more jobs if it filled the whole reserved amount
+    if (response.getTruncated() || (jobsCount > 0 && jobsCount == reservedAmount)) {
+      requestState.pollAgain(partitionId);
+    }
+
+    activateJobsInParallel(request, requestState, delegate);
+  }
+
   private String createReasonMessage(final Either<Exception, Boolean> resultValue) {
     final String errorMessage;
     if (resultValue.isLeft()) {
@@ -0,0 +1,157 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.gateway.impl.stream;
+
+import io.camunda.zeebe.gateway.Loggers;
+import io.camunda.zeebe.gateway.ResponseMapper;
+import io.camunda.zeebe.gateway.grpc.ServerStreamObserver;
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.ActivatedJob;
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.StreamActivatedJobsRequest;
+import io.camunda.zeebe.protocol.impl.stream.job.ActivatedJobImpl;
+import io.camunda.zeebe.protocol.impl.stream.job.JobActivationPropertiesImpl;
+import io.camunda.zeebe.scheduler.ActorControl;
+import io.camunda.zeebe.transport.stream.api.ClientStreamConsumer;
+import io.camunda.zeebe.transport.stream.api.ClientStreamId;
+import io.camunda.zeebe.transport.stream.api.ClientStreamer;
+import io.camunda.zeebe.util.buffer.BufferUtil;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
+import org.agrona.DirectBuffer;
+
+/**
+ * Handles {@code StreamActivatedJobs} calls: each call registers a job stream with all brokers, and
+ * every job pushed by a broker is forwarded to the client. The stream is removed once the call is
+ * cancelled by the client.
+ *
+ * <p>Pushes are only accepted while the call is ready to receive more messages. If the client
+ * cannot keep up, the push fails, and the broker will hand the job to another stream or make it
+ * activatable again, instead of buffering jobs in the gateway.
+ *
+ * <p>Adding and removing streams is serialized on the handler's actor, which must be set via {@link
+ * #accept(ActorControl)} before handling any call.
+ */
+public final class StreamJobsHandler implements Consumer<ActorControl> {
+
+  private final ClientStreamer<JobActivationProperties> jobStreamer;
+
+  private ActorControl actor;
+
+  public StreamJobsHandler(final ClientStreamer<JobActivationProperties> jobStreamer) {
+    this.jobStreamer = jobStreamer;
+  }
+
+  @Override
+  public void accept(final ActorControl actor) {
+    this.actor = actor;
+  }
+
+  public void handle(
+      final StreamActivatedJobsRequest request,
+      final ServerStreamObserver<ActivatedJob> responseObserver) {
+    if (request.getType().isBlank()) {
+      responseObserver.onError(
+          new IllegalArgumentException(
+              "Expected to stream activated jobs with a non-blank type, but it was blank"));
+      return;
+    }
+
+    if (request.getTimeout() < 1) {
+      responseObserver.onError(
+          new IllegalArgumentException(
+              String.format(
+                  "Expected to stream activated jobs with a timeout of at least 1, but it was %d",
+                  request.getTimeout())));
+      return;
+    }
+
+    final var streamType = BufferUtil.wrapString(request.getType());
+    final var properties = new ActivationProperties();
+    properties
+        .setWorker(BufferUtil.wrapString(request.getWorker()))
+        .setTimeout(request.getTimeout())
+        .setFetchVariables(
+            request.getFetchVariableList().stream().map(BufferUtil::wrapString).toList());
+
+    final var consumer = new JobStreamConsumer(responseObserver);
+    responseObserver.setOnCancelHandler(() -> actor.run(() -> removeStream(consumer)));
+    actor.run(() -> addStream(streamType, properties, consumer));
+  }
+
+  private void addStream(
+      final DirectBuffer streamType,
+      final JobActivationProperties properties,
+      final JobStreamConsumer consumer) {
+    if (consumer.responseObserver.isCancelled()) {
+      return;
+    }
+
+    jobStreamer
+        .add(streamType, properties, consumer)
+        .onComplete(
+            (streamId, error) -> {
+              if (error != null) {
+                Loggers.GATEWAY_LOGGER.debug("Failed to add job stream", error);
+                consumer.responseObserver.onError(error);
+                return;
+              }
+
+              // the call may have been cancelled while the stream was being added
+              if (consumer.responseObserver.isCancelled()) {
+                jobStreamer.remove(streamId);
+              } else {
+                consumer.streamId = streamId;
+              }
+            });
+  }
+
+  private void removeStream(final JobStreamConsumer consumer) {
+    if (consumer.streamId != null) {
+      jobStreamer.remove(consumer.streamId);
+      consumer.streamId = null;
+    }
+  }
+
+  private static final class JobStreamConsumer implements ClientStreamConsumer {
+
+    private final ServerStreamObserver<ActivatedJob> responseObserver;
+
+    // only accessed from the handler's actor
+    private ClientStreamId streamId;
+
+    private JobStreamConsumer(final ServerStreamObserver<ActivatedJob> responseObserver) {
+      this.responseObserver = responseObserver;
+    }
+
+    @Override
+    public CompletableFuture<Void> push(final DirectBuffer payload) {
+      if (responseObserver.isCancelled()) {
+        return CompletableFuture.failedFuture(
+            new IllegalStateException("Expected to push job, but the call was cancelled"));
+      }
+
+      if (!responseObserver.isReady()) {
+        return CompletableFuture.failedFuture(
+            new IllegalStateException(
+                "Expected to push job, but the client is not ready to receive more jobs"));
+      }
+
+      try {
+        final var activatedJob = new ActivatedJobImpl();
+        activatedJob.wrap(payload);
+        responseObserver.onNext(
+            ResponseMapper.toActivatedJob(activatedJob.jobKey(), activatedJob.jobRecord()));
+        return CompletableFuture.completedFuture(null);
+      } catch (final Exception e) {
+        return CompletableFuture.failedFuture(e);
+      }
+    }
+  }
+
+  private static final class ActivationProperties extends JobActivationPropertiesImpl
+      implements JobActivationProperties {}
+}
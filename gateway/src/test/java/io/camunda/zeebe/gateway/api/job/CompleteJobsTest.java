@@ -0,0 +1,200 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.gateway.api.job;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+
+import io.camunda.zeebe.gateway.api.util.GatewayTest;
+import io.camunda.zeebe.gateway.api.util.StubbedBrokerClient.RequestHandler;
+import io.camunda.zeebe.gateway.impl.broker.BatchRequestSender;
+import io.camunda.zeebe.gateway.impl.broker.request.BrokerCommandBatchRequest;
+import io.camunda.zeebe.gateway.impl.broker.request.BrokerCompleteJobRequest;
+import io.camunda.zeebe.gateway.impl.broker.request.BrokerExecuteCommand;
+import io.camunda.zeebe.gateway.impl.broker.request.BrokerRequest;
+import io.camunda.zeebe.gateway.impl.broker.response.BrokerRejection;
+import io.camunda.zeebe.gateway.impl.broker.response.BrokerRejectionResponse;
+import io.camunda.zeebe.gateway.impl.broker.response.BrokerResponse;
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.CompleteJobRequest;
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.CompleteJobsRequest;
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.CompleteJobsResponse;
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.JobCommandResult;
+import io.camunda.zeebe.protocol.Protocol;
+import io.camunda.zeebe.protocol.impl.encoding.ExecuteCommandBatchRequest;
+import io.camunda.zeebe.protocol.impl.record.value.job.JobRecord;
+import io.camunda.zeebe.protocol.record.RejectionType;
+import io.camunda.zeebe.protocol.record.intent.JobIntent;
+import io.grpc.Status;
+import io.grpc.StatusRuntimeException;
+import java.util.List;
+import org.junit.Test;
+
+public final class CompleteJobsTest extends GatewayTest {
+
+  @Test
+  public void shouldCompleteAllJobs() {
+    // given
+    new CompleteJobStub().registerWith(brokerClient);
+    final var firstKey = Protocol.encodePartitionId(1, 1);
+    final var secondKey = Protocol.encodePartitionId(2, 1);
+    final var thirdKey = Protocol.encodePartitionId(1, 2);
+
+    final var request =
+        CompleteJobsRequest.newBuilder()
+            .addJobs(CompleteJobRequest.newBuilder().setJobKey(firstKey))
+            .addJobs(CompleteJobRequest.newBuilder().setJobKey(secondKey))
+            .addJobs(CompleteJobRequest.newBuilder().setJobKey(thirdKey))
+            .build();
+
+    // when
+    final CompleteJobsResponse response = client.completeJobs(request);
+
+    // then
+    assertThat(response.getResultsList())
+        .extracting(JobCommandResult::getJobKey, JobCommandResult::getCode)
+        .containsExactly(
+            tuple(firstKey, Status.Code.OK.value()),
+            tuple(secondKey, Status.Code.OK.value()),
+            tuple(thirdKey, Status.Code.OK.value()));
+  }
+
+  @Test
+  public void shouldGroupCommandsByPartition() {
+    // given
+    new CompleteJobStub().registerWith(brokerClient);
+    final var firstKey = Protocol.encodePartitionId(1, 1);
+    final var secondKey = Protocol.encodePartitionId(2, 1);
+    final var thirdKey = Protocol.encodePartitionId(1, 2);
+
+    final var request =
+        CompleteJobsRequest.newBuilder()
+            .addJobs(CompleteJobRequest.newBuilder().setJobKey(firstKey))
+            .addJobs(CompleteJobRequest.newBuilder().setJobKey(secondKey))
+            .addJobs(CompleteJobRequest.newBuilder().setJobKey(thirdKey))
+            .build();
+
+    // when
+    client.completeJobs(request);
+
+    // then - one request per partition, with all commands for the partition
+    assertThat(brokerClient.getBrokerRequests())
+        .extracting(r -> (BrokerCommandBatchRequest) r)
+        .extracting(
+            BrokerCommandBatchRequest::getPartitionId,
+            r -> r.getCommands().stream().map(BrokerExecuteCommand::getKey).toList())
+        .containsExactly(tuple(1, List.of(firstKey, thirdKey)), tuple(2, List.of(secondKey)));
+  }
+
+  @Test
+  public void shouldSplitCommandsForPartitionIntoMaxBatchSize() {
+    // given
+    new CompleteJobStub().registerWith(brokerClient);
+    final var request = CompleteJobsRequest.newBuilder();
+    for (int i = 0; i < ExecuteCommandBatchRequest.MAX_COMMANDS + 1; i++) {
+      request.addJobs(CompleteJobRequest.newBuilder().setJobKey(Protocol.encodePartitionId(1, i)));
+    }
+
+    // when
+    final CompleteJobsResponse response = client.completeJobs(request.build());
+
+    // then
+    assertThat(response.getResultsList())
+        .extracting(JobCommandResult::getCode)
+        .containsOnly(Status.Code.OK.value());
+    assertThat(brokerClient.getBrokerRequests())
+        .extracting(r -> ((BrokerCommandBatchRequest) r).getCommands().size())
+        .containsExactly(ExecuteCommandBatchRequest.MAX_COMMANDS, 1);
+  }
+
+  @Test
+  public void shouldRejectTooManyJobs() {
+    // given
+    final var request = CompleteJobsRequest.newBuilder();
+    for (int i = 0; i < BatchRequestSender.MAX_REQUESTS_PER_CALL + 1; i++) {
+      request.addJobs(CompleteJobRequest.newBuilder().setJobKey(Protocol.encodePartitionId(1, i)));
+    }
+
+    // when - then
+    assertThatThrownBy(() -> client.completeJobs(request.build()))
+        .isInstanceOf(StatusRuntimeException.class)
+        .extracting(t -> ((StatusRuntimeException) t).getStatus().getCode())
+        .isEqualTo(Status.INVALID_ARGUMENT.getCode());
+    assertThat(brokerClient.getBrokerRequests()).isEmpty();
+  }
+
+  @Test
+  public void shouldReturnRejectionPerJob() {
+    // given
+    final var rejectedKey = Protocol.encodePartitionId(1, 2);
+    final var stub = new CompleteJobStub();
+    brokerClient.registerHandler(
+        BrokerCompleteJobRequest.class,
+        (RequestHandler<BrokerRequest<?>, BrokerResponse<?>>)
+            brokerRequest -> {
+              final var completeRequest = (BrokerCompleteJobRequest) brokerRequest;
+              if (completeRequest.getKey() == rejectedKey) {
+                return new BrokerRejectionResponse<JobRecord>(
+                    new BrokerRejection(
+                        JobIntent.COMPLETE, rejectedKey, RejectionType.NOT_FOUND, "expected"));
+              }
+              return stub.handle(completeRequest);
+            });
+
+    final var completedKey = Protocol.encodePartitionId(1, 1);
+    final var request =
+        CompleteJobsRequest.newBuilder()
+            .addJobs(CompleteJobRequest.newBuilder().setJobKey(completedKey))
+            .addJobs(CompleteJobRequest.newBuilder().setJobKey(rejectedKey))
+            .build();
+
+    // when
+    final CompleteJobsResponse response = client.completeJobs(request);
+
+    // then
+    assertThat(response.getResults(0).getCode()).isEqualTo(Status.Code.OK.value());
+    assertThat(response.getResults(1).getJobKey()).isEqualTo(rejectedKey);
+    assertThat(response.getResults(1).getCode()).isEqualTo(Status.Code.NOT_FOUND.value());
+    assertThat(response.getResults(1).getMessage()).contains("expected");
+  }
+
+  @Test
+  public void shouldNotSendCommandWithInvalidVariables() {
+    // given
+    new CompleteJobStub().registerWith(brokerClient);
+    final var validKey = Protocol.encodePartitionId(1, 1);
+    final var invalidKey = Protocol.encodePartitionId(1, 2);
+
+    final var request =
+        CompleteJobsRequest.newBuilder()
+            .addJobs(CompleteJobRequest.newBuilder().setJobKey(validKey))
+            .addJobs(CompleteJobRequest.newBuilder().setJobKey(invalidKey).setVariables("{"))
+            .build();
+
+    // when
+    final CompleteJobsResponse response = client.completeJobs(request);
+
+    // then
+    assertThat(response.getResults(0).getCode()).isEqualTo(Status.Code.OK.value());
+    assertThat(response.getResults(1).getCode()).isEqualTo(Status.Code.INVALID_ARGUMENT.value());
+    assertThat(brokerClient.getBrokerCommands())
+        .extracting(r -> ((BrokerCompleteJobRequest) r).getKey())
+        .containsExactly(validKey);
+  }
+
+  @Test
+  public void shouldRespondToEmptyBatch() {
+    // when
+    final CompleteJobsResponse response =
+        client.completeJobs(CompleteJobsRequest.getDefaultInstance());
+
+    // then
+    assertThat(response.getResultsList()).isEmpty();
+    assertThat(brokerClient.getBrokerRequests()).isEmpty();
+  }
+}
@@ -0,0 +1,68 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.gateway.api.job;
+
+import static io.camunda.zeebe.util.buffer.BufferUtil.wrapString;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.camunda.zeebe.gateway.api.util.GatewayTest;
+import io.camunda.zeebe.gateway.impl.broker.request.BrokerFailJobRequest;
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.FailJobRequest;
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.FailJobsRequest;
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.FailJobsResponse;
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.JobCommandResult;
+import io.camunda.zeebe.protocol.Protocol;
+import io.camunda.zeebe.protocol.impl.record.value.job.JobRecord;
+import io.camunda.zeebe.protocol.record.intent.JobIntent;
+import io.grpc.Status;
+import org.junit.Test;
+
+public final class FailJobsTest extends GatewayTest {
+
+  @Test
+  public void shouldMapRequestsAndResponse() {
+    // given
+    new FailJobStub().registerWith(brokerClient);
+    final var firstKey = Protocol.encodePartitionId(1, 1);
+    final var secondKey = Protocol.encodePartitionId(2, 1);
+
+    final var request =
+        FailJobsRequest.newBuilder()
+            .addJobs(
+                FailJobRequest.newBuilder()
+                    .setJobKey(firstKey)
+                    .setRetries(1)
+                    .setErrorMessage("first"))
+            .addJobs(
+                FailJobRequest.newBuilder()
+                    .setJobKey(secondKey)
+                    .setRetries(2)
+                    .setErrorMessage("second"))
+            .build();
+
+    // when
+    final FailJobsResponse response = client.failJobs(request);
+
+    // then
+    assertThat(response.getResultsList())
+        .extracting(JobCommandResult::getJobKey)
+        .containsExactly(firstKey, secondKey);
+    assertThat(response.getResultsList())
+        .extracting(JobCommandResult::getCode)
+        .containsOnly(Status.Code.OK.value());
+
+    assertThat(brokerClient.getBrokerCommands()).hasSize(2);
+    final var brokerRequest = (BrokerFailJobRequest) brokerClient.getBrokerCommands().get(1);
+    assertThat(brokerRequest.getKey()).isEqualTo(secondKey);
+    assertThat(brokerRequest.getIntent()).isEqualTo(JobIntent.FAIL);
+
+    final JobRecord brokerRequestValue = brokerRequest.getRequestWriter();
+    assertThat(brokerRequestValue.getRetries()).isEqualTo(2);
+    assertThat(brokerRequestValue.getErrorMessageBuffer()).isEqualTo(wrapString("second"));
+  }
+}
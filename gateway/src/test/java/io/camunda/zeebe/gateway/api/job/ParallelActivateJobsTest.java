@@ -0,0 +1,112 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.gateway.api.job;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.camunda.zeebe.gateway.api.util.GatewayTest;
+import io.camunda.zeebe.gateway.impl.broker.request.BrokerActivateJobsRequest;
+import io.camunda.zeebe.gateway.impl.configuration.GatewayCfg;
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.ActivateJobsRequest;
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.ActivatedJob;
+import io.camunda.zeebe.protocol.Protocol;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.Test;
+
+public final class ParallelActivateJobsTest extends GatewayTest {
+
+  private static final int PARALLELISM = 3;
+
+  public ParallelActivateJobsTest() {
+    super(getConfig());
+  }
+
+  private static GatewayCfg getConfig() {
+    final var config = new GatewayCfg();
+    config.getLongPolling().setEnabled(false);
+    config.getJobActivation().setParallelism(PARALLELISM);
+    return config;
+  }
+
+  @Test
+  public void shouldSplitAmountAcrossPartitions() {
+    // given
+    final ActivateJobsStub stub = new ActivateJobsStub();
+    stub.registerWith(brokerClient);
+    stub.addAvailableJobs("foo", 20);
+
+    // when
+    final List<ActivatedJob> jobs = activateJobs("foo", 9);
+
+    // then
+    assertThat(jobs).hasSize(9);
+    assertThat(jobs)
+        .extracting(job -> Protocol.decodePartitionId(job.getKey()))
+        .containsOnly(1, 2, 3);
+
+    final List<BrokerActivateJobsRequest> brokerRequests = getBrokerRequests();
+    assertThat(brokerRequests)
+        .extracting(BrokerActivateJobsRequest::getPartitionId)
+        .containsExactly(1, 2, 3);
+    assertThat(brokerRequests)
+        .extracting(request -> request.getRequestWriter().getMaxJobsToActivate())
+        .containsExactly(3, 3, 3);
+  }
+
+  @Test
+  public void shouldNotActivateMoreJobsThanRequested() {
+    // given
+    final ActivateJobsStub stub = new ActivateJobsStub();
+    stub.registerWith(brokerClient);
+    stub.addAvailableJobs("foo", 100);
+
+    // when
+    final List<ActivatedJob> jobs = activateJobs("foo", 10);
+
+    // then
+    assertThat(jobs).hasSize(10);
+    assertThat(getBrokerRequests())
+        .extracting(request -> request.getRequestWriter().getMaxJobsToActivate())
+        .containsExactly(4, 3, 3);
+  }
+
+  @Test
+  public void shouldCheckAllPartitionsIfNotEnoughJobsAvailable() {
+    // given
+    final ActivateJobsStub stub = new ActivateJobsStub();
+    stub.registerWith(brokerClient);
+    stub.addAvailableJobs("foo", 2);
+
+    // when
+    final List<ActivatedJob> jobs = activateJobs("foo", 9);
+
+    // then
+    assertThat(jobs).hasSize(2);
+    assertThat(getBrokerRequests())
+        .extracting(BrokerActivateJobsRequest::getPartitionId)
+        .containsExactlyInAnyOrder(1, 2, 3, 4, 5, 6, 7, 8);
+  }
+
+  private List<ActivatedJob> activateJobs(final String type, final int maxJobsToActivate) {
+    final ActivateJobsRequest request =
+        ActivateJobsRequest.newBuilder()
+            .setType(type)
+            .setMaxJobsToActivate(maxJobsToActivate)
+            .build();
+
+    final List<ActivatedJob> jobs = new ArrayList<>();
+    client.activateJobs(request).forEachRemaining(response -> jobs.addAll(response.getJobsList()));
+    return jobs;
+  }
+
+  @SuppressWarnings("unchecked")
+  private List<BrokerActivateJobsRequest> getBrokerRequests() {
+    return (List<BrokerActivateJobsRequest>) (List<?>) brokerClient.getBrokerRequests();
+  }
+}
@@ -0,0 +1,159 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.gateway.api.job;
+
+import static io.camunda.zeebe.util.buffer.BufferUtil.bufferAsString;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import io.camunda.zeebe.gateway.api.util.GatewayTest;
+import io.camunda.zeebe.gateway.api.util.StubbedJobStreamer;
+import io.camunda.zeebe.gateway.api.util.StubbedJobStreamer.StubbedStream;
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.ActivatedJob;
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.StreamActivatedJobsRequest;
+import io.camunda.zeebe.protocol.impl.record.value.job.JobRecord;
+import io.camunda.zeebe.protocol.impl.stream.job.ActivatedJobImpl;
+import io.camunda.zeebe.util.buffer.BufferUtil;
+import io.grpc.Context;
+import io.grpc.Status;
+import io.grpc.StatusRuntimeException;
+import java.util.Iterator;
+import org.agrona.DirectBuffer;
+import org.awaitility.Awaitility;
+import org.junit.Before;
+import org.junit.Test;
+
+public final class StreamActivatedJobsTest extends GatewayTest {
+
+  private StubbedJobStreamer jobStreamer;
+
+  @Before
+  public void setUpJobStreamer() {
+    jobStreamer = gateway.getJobStreamer();
+  }
+
+  @Test
+  public void shouldRegisterJobStream() {
+    // given
+    final var request =
+        StreamActivatedJobsRequest.newBuilder()
+            .setType("foo")
+            .setWorker("bar")
+            .setTimeout(1000L)
+            .addFetchVariable("baz")
+            .build();
+
+    // when
+    client.streamActivatedJobs(request);
+
+    // then
+    final var stream = awaitStream();
+    assertThat(stream.streamType()).isEqualTo("foo");
+    assertThat(bufferAsString(stream.metadata().worker())).isEqualTo("bar");
+    assertThat(stream.metadata().timeout()).isEqualTo(1000L);
+    assertThat(stream.metadata().fetchVariables())
+        .extracting(BufferUtil::bufferAsString)
+        .containsExactly("baz");
+  }
+
+  @Test
+  public void shouldForwardPushedJobs() {
+    // given
+    final Iterator<ActivatedJob> jobs = client.streamActivatedJobs(validRequest());
+    final var stream = awaitStream();
+
+    // when
+    final var pushed = stream.consumer().push(activatedJob(1L));
+
+    // then
+    assertThat(pushed).isCompleted();
+    assertThat(jobs.next())
+        .satisfies(
+            job -> {
+              assertThat(job.getKey()).isEqualTo(1L);
+              assertThat(job.getType()).isEqualTo("foo");
+              assertThat(job.getWorker()).isEqualTo("bar");
+              assertThat(job.getRetries()).isEqualTo(3);
+            });
+  }
+
+  @Test
+  public void shouldFailPushIfClientIsNotReady() {
+    // given - the blocking client only requests the next job once the previous was consumed
+    final Iterator<ActivatedJob> jobs = client.streamActivatedJobs(validRequest());
+    final var stream = awaitStream();
+    stream.consumer().push(activatedJob(1L));
+
+    // when
+    final var pushed = stream.consumer().push(activatedJob(2L));
+
+    // then
+    assertThat(pushed).isCompletedExceptionally();
+    assertThat(jobs.next().getKey()).isEqualTo(1L);
+  }
+
+  @Test
+  public void shouldRemoveJobStreamOnCancel() {
+    // given
+    final var context = Context.current().withCancellation();
+    context.run(() -> client.streamActivatedJobs(validRequest()));
+    awaitStream();
+
+    // when
+    context.cancel(null);
+
+    // then
+    Awaitility.await("until the stream is removed")
+        .untilAsserted(() -> assertThat(jobStreamer.getStreams()).isEmpty());
+  }
+
+  @Test
+  public void shouldRejectBlankType() {
+    // given
+    final var request = StreamActivatedJobsRequest.newBuilder().setTimeout(1000L).build();
+
+    // when/then
+    assertThatThrownBy(() -> client.streamActivatedJobs(request).hasNext())
+        .isInstanceOf(StatusRuntimeException.class)
+        .extracting(t -> ((StatusRuntimeException) t).getStatus().getCode())
+        .isEqualTo(Status.INVALID_ARGUMENT.getCode());
+    assertThat(jobStreamer.getStreams()).isEmpty();
+  }
+
+  @Test
+  public void shouldRejectNonPositiveTimeout() {
+    // given
+    final var request = StreamActivatedJobsRequest.newBuilder().setType("foo").build();
+
+    // when/then
+    assertThatThrownBy(() -> client.streamActivatedJobs(request).hasNext())
+        .isInstanceOf(StatusRuntimeException.class)
+        .extracting(t -> ((StatusRuntimeException) t).getStatus().getCode())
+        .isEqualTo(Status.INVALID_ARGUMENT.getCode());
+    assertThat(jobStreamer.getStreams()).isEmpty();
+  }
+
+  private StubbedStream awaitStream() {
+    Awaitility.await("until the stream is registered")
+        .untilAsserted(() -> assertThat(jobStreamer.getStreams()).hasSize(1));
+    return jobStreamer.getStreams().get(0);
+  }
+
+  private StreamActivatedJobsRequest validRequest() {
+    return StreamActivatedJobsRequest.newBuilder()
+        .setType("foo")
+        .setWorker("bar")
+        .setTimeout(1000L)
+        .build();
+  }
+
+  private DirectBuffer activatedJob(final long key) {
+    final var record = new JobRecord().setType("foo").setWorker("bar").setRetries(3);
+    return BufferUtil.createCopy(new ActivatedJobImpl().setJobKey(key).setRecord(record));
+  }
+}
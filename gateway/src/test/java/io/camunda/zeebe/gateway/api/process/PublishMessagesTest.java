@@ -0,0 +1,220 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.gateway.api.process;
+
+import static io.camunda.zeebe.util.buffer.BufferUtil.bufferAsString;
+import static io.camunda.zeebe.util.buffer.BufferUtil.wrapString;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import io.camunda.zeebe.gateway.api.util.GatewayTest;
+import io.camunda.zeebe.gateway.api.util.StubbedBrokerClient.RequestHandler;
+import io.camunda.zeebe.gateway.impl.broker.BatchRequestSender;
+import io.camunda.zeebe.gateway.impl.broker.request.BrokerCommandBatchRequest;
+import io.camunda.zeebe.gateway.impl.broker.request.BrokerPublishMessageRequest;
+import io.camunda.zeebe.gateway.impl.broker.request.BrokerRequest;
+import io.camunda.zeebe.gateway.impl.broker.response.BrokerRejection;
+import io.camunda.zeebe.gateway.impl.broker.response.BrokerRejectionResponse;
+import io.camunda.zeebe.gateway.impl.broker.response.BrokerResponse;
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.PublishMessageRequest;
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.PublishMessageResult;
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.PublishMessagesRequest;
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.PublishMessagesResponse;
+import io.camunda.zeebe.protocol.impl.SubscriptionUtil;
+import io.camunda.zeebe.protocol.impl.record.value.message.MessageRecord;
+import io.camunda.zeebe.protocol.record.RejectionType;
+import io.camunda.zeebe.protocol.record.intent.MessageIntent;
+import io.camunda.zeebe.util.buffer.BufferUtil;
+import io.grpc.Status;
+import io.grpc.StatusRuntimeException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.Before;
+import org.junit.Test;
+
+public final class PublishMessagesTest extends GatewayTest {
+
+  private static final String DUPLICATE_MESSAGE_ID = "duplicate";
+
+  private final AtomicLong keys = new AtomicLong();
+
+  @Before
+  public void registerPublishMessageHandler() {
+    brokerClient.registerHandler(
+        BrokerPublishMessageRequest.class,
+        (RequestHandler<BrokerRequest<?>, BrokerResponse<?>>)
+            request -> {
+              final MessageRecord message =
+                  ((BrokerPublishMessageRequest) request).getRequestWriter();
+              if (DUPLICATE_MESSAGE_ID.equals(bufferAsString(message.getMessageIdBuffer()))) {
+                return new BrokerRejectionResponse<Void>(
+                    new BrokerRejection(
+                        MessageIntent.PUBLISH, -1, RejectionType.ALREADY_EXISTS, "expected"));
+              }
+
+              return new BrokerResponse<Void>(null, 1, keys.incrementAndGet());
+            });
+  }
+
+  @Test
+  public void shouldReturnKeysInRequestOrder() {
+    // given
+    final var request =
+        PublishMessagesRequest.newBuilder()
+            .addMessages(message("a"))
+            .addMessages(message("b"))
+            .addMessages(message("c"))
+            .build();
+
+    // when
+    final PublishMessagesResponse response = client.publishMessages(request);
+
+    // then
+    assertThat(response.getResultsList())
+        .extracting(PublishMessageResult::getCode)
+        .containsOnly(Status.Code.OK.value());
+    assertThat(response.getResultsList())
+        .extracting(PublishMessageResult::getKey)
+        .doesNotHaveDuplicates()
+        .doesNotContain(-1L);
+
+    final List<String> sentCorrelationKeys = sentCorrelationKeys();
+    assertThat(sentCorrelationKeys).containsExactlyInAnyOrder("a", "b", "c");
+    for (int i = 0; i < 3; i++) {
+      final var correlationKey = request.getMessages(i).getCorrelationKey();
+      // keys are assigned in send order
+      assertThat(response.getResults(i).getKey())
+          .isEqualTo(sentCorrelationKeys.indexOf(correlationKey) + 1);
+    }
+  }
+
+  @Test
+  public void shouldGroupMessagesByPartition() {
+    // given
+    final var partitionsCount =
+        brokerClient.getTopologyManager().getTopology().getPartitionsCount();
+    final var request = PublishMessagesRequest.newBuilder();
+    for (int i = 0; i < 32; i++) {
+      request.addMessages(message("key-" + i));
+    }
+
+    // when
+    client.publishMessages(request.build());
+
+    // then - every partition is only visited once
+    final var visitedPartitions = new ArrayList<Integer>();
+    for (final var correlationKey : sentCorrelationKeys()) {
+      final var partitionId =
+          SubscriptionUtil.getSubscriptionPartitionId(wrapString(correlationKey), partitionsCount);
+      if (visitedPartitions.isEmpty()
+          || visitedPartitions.get(visitedPartitions.size() - 1) != partitionId) {
+        visitedPartitions.add(partitionId);
+      }
+    }
+    assertThat(visitedPartitions).doesNotHaveDuplicates();
+  }
+
+  @Test
+  public void shouldSendMessagesForSamePartitionWithOneRequest() {
+    // given
+    final var partitionsCount =
+        brokerClient.getTopologyManager().getTopology().getPartitionsCount();
+    final var request = PublishMessagesRequest.newBuilder();
+    for (int i = 0; i < 32; i++) {
+      request.addMessages(message("key-" + i));
+    }
+
+    // when
+    client.publishMessages(request.build());
+
+    // then
+    final var batchRequests =
+        brokerClient.getBrokerRequests().stream()
+            .map(BrokerCommandBatchRequest.class::cast)
+            .toList();
+    assertThat(batchRequests)
+        .extracting(BrokerCommandBatchRequest::getPartitionId)
+        .doesNotHaveDuplicates();
+    for (final var batchRequest : batchRequests) {
+      assertThat(batchRequest.getCommands())
+          .extracting(
+              command ->
+                  SubscriptionUtil.getSubscriptionPartitionId(
+                      ((BrokerPublishMessageRequest) command).getCorrelationKey(), partitionsCount))
+          .containsOnly(batchRequest.getPartitionId());
+    }
+  }
+
+  @Test
+  public void shouldRejectTooManyMessages() {
+    // given
+    final var request = PublishMessagesRequest.newBuilder();
+    for (int i = 0; i < BatchRequestSender.MAX_REQUESTS_PER_CALL + 1; i++) {
+      request.addMessages(message("key-" + i));
+    }
+
+    // when - then
+    assertThatThrownBy(() -> client.publishMessages(request.build()))
+        .isInstanceOf(StatusRuntimeException.class)
+        .extracting(t -> ((StatusRuntimeException) t).getStatus().getCode())
+        .isEqualTo(Status.INVALID_ARGUMENT.getCode());
+    assertThat(brokerClient.getBrokerRequests()).isEmpty();
+  }
+
+  @Test
+  public void shouldReturnRejectionPerMessage() {
+    // given
+    final var request =
+        PublishMessagesRequest.newBuilder()
+            .addMessages(message("a"))
+            .addMessages(message("b").toBuilder().setMessageId(DUPLICATE_MESSAGE_ID))
+            .build();
+
+    // when
+    final PublishMessagesResponse response = client.publishMessages(request);
+
+    // then
+    assertThat(response.getResults(0).getCode()).isEqualTo(Status.Code.OK.value());
+    assertThat(response.getResults(1).getCode()).isEqualTo(Status.Code.ALREADY_EXISTS.value());
+    assertThat(response.getResults(1).getKey()).isEqualTo(-1L);
+    assertThat(response.getResults(1).getMessage()).contains("expected");
+  }
+
+  @Test
+  public void shouldNotSendMessageWithInvalidVariables() {
+    // given
+    final var request =
+        PublishMessagesRequest.newBuilder()
+            .addMessages(message("a").toBuilder().setVariables("["))
+            .addMessages(message("b"))
+            .build();
+
+    // when
+    final PublishMessagesResponse response = client.publishMessages(request);
+
+    // then
+    assertThat(response.getResults(0).getCode()).isEqualTo(Status.Code.INVALID_ARGUMENT.value());
+    assertThat(response.getResults(1).getCode()).isEqualTo(Status.Code.OK.value());
+    assertThat(sentCorrelationKeys()).containsExactly("b");
+  }
+
+  private PublishMessageRequest message(final String correlationKey) {
+    return PublishMessageRequest.newBuilder()
+        .setName("message")
+        .setCorrelationKey(correlationKey)
+        .build();
+  }
+
+  private List<String> sentCorrelationKeys() {
+    return brokerClient.getBrokerCommands().stream()
+        .map(r -> ((BrokerPublishMessageRequest) r).getCorrelationKey())
+        .map(BufferUtil::bufferAsString)
+        .toList();
+  }
+}
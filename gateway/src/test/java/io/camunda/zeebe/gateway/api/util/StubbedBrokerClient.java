@@ -15,7 +15,10 @@ import io.camunda.zeebe.gateway.cmd.BrokerResponseException;
 import io.camunda.zeebe.gateway.cmd.IllegalBrokerResponseException;
 import io.camunda.zeebe.gateway.impl.broker.BrokerClient;
 import io.camunda.zeebe.gateway.impl.broker.BrokerResponseConsumer;
+import io.camunda.zeebe.gateway.impl.broker.RequestDispatchStrategy;
 import io.camunda.zeebe.gateway.impl.broker.cluster.BrokerTopologyManager;
+import io.camunda.zeebe.gateway.impl.broker.request.BrokerCommandBatchRequest;
+import io.camunda.zeebe.gateway.impl.broker.request.BrokerExecuteCommand;
 import io.camunda.zeebe.gateway.impl.broker.request.BrokerRequest;
 import io.camunda.zeebe.gateway.impl.broker.response.BrokerResponse;
 import io.camunda.zeebe.protocol.Protocol;
@@ -26,6 +29,7 @@ import java.util.Collection;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.TimeUnit;
 import java.util.function.Consumer;
@@ -93,8 +97,7 @@ public final class StubbedBrokerClient implements BrokerClient {
       final Consumer<Throwable> throwableConsumer) {
     brokerRequests.add(request);
     try {
-      final RequestHandler requestHandler = requestHandlers.get(request.getClass());
-      final BrokerResponse<T> response = requestHandler.handle(request);
+      final BrokerResponse<T> response = handle(request);
       try {
         if (response.isResponse()) {
           responseConsumer.accept(response.getKey(), response.getResponse());
@@ -115,11 +118,30 @@ public final class StubbedBrokerClient implements BrokerClient {
     }
   }
 
+  private <T> BrokerResponse<T> handle(final BrokerRequest<T> request) throws Exception {
+    if (request instanceof BrokerCommandBatchRequest batchRequest) {
+      // answers each command of the batch by the handler registered for its type
+      final List<BrokerResponse<?>> responses = new ArrayList<>();
+      for (final BrokerExecuteCommand<?> command : batchRequest.getCommands()) {
+        responses.add(handle(command));
+      }
+      return (BrokerResponse<T>) new BrokerResponse<>(responses, batchRequest.getPartitionId(), -1);
+    }
+
+    final RequestHandler requestHandler = requestHandlers.get(request.getClass());
+    return requestHandler.handle(request);
+  }
+
   @Override
   public BrokerTopologyManager getTopologyManager() {
     return topologyManager;
   }
 
+  @Override
+  public Optional<RequestDispatchStrategy> getLoadAwareDispatchStrategy() {
+    return Optional.empty();
+  }
+
   @Override
   public void subscribeJobAvailableNotification(
       final String topic, final Consumer<String> handler) {
@@ -145,6 +167,22 @@ public final class StubbedBrokerClient implements BrokerClient {
     return brokerRequests;
   }
 
+  /**
+   * @return the commands sent to the brokers, with the commands of batch requests in the order they
+   *     were sent
+   */
+  public List<BrokerRequest<?>> getBrokerCommands() {
+    final List<BrokerRequest<?>> commands = new ArrayList<>();
+    for (final BrokerRequest<?> request : brokerRequests) {
+      if (request instanceof BrokerCommandBatchRequest batchRequest) {
+        commands.addAll(batchRequest.getCommands());
+      } else {
+        commands.add(request);
+      }
+    }
+    return commands;
+  }
+
   public interface RequestStub<
           RequestT extends BrokerRequest<?>, ResponseT extends BrokerResponse<?>>
       extends RequestHandler<RequestT, ResponseT> {
@@ -14,16 +14,12 @@ import io.camunda.zeebe.gateway.impl.configuration.GatewayCfg;
 import io.camunda.zeebe.gateway.impl.job.ActivateJobsHandler;
 import io.camunda.zeebe.gateway.impl.job.LongPollingActivateJobsHandler;
 import io.camunda.zeebe.gateway.impl.job.RoundRobinActivateJobsHandler;
-import io.camunda.zeebe.gateway.impl.stream.JobActivationProperties;
+import io.camunda.zeebe.gateway.impl.stream.StreamJobsHandler;
 import io.camunda.zeebe.gateway.protocol.GatewayGrpc;
 import io.camunda.zeebe.gateway.protocol.GatewayGrpc.GatewayBlockingStub;
 import io.camunda.zeebe.scheduler.Actor;
 import io.camunda.zeebe.scheduler.ActorControl;
 import io.camunda.zeebe.scheduler.ActorScheduler;
-import io.camunda.zeebe.scheduler.future.ActorFuture;
-import io.camunda.zeebe.transport.stream.api.ClientStreamConsumer;
-import io.camunda.zeebe.transport.stream.api.ClientStreamId;
-import io.camunda.zeebe.transport.stream.api.ClientStreamer;
 import io.grpc.ManagedChannel;
 import io.grpc.Server;
 import io.grpc.inprocess.InProcessChannelBuilder;
@@ -31,7 +27,6 @@ import io.grpc.inprocess.InProcessServerBuilder;
 import java.io.IOException;
 import java.util.concurrent.CompletableFuture;
 import java.util.function.Consumer;
-import org.agrona.DirectBuffer;
 
 @SuppressWarnings({"unchecked"})
 public final class StubbedGateway {
@@ -41,6 +36,7 @@ public final class StubbedGateway {
   private final StubbedBrokerClient brokerClient;
   private final ActorScheduler actorScheduler;
   private final GatewayCfg config;
+  private final StubbedJobStreamer jobStreamer = new StubbedJobStreamer();
   private Server server;
 
   public StubbedGateway(
@@ -54,10 +50,12 @@ public final class StubbedGateway {
 
   public void start() throws IOException {
     final var activateJobsHandler = buildActivateJobsHandler(brokerClient);
-    submitActorToActivateJobs(activateJobsHandler);
+    submitActor("ActivateJobsHandler", activateJobsHandler);
+    final var streamJobsHandler = new StreamJobsHandler(jobStreamer);
+    submitActor("StreamJobsHandler", streamJobsHandler);
 
     final EndpointManager endpointManager =
-        new EndpointManager(brokerClient, activateJobsHandler, new NoopJobStreamer());
+        new EndpointManager(brokerClient, activateJobsHandler, streamJobsHandler);
     final GatewayGrpcService gatewayGrpcService = new GatewayGrpcService(endpointManager);
 
     final InProcessServerBuilder serverBuilder =
@@ -83,13 +81,14 @@ public final class StubbedGateway {
     return GatewayGrpc.newBlockingStub(channel);
   }
 
-  private void submitActorToActivateJobs(final Consumer<ActorControl> consumer) {
+  public StubbedJobStreamer getJobStreamer() {
+    return jobStreamer;
+  }
+
+  private void submitActor(final String name, final Consumer<ActorControl> consumer) {
     final var future = new CompletableFuture<>();
     final var actor =
-        Actor.newActor()
-            .name("ActivateJobsHandler")
-            .actorStartedHandler(consumer.andThen(future::complete))
-            .build();
+        Actor.newActor().name(name).actorStartedHandler(consumer.andThen(future::complete)).build();
     actorScheduler.submitActor(actor);
     future.join();
   }
@@ -98,30 +97,15 @@ public final class StubbedGateway {
     if (config.getLongPolling().isEnabled()) {
       return buildLongPollingHandler(brokerClient);
     } else {
-      return new RoundRobinActivateJobsHandler(brokerClient);
+      return new RoundRobinActivateJobsHandler(
+          brokerClient, config.getJobActivation().getParallelism());
     }
   }
 
   private LongPollingActivateJobsHandler buildLongPollingHandler(final BrokerClient brokerClient) {
-    return LongPollingActivateJobsHandler.newBuilder().setBrokerClient(brokerClient).build();
-  }
-
-  private static final class NoopJobStreamer implements ClientStreamer<JobActivationProperties> {
-
-    @Override
-    public ActorFuture<ClientStreamId> add(
-        final DirectBuffer streamType,
-        final JobActivationProperties metadata,
-        final ClientStreamConsumer clientStreamConsumer) {
-      throw new UnsupportedOperationException("Not yet implemented; implement when needed");
-    }
-
-    @Override
-    public ActorFuture<Void> remove(final ClientStreamId streamId) {
-      throw new UnsupportedOperationException("Not yet implemented; implement when needed");
-    }
-
-    @Override
-    public void close() {}
+    return LongPollingActivateJobsHandler.newBuilder()
+        .setBrokerClient(brokerClient)
+        .setActivationParallelism(config.getJobActivation().getParallelism())
+        .build();
   }
 }
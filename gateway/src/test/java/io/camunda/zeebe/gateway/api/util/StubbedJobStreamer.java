@@ -0,0 +1,58 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.gateway.api.util;
+
+import io.camunda.zeebe.gateway.impl.stream.JobActivationProperties;
+import io.camunda.zeebe.scheduler.future.ActorFuture;
+import io.camunda.zeebe.scheduler.future.CompletableActorFuture;
+import io.camunda.zeebe.transport.stream.api.ClientStreamConsumer;
+import io.camunda.zeebe.transport.stream.api.ClientStreamId;
+import io.camunda.zeebe.transport.stream.api.ClientStreamer;
+import io.camunda.zeebe.util.buffer.BufferUtil;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import org.agrona.DirectBuffer;
+
+/** Records the streams added by the gateway, and allows pushing payloads to them. */
+public final class StubbedJobStreamer implements ClientStreamer<JobActivationProperties> {
+
+  private final Map<ClientStreamId, StubbedStream> streams = new ConcurrentHashMap<>();
+
+  @Override
+  public ActorFuture<ClientStreamId> add(
+      final DirectBuffer streamType,
+      final JobActivationProperties metadata,
+      final ClientStreamConsumer clientStreamConsumer) {
+    final var streamId = new StubbedStreamId();
+    streams.put(
+        streamId,
+        new StubbedStream(BufferUtil.bufferAsString(streamType), metadata, clientStreamConsumer));
+    return CompletableActorFuture.completed(streamId);
+  }
+
+  @Override
+  public ActorFuture<Void> remove(final ClientStreamId streamId) {
+    streams.remove(streamId);
+    return CompletableActorFuture.completed(null);
+  }
+
+  @Override
+  public void close() {
+    streams.clear();
+  }
+
+  public List<StubbedStream> getStreams() {
+    return List.copyOf(streams.values());
+  }
+
+  public record StubbedStream(
+      String streamType, JobActivationProperties metadata, ClientStreamConsumer consumer) {}
+
+  private static final class StubbedStreamId implements ClientStreamId {}
+}
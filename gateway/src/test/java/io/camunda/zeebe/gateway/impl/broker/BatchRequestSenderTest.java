@@ -0,0 +1,265 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.gateway.impl.broker;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import io.camunda.zeebe.gateway.RequestMapper;
+import io.camunda.zeebe.gateway.ResponseMapper;
+import io.camunda.zeebe.gateway.cmd.BrokerErrorException;
+import io.camunda.zeebe.gateway.grpc.ServerStreamObserver;
+import io.camunda.zeebe.gateway.impl.broker.cluster.BrokerClusterState;
+import io.camunda.zeebe.gateway.impl.broker.request.BrokerCommandBatchRequest;
+import io.camunda.zeebe.gateway.impl.broker.response.BrokerError;
+import io.camunda.zeebe.gateway.impl.broker.response.BrokerRejection;
+import io.camunda.zeebe.gateway.impl.broker.response.BrokerRejectionResponse;
+import io.camunda.zeebe.gateway.impl.broker.response.BrokerResponse;
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.CompleteJobRequest;
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.CompleteJobsResponse;
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.JobCommandResult;
+import io.camunda.zeebe.protocol.Protocol;
+import io.camunda.zeebe.protocol.record.ErrorCode;
+import io.camunda.zeebe.protocol.record.RejectionType;
+import io.camunda.zeebe.protocol.record.intent.JobIntent;
+import io.grpc.Status;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+final class BatchRequestSenderTest {
+
+  private final BrokerClient brokerClient = mock(BrokerClient.class);
+  private final List<SentRequest> sentRequests = new ArrayList<>();
+
+  @SuppressWarnings("unchecked")
+  private final ServerStreamObserver<CompleteJobsResponse> responseObserver =
+      mock(ServerStreamObserver.class);
+
+  @BeforeEach
+  void setUp() {
+    doAnswer(
+            invocation -> {
+              sentRequests.add(
+                  new SentRequest(
+                      invocation.getArgument(0),
+                      invocation.getArgument(1),
+                      invocation.getArgument(2)));
+              return null;
+            })
+        .when(brokerClient)
+        .sendRequestWithRetry(any(), any(BrokerResponseConsumer.class), any());
+  }
+
+  @Test
+  void shouldSendOneRequestPerPartition() {
+    // given
+    final var sender = new BatchRequestSender(brokerClient);
+
+    // when
+    sendRequests(sender, 6, 2);
+
+    // then
+    assertThat(sentRequests)
+        .extracting(SentRequest::request)
+        .extracting(BrokerCommandBatchRequest::getPartitionId)
+        .containsExactly(1, 2);
+    assertThat(sentRequests)
+        .extracting(sent -> sent.request().getCommands().size())
+        .containsExactly(3, 3);
+  }
+
+  @Test
+  void shouldLimitRequestsInFlight() {
+    // given
+    final var sender = new BatchRequestSender(brokerClient, 2);
+
+    // when
+    sendRequests(sender, 5, 5);
+
+    // then
+    assertThat(sentRequests).hasSize(2);
+  }
+
+  @Test
+  void shouldSendNextRequestOnceOneIsAnswered() {
+    // given
+    final var sender = new BatchRequestSender(brokerClient, 2);
+    sendRequests(sender, 5, 5);
+
+    // when
+    sentRequests.get(0).answer();
+
+    // then
+    assertThat(sentRequests).hasSize(3);
+    verify(responseObserver, never()).onNext(any());
+  }
+
+  @Test
+  void shouldRespondOnceAllRequestsAreAnswered() {
+    // given
+    final var sender = new BatchRequestSender(brokerClient, 2);
+    sendRequests(sender, 5, 5);
+
+    // when
+    for (int i = 0; i < sentRequests.size(); i++) {
+      sentRequests.get(i).answer();
+    }
+
+    // then
+    assertThat(sentRequests).hasSize(5);
+    verify(responseObserver).onNext(argThat(response -> response.getResultsCount() == 5));
+    verify(responseObserver).onCompleted();
+  }
+
+  @Test
+  void shouldMapResponseOfEachCommand() {
+    // given
+    final var sender = new BatchRequestSender(brokerClient);
+    sendRequests(sender, 2, 1);
+    final var rejectedKey = sentRequests.get(0).request().getCommands().get(1).getKey();
+
+    // when
+    sentRequests
+        .get(0)
+        .responseConsumer()
+        .accept(
+            -1L,
+            List.of(
+                new BrokerResponse<>(null, 1, 1L),
+                new BrokerRejectionResponse<>(
+                    new BrokerRejection(
+                        JobIntent.COMPLETE, rejectedKey, RejectionType.NOT_FOUND, "expected"))));
+
+    // then
+    assertThat(respondedResults())
+        .extracting(JobCommandResult::getCode)
+        .containsExactly(Status.Code.OK.value(), Status.Code.NOT_FOUND.value());
+  }
+
+  @Test
+  void shouldFailAllCommandsOfFailedRequest() {
+    // given
+    final var sender = new BatchRequestSender(brokerClient);
+    sendRequests(sender, 4, 2);
+
+    // when
+    sentRequests
+        .get(0)
+        .errorConsumer()
+        .accept(
+            new BrokerErrorException(new BrokerError(ErrorCode.RESOURCE_EXHAUSTED, "expected")));
+    sentRequests.get(1).answer();
+
+    // then
+    assertThat(respondedResults())
+        .extracting(JobCommandResult::getCode)
+        .containsExactly(
+            Status.Code.RESOURCE_EXHAUSTED.value(),
+            Status.Code.OK.value(),
+            Status.Code.RESOURCE_EXHAUSTED.value(),
+            Status.Code.OK.value());
+  }
+
+  @Test
+  void shouldFailRequestsWithoutPartition() {
+    // given
+    final var sender = new BatchRequestSender(brokerClient);
+    final var jobs =
+        List.of(
+            CompleteJobRequest.newBuilder().setJobKey(Protocol.encodePartitionId(1, 1)).build());
+
+    // when
+    sender.sendRequests(
+        jobs,
+        job -> BrokerClusterState.PARTITION_ID_NULL,
+        RequestMapper::toCompleteJobRequest,
+        (job, key, status) -> ResponseMapper.toJobCommandResult(job.getJobKey(), status),
+        ResponseMapper::toCompleteJobsResponse,
+        responseObserver);
+
+    // then
+    assertThat(sentRequests).isEmpty();
+    assertThat(respondedResults())
+        .extracting(JobCommandResult::getCode)
+        .containsExactly(Status.Code.UNAVAILABLE.value());
+  }
+
+  @Test
+  void shouldRejectTooManyRequests() {
+    // given
+    final var sender = new BatchRequestSender(brokerClient);
+
+    // when
+    sendRequests(sender, BatchRequestSender.MAX_REQUESTS_PER_CALL + 1, 1);
+
+    // then
+    verify(responseObserver).onError(any(IllegalArgumentException.class));
+    verify(responseObserver, never()).onNext(any());
+    assertThat(sentRequests).isEmpty();
+  }
+
+  @Test
+  void shouldRejectNonPositiveLimit() {
+    // expect
+    assertThatThrownBy(() -> new BatchRequestSender(brokerClient, 0))
+        .isInstanceOf(IllegalArgumentException.class);
+  }
+
+  private List<JobCommandResult> respondedResults() {
+    final var response = ArgumentCaptor.forClass(CompleteJobsResponse.class);
+    verify(responseObserver).onNext(response.capture());
+    return response.getValue().getResultsList();
+  }
+
+  private void sendRequests(
+      final BatchRequestSender sender, final int count, final int partitionsCount) {
+    final var jobs =
+        IntStream.range(0, count)
+            .mapToObj(
+                i ->
+                    CompleteJobRequest.newBuilder()
+                        .setJobKey(Protocol.encodePartitionId(1 + i % partitionsCount, i))
+                        .build())
+            .toList();
+
+    sender.sendRequests(
+        jobs,
+        job -> Protocol.decodePartitionId(job.getJobKey()),
+        RequestMapper::toCompleteJobRequest,
+        (job, key, status) -> ResponseMapper.toJobCommandResult(job.getJobKey(), status),
+        ResponseMapper::toCompleteJobsResponse,
+        responseObserver);
+  }
+
+  private record SentRequest(
+      BrokerCommandBatchRequest request,
+      BrokerResponseConsumer<List<BrokerResponse<?>>> responseConsumer,
+      Consumer<Throwable> errorConsumer) {
+
+    /** Answers every command of the request with a response. */
+    private void answer() {
+      final var responses =
+          request.getCommands().stream()
+              .<BrokerResponse<?>>map(
+                  command -> new BrokerResponse<>(null, request.getPartitionId(), command.getKey()))
+              .toList();
+      responseConsumer.accept(-1L, responses);
+    }
+  }
+}
@@ -0,0 +1,50 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.gateway.impl.broker;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.camunda.zeebe.gateway.impl.broker.request.BrokerActivateJobsRequest;
+import io.camunda.zeebe.gateway.impl.broker.request.BrokerCompleteJobRequest;
+import io.camunda.zeebe.gateway.impl.broker.request.BrokerCreateProcessInstanceRequest;
+import io.camunda.zeebe.gateway.impl.broker.request.BrokerCreateProcessInstanceWithResultRequest;
+import io.camunda.zeebe.gateway.impl.broker.request.BrokerPublishMessageRequest;
+import io.camunda.zeebe.gateway.impl.broker.request.BrokerRequest;
+import io.camunda.zeebe.util.buffer.BufferUtil;
+import java.util.stream.Stream;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+
+final class BrokerRequestManagerTest {
+
+  @ParameterizedTest
+  @MethodSource("shortRequests")
+  void shouldReportLatencyOfShortRequests(final BrokerRequest<?> request) {
+    // expect
+    assertThat(BrokerRequestManager.isShortRequest(request)).isTrue();
+  }
+
+  @ParameterizedTest
+  @MethodSource("longRunningRequests")
+  void shouldNotReportLatencyOfLongRunningRequests(final BrokerRequest<?> request) {
+    // expect
+    assertThat(BrokerRequestManager.isShortRequest(request)).isFalse();
+  }
+
+  private static Stream<BrokerRequest<?>> shortRequests() {
+    return Stream.of(
+        new BrokerCreateProcessInstanceRequest(),
+        new BrokerPublishMessageRequest("message", "correlation"),
+        new BrokerCompleteJobRequest(1, BufferUtil.wrapString("")));
+  }
+
+  private static Stream<BrokerRequest<?>> longRunningRequests() {
+    return Stream.of(
+        new BrokerCreateProcessInstanceWithResultRequest(), new BrokerActivateJobsRequest("type"));
+  }
+}
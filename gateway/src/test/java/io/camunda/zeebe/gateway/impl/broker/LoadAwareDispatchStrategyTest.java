@@ -0,0 +1,191 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.gateway.impl.broker;
+
+import static io.camunda.zeebe.protocol.Protocol.START_PARTITION_ID;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.camunda.zeebe.gateway.impl.broker.cluster.BrokerClusterState;
+import io.camunda.zeebe.gateway.impl.broker.cluster.BrokerClusterStateImpl;
+import io.camunda.zeebe.gateway.impl.broker.cluster.BrokerTopologyListener;
+import io.camunda.zeebe.gateway.impl.broker.cluster.BrokerTopologyManager;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+final class LoadAwareDispatchStrategyTest {
+
+  private static final int PARTITIONS_COUNT = 3;
+
+  private final AtomicLong clock = new AtomicLong();
+  private LoadAwareDispatchStrategy strategy;
+
+  @BeforeEach
+  void setUp() {
+    strategy = createStrategy(1, 2, 3);
+  }
+
+  @Test
+  void shouldBehaveLikeRoundRobinWithoutLoadInformation() {
+    // when
+    final var partitions = determinePartitions(6);
+
+    // then
+    assertThat(partitions).containsExactly(1, 2, 3, 1, 2, 3);
+  }
+
+  @Test
+  void shouldAvoidBackpressuredPartition() {
+    // given
+    strategy.onRequestBackpressured(2);
+
+    // when
+    final var partitions = determinePartitions(6);
+
+    // then
+    assertThat(partitions).doesNotContain(2).contains(1, 3);
+  }
+
+  @Test
+  void shouldRetryBackpressuredPartitionAfterWindow() {
+    // given
+    strategy.onRequestBackpressured(2);
+
+    // when
+    clock.addAndGet(LoadAwareDispatchStrategy.BACKPRESSURE_WINDOW.toMillis());
+    final var partitions = determinePartitions(3);
+
+    // then
+    assertThat(partitions).containsExactly(1, 2, 3);
+  }
+
+  @Test
+  void shouldAvoidSlowPartition() {
+    // given
+    strategy.onRequestProcessed(1, 10);
+    strategy.onRequestProcessed(2, 100);
+    strategy.onRequestProcessed(3, 10);
+
+    // when
+    final var partitions = determinePartitions(6);
+
+    // then
+    assertThat(partitions).doesNotContain(2).contains(1, 3);
+  }
+
+  @Test
+  void shouldSpreadLoadOfSlowPartitionOverAllOtherPartitions() {
+    // given
+    strategy = createStrategyWithPartitions(4);
+    strategy.onRequestProcessed(1, 10);
+    strategy.onRequestProcessed(2, 100);
+    strategy.onRequestProcessed(3, 10);
+    strategy.onRequestProcessed(4, 10);
+
+    // when
+    final var partitions = determinePartitions(12);
+
+    // then
+    assertThat(partitions)
+        .doesNotContain(2)
+        .containsExactlyInAnyOrder(1, 1, 1, 1, 3, 3, 3, 3, 4, 4, 4, 4);
+  }
+
+  @Test
+  void shouldIgnoreSmallLatencyDifferences() {
+    // given
+    strategy.onRequestProcessed(1, 10);
+    strategy.onRequestProcessed(2, 12);
+    strategy.onRequestProcessed(3, 10);
+
+    // when
+    final var partitions = determinePartitions(3);
+
+    // then
+    assertThat(partitions).containsExactly(1, 2, 3);
+  }
+
+  @Test
+  void shouldIgnoreExpiredLatency() {
+    // given
+    strategy.onRequestProcessed(1, 10);
+    strategy.onRequestProcessed(2, 100);
+    strategy.onRequestProcessed(3, 10);
+
+    // when
+    clock.addAndGet(LoadAwareDispatchStrategy.LATENCY_EXPIRY.toMillis());
+    final var partitions = determinePartitions(3);
+
+    // then
+    assertThat(partitions).containsExactly(1, 2, 3);
+  }
+
+  @Test
+  void shouldNotPickPartitionWithoutLeader() {
+    // given
+    strategy = createStrategy(1, 3);
+    strategy.onRequestBackpressured(1);
+
+    // when
+    final var partitions = determinePartitions(6);
+
+    // then
+    assertThat(partitions).doesNotContain(2);
+  }
+
+  private LoadAwareDispatchStrategy createStrategy(final int... partitionsWithLeader) {
+    return createStrategyWithTopology(PARTITIONS_COUNT, partitionsWithLeader);
+  }
+
+  private LoadAwareDispatchStrategy createStrategyWithPartitions(final int partitionsCount) {
+    final int[] partitionsWithLeader = new int[partitionsCount];
+    for (int i = 0; i < partitionsCount; i++) {
+      partitionsWithLeader[i] = START_PARTITION_ID + i;
+    }
+    return createStrategyWithTopology(partitionsCount, partitionsWithLeader);
+  }
+
+  private LoadAwareDispatchStrategy createStrategyWithTopology(
+      final int partitionsCount, final int... partitionsWithLeader) {
+    final var topology = new BrokerClusterStateImpl();
+    topology.addBrokerIfAbsent(0);
+    for (int i = 0; i < partitionsCount; i++) {
+      topology.addPartitionIfAbsent(START_PARTITION_ID + i);
+    }
+    for (final int partitionId : partitionsWithLeader) {
+      topology.setPartitionLeader(partitionId, 0, 1);
+    }
+    topology.setPartitionsCount(partitionsCount);
+
+    return new LoadAwareDispatchStrategy(new TopologyManager(topology), clock::get);
+  }
+
+  private List<Integer> determinePartitions(final int count) {
+    final var partitions = new ArrayList<Integer>();
+    for (int i = 0; i < count; i++) {
+      partitions.add(strategy.determinePartition());
+    }
+    return partitions;
+  }
+
+  private record TopologyManager(BrokerClusterState topology) implements BrokerTopologyManager {
+
+    @Override
+    public BrokerClusterState getTopology() {
+      return topology;
+    }
+
+    @Override
+    public void addTopologyListener(final BrokerTopologyListener listener) {}
+
+    @Override
+    public void removeTopologyListener(final BrokerTopologyListener listener) {}
+  }
+}
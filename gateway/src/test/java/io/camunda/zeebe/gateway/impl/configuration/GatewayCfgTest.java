@@ -38,6 +38,7 @@ public final class GatewayCfgTest {
         .getCluster()
         .setInitialContactPoints(List.of("foobar:1234", "barfoo:5678"))
         .setRequestTimeout(Duration.ofHours(123))
+        .setLoadAwareDispatchEnabled(true)
         .setClusterName("testCluster")
         .setMemberId("testMember")
         .setHost("1.2.3.4")
@@ -49,6 +50,7 @@ public final class GatewayCfgTest {
         .setPrivateKeyPath(new File("privateKeyPath"));
     CUSTOM_CFG.getThreads().setManagementThreads(100);
     CUSTOM_CFG.getLongPolling().setEnabled(false);
+    CUSTOM_CFG.getJobActivation().setParallelism(4);
     CUSTOM_CFG.getInterceptors().add(new InterceptorCfg());
     CUSTOM_CFG.getInterceptors().get(0).setId("example");
     CUSTOM_CFG.getInterceptors().get(0).setClassName("io.camunda.zeebe.example.Interceptor");
@@ -154,6 +156,7 @@ public final class GatewayCfgTest {
     setEnv("zeebe.gateway.cluster.initialContactPoints", "broker:432,anotherBroker:789");
     setEnv("zeebe.gateway.threads.managementThreads", "32");
     setEnv("zeebe.gateway.cluster.requestTimeout", Duration.ofMinutes(43).toString());
+    setEnv("zeebe.gateway.cluster.loadAwareDispatchEnabled", "true");
     setEnv("zeebe.gateway.cluster.longPollingEnabled", "false");
     setEnv("zeebe.gateway.cluster.clusterName", "envCluster");
     setEnv("zeebe.gateway.cluster.memberId", "envMember");
@@ -173,6 +176,7 @@ public final class GatewayCfgTest {
             .getResource("security/test-chain.cert.pem")
             .getPath());
     setEnv("zeebe.gateway.network.minKeepAliveInterval", Duration.ofSeconds(30).toString());
+    setEnv("zeebe.gateway.jobActivation.parallelism", "8");
     setEnv("zeebe.gateway.interceptors.0.id", "overwritten");
     setEnv("zeebe.gateway.interceptors.0.className", "Overwritten");
     setEnv("zeebe.gateway.interceptors.0.jarPath", "./overwritten.jar");
@@ -187,6 +191,7 @@ public final class GatewayCfgTest {
         .getCluster()
         .setInitialContactPoints(List.of("broker:432", "anotherBroker:789"))
         .setRequestTimeout(Duration.ofMinutes(43))
+        .setLoadAwareDispatchEnabled(true)
         .setClusterName("envCluster")
         .setMemberId("envMember")
         .setHost("envHost")
@@ -202,6 +207,7 @@ public final class GatewayCfgTest {
             new File(
                 getClass().getClassLoader().getResource("security/test-chain.cert.pem").getPath()));
     expected.getLongPolling().setEnabled(false);
+    expected.getJobActivation().setParallelism(8);
 
     expected.getInterceptors().add(new InterceptorCfg());
     expected.getInterceptors().get(0).setId("overwritten");
@@ -78,4 +78,19 @@ interface JournalIndex {
 
   /** Delete all index mappings */
   void clear();
+
+  /**
+   * Visits all entries with an index between the given indexes (inclusive), in ascending order.
+   *
+   * @param fromIndex the lowest index to visit
+   * @param toIndex the highest index to visit
+   * @param visitor called with each entry; the asqn is {@link SegmentedJournal#ASQN_IGNORE} if the
+   *     entry has none
+   */
+  void forEach(long fromIndex, long toIndex, IndexEntryVisitor visitor);
+
+  @FunctionalInterface
+  interface IndexEntryVisitor {
+    void visit(long index, int position, long asqn);
+  }
 }
@@ -55,6 +55,9 @@ final class Segment implements AutoCloseable, FlushableSegment {
   private volatile boolean open = true;
   // This need to be volatile because both the writer and the readers access it concurrently
   private volatile boolean markedForDeletion = false;
+  // These need to be volatile in case the flushing is asynchronous
+  private volatile SegmentIndexFile pendingIndexFile;
+  private volatile boolean indexFilePersisted;
 
   Segment(
       final SegmentFile file,
@@ -63,13 +66,25 @@ final class Segment implements AutoCloseable, FlushableSegment {
       final long lastWrittenAsqn,
       final JournalIndex index,
       final JournalMetrics metrics) {
+    this(file, descriptor, buffer, lastWrittenAsqn, index, metrics, null);
+  }
+
+  Segment(
+      final SegmentFile file,
+      final SegmentDescriptor descriptor,
+      final MappedByteBuffer buffer,
+      final long lastWrittenAsqn,
+      final JournalIndex index,
+      final JournalMetrics metrics,
+      final SegmentIndexFile indexFile) {
     this.file = file;
     this.descriptor = descriptor;
     this.buffer = buffer;
     this.index = index;
     this.metrics = metrics;
 
-    writer = createWriter(lastWrittenAsqn, metrics);
+    writer = createWriter(lastWrittenAsqn, metrics, indexFile);
+    indexFilePersisted = writer.isLoadedFromIndexFile();
   }
 
   /**
@@ -132,6 +147,8 @@ final class Segment implements AutoCloseable, FlushableSegment {
       return false;
     }
 
+    persistIndex();
+
     LOG.trace(
         "Flushed segment {} from index {} to index {}",
         descriptor.id(),
@@ -190,8 +207,60 @@ final class Segment implements AutoCloseable, FlushableSegment {
     return reader;
   }
 
-  private SegmentWriter createWriter(final long lastWrittenAsqn, final JournalMetrics metrics) {
-    return new SegmentWriter(buffer, this, index, lastWrittenAsqn, metrics);
+  private SegmentWriter createWriter(
+      final long lastWrittenAsqn, final JournalMetrics metrics, final SegmentIndexFile indexFile) {
+    return new SegmentWriter(buffer, this, index, lastWrittenAsqn, metrics, indexFile);
+  }
+
+  /**
+   * Seals the segment once the journal moved on to the next segment. A sealed segment is not
+   * written to anymore, unless the journal is truncated, in which case it must be {@link #unseal()
+   * unsealed} first. Its index is persisted with the next flush, such that the segment does not
+   * have to be scanned on start up.
+   *
+   * <p>Must be called from the writer's thread.
+   */
+  void seal() {
+    if (!indexFilePersisted) {
+      pendingIndexFile = SegmentIndexFile.of(descriptor, writer, index);
+    }
+  }
+
+  /**
+   * Deletes the persisted index of a sealed segment, if any. Must be called before truncating a
+   * sealed segment.
+   */
+  synchronized void unseal() {
+    pendingIndexFile = null;
+    indexFilePersisted = false;
+
+    try {
+      Files.deleteIfExists(file.getIndexFile());
+    } catch (final IOException e) {
+      throw new JournalException(e);
+    }
+  }
+
+  /**
+   * Persists the index of the sealed segment, if it wasn't yet. Must only be called once all
+   * entries of the segment were flushed.
+   */
+  synchronized void persistIndex() {
+    final var indexFile = pendingIndexFile;
+    if (indexFile == null) {
+      return;
+    }
+
+    pendingIndexFile = null;
+    try {
+      indexFile.write(file.getIndexFile());
+      indexFilePersisted = true;
+    } catch (final IOException e) {
+      LOG.warn(
+          "Failed to persist the index of segment {}; it will be scanned on start up instead",
+          this,
+          e);
+    }
   }
 
   /**
@@ -234,6 +303,7 @@ final class Segment implements AutoCloseable, FlushableSegment {
   /** Deletes the segment. */
   void delete() {
     open = false;
+    deleteIndexFile();
     markForDeletion();
     if (readers.isEmpty()) {
       safeDelete();
@@ -259,6 +329,18 @@ final class Segment implements AutoCloseable, FlushableSegment {
     }
   }
 
+  private void deleteIndexFile() {
+    try {
+      Files.deleteIfExists(file.getIndexFile());
+    } catch (final IOException e) {
+      LOG.warn(
+          "Could not delete index file {} of segment {}. This can lead to increased disk usage.",
+          file.getIndexFile(),
+          this,
+          e);
+    }
+  }
+
   @Override
   public String toString() {
     return toStringHelper(this).add("id", id()).add("index", index()).toString();
@@ -34,6 +34,7 @@ public final class SegmentFile {
   private static final String EXTENSION = "log";
   private static final String DELETE_EXTENSION = "deleted";
   private static final char DELETE_EXTENSION_SEPARATOR = '_';
+  private static final String INDEX_EXTENSION = ".idx";
   private final File file;
   private Path fileMarkedForDeletion;
 
@@ -125,6 +126,11 @@ public final class SegmentFile {
     return file.getName();
   }
 
+  /** Returns the path of the file in which the index of a sealed segment is persisted. */
+  public Path getIndexFile() {
+    return file.toPath().resolveSibling(file.getName() + INDEX_EXTENSION);
+  }
+
   public Path getFileMarkedForDeletion() {
     if (fileMarkedForDeletion == null) {
       final String renamedFileName =
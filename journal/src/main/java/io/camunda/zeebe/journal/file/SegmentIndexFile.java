@@ -0,0 +1,272 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.journal.file;
+
+import io.camunda.zeebe.journal.record.PersistedJournalRecord;
+import io.camunda.zeebe.journal.record.RecordData;
+import io.camunda.zeebe.journal.record.RecordMetadata;
+import io.camunda.zeebe.journal.util.ChecksumGenerator;
+import io.camunda.zeebe.util.FileUtil;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * The persisted {@link JournalIndex} entries of a single, sealed segment, along with a descriptor
+ * of the segment's last entry. It is stored next to the segment, and allows loading the segment on
+ * start up without scanning all of its entries.
+ *
+ * <p>The file is only written once all entries of the segment are flushed, and is only trusted if
+ * the segment's last entry is found at the expected position, with the expected checksum, and is
+ * not followed by any other entry. If that is not the case, the segment is scanned as usual.
+ *
+ * <p>The file is encoded as follows, in little endian:
+ *
+ * <ul>
+ *   <li>version (8-bit)
+ *   <li>segment id, first index, last index (64-bit each)
+ *   <li>last entry position (32-bit), last entry checksum, last asqn (64-bit each)
+ *   <li>entry count (32-bit), followed by each entry's index (64-bit), position (32-bit) and asqn
+ *       (64-bit)
+ *   <li>CRC32C checksum of all previous bytes (64-bit)
+ * </ul>
+ */
+final class SegmentIndexFile {
+
+  private static final Logger LOG = LoggerFactory.getLogger(SegmentIndexFile.class);
+  private static final ByteOrder ENDIANNESS = ByteOrder.LITTLE_ENDIAN;
+  private static final byte VERSION = 1;
+  private static final int HEADER_LENGTH = Byte.BYTES + 3 * Long.BYTES + Integer.BYTES;
+  private static final int LAST_ENTRY_LENGTH = Integer.BYTES + 2 * Long.BYTES;
+  private static final int ENTRY_LENGTH = Long.BYTES + Integer.BYTES + Long.BYTES;
+  private static final int CHECKSUM_LENGTH = Long.BYTES;
+  private static final String TEMPORARY_EXTENSION = ".tmp";
+
+  private final long segmentId;
+  private final long firstIndex;
+  private final long lastIndex;
+  private final int lastEntryPosition;
+  private final long lastEntryChecksum;
+  private final long lastAsqn;
+  private final long[] indexes;
+  private final int[] positions;
+  private final long[] asqns;
+
+  private SegmentIndexFile(
+      final long segmentId,
+      final long firstIndex,
+      final long lastIndex,
+      final int lastEntryPosition,
+      final long lastEntryChecksum,
+      final long lastAsqn,
+      final long[] indexes,
+      final int[] positions,
+      final long[] asqns) {
+    this.segmentId = segmentId;
+    this.firstIndex = firstIndex;
+    this.lastIndex = lastIndex;
+    this.lastEntryPosition = lastEntryPosition;
+    this.lastEntryChecksum = lastEntryChecksum;
+    this.lastAsqn = lastAsqn;
+    this.indexes = indexes;
+    this.positions = positions;
+    this.asqns = asqns;
+  }
+
+  /**
+   * Collects the entries of the given index which belong to the given segment. Must be called from
+   * the writer's thread, such that the index is not modified concurrently.
+   *
+   * @return the index file of the segment, or null if the segment is empty
+   */
+  static SegmentIndexFile of(
+      final SegmentDescriptor descriptor, final SegmentWriter writer, final JournalIndex index) {
+    final var lastEntry = writer.getLastEntry();
+    if (lastEntry == null) {
+      return null;
+    }
+
+    final var entries = new EntryCollector();
+    index.forEach(descriptor.index(), lastEntry.index(), entries);
+    return new SegmentIndexFile(
+        descriptor.id(),
+        descriptor.index(),
+        lastEntry.index(),
+        writer.getLastEntryPosition(),
+        lastEntry.checksum(),
+        writer.getLastAsqn(),
+        Arrays.copyOf(entries.indexes, entries.size),
+        Arrays.copyOf(entries.positions, entries.size),
+        Arrays.copyOf(entries.asqns, entries.size));
+  }
+
+  /**
+   * Reads the index file at the given path, if any.
+   *
+   * @return the index file, or null if it does not exist, is invalid, or does not belong to the
+   *     segment with the given descriptor
+   */
+  static SegmentIndexFile read(final Path path, final SegmentDescriptor descriptor) {
+    final byte[] bytes;
+    try {
+      bytes = Files.readAllBytes(path);
+    } catch (final NoSuchFileException e) {
+      return null;
+    } catch (final IOException e) {
+      LOG.warn("Failed to read index file {}, will scan the segment instead", path, e);
+      return null;
+    }
+
+    final var buffer = ByteBuffer.wrap(bytes).order(ENDIANNESS);
+    if (bytes.length < HEADER_LENGTH + LAST_ENTRY_LENGTH + CHECKSUM_LENGTH
+        || buffer.get(0) != VERSION) {
+      LOG.debug("Ignoring index file {} with unknown version or format", path);
+      return null;
+    }
+
+    final int checksumOffset = bytes.length - CHECKSUM_LENGTH;
+    final long checksum = new ChecksumGenerator().compute(buffer, 0, checksumOffset);
+    if (checksum != buffer.getLong(checksumOffset)) {
+      LOG.debug("Ignoring index file {} with invalid checksum", path);
+      return null;
+    }
+
+    buffer.position(Byte.BYTES);
+    final long segmentId = buffer.getLong();
+    final long firstIndex = buffer.getLong();
+    final long lastIndex = buffer.getLong();
+    final int lastEntryPosition = buffer.getInt();
+    final long lastEntryChecksum = buffer.getLong();
+    final long lastAsqn = buffer.getLong();
+    final int entryCount = buffer.getInt();
+    if (segmentId != descriptor.id()
+        || firstIndex != descriptor.index()
+        || (long) entryCount * ENTRY_LENGTH != checksumOffset - buffer.position()) {
+      LOG.debug("Ignoring index file {} which does not match segment {}", path, descriptor);
+      return null;
+    }
+
+    final long[] indexes = new long[entryCount];
+    final int[] positions = new int[entryCount];
+    final long[] asqns = new long[entryCount];
+    for (int i = 0; i < entryCount; i++) {
+      indexes[i] = buffer.getLong();
+      positions[i] = buffer.getInt();
+      asqns[i] = buffer.getLong();
+    }
+
+    return new SegmentIndexFile(
+        segmentId,
+        firstIndex,
+        lastIndex,
+        lastEntryPosition,
+        lastEntryChecksum,
+        lastAsqn,
+        indexes,
+        positions,
+        asqns);
+  }
+
+  /**
+   * Durably writes this index file to the given path. The file is first written to a temporary
+   * file, which then replaces any existing file, such that a partially written file is never
+   * visible.
+   */
+  void write(final Path path) throws IOException {
+    final var buffer =
+        ByteBuffer.allocate(
+                HEADER_LENGTH + LAST_ENTRY_LENGTH + indexes.length * ENTRY_LENGTH + CHECKSUM_LENGTH)
+            .order(ENDIANNESS);
+    buffer
+        .put(VERSION)
+        .putLong(segmentId)
+        .putLong(firstIndex)
+        .putLong(lastIndex)
+        .putInt(lastEntryPosition)
+        .putLong(lastEntryChecksum)
+        .putLong(lastAsqn)
+        .putInt(indexes.length);
+    for (int i = 0; i < indexes.length; i++) {
+      buffer.putLong(indexes[i]).putInt(positions[i]).putLong(asqns[i]);
+    }
+    buffer.putLong(new ChecksumGenerator().compute(buffer, 0, buffer.position()));
+    buffer.flip();
+
+    final var temporaryPath = path.resolveSibling(path.getFileName() + TEMPORARY_EXTENSION);
+    try (final var channel =
+        FileChannel.open(
+            temporaryPath,
+            StandardOpenOption.CREATE,
+            StandardOpenOption.WRITE,
+            StandardOpenOption.TRUNCATE_EXISTING)) {
+      while (buffer.hasRemaining()) {
+        channel.write(buffer);
+      }
+      channel.force(true);
+    }
+
+    FileUtil.moveDurably(
+        temporaryPath, path, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+  }
+
+  /** Adds all persisted entries to the given index. */
+  void restore(final JournalIndex index) {
+    for (int i = 0; i < indexes.length; i++) {
+      final var record =
+          new PersistedJournalRecord(
+              new RecordMetadata(0, 0), new RecordData(indexes[i], asqns[i], null));
+      index.index(record, positions[i]);
+    }
+  }
+
+  long lastIndex() {
+    return lastIndex;
+  }
+
+  int lastEntryPosition() {
+    return lastEntryPosition;
+  }
+
+  long lastEntryChecksum() {
+    return lastEntryChecksum;
+  }
+
+  long lastAsqn() {
+    return lastAsqn;
+  }
+
+  private static final class EntryCollector implements JournalIndex.IndexEntryVisitor {
+    private long[] indexes = new long[16];
+    private int[] positions = new int[16];
+    private long[] asqns = new long[16];
+    private int size;
+
+    @Override
+    public void visit(final long index, final int position, final long asqn) {
+      if (size == indexes.length) {
+        indexes = Arrays.copyOf(indexes, size * 2);
+        positions = Arrays.copyOf(positions, size * 2);
+        asqns = Arrays.copyOf(asqns, size * 2);
+      }
+
+      indexes[size] = index;
+      positions[size] = position;
+      asqns[size] = asqn;
+      size++;
+    }
+  }
+}
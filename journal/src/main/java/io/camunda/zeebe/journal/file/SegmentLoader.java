@@ -79,7 +79,7 @@ final class SegmentLoader {
           e);
     }
 
-    return loadSegment(segmentFile, mappedSegment, descriptor, lastWrittenAsqn, journalIndex);
+    return loadSegment(segmentFile, mappedSegment, descriptor, lastWrittenAsqn, journalIndex, null);
   }
 
   UninitializedSegment createUninitializedSegment(
@@ -124,7 +124,11 @@ final class SegmentLoader {
           String.format("Failed to load existing segment %s", segmentFile), e);
     }
 
-    return loadSegment(segmentFile, mappedSegment, descriptor, lastWrittenAsqn, journalIndex);
+    // if the segment was sealed before, its index may be loaded without scanning the segment
+    final var indexFile =
+        SegmentIndexFile.read(new SegmentFile(segmentFile.toFile()).getIndexFile(), descriptor);
+    return loadSegment(
+        segmentFile, mappedSegment, descriptor, lastWrittenAsqn, journalIndex, indexFile);
   }
 
   /* ---- Internal methods ------ */
@@ -133,9 +137,11 @@ final class SegmentLoader {
       final MappedByteBuffer buffer,
       final SegmentDescriptor descriptor,
       final long lastWrittenAsqn,
-      final JournalIndex journalIndex) {
+      final JournalIndex journalIndex,
+      final SegmentIndexFile indexFile) {
     final SegmentFile segmentFile = new SegmentFile(file.toFile());
-    return new Segment(segmentFile, descriptor, buffer, lastWrittenAsqn, journalIndex, metrics);
+    return new Segment(
+        segmentFile, descriptor, buffer, lastWrittenAsqn, journalIndex, metrics, indexFile);
   }
 
   private MappedByteBuffer mapSegment(final FileChannel channel, final long segmentSize)
@@ -209,6 +215,8 @@ final class SegmentLoader {
     final var maxSegmentSize = descriptor.maxSegmentSize();
 
     checkDiskSpace(segmentPath, maxSegmentSize);
+    // an index file may be left over if we crashed while deleting a segment with the same id
+    Files.deleteIfExists(new SegmentFile(segmentPath.toFile()).getIndexFile());
 
     try (final var channel =
         FileChannel.open(
@@ -19,6 +19,7 @@ package io.camunda.zeebe.journal.file;
 import static io.camunda.zeebe.journal.file.SegmentedJournal.ASQN_IGNORE;
 
 import io.camunda.zeebe.journal.CorruptedJournalException;
+import io.camunda.zeebe.journal.JournalException;
 import io.camunda.zeebe.journal.JournalException.InvalidAsqn;
 import io.camunda.zeebe.journal.JournalException.InvalidChecksum;
 import io.camunda.zeebe.journal.JournalException.InvalidIndex;
@@ -52,19 +53,22 @@ final class SegmentWriter {
   private final long firstAsqn;
   private long lastAsqn;
   private JournalRecord lastEntry;
+  private int lastEntryPosition;
   private final JournalRecordReaderUtil recordUtil;
   private final ChecksumGenerator checksumGenerator = new ChecksumGenerator();
   private final JournalRecordSerializer serializer = new SBESerializer();
   private final MutableDirectBuffer writeBuffer = new UnsafeBuffer();
   private final int descriptorLength;
   private final JournalMetrics metrics;
+  private final boolean loadedFromIndexFile;
 
   SegmentWriter(
       final MappedByteBuffer buffer,
       final Segment segment,
       final JournalIndex index,
       final long lastWrittenAsqn,
-      final JournalMetrics metrics) {
+      final JournalMetrics metrics,
+      final SegmentIndexFile indexFile) {
     this.segment = segment;
     descriptorLength = segment.descriptor().length();
     recordUtil = new JournalRecordReaderUtil(serializer);
@@ -75,7 +79,11 @@ final class SegmentWriter {
     firstAsqn = lastWrittenAsqn + 1;
     lastAsqn = lastWrittenAsqn;
     this.metrics = metrics;
-    reset(0, false);
+
+    loadedFromIndexFile = indexFile != null && load(indexFile);
+    if (!loadedFromIndexFile) {
+      reset(0, false);
+    }
   }
 
   long getLastIndex() {
@@ -94,6 +102,19 @@ final class SegmentWriter {
     return lastAsqn;
   }
 
+  JournalRecord getLastEntry() {
+    return lastEntry;
+  }
+
+  int getLastEntryPosition() {
+    return lastEntryPosition;
+  }
+
+  /** Returns true if the segment was loaded from its index file, instead of being scanned. */
+  boolean isLoadedFromIndexFile() {
+    return loadedFromIndexFile;
+  }
+
   Either<SegmentFull, JournalRecord> append(final JournalRecord record) {
     return append(
         record.index(),
@@ -169,6 +190,7 @@ final class SegmentWriter {
     final var metadata = serializer.readMetadata(writeBuffer, startPosition + frameLength);
     final var data = serializer.readData(writeBuffer, startPosition + frameLength + metadataLength);
     lastEntry = new PersistedJournalRecord(metadata, data);
+    lastEntryPosition = startPosition;
     updateLastAsqn(lastEntry.asqn());
     index.index(lastEntry, startPosition);
   }
@@ -215,6 +237,7 @@ final class SegmentWriter {
         // read version so that buffer's position is advanced
         FrameUtil.readVersion(buffer);
         lastEntry = recordUtil.read(buffer, nextIndex);
+        lastEntryPosition = position;
         updateLastAsqn(lastEntry.asqn());
         nextIndex++;
         this.index.index(lastEntry, position);
@@ -233,6 +256,50 @@ final class SegmentWriter {
     }
   }
 
+  /**
+   * Restores the last entry and the index entries of the segment from the given index file, without
+   * scanning the segment. This is only done if the last entry described by the file is found at the
+   * expected position with the expected checksum, and is not followed by any other entry.
+   *
+   * @return true if the segment was loaded, false if it must be scanned instead
+   */
+  private boolean load(final SegmentIndexFile indexFile) {
+    final int position = indexFile.lastEntryPosition();
+    if (position < descriptorLength
+        || position >= buffer.capacity()
+        || indexFile.lastIndex() < firstIndex
+        || indexFile.lastAsqn() < lastAsqn) {
+      return false;
+    }
+
+    buffer.position(position);
+    try {
+      if (!FrameUtil.hasValidVersion(buffer)) {
+        return false;
+      }
+
+      FrameUtil.readVersion(buffer);
+      final var entry = recordUtil.read(buffer, indexFile.lastIndex());
+      if (entry.checksum() != indexFile.lastEntryChecksum() || FrameUtil.hasValidVersion(buffer)) {
+        return false;
+      }
+
+      lastEntry = entry;
+      lastEntryPosition = position;
+      lastAsqn = indexFile.lastAsqn();
+      indexFile.restore(index);
+      return true;
+    } catch (final BufferUnderflowException | JournalException e) {
+      LOG.debug(
+          "Expected to find the last entry {} of segment {} at position {}, but failed to read it; will scan the segment instead",
+          indexFile.lastIndex(),
+          segment.id(),
+          position,
+          e);
+      return false;
+    }
+  }
+
   private void resetPartiallyWrittenEntry(final CorruptedJournalException e, final int position) {
     LOG.debug(
         "{} Found a corrupted or partially written entry at position {}. Considering it as a partially written entry and resetting the position.",
@@ -102,7 +102,10 @@ final class SegmentedJournalWriter {
     }
 
     // Truncate down to the current index, such that the last index is `index`, and the next index
-    // `index + 1`
+    // `index + 1`; if the segment was sealed before, it will be written to again
+    if (index < currentWriter.getLastIndex()) {
+      currentSegment.unseal();
+    }
     currentWriter.truncate(index);
   }
 
@@ -114,7 +117,14 @@ final class SegmentedJournalWriter {
   }
 
   private void createNewSegment() {
+    final var previousSegment = currentSegment;
     currentSegment = segments.getNextSegment();
     currentWriter = currentSegment.writer();
+
+    // the previous segment's index is persisted once it's flushed, which may already be the case
+    previousSegment.seal();
+    if (previousSegment.lastIndex() < flusher.nextFlushIndex()) {
+      previousSegment.persistIndex();
+    }
   }
 }
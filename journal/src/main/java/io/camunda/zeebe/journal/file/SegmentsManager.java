@@ -380,6 +380,16 @@ final class SegmentsManager implements AutoCloseable {
                   .formatted(lastFlushedIndex, segment.lastIndex()));
         }
 
+        if (isLastSegment) {
+          // the last segment is written to, so any persisted index would soon be outdated
+          segment.unseal();
+        } else {
+          segment.seal();
+          if (segment.lastIndex() <= lastFlushedIndex) {
+            segment.persistIndex();
+          }
+        }
+
         segments.add(segment);
         previousSegment = segment;
       } catch (final CorruptedJournalException e) {
@@ -439,6 +449,7 @@ final class SegmentsManager implements AutoCloseable {
     for (int i = failedIndex; i < files.size(); i++) {
       final File file = files.get(i);
       try {
+        Files.deleteIfExists(new SegmentFile(file).getIndexFile());
         Files.delete(file.toPath());
       } catch (final IOException e) {
         throw new JournalException(
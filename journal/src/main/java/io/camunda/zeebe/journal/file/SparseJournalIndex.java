@@ -16,17 +16,29 @@
 package io.camunda.zeebe.journal.file;
 
 import io.camunda.zeebe.journal.JournalRecord;
-import java.util.Map;
-import java.util.TreeMap;
+import java.util.Arrays;
 
+/**
+ * Indexes every {@code density}-th record. Since records are always indexed in increasing order of
+ * their index (and asqn), the entries are kept in sorted, append-only primitive arrays and looked
+ * up via binary search. Truncating the index is then only a matter of adjusting the number of valid
+ * entries, and lookups do not allocate (beyond the returned values).
+ */
 final class SparseJournalIndex implements JournalIndex {
 
+  private static final int INITIAL_CAPACITY = 64;
+
   private final int density;
-  private final TreeMap<Long, Integer> indexToPosition = new TreeMap<>();
-  private final TreeMap<Long, Long> asqnToIndex = new TreeMap<>();
-  // This is added to make deleteAfter and deleteUntil easier.
-  // TODO: Check if this can be improved. https://github.com/zeebe-io/zeebe/issues/6220
-  private final TreeMap<Long, Long> indexToAsqn = new TreeMap<>();
+
+  // the index and position of every indexed record, sorted by index
+  private long[] indexes = new long[INITIAL_CAPACITY];
+  private int[] positions = new int[INITIAL_CAPACITY];
+  private int size;
+
+  // the index and asqn of every indexed record which has an asqn, sorted by both index and asqn
+  private long[] asqnIndexes = new long[INITIAL_CAPACITY];
+  private long[] asqns = new long[INITIAL_CAPACITY];
+  private int asqnSize;
 
   SparseJournalIndex(final int density) {
     this.density = density;
@@ -35,20 +47,39 @@ final class SparseJournalIndex implements JournalIndex {
   @Override
   public void index(final JournalRecord indexedEntry, final int position) {
     final long index = indexedEntry.index();
-    if (index % density == 0) {
-      indexToPosition.put(index, position);
-      final long asqn = indexedEntry.asqn();
-      if (asqn != SegmentedJournal.ASQN_IGNORE) {
-        asqnToIndex.put(asqn, index);
-        indexToAsqn.put(index, asqn);
+    if (index % density != 0) {
+      return;
+    }
+
+    // re-indexing an entry replaces it and everything after it, which keeps the arrays sorted
+    if (size > 0 && indexes[size - 1] >= index) {
+      deleteAfter(index - 1);
+    }
+
+    if (size == indexes.length) {
+      indexes = Arrays.copyOf(indexes, size * 2);
+      positions = Arrays.copyOf(positions, size * 2);
+    }
+    indexes[size] = index;
+    positions[size] = position;
+    size++;
+
+    final long asqn = indexedEntry.asqn();
+    if (asqn != SegmentedJournal.ASQN_IGNORE) {
+      if (asqnSize == asqns.length) {
+        asqnIndexes = Arrays.copyOf(asqnIndexes, asqnSize * 2);
+        asqns = Arrays.copyOf(asqns, asqnSize * 2);
       }
+      asqnIndexes[asqnSize] = index;
+      asqns[asqnSize] = asqn;
+      asqnSize++;
     }
   }
 
   @Override
   public IndexInfo lookup(final long index) {
-    final Map.Entry<Long, Integer> entry = indexToPosition.floorEntry(index);
-    return entry != null ? new IndexInfo(entry.getKey(), entry.getValue()) : null;
+    final int entry = floor(indexes, size, index);
+    return entry >= 0 ? new IndexInfo(indexes[entry], positions[entry]) : null;
   }
 
   @Override
@@ -58,45 +89,76 @@ final class SparseJournalIndex implements JournalIndex {
 
   @Override
   public Long lookupAsqn(final long asqn, final long indexUpperBound) {
-    final Map.Entry<Long, Long> entry = asqnToIndex.floorEntry(asqn);
-    if (entry != null) {
-      if (entry.getValue() <= indexUpperBound) {
-        return entry.getValue();
-      } else {
-        return indexToAsqn.floorKey(indexUpperBound);
-      }
+    final int entry = floor(asqns, asqnSize, asqn);
+    if (entry < 0) {
+      return null;
+    }
+
+    if (asqnIndexes[entry] <= indexUpperBound) {
+      return asqnIndexes[entry];
     }
-    return null;
+
+    final int boundedEntry = floor(asqnIndexes, asqnSize, indexUpperBound);
+    return boundedEntry >= 0 ? asqnIndexes[boundedEntry] : null;
   }
 
   @Override
   public void deleteAfter(final long index) {
-    indexToPosition.tailMap(index, false).clear();
-    final var asqnEntryToDelete = indexToAsqn.ceilingEntry(index);
-    if (asqnEntryToDelete != null) {
-      final var asqnToDelete = asqnEntryToDelete.getValue();
-      indexToAsqn.tailMap(index, false).clear();
-      final boolean include = asqnEntryToDelete.getKey() > index;
-      asqnToIndex.tailMap(asqnToDelete, include).clear();
-    }
+    size = floor(indexes, size, index) + 1;
+    asqnSize = floor(asqnIndexes, asqnSize, index) + 1;
   }
 
   @Override
   public void deleteUntil(final long index) {
-    indexToPosition.headMap(index, false).clear();
+    // remove all entries lower than the given index
+    final int firstRetained = floor(indexes, size, index - 1) + 1;
+    if (firstRetained > 0) {
+      size -= firstRetained;
+      System.arraycopy(indexes, firstRetained, indexes, 0, size);
+      System.arraycopy(positions, firstRetained, positions, 0, size);
+    }
 
-    final var asqnEntryToDelete = indexToAsqn.floorEntry(index);
-    if (asqnEntryToDelete != null) {
-      final var asqnToDelete = asqnEntryToDelete.getValue();
-      indexToAsqn.headMap(index, false).clear();
-      asqnToIndex.headMap(asqnToDelete, false).clear();
+    // keep the asqn of the entry at or before the given index, such that the asqns up to it can
+    // still be looked up
+    final int firstRetainedAsqn = floor(asqnIndexes, asqnSize, index);
+    if (firstRetainedAsqn > 0) {
+      asqnSize -= firstRetainedAsqn;
+      System.arraycopy(asqnIndexes, firstRetainedAsqn, asqnIndexes, 0, asqnSize);
+      System.arraycopy(asqns, firstRetainedAsqn, asqns, 0, asqnSize);
     }
   }
 
   @Override
   public void clear() {
-    indexToPosition.clear();
-    indexToAsqn.clear();
-    asqnToIndex.clear();
+    size = 0;
+    asqnSize = 0;
+  }
+
+  @Override
+  public void forEach(final long fromIndex, final long toIndex, final IndexEntryVisitor visitor) {
+    int asqnEntry = floor(asqnIndexes, asqnSize, fromIndex - 1) + 1;
+    for (int entry = floor(indexes, size, fromIndex - 1) + 1;
+        entry < size && indexes[entry] <= toIndex;
+        entry++) {
+      final long index = indexes[entry];
+      while (asqnEntry < asqnSize && asqnIndexes[asqnEntry] < index) {
+        asqnEntry++;
+      }
+
+      final long asqn =
+          asqnEntry < asqnSize && asqnIndexes[asqnEntry] == index
+              ? asqns[asqnEntry]
+              : SegmentedJournal.ASQN_IGNORE;
+      visitor.visit(index, positions[entry], asqn);
+    }
+  }
+
+  /**
+   * Returns the position of the greatest value in the first {@code length} entries of the sorted
+   * array which is less than or equal to the given key, or -1 if there is none.
+   */
+  private static int floor(final long[] sortedValues, final int length, final long key) {
+    final int result = Arrays.binarySearch(sortedValues, 0, length, key);
+    return result >= 0 ? result : -result - 2;
   }
 }
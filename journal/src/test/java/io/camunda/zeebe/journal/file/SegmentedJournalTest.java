@@ -30,6 +30,7 @@ import io.camunda.zeebe.util.buffer.BufferUtil;
 import io.camunda.zeebe.util.buffer.DirectBufferWriter;
 import java.io.File;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.time.Duration;
 import java.util.Objects;
@@ -380,6 +381,93 @@ class SegmentedJournalTest {
         .isEqualTo(indexBeforeClose.lookup(secondIndexedPosition).position());
   }
 
+  @Test
+  void shouldPersistIndexOfSealedSegmentsOnFlush() {
+    // given
+    journal = openJournal(2);
+    journal.append(1, journalFactory.entry());
+    journal.append(2, journalFactory.entry());
+    journal.append(3, journalFactory.entry());
+    final var sealedSegment = journal.getFirstSegment();
+    final var lastSegment = journal.getSegment(3);
+
+    // when
+    journal.flush();
+
+    // then
+    assertThat(sealedSegment.file().getIndexFile()).exists();
+    assertThat(lastSegment.file().getIndexFile()).doesNotExist();
+  }
+
+  @Test
+  void shouldLoadSealedSegmentsFromIndexFileAfterRestart() {
+    // given
+    journal = openJournal(2);
+    for (int i = 1; i <= 5; i++) {
+      journal.append(i, journalFactory.entry());
+    }
+    final var indexBeforeClose = journal.getJournalIndex();
+    final var positionsBeforeClose = new IndexInfo[5];
+    for (int i = 1; i <= 5; i++) {
+      positionsBeforeClose[i - 1] = indexBeforeClose.lookup(i);
+    }
+
+    // when
+    journal.close();
+    journal = openJournal(2);
+
+    // then
+    assertThat(journal.getFirstSegment().writer().isLoadedFromIndexFile()).isTrue();
+    assertThat(journal.getSegment(3).writer().isLoadedFromIndexFile()).isTrue();
+    assertThat(journal.getSegment(5).writer().isLoadedFromIndexFile()).isFalse();
+    assertThat(journal.getLastIndex()).isEqualTo(5);
+    for (int i = 1; i <= 5; i++) {
+      assertThat(journal.getJournalIndex().lookup(i)).isEqualTo(positionsBeforeClose[i - 1]);
+      assertThat(journal.getJournalIndex().lookupAsqn(i)).isEqualTo(i);
+    }
+    assertThat(journal.append(6, journalFactory.entry()).index()).isEqualTo(6);
+  }
+
+  @Test
+  void shouldScanSealedSegmentIfIndexFileIsInvalid() throws Exception {
+    // given
+    journal = openJournal(2);
+    journal.append(1, journalFactory.entry());
+    journal.append(2, journalFactory.entry());
+    journal.append(3, journalFactory.entry());
+    final var indexFile = journal.getFirstSegment().file().getIndexFile();
+    journal.close();
+    final byte[] content = Files.readAllBytes(indexFile);
+    content[content.length / 2] ^= 1;
+    Files.write(indexFile, content);
+
+    // when
+    journal = openJournal(2);
+
+    // then
+    assertThat(journal.getFirstSegment().writer().isLoadedFromIndexFile()).isFalse();
+    assertThat(journal.getFirstSegment().lastIndex()).isEqualTo(2);
+    assertThat(journal.getJournalIndex().lookup(2).index()).isEqualTo(2);
+  }
+
+  @Test
+  void shouldDeleteIndexFileWhenTruncatingSealedSegment() {
+    // given
+    journal = openJournal(2);
+    journal.append(1, journalFactory.entry());
+    journal.append(2, journalFactory.entry());
+    journal.append(3, journalFactory.entry());
+    journal.flush();
+    final var indexFile = journal.getFirstSegment().file().getIndexFile();
+
+    // when
+    journal.deleteAfter(1);
+
+    // then
+    assertThat(indexFile).doesNotExist();
+    assertThat(journal.getLastIndex()).isOne();
+  }
+
   @Test
   void shouldContinueAppendAfterDetectingPartiallyWrittenDescriptor() throws Exception {
     // given
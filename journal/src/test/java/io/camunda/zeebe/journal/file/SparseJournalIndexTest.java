@@ -21,6 +21,8 @@ import static org.junit.jupiter.api.Assertions.assertNull;
 
 import io.camunda.zeebe.journal.JournalRecord;
 import io.camunda.zeebe.journal.util.TestJournalRecord;
+import java.util.ArrayList;
+import java.util.List;
 import org.junit.jupiter.api.Test;
 
 /** Sparse journal index test. */
@@ -239,4 +241,84 @@ class SparseJournalIndexTest {
     assertEquals(4, index.lookupAsqn(Long.MAX_VALUE, 5));
     assertEquals(6, index.lookupAsqn(Long.MAX_VALUE, 6));
   }
+
+  @Test
+  void shouldIndexManyEntries() {
+    // given - every 2nd index is added, more entries than the initial capacity
+    final JournalIndex index = new SparseJournalIndex(2);
+
+    // when
+    for (int i = 1; i <= 1_000; i++) {
+      index.index(asJournalRecord(i, i * 10L), i * 2);
+    }
+
+    // then
+    assertEquals(2, index.lookup(3).index());
+    assertEquals(4, index.lookup(3).position());
+    assertEquals(1_000, index.lookup(1_001).index());
+    assertEquals(2_000, index.lookup(1_001).position());
+    assertEquals(500, index.lookupAsqn(5_005));
+    assertNull(index.lookupAsqn(19));
+  }
+
+  @Test
+  void shouldReplaceEntriesWhenReindexed() {
+    // given - every 2nd index is added
+    final JournalIndex index = new SparseJournalIndex(2);
+    index.index(asJournalRecord(2, 20), 4);
+    index.index(asJournalRecord(4, 40), 8);
+    index.index(asJournalRecord(6, 60), 12);
+
+    // when - the same index is written again, e.g. after a truncation on a follower
+    index.index(asJournalRecord(4, 45), 9);
+
+    // then
+    assertEquals(4, index.lookup(6).index());
+    assertEquals(9, index.lookup(6).position());
+    assertEquals(4, index.lookupAsqn(60));
+    assertEquals(2, index.lookupAsqn(44));
+  }
+
+  @Test
+  void shouldIndexAfterCompaction() {
+    // given - every 2nd index is added
+    final JournalIndex index = new SparseJournalIndex(2);
+    index.index(asJournalRecord(2, 20), 4);
+    index.index(asJournalRecord(4, 40), 8);
+    index.index(asJournalRecord(6, 60), 12);
+    index.deleteUntil(5);
+
+    // when
+    index.index(asJournalRecord(8, 80), 16);
+
+    // then
+    assertNull(index.lookup(5));
+    assertEquals(6, index.lookup(7).index());
+    assertEquals(8, index.lookup(8).index());
+    assertEquals(16, index.lookup(8).position());
+    assertEquals(4, index.lookupAsqn(50));
+    assertEquals(8, index.lookupAsqn(80));
+  }
+
+  @Test
+  void shouldVisitEntriesWithinBounds() {
+    // given
+    final JournalIndex index = new SparseJournalIndex(2);
+    for (int i = 1; i <= 10; i++) {
+      final long asqn = i == 6 ? SegmentedJournal.ASQN_IGNORE : i;
+      index.index(asJournalRecord(i, asqn), i * 10);
+    }
+    final List<List<Long>> visited = new ArrayList<>();
+
+    // when
+    index.forEach(3, 8, (i, position, asqn) -> visited.add(List.of(i, (long) position, asqn)));
+
+    // then
+    assertEquals(
+        List.of(
+            List.of(4L, 40L, 4L),
+            List.of(6L, 60L, SegmentedJournal.ASQN_IGNORE),
+            List.of(8L, 80L, 8L)),
+        visited);
+  }
 }
@@ -17,9 +17,7 @@ import io.camunda.zeebe.scheduler.clock.ActorClock;
 import java.io.Closeable;
 import java.util.List;
 import java.util.Objects;
-import java.util.Queue;
-import java.util.concurrent.ArrayBlockingQueue;
-import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.atomic.AtomicLong;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -32,22 +30,56 @@ import org.slf4j.LoggerFactory;
  * <p>The sequencer assigns all entries a position and makes that position available to its
  * consumer. The sequencer does not copy or serialize entries, it only keeps a reference to them
  * until they are handed off to the consumer.
+ *
+ * <p>The queue is a lock-free ring buffer of pre-allocated slots. A producer claims the positions
+ * of its batch by atomically incrementing the next position, and then publishes the batch in the
+ * slot of its first position. The consumer reads the slots in the order of their positions, and
+ * waits for a claimed slot until it is published. As long as the first positions of all batches in
+ * the queue lie within a window of {@code capacity} positions, no two of them share a slot, which
+ * is why writes are rejected when a batch would start outside of this window.
  */
 final class Sequencer implements LogStreamWriter, Closeable {
+  static final int DEFAULT_CAPACITY = 4 * 1024;
+
   private static final Logger LOG = LoggerFactory.getLogger(Sequencer.class);
+  private static final long EMPTY_SLOT = -1;
+
   private final int maxFragmentSize;
+  private final int capacity;
+  private final int mask;
+  private final Slot[] slots;
 
-  private volatile long position;
+  private final AtomicLong position;
+  // only modified by the consumer; the next position it expects to read
+  private volatile long readPosition;
   private volatile boolean isClosed = false;
   private volatile ActorCondition consumer;
-  private final Queue<SequencedBatch> queue = new ArrayBlockingQueue<>(128);
-  private final ReentrantLock lock = new ReentrantLock();
   private final SequencerMetrics metrics;
 
   Sequencer(final long initialPosition, final int maxFragmentSize, final SequencerMetrics metrics) {
+    this(initialPosition, maxFragmentSize, DEFAULT_CAPACITY, metrics);
+  }
+
+  Sequencer(
+      final long initialPosition,
+      final int maxFragmentSize,
+      final int capacity,
+      final SequencerMetrics metrics) {
+    if (Integer.bitCount(capacity) != 1) {
+      throw new IllegalArgumentException(
+          "Expected capacity to be a power of two, but was %d".formatted(capacity));
+    }
+
     LOG.trace("Starting new sequencer at position {}", initialPosition);
-    position = initialPosition;
+    position = new AtomicLong(initialPosition);
+    readPosition = initialPosition;
     this.maxFragmentSize = maxFragmentSize;
+    this.capacity = capacity;
+    mask = capacity - 1;
+    slots = new Slot[capacity];
+    for (int i = 0; i < capacity; i++) {
+      slots[i] = new Slot();
+    }
     this.metrics = Objects.requireNonNull(metrics, "must specify metrics");
   }
 
@@ -80,43 +112,49 @@ final class Sequencer implements LogStreamWriter, Closeable {
       return 0;
     }
 
-    final long currentPosition;
-    final boolean isEnqueued;
-    lock.lock();
-    try {
-      currentPosition = position;
-      final var sequencedBatch =
-          new SequencedBatch(
-              ActorClock.currentTimeMillis(), currentPosition, sourcePosition, appendEntries);
-      isEnqueued = queue.offer(sequencedBatch);
-      if (isEnqueued) {
-        metrics.observeBatchLengthBytes(sequencedBatch.length());
-        position = currentPosition + batchSize;
-      }
-    } finally {
-      lock.unlock();
-    }
-
-    if (consumer != null) {
-      consumer.signal();
-    }
-    metrics.setQueueSize(queue.size());
-    if (isEnqueued) {
-      metrics.observeBatchSize(batchSize);
-      return currentPosition + batchSize - 1;
-    } else {
+    final long currentPosition = claim(batchSize);
+    if (currentPosition < 0) {
+      signalConsumer();
+      metrics.rejectedWrite();
       LOG.trace("Rejecting write of {}, sequencer queue is full", appendEntries);
       return -1;
     }
+
+    final var slot = slots[(int) (currentPosition & mask)];
+    slot.timestamp = ActorClock.currentTimeMillis();
+    slot.sourcePosition = sourcePosition;
+    slot.entries = appendEntries;
+    // publishing the position makes the slot's content visible to the consumer
+    slot.publishedPosition = currentPosition;
+
+    signalConsumer();
+    metrics.setQueueSize(currentPosition + batchSize - readPosition);
+    metrics.observeBatchSize(batchSize);
+    return currentPosition + batchSize - 1;
   }
 
   /**
-   * Retrieves, but does not remove, the first item in the sequenced batch queue.
+   * Retrieves and removes the next sequenced batch, if it was already published.
    *
    * @return A {@link SequencedBatch} or null if none is available
    */
   SequencedBatch tryRead() {
-    return queue.poll();
+    final long nextPosition = readPosition;
+    final var slot = slots[(int) (nextPosition & mask)];
+    if (slot.publishedPosition != nextPosition) {
+      return null;
+    }
+
+    final var sequencedBatch =
+        new SequencedBatch(slot.timestamp, nextPosition, slot.sourcePosition, slot.entries);
+    slot.entries = null;
+    slot.publishedPosition = EMPTY_SLOT;
+    // only now may producers claim positions which map to the slot again
+    readPosition = nextPosition + sequencedBatch.entries().size();
+
+    metrics.observeBatchLengthBytes(sequencedBatch.length());
+    metrics.setQueueSize(position.get() - readPosition);
+    return sequencedBatch;
   }
 
   /**
@@ -133,10 +171,44 @@ final class Sequencer implements LogStreamWriter, Closeable {
     this.consumer = consumer;
   }
 
+  /**
+   * Claims the positions for a batch of the given size.
+   *
+   * @return the first claimed position, or -1 if the batch would start outside of the window of
+   *     positions which can be queued
+   */
+  private long claim(final int batchSize) {
+    while (true) {
+      final long currentPosition = position.get();
+      // the read position only increases, so a stale value can only lead to false rejections
+      if (currentPosition - readPosition >= capacity) {
+        return -1;
+      }
+
+      if (position.compareAndSet(currentPosition, currentPosition + batchSize)) {
+        return currentPosition;
+      }
+    }
+  }
+
+  private void signalConsumer() {
+    final var currentConsumer = consumer;
+    if (currentConsumer != null) {
+      currentConsumer.signal();
+    }
+  }
+
   private boolean isEntryValid(final LogAppendEntry entry) {
     return entry.recordValue() != null
         && entry.recordValue().getLength() > 0
         && entry.recordMetadata() != null
         && entry.recordMetadata().getLength() > 0;
   }
+
+  private static final class Slot {
+    private long timestamp;
+    private long sourcePosition;
+    private List<LogAppendEntry> entries;
+    private volatile long publishedPosition = EMPTY_SLOT;
+  }
 }
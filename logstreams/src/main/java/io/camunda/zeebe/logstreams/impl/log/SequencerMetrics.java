@@ -7,6 +7,7 @@
  */
 package io.camunda.zeebe.logstreams.impl.log;
 
+import io.prometheus.client.Counter;
 import io.prometheus.client.Gauge;
 import io.prometheus.client.Histogram;
 
@@ -16,7 +17,16 @@ final class SequencerMetrics {
           .namespace("zeebe")
           .name("sequencer_queue_size")
           .help(
-              "Current length of queue, i.e. how many entry batches are available to the appender")
+              "Current length of queue, i.e. how many entries are sequenced but not yet taken by"
+                  + " the appender")
+          .labelNames("partition")
+          .register();
+
+  private static final Counter REJECTED_WRITES =
+      Counter.build()
+          .namespace("zeebe")
+          .name("sequencer_rejected_writes_total")
+          .help("Number of writes which were rejected because the queue was full")
           .labelNames("partition")
           .register();
 
@@ -39,20 +49,26 @@ final class SequencerMetrics {
           .register();
 
   private final Gauge.Child queueSize;
+  private final Counter.Child rejectedWrites;
   private final Histogram.Child batchSize;
   private final Histogram.Child batchLengthBytes;
 
   SequencerMetrics(final int partitionId) {
     final var partitionLabel = String.valueOf(partitionId);
     queueSize = QUEUE_SIZE.labels(partitionLabel);
+    rejectedWrites = REJECTED_WRITES.labels(partitionLabel);
     batchSize = BATCH_SIZE.labels(partitionLabel);
     batchLengthBytes = BATCH_LENGTH_BYTES.labels(partitionLabel);
   }
 
-  void setQueueSize(final int length) {
+  void setQueueSize(final long length) {
     queueSize.set(length);
   }
 
+  void rejectedWrite() {
+    rejectedWrites.inc();
+  }
+
   void observeBatchSize(final int size) {
     batchSize.observe(size);
   }
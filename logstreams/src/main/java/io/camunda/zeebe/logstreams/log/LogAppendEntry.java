@@ -25,6 +25,14 @@ public interface LogAppendEntry {
    */
   int sourceIndex();
 
+  /**
+   * @return the position of the record which caused that entry, if it differs from the source
+   *     position of its batch; a negative value otherwise, which is the default
+   */
+  default long sourcePosition() {
+    return -1;
+  }
+
   /**
    * @return metadata of the record, like ValueType, Intent, RecordType etc.
    */
@@ -102,4 +110,17 @@ public interface LogAppendEntry {
   static LogAppendEntry ofProcessed(final LogAppendEntry entry) {
     return new ProcessedLogAppendEntryImpl(entry);
   }
+
+  /**
+   * Creates a new {@link LogAppendEntry} which wraps the given {@link LogAppendEntry} and points to
+   * the given source position, instead of the source position of the batch it is written with. This
+   * allows to write the follow-up records of multiple commands as a single batch.
+   *
+   * @param entry the entry which should be written to the log
+   * @param sourcePosition the position of the record which caused that entry
+   * @return a simple value class implementation of a {@link LogAppendEntry} with the parameters
+   */
+  static LogAppendEntry ofSourcePosition(final LogAppendEntry entry, final long sourcePosition) {
+    return new SourcedLogAppendEntryImpl(entry, sourcePosition);
+  }
 }
@@ -183,6 +183,63 @@ final class SequencerTest {
     Mockito.verify(consumer).signal();
   }
 
+  @Test
+  void rejectsWritesWhenCapacityIsReached() {
+    // given
+    final var sequencer = new Sequencer(1, 16 * 1024 * 1024, 4, new SequencerMetrics(1));
+    sequencer.tryWrite(List.of(TestEntry.ofKey(1), TestEntry.ofKey(2), TestEntry.ofKey(3)));
+    sequencer.tryWrite(TestEntry.ofKey(4));
+
+    // when
+    final var result = sequencer.tryWrite(TestEntry.ofKey(5));
+
+    // then
+    Assertions.assertThat(result).isNegative();
+  }
+
+  @Test
+  void acceptsWritesAgainAfterRead() {
+    // given
+    final var sequencer = new Sequencer(1, 16 * 1024 * 1024, 4, new SequencerMetrics(1));
+    sequencer.tryWrite(List.of(TestEntry.ofKey(1), TestEntry.ofKey(2), TestEntry.ofKey(3)));
+    sequencer.tryWrite(TestEntry.ofKey(4));
+    Assertions.assertThat(sequencer.tryWrite(TestEntry.ofKey(5))).isNegative();
+
+    // when
+    sequencer.tryRead();
+    final var result = sequencer.tryWrite(TestEntry.ofKey(5));
+
+    // then
+    Assertions.assertThat(result).isEqualTo(5);
+    Assertions.assertThat(sequencer.tryRead().firstPosition()).isEqualTo(4);
+    Assertions.assertThat(sequencer.tryRead().firstPosition()).isEqualTo(5);
+    Assertions.assertThat(sequencer.tryRead()).isNull();
+  }
+
+  @Test
+  void acceptsBatchLargerThanCapacity() {
+    // given
+    final var sequencer = new Sequencer(1, 16 * 1024 * 1024, 2, new SequencerMetrics(1));
+    final var entries =
+        List.of(TestEntry.ofKey(1), TestEntry.ofKey(2), TestEntry.ofKey(3), TestEntry.ofKey(4));
+
+    // when
+    final var result = sequencer.tryWrite(entries);
+
+    // then
+    Assertions.assertThat(result).isEqualTo(4);
+    Assertions.assertThat(sequencer.tryWrite(TestEntry.ofKey(5))).isNegative();
+    Assertions.assertThat(sequencer.tryRead().entries()).containsExactlyElementsOf(entries);
+  }
+
+  @Test
+  void rejectsCapacityWhichIsNotAPowerOfTwo() {
+    // when - then
+    Assertions.assertThatThrownBy(
+            () -> new Sequencer(1, 16 * 1024 * 1024, 3, new SequencerMetrics(1)))
+        .isInstanceOf(IllegalArgumentException.class);
+  }
+
   @Test
   void keepsPositionsWithSingleWriter() throws InterruptedException {
     // given
@@ -15,7 +15,7 @@ import java.util.Iterator;
 import java.util.stream.Stream;
 import java.util.stream.StreamSupport;
 
-public final class ArrayProperty<T extends BaseValue> extends BaseProperty<ArrayValue<T>>
+public final class ArrayProperty<T extends BaseValue> extends LazyProperty<ArrayValue<T>>
     implements ValueArray<T> {
   public ArrayProperty(final String keyString, final T innerValue) {
     super(keyString, new ArrayValue<>(innerValue));
@@ -36,7 +36,7 @@ public final class ArrayProperty<T extends BaseValue> extends BaseProperty<Array
   @Override
   public T add() {
     try {
-      return value.add();
+      return resolveValue().add();
     } catch (final Exception e) {
       throw new MsgpackPropertyException(getKey(), e);
     }
@@ -50,6 +50,6 @@ public final class ArrayProperty<T extends BaseValue> extends BaseProperty<Array
   }
 
   public boolean isEmpty() {
-    return value.isEmpty();
+    return resolveValue().isEmpty();
   }
 }
@@ -14,6 +14,7 @@ import io.camunda.zeebe.msgpack.spec.MsgPackWriter;
 import io.camunda.zeebe.msgpack.value.BaseValue;
 import io.camunda.zeebe.msgpack.value.StringValue;
 import java.util.Objects;
+import org.agrona.DirectBuffer;
 
 public abstract class BaseProperty<T extends BaseValue> implements Recyclable {
   protected final StringValue key;
@@ -48,6 +49,31 @@ public abstract class BaseProperty<T extends BaseValue> implements Recyclable {
     value.reset();
   }
 
+  /**
+   * Reads the property lazily: the encoded value is only decoded once the property is accessed, and
+   * is written as is until then. Only supported if {@link #canDecodeLazily()} returns true.
+   *
+   * @param buffer the buffer containing the encoded value
+   * @param offset the offset of the encoded value in the buffer
+   * @param length the length of the encoded value
+   * @param copy if true, the encoded value is copied, so the given buffer may be reused afterwards;
+   *     otherwise, the buffer must not be modified until the property is decoded or reset
+   */
+  public void wrapEncodedValue(
+      final DirectBuffer buffer, final int offset, final int length, final boolean copy) {
+    throw new UnsupportedOperationException(
+        "Expected to read property '%s' lazily, but it can't be decoded lazily".formatted(key));
+  }
+
+  /**
+   * Returns true if decoding the value is worth deferring until it is accessed. Values which are
+   * only wrapped when decoded, e.g. strings or numbers, are read right away, as deferring them
+   * would not save anything.
+   */
+  public boolean canDecodeLazily() {
+    return false;
+  }
+
   public boolean hasValue() {
     return isSet || defaultValue != null;
   }
@@ -57,6 +83,8 @@ public abstract class BaseProperty<T extends BaseValue> implements Recyclable {
   }
 
   protected T resolveValue() {
+    decodeValue();
+
     if (isSet) {
       return value;
     } else if (defaultValue != null) {
@@ -101,8 +129,12 @@ public abstract class BaseProperty<T extends BaseValue> implements Recyclable {
     }
   }
 
+  /** Decodes the value if it was read lazily and was not decoded yet. */
+  protected void decodeValue() {}
+
   @Override
   public int hashCode() {
+    decodeValue();
     return Objects.hash(getKey(), value, defaultValue, isSet);
   }
 
@@ -126,6 +158,7 @@ public abstract class BaseProperty<T extends BaseValue> implements Recyclable {
     final StringBuilder builder = new StringBuilder();
     builder.append(key.toString());
     builder.append(" => ");
+    decodeValue();
     builder.append(value.toString());
     return builder.toString();
   }
@@ -0,0 +1,123 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.msgpack.property;
+
+import io.camunda.zeebe.msgpack.MsgpackPropertyException;
+import io.camunda.zeebe.msgpack.spec.MsgPackReader;
+import io.camunda.zeebe.msgpack.spec.MsgPackWriter;
+import io.camunda.zeebe.msgpack.value.BaseValue;
+import org.agrona.DirectBuffer;
+import org.agrona.ExpandableArrayBuffer;
+import org.agrona.concurrent.UnsafeBuffer;
+
+/**
+ * A property whose value can be read lazily, i.e. it's only decoded once it's accessed. This is
+ * worth it for values which are decoded into nested properties, like arrays and objects, but not
+ * for scalar values. The buffers to hold the encoded value are only allocated once the property is
+ * read lazily for the first time.
+ */
+abstract class LazyProperty<T extends BaseValue> extends BaseProperty<T> {
+
+  // the encoded value, as long as it was read lazily and not decoded yet
+  private UnsafeBuffer encodedValue;
+  private ExpandableArrayBuffer encodedValueCopy;
+  private MsgPackReader encodedValueReader;
+
+  LazyProperty(final String keyString, final T value) {
+    super(keyString, value);
+  }
+
+  LazyProperty(final String keyString, final T value, final T defaultValue) {
+    super(keyString, value, defaultValue);
+  }
+
+  @Override
+  public void set() {
+    super.set();
+    clearEncodedValue();
+  }
+
+  @Override
+  public void reset() {
+    super.reset();
+    clearEncodedValue();
+  }
+
+  @Override
+  public void wrapEncodedValue(
+      final DirectBuffer buffer, final int offset, final int length, final boolean copy) {
+    value.reset();
+    if (encodedValue == null) {
+      encodedValue = new UnsafeBuffer(0, 0);
+    }
+
+    if (copy) {
+      if (encodedValueCopy == null) {
+        encodedValueCopy = new ExpandableArrayBuffer(length);
+      }
+      encodedValueCopy.putBytes(0, buffer, offset, length);
+      encodedValue.wrap(encodedValueCopy, 0, length);
+    } else {
+      encodedValue.wrap(buffer, offset, length);
+    }
+    isSet = true;
+  }
+
+  @Override
+  public boolean canDecodeLazily() {
+    return true;
+  }
+
+  @Override
+  public int getEncodedLength() {
+    if (isEncoded()) {
+      return key.getEncodedLength() + encodedValue.capacity();
+    }
+
+    return super.getEncodedLength();
+  }
+
+  @Override
+  public void write(final MsgPackWriter writer) {
+    if (isEncoded()) {
+      key.write(writer);
+      writer.writeRaw(encodedValue);
+    } else {
+      super.write(writer);
+    }
+  }
+
+  @Override
+  protected void decodeValue() {
+    if (!isEncoded()) {
+      return;
+    }
+
+    if (encodedValueReader == null) {
+      encodedValueReader = new MsgPackReader();
+    }
+
+    encodedValueReader.wrap(encodedValue, 0, encodedValue.capacity());
+    try {
+      value.read(encodedValueReader);
+    } catch (final Exception e) {
+      throw new MsgpackPropertyException(key, e);
+    }
+    clearEncodedValue();
+  }
+
+  private boolean isEncoded() {
+    return encodedValue != null && encodedValue.capacity() > 0;
+  }
+
+  private void clearEncodedValue() {
+    if (encodedValue != null) {
+      encodedValue.wrap(0, 0);
+    }
+  }
+}
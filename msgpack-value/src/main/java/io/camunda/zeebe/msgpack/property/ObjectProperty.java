@@ -9,7 +9,7 @@ package io.camunda.zeebe.msgpack.property;
 
 import io.camunda.zeebe.msgpack.value.ObjectValue;
 
-public final class ObjectProperty<T extends ObjectValue> extends BaseProperty<T> {
+public final class ObjectProperty<T extends ObjectValue> extends LazyProperty<T> {
   public ObjectProperty(final String key, final T objectValue) {
     super(key, objectValue, objectValue);
   }
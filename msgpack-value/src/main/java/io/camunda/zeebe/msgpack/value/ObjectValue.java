@@ -22,11 +22,36 @@ public class ObjectValue extends BaseValue {
 
   private final StringValue decodedKey = new StringValue();
 
+  private boolean lazyDecoding;
+  private boolean copyEncodedValues;
+
   public ObjectValue declareProperty(final BaseProperty<? extends BaseValue> prop) {
     declaredProperties.add(prop);
     return this;
   }
 
+  /**
+   * Enables or disables lazy decoding. When enabled, reading the object only locates each array or
+   * object property in the buffer; its value is only decoded when it's accessed, and properties
+   * which are never accessed are written back as they were read. The encoded values are copied, so
+   * the buffer which was read can be reused right away, but invalid values are only detected when
+   * they're accessed.
+   */
+  public void setLazyDecoding(final boolean lazyDecoding) {
+    setLazyDecoding(lazyDecoding, true);
+  }
+
+  /**
+   * Enables or disables lazy decoding, like {@link #setLazyDecoding(boolean)}.
+   *
+   * @param copyEncodedValues if false, the encoded values are not copied but wrapped. The buffer
+   *     which was read must then not be modified until the object is reset or read again.
+   */
+  public void setLazyDecoding(final boolean lazyDecoding, final boolean copyEncodedValues) {
+    this.lazyDecoding = lazyDecoding;
+    this.copyEncodedValues = copyEncodedValues;
+  }
+
   @Override
   public void reset() {
     for (int i = 0; i < declaredProperties.size(); ++i) {
@@ -87,17 +112,23 @@ public class ObjectValue extends BaseValue {
   public void read(final MsgPackReader reader) {
     final int mapSize = reader.readMapHeader();
 
+    // properties are usually encoded in the order in which they're declared, so start looking for
+    // the next key right after the previously matched property
+    int nextDeclaredProperty = 0;
     for (int i = 0; i < mapSize; ++i) {
       decodedKey.read(reader);
 
       BaseProperty<? extends BaseValue> prop = null;
 
-      for (int k = 0; k < declaredProperties.size(); ++k) {
-        final BaseProperty<?> declaredProperty = declaredProperties.get(k);
+      final int declaredPropertiesCount = declaredProperties.size();
+      for (int k = 0; k < declaredPropertiesCount; ++k) {
+        final int candidate = (nextDeclaredProperty + k) % declaredPropertiesCount;
+        final BaseProperty<?> declaredProperty = declaredProperties.get(candidate);
         final StringValue declaredKey = declaredProperty.getKey();
 
         if (declaredKey.equals(decodedKey)) {
           prop = declaredProperty;
+          nextDeclaredProperty = candidate + 1;
           break;
         }
       }
@@ -107,7 +138,14 @@ public class ObjectValue extends BaseValue {
       }
 
       try {
-        prop.read(reader);
+        if (lazyDecoding && prop.canDecodeLazily()) {
+          final int valueOffset = reader.getOffset();
+          reader.skipValue();
+          prop.wrapEncodedValue(
+              reader.getBuffer(), valueOffset, reader.getOffset() - valueOffset, copyEncodedValues);
+        } else {
+          prop.read(reader);
+        }
       } catch (final Exception e) {
         throw new RuntimeException(String.format("Could not read property '%s'", prop.getKey()), e);
       }
@@ -7,11 +7,16 @@
  */
 package io.camunda.zeebe.msgpack;
 
+import static io.camunda.zeebe.util.buffer.BufferUtil.bufferAsString;
+import static io.camunda.zeebe.util.buffer.BufferUtil.wrapString;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.Mockito.spy;
 
+import io.camunda.zeebe.msgpack.POJO.POJOEnum;
 import io.camunda.zeebe.msgpack.property.BooleanProperty;
 import io.camunda.zeebe.msgpack.property.IntegerProperty;
+import io.camunda.zeebe.msgpack.property.ObjectProperty;
 import io.camunda.zeebe.msgpack.property.StringProperty;
 import java.nio.ByteBuffer;
 import org.agrona.MutableDirectBuffer;
@@ -106,4 +111,212 @@ public class UnpackedObjectTest {
       assertThat(newSchemaObject.getLength()).isEqualTo(length);
     }
   }
+
+  @Nested
+  public class LazyDecoding {
+    private final POJO original = new POJO();
+    private final POJO lazyObject = new POJO();
+    private final MutableDirectBuffer buffer = new UnsafeBuffer(ByteBuffer.allocate(256));
+
+    {
+      original.setEnum(POJOEnum.BAR);
+      original.setLong(456456L);
+      original.setInt(123);
+      original.setString(wrapString("foo"));
+      original.setBinary(wrapString("bar"));
+      original.setPacked(MsgPackUtil.encodeMsgPack(w -> w.writeInteger(1)));
+      original.nestedObject().setLong(24L);
+      original.write(buffer, 0);
+
+      lazyObject.setLazyDecoding(true);
+    }
+
+    @Test
+    public void shouldDecodePropertiesOnAccess() {
+      // when
+      lazyObject.wrap(buffer, 0, original.getLength());
+
+      // then
+      assertThat(lazyObject.getEnum()).isEqualTo(POJOEnum.BAR);
+      assertThat(lazyObject.getLong()).isEqualTo(456456L);
+      assertThat(lazyObject.getInt()).isEqualTo(123);
+      assertThat(bufferAsString(lazyObject.getString())).isEqualTo("foo");
+      assertThat(lazyObject.nestedObject().getLong()).isEqualTo(24L);
+      assertThat(lazyObject).isEqualTo(original);
+    }
+
+    @Test
+    public void shouldWriteUndecodedPropertiesAsRead() {
+      // given
+      lazyObject.wrap(buffer, 0, original.getLength());
+
+      // when
+      lazyObject.setInt(-1);
+      final var result = new UnsafeBuffer(new byte[lazyObject.getLength()]);
+      lazyObject.write(result, 0);
+
+      // then
+      final var copy = new POJO();
+      copy.wrap(result);
+      assertThat(copy.getInt()).isEqualTo(-1);
+      assertThat(copy.getLong()).isEqualTo(456456L);
+      assertThat(bufferAsString(copy.getString())).isEqualTo("foo");
+      assertThat(copy.nestedObject().getLong()).isEqualTo(24L);
+    }
+
+    @Test
+    public void shouldUpdateEncodedLengthWhenPropertyIsModified() {
+      // given
+      lazyObject.wrap(buffer, 0, original.getLength());
+      final int lengthBeforeModification = lazyObject.getLength();
+
+      // when
+      lazyObject.setString(wrapString("a much longer string"));
+
+      // then
+      assertThat(lengthBeforeModification).isEqualTo(original.getLength());
+      assertThat(lazyObject.getLength()).isEqualTo(lengthBeforeModification + 17);
+    }
+
+    @Test
+    public void shouldUpdateEncodedLengthWhenNestedObjectIsModified() {
+      // given
+      lazyObject.wrap(buffer, 0, original.getLength());
+      final var nestedObject = lazyObject.nestedObject();
+      final int lengthBeforeModification = lazyObject.getLength();
+
+      // when
+      nestedObject.setLong(Long.MAX_VALUE);
+
+      // then
+      final var result = new UnsafeBuffer(new byte[lazyObject.getLength()]);
+      lazyObject.write(result, 0);
+      final var copy = new POJO();
+      copy.wrap(result);
+      assertThat(copy.nestedObject().getLong()).isEqualTo(Long.MAX_VALUE);
+      assertThat(lazyObject.getLength())
+          .isGreaterThan(lengthBeforeModification)
+          .isEqualTo(copy.getLength());
+    }
+
+    @Test
+    public void shouldUpdateEncodedLengthWhenNestedObjectIsModifiedAfterLengthWasComputed() {
+      // given
+      lazyObject.wrap(buffer, 0, original.getLength());
+      final int lengthBeforeModification = lazyObject.getLength();
+
+      // when
+      lazyObject.nestedObject().setLong(Long.MAX_VALUE);
+
+      // then
+      final var result = new UnsafeBuffer(new byte[lazyObject.getLength()]);
+      lazyObject.write(result, 0);
+      final var copy = new POJO();
+      copy.wrap(result);
+      assertThat(copy.nestedObject().getLong()).isEqualTo(Long.MAX_VALUE);
+      assertThat(lazyObject.getLength())
+          .isGreaterThan(lengthBeforeModification)
+          .isEqualTo(copy.getLength());
+    }
+
+    @Test
+    public void shouldUpdateEncodedLengthWhenNestedObjectIsResetAfterLengthWasComputed() {
+      // given
+      original.nestedObject().setLong(Long.MAX_VALUE);
+      original.write(buffer, 0);
+      lazyObject.wrap(buffer, 0, original.getLength());
+      final var nestedObject = lazyObject.nestedObject();
+      final int lengthBeforeReset = lazyObject.getLength();
+
+      // when
+      nestedObject.reset();
+
+      // then
+      final var result = new UnsafeBuffer(new byte[lazyObject.getLength()]);
+      lazyObject.write(result, 0);
+      final var copy = new POJO();
+      copy.wrap(result);
+      assertThat(copy.nestedObject().getLong()).isEqualTo(-1L);
+      assertThat(lazyObject.getLength()).isLessThan(lengthBeforeReset).isEqualTo(copy.getLength());
+    }
+
+    @Test
+    public void shouldNotDependOnReadBufferForLazilyReadProperties() {
+      // given
+      lazyObject.wrap(buffer, 0, original.getLength());
+
+      // when
+      buffer.setMemory(0, buffer.capacity(), (byte) 0);
+
+      // then
+      assertThat(lazyObject.nestedObject().getLong()).isEqualTo(24L);
+    }
+
+    @Test
+    public void shouldDecodeWrappedPropertiesOnAccess() {
+      // given
+      lazyObject.setLazyDecoding(true, false);
+
+      // when
+      lazyObject.wrap(buffer, 0, original.getLength());
+
+      // then
+      assertThat(lazyObject.nestedObject().getLong()).isEqualTo(24L);
+      assertThat(lazyObject).isEqualTo(original);
+    }
+
+    @Test
+    public void shouldDependOnReadBufferIfValuesAreNotCopied() {
+      // given
+      lazyObject.setLazyDecoding(true, false);
+      lazyObject.wrap(buffer, 0, original.getLength());
+
+      // when
+      buffer.setMemory(0, buffer.capacity(), (byte) 0);
+
+      // then
+      assertThatThrownBy(() -> lazyObject.nestedObject().getLong())
+          .isInstanceOf(MsgpackPropertyException.class);
+    }
+
+    @Test
+    public void shouldFailOnAccessingInvalidValue() {
+      // given
+      final var invalidBuffer =
+          MsgPackUtil.encodeMsgPack(
+              w -> {
+                w.writeMapHeader(1);
+                w.writeString(wrapString("objectProp"));
+                w.writeString(wrapString("not an object"));
+              });
+      final var objectProperty = new ObjectProperty<>("objectProp", new POJONested());
+      final var lazyObject = new UnpackedObject();
+      lazyObject.declareProperty(objectProperty);
+      lazyObject.setLazyDecoding(true);
+
+      // when
+      lazyObject.wrap(invalidBuffer);
+
+      // then
+      assertThatThrownBy(objectProperty::getValue).isInstanceOf(MsgpackPropertyException.class);
+    }
+
+    @Test
+    public void shouldFailOnReadingInvalidScalarValue() {
+      // given
+      final var invalidBuffer =
+          MsgPackUtil.encodeMsgPack(
+              w -> {
+                w.writeMapHeader(1);
+                w.writeString(wrapString("foo"));
+                w.writeString(wrapString("not a long"));
+              });
+      final var lazyNestedObject = new POJONested();
+      lazyNestedObject.setLazyDecoding(true);
+
+      // when - then
+      assertThatThrownBy(() -> lazyNestedObject.wrap(invalidBuffer))
+          .hasMessageContaining("Could not deserialize object [POJONested]");
+    }
+  }
 }
@@ -0,0 +1,152 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.protocol.impl.encoding;
+
+import static io.camunda.zeebe.protocol.record.ExecuteCommandBatchRequestEncoder.partitionIdNullValue;
+
+import io.camunda.zeebe.protocol.record.ExecuteCommandBatchRequestDecoder;
+import io.camunda.zeebe.protocol.record.ExecuteCommandBatchRequestDecoder.CommandsDecoder;
+import io.camunda.zeebe.protocol.record.ExecuteCommandBatchRequestEncoder;
+import io.camunda.zeebe.protocol.record.ExecuteCommandBatchRequestEncoder.CommandsEncoder;
+import io.camunda.zeebe.protocol.record.MessageHeaderDecoder;
+import io.camunda.zeebe.protocol.record.MessageHeaderEncoder;
+import io.camunda.zeebe.util.buffer.BufferReader;
+import io.camunda.zeebe.util.buffer.BufferUtil;
+import io.camunda.zeebe.util.buffer.BufferWriter;
+import java.util.ArrayList;
+import java.util.List;
+import org.agrona.DirectBuffer;
+import org.agrona.MutableDirectBuffer;
+import org.agrona.concurrent.UnsafeBuffer;
+
+/**
+ * A batch of commands for the same partition. Each command is an encoded {@link
+ * ExecuteCommandRequest}, such that the broker can append all of them to the log at once, and
+ * answer them with a single {@link ExecuteCommandBatchResponse}.
+ */
+public final class ExecuteCommandBatchRequest implements BufferReader, BufferWriter {
+
+  /** The maximum number of commands of a single batch, as limited by the encoding. */
+  public static final int MAX_COMMANDS = CommandsEncoder.countMaxValue();
+
+  private final MessageHeaderEncoder headerEncoder = new MessageHeaderEncoder();
+  private final MessageHeaderDecoder headerDecoder = new MessageHeaderDecoder();
+
+  private final ExecuteCommandBatchRequestEncoder bodyEncoder =
+      new ExecuteCommandBatchRequestEncoder();
+  private final ExecuteCommandBatchRequestDecoder bodyDecoder =
+      new ExecuteCommandBatchRequestDecoder();
+
+  // the views are reused when reading, so only the first few requests allocate them
+  private final List<DirectBuffer> commands = new ArrayList<>();
+  private int commandCount;
+  private int partitionId;
+
+  public ExecuteCommandBatchRequest() {
+    reset();
+  }
+
+  public ExecuteCommandBatchRequest reset() {
+    partitionId = partitionIdNullValue();
+    for (int i = 0; i < commandCount; i++) {
+      commands.get(i).wrap(0, 0);
+    }
+    commandCount = 0;
+
+    return this;
+  }
+
+  public int getPartitionId() {
+    return partitionId;
+  }
+
+  public ExecuteCommandBatchRequest setPartitionId(final int partitionId) {
+    this.partitionId = partitionId;
+    return this;
+  }
+
+  public int getCommandCount() {
+    return commandCount;
+  }
+
+  /**
+   * @return a view of the encoded {@link ExecuteCommandRequest} at the given index; only valid
+   *     until the request is read again
+   */
+  public DirectBuffer getCommand(final int index) {
+    if (index < 0 || index >= commandCount) {
+      throw new IndexOutOfBoundsException(
+          "Expected index to be between 0 and " + commandCount + ", but was " + index);
+    }
+
+    return commands.get(index);
+  }
+
+  /**
+   * Adds the given command to the batch, encoding it right away.
+   *
+   * @param command the command to add, usually an {@link ExecuteCommandRequest}
+   * @throws IllegalStateException if the batch already contains {@link #MAX_COMMANDS} commands
+   */
+  public ExecuteCommandBatchRequest addCommand(final BufferWriter command) {
+    if (commandCount >= MAX_COMMANDS) {
+      throw new IllegalStateException(
+          "Expected to add at most " + MAX_COMMANDS + " commands to a batch, but it is full");
+    }
+
+    nextCommand().wrap(BufferUtil.createCopy(command));
+    return this;
+  }
+
+  @Override
+  public void wrap(final DirectBuffer buffer, final int offset, final int length) {
+    reset();
+
+    bodyDecoder.wrapAndApplyHeader(buffer, offset, headerDecoder);
+    partitionId = bodyDecoder.partitionId();
+
+    for (final CommandsDecoder commandsDecoder : bodyDecoder.commands()) {
+      commandsDecoder.wrapCommand(nextCommand());
+    }
+  }
+
+  @Override
+  public int getLength() {
+    int length =
+        MessageHeaderEncoder.ENCODED_LENGTH
+            + ExecuteCommandBatchRequestEncoder.BLOCK_LENGTH
+            + CommandsEncoder.sbeHeaderSize();
+    for (int i = 0; i < commandCount; i++) {
+      length +=
+          CommandsEncoder.sbeBlockLength()
+              + CommandsEncoder.commandHeaderLength()
+              + commands.get(i).capacity();
+    }
+
+    return length;
+  }
+
+  @Override
+  public void write(final MutableDirectBuffer buffer, final int offset) {
+    bodyEncoder.wrapAndApplyHeader(buffer, offset, headerEncoder).partitionId(partitionId);
+
+    final var commandsEncoder = bodyEncoder.commandsCount(commandCount);
+    for (int i = 0; i < commandCount; i++) {
+      final var command = commands.get(i);
+      commandsEncoder.next().putCommand(command, 0, command.capacity());
+    }
+  }
+
+  private DirectBuffer nextCommand() {
+    if (commandCount == commands.size()) {
+      commands.add(new UnsafeBuffer(0, 0));
+    }
+
+    return commands.get(commandCount++);
+  }
+}
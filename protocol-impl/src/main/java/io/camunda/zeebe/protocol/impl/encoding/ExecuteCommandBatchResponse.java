@@ -0,0 +1,120 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.protocol.impl.encoding;
+
+import static io.camunda.zeebe.protocol.record.ExecuteCommandBatchResponseEncoder.partitionIdNullValue;
+
+import io.camunda.zeebe.protocol.record.ExecuteCommandBatchResponseDecoder;
+import io.camunda.zeebe.protocol.record.ExecuteCommandBatchResponseDecoder.ResponsesDecoder;
+import io.camunda.zeebe.protocol.record.ExecuteCommandBatchResponseEncoder;
+import io.camunda.zeebe.protocol.record.ExecuteCommandBatchResponseEncoder.ResponsesEncoder;
+import io.camunda.zeebe.protocol.record.MessageHeaderDecoder;
+import io.camunda.zeebe.protocol.record.MessageHeaderEncoder;
+import io.camunda.zeebe.util.buffer.BufferReader;
+import io.camunda.zeebe.util.buffer.BufferWriter;
+import java.util.ArrayList;
+import java.util.List;
+import org.agrona.DirectBuffer;
+import org.agrona.MutableDirectBuffer;
+import org.agrona.concurrent.UnsafeBuffer;
+
+/**
+ * The responses to the commands of an {@link ExecuteCommandBatchRequest}, in the order of the
+ * commands. Each response is an encoded {@link ExecuteCommandResponse}, or an {@link ErrorResponse}
+ * if the command could not be processed.
+ */
+public final class ExecuteCommandBatchResponse implements BufferReader, BufferWriter {
+
+  private final MessageHeaderEncoder headerEncoder = new MessageHeaderEncoder();
+  private final MessageHeaderDecoder headerDecoder = new MessageHeaderDecoder();
+
+  private final ExecuteCommandBatchResponseEncoder bodyEncoder =
+      new ExecuteCommandBatchResponseEncoder();
+  private final ExecuteCommandBatchResponseDecoder bodyDecoder =
+      new ExecuteCommandBatchResponseDecoder();
+
+  private final List<DirectBuffer> responses = new ArrayList<>();
+  private int partitionId;
+
+  public ExecuteCommandBatchResponse() {
+    reset();
+  }
+
+  public ExecuteCommandBatchResponse reset() {
+    partitionId = partitionIdNullValue();
+    responses.clear();
+
+    return this;
+  }
+
+  public int getPartitionId() {
+    return partitionId;
+  }
+
+  public ExecuteCommandBatchResponse setPartitionId(final int partitionId) {
+    this.partitionId = partitionId;
+    return this;
+  }
+
+  /**
+   * @return views of the encoded responses, in the order of the commands; only valid until the
+   *     response is read again
+   */
+  public List<DirectBuffer> getResponses() {
+    return responses;
+  }
+
+  /**
+   * Adds the given encoded response. The buffer is not copied, so it must not be modified until the
+   * batch response is written.
+   */
+  public ExecuteCommandBatchResponse addResponse(final DirectBuffer response) {
+    responses.add(response);
+    return this;
+  }
+
+  @Override
+  public void wrap(final DirectBuffer buffer, final int offset, final int length) {
+    reset();
+
+    bodyDecoder.wrapAndApplyHeader(buffer, offset, headerDecoder);
+    partitionId = bodyDecoder.partitionId();
+
+    for (final ResponsesDecoder responsesDecoder : bodyDecoder.responses()) {
+      final var response = new UnsafeBuffer(0, 0);
+      responsesDecoder.wrapResponse(response);
+      responses.add(response);
+    }
+  }
+
+  @Override
+  public int getLength() {
+    int length =
+        MessageHeaderEncoder.ENCODED_LENGTH
+            + ExecuteCommandBatchResponseEncoder.BLOCK_LENGTH
+            + ResponsesEncoder.sbeHeaderSize();
+    for (final DirectBuffer response : responses) {
+      length +=
+          ResponsesEncoder.sbeBlockLength()
+              + ResponsesEncoder.responseHeaderLength()
+              + response.capacity();
+    }
+
+    return length;
+  }
+
+  @Override
+  public void write(final MutableDirectBuffer buffer, final int offset) {
+    bodyEncoder.wrapAndApplyHeader(buffer, offset, headerEncoder).partitionId(partitionId);
+
+    final var responsesEncoder = bodyEncoder.responsesCount(responses.size());
+    for (final DirectBuffer response : responses) {
+      responsesEncoder.next().putResponse(response, 0, response.capacity());
+    }
+  }
+}
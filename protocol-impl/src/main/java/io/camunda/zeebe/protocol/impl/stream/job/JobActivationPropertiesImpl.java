@@ -0,0 +1,66 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.protocol.impl.stream.job;
+
+import io.camunda.zeebe.msgpack.UnpackedObject;
+import io.camunda.zeebe.msgpack.property.ArrayProperty;
+import io.camunda.zeebe.msgpack.property.LongProperty;
+import io.camunda.zeebe.msgpack.property.StringProperty;
+import io.camunda.zeebe.msgpack.value.StringValue;
+import io.camunda.zeebe.util.buffer.BufferUtil;
+import java.util.Collection;
+import org.agrona.DirectBuffer;
+
+/**
+ * The properties of a job stream, as sent by the gateway when registering a stream, and as read by
+ * the broker when activating jobs for it. Both the gateway and the engine declare their own view of
+ * these properties, which are implemented by extending this class.
+ */
+public class JobActivationPropertiesImpl extends UnpackedObject {
+
+  private final StringProperty workerProp = new StringProperty("worker", "");
+  private final LongProperty timeoutProp = new LongProperty("timeout", -1);
+  private final ArrayProperty<StringValue> fetchVariablesProp =
+      new ArrayProperty<>("variables", new StringValue());
+
+  public JobActivationPropertiesImpl() {
+    declareProperty(workerProp).declareProperty(timeoutProp).declareProperty(fetchVariablesProp);
+  }
+
+  public JobActivationPropertiesImpl setWorker(final DirectBuffer worker) {
+    workerProp.setValue(worker);
+    return this;
+  }
+
+  public JobActivationPropertiesImpl setTimeout(final long timeout) {
+    timeoutProp.setValue(timeout);
+    return this;
+  }
+
+  public JobActivationPropertiesImpl setFetchVariables(final Collection<DirectBuffer> variables) {
+    fetchVariablesProp.reset();
+    variables.forEach(variable -> fetchVariablesProp.add().wrap(variable));
+    return this;
+  }
+
+  public DirectBuffer worker() {
+    return workerProp.getValue();
+  }
+
+  public Collection<DirectBuffer> fetchVariables() {
+    // the array property reuses the same inner value while iterating, so each element is copied
+    return fetchVariablesProp.stream()
+        .map(StringValue::getValue)
+        .map(BufferUtil::cloneBuffer)
+        .toList();
+  }
+
+  public long timeout() {
+    return timeoutProp.getValue();
+  }
+}
@@ -0,0 +1,137 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.protocol.impl.encoding;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import io.camunda.zeebe.protocol.Protocol;
+import io.camunda.zeebe.protocol.record.ErrorCode;
+import io.camunda.zeebe.protocol.record.RecordType;
+import io.camunda.zeebe.protocol.record.ValueType;
+import io.camunda.zeebe.protocol.record.intent.JobIntent;
+import io.camunda.zeebe.util.buffer.BufferUtil;
+import org.agrona.concurrent.UnsafeBuffer;
+import org.junit.jupiter.api.Test;
+
+class ExecuteCommandBatchRequestTest {
+
+  @Test
+  void shouldEncodeAndDecodeBatchRequest() {
+    // given
+    final var toEncode = new ExecuteCommandBatchRequest().setPartitionId(2);
+    toEncode.addCommand(newCompleteJobCommand(Protocol.encodePartitionId(2, 1), "first"));
+    toEncode.addCommand(newCompleteJobCommand(Protocol.encodePartitionId(2, 2), "second"));
+
+    // when
+    final var buffer = new UnsafeBuffer(new byte[toEncode.getLength()]);
+    toEncode.write(buffer, 0);
+
+    // then
+    final var decoded = new ExecuteCommandBatchRequest();
+    decoded.wrap(buffer, 0, buffer.capacity());
+    assertThat(decoded.getPartitionId()).isEqualTo(2);
+    assertThat(decoded.getCommandCount()).isEqualTo(2);
+
+    final var command = new ExecuteCommandRequest();
+    command.wrap(decoded.getCommand(1), 0, decoded.getCommand(1).capacity());
+    assertThat(command.getKey()).isEqualTo(Protocol.encodePartitionId(2, 2));
+    assertThat(command.getValueType()).isEqualTo(ValueType.JOB);
+    assertThat(command.getIntent()).isEqualTo(JobIntent.COMPLETE);
+    assertThat(BufferUtil.bufferAsString(command.getValue())).isEqualTo("second");
+  }
+
+  @Test
+  void shouldForgetCommandsOfPreviousRequestOnWrap() {
+    // given
+    final var first = new ExecuteCommandBatchRequest().setPartitionId(1);
+    first.addCommand(newCompleteJobCommand(Protocol.encodePartitionId(1, 1), "first"));
+    first.addCommand(newCompleteJobCommand(Protocol.encodePartitionId(1, 2), "second"));
+    final var second = new ExecuteCommandBatchRequest().setPartitionId(1);
+    second.addCommand(newCompleteJobCommand(Protocol.encodePartitionId(1, 3), "third"));
+
+    final var decoded = new ExecuteCommandBatchRequest();
+    decoded.wrap(BufferUtil.createCopy(first), 0, first.getLength());
+
+    // when
+    decoded.wrap(BufferUtil.createCopy(second), 0, second.getLength());
+
+    // then
+    assertThat(decoded.getCommandCount()).isOne();
+    assertThatThrownBy(() -> decoded.getCommand(1)).isInstanceOf(IndexOutOfBoundsException.class);
+  }
+
+  @Test
+  void shouldRejectMoreThanMaxCommands() {
+    // given
+    final var request = new ExecuteCommandBatchRequest().setPartitionId(1);
+    for (int i = 0; i < ExecuteCommandBatchRequest.MAX_COMMANDS; i++) {
+      request.addCommand(newCompleteJobCommand(Protocol.encodePartitionId(1, i), "job"));
+    }
+
+    // when - then
+    assertThatThrownBy(
+            () -> request.addCommand(newCompleteJobCommand(Protocol.encodePartitionId(1, 0), "")))
+        .isInstanceOf(IllegalStateException.class);
+  }
+
+  @Test
+  void shouldEncodeAndDecodeBatchResponse() {
+    // given
+    final var acceptedValue = BufferUtil.wrapString("accepted");
+    final var accepted =
+        new ExecuteCommandResponse()
+            .setPartitionId(2)
+            .setKey(Protocol.encodePartitionId(2, 1))
+            .setRecordType(RecordType.EVENT)
+            .setValueType(ValueType.JOB)
+            .setIntent(JobIntent.COMPLETED)
+            .setValue(acceptedValue, 0, acceptedValue.capacity());
+    final var error =
+        new ErrorResponse()
+            .setErrorCode(ErrorCode.RESOURCE_EXHAUSTED)
+            .setErrorData(BufferUtil.wrapString("error"));
+
+    final var toEncode =
+        new ExecuteCommandBatchResponse()
+            .setPartitionId(2)
+            .addResponse(BufferUtil.createCopy(accepted))
+            .addResponse(BufferUtil.createCopy(error));
+
+    // when
+    final var buffer = new UnsafeBuffer(new byte[toEncode.getLength()]);
+    toEncode.write(buffer, 0);
+
+    // then
+    final var decoded = new ExecuteCommandBatchResponse();
+    decoded.wrap(buffer, 0, buffer.capacity());
+    assertThat(decoded.getPartitionId()).isEqualTo(2);
+    assertThat(decoded.getResponses()).hasSize(2);
+
+    final var decodedAccepted = new ExecuteCommandResponse();
+    final var acceptedBuffer = decoded.getResponses().get(0);
+    decodedAccepted.wrap(acceptedBuffer, 0, acceptedBuffer.capacity());
+    assertThat(decodedAccepted.getKey()).isEqualTo(Protocol.encodePartitionId(2, 1));
+    assertThat(BufferUtil.bufferAsString(decodedAccepted.getValue())).isEqualTo("accepted");
+
+    final var decodedError = new ErrorResponse();
+    final var errorBuffer = decoded.getResponses().get(1);
+    decodedError.wrap(errorBuffer, 0, errorBuffer.capacity());
+    assertThat(decodedError.getErrorCode()).isEqualTo(ErrorCode.RESOURCE_EXHAUSTED);
+    assertThat(BufferUtil.bufferAsString(decodedError.getErrorData())).isEqualTo("error");
+  }
+
+  private static ExecuteCommandRequest newCompleteJobCommand(final long key, final String value) {
+    final var valueBuffer = BufferUtil.wrapString(value);
+    return new ExecuteCommandRequest()
+        .setKey(key)
+        .setValueType(ValueType.JOB)
+        .setIntent(JobIntent.COMPLETE)
+        .setValue(valueBuffer, 0, valueBuffer.capacity());
+  }
+}
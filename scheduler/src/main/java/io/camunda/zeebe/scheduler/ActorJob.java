@@ -40,7 +40,7 @@ public final class ActorJob {
 
   void execute(final ActorThread runner) {
     actorThread = runner;
-    observeSchedulingLatency(runner.getActorMetrics());
+    observeSchedulingLatency(runner);
     try {
       invoke();
 
@@ -65,19 +65,35 @@ public final class ActorJob {
     }
   }
 
-  private void observeSchedulingLatency(final ActorMetrics metrics) {
+  private void observeSchedulingLatency(final ActorThread runner) {
+    final var metrics = runner.getActorMetrics();
+    final var profiler = runner.getActorProfiler();
+    if (!metrics.isEnabled() && profiler == null) {
+      return;
+    }
+
+    final var now = System.nanoTime();
+    final long latency;
+    final String subscriptionType;
+    if (subscription instanceof ActorFutureSubscription s
+        && s.getFuture() instanceof CompletableActorFuture<?> f) {
+      latency = now - f.getCompletedAt();
+      subscriptionType = "Future";
+    } else if (subscription instanceof TimerSubscription s) {
+      latency = now - s.getTimerExpiredAt();
+      subscriptionType = "Timer";
+    } else if (subscription == null && scheduledAt != -1) {
+      latency = now - scheduledAt;
+      subscriptionType = "None";
+    } else {
+      return;
+    }
+
     if (metrics.isEnabled()) {
-      final var now = System.nanoTime();
-      if (subscription instanceof ActorFutureSubscription s
-          && s.getFuture() instanceof CompletableActorFuture<?> f) {
-        final var subscriptionCompleted = f.getCompletedAt();
-        metrics.observeJobSchedulingLatency(now - subscriptionCompleted, "Future");
-      } else if (subscription instanceof TimerSubscription s) {
-        final var timerExpired = s.getTimerExpiredAt();
-        metrics.observeJobSchedulingLatency(now - timerExpired, "Timer");
-      } else if (subscription == null && scheduledAt != -1) {
-        metrics.observeJobSchedulingLatency(now - scheduledAt, "None");
-      }
+      metrics.observeJobSchedulingLatency(latency, subscriptionType);
+    }
+    if (profiler != null) {
+      profiler.recordSchedulingLatency(latency);
     }
   }
 
@@ -47,6 +47,16 @@ final class ActorMetrics {
           .help("The length of the job queue for an actor task")
           .labelNames("actorName")
           .register();
+
+  private static final Counter IDLE_TIME =
+      Counter.build()
+          .namespace("zeebe")
+          .name("actor_thread_idle_time_total")
+          .help(
+              "Time in seconds an actor thread spent idle, by phase (spin, yield or park), as "
+                  + "recorded by the adaptive idle strategy")
+          .labelNames("threadName", "phase")
+          .register();
   private final boolean enabled;
 
   public ActorMetrics(final boolean metricsEnabled) {
@@ -78,6 +88,15 @@ final class ActorMetrics {
     }
   }
 
+  void countIdleTime(
+      final String threadName, final long spinNanos, final long yieldNanos, final long parkNanos) {
+    if (enabled) {
+      IDLE_TIME.labels(threadName, "spin").inc(spinNanos / 1_000_000_000d);
+      IDLE_TIME.labels(threadName, "yield").inc(yieldNanos / 1_000_000_000d);
+      IDLE_TIME.labels(threadName, "park").inc(parkNanos / 1_000_000_000d);
+    }
+  }
+
   public boolean isEnabled() {
     return enabled;
   }
@@ -0,0 +1,144 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.scheduler;
+
+import java.util.Arrays;
+
+/**
+ * An immutable summary of how an actor was executed during one profiling window, as recorded by the
+ * {@link ActorProfiler} of an actor thread. Execution times and scheduling latencies are kept in
+ * histograms with power-of-two buckets, so percentiles are upper bounds which are at most twice the
+ * actual value.
+ */
+public final class ActorProfile {
+  private final String actorName;
+  private final long executionCount;
+  private final long executionTimeNanos;
+  private final long maxExecutionTimeNanos;
+  private final long[] executionTimeBuckets;
+  private final long schedulingLatencyCount;
+  private final long[] schedulingLatencyBuckets;
+  private final int maxQueueLength;
+
+  ActorProfile(
+      final String actorName,
+      final long executionCount,
+      final long executionTimeNanos,
+      final long maxExecutionTimeNanos,
+      final long[] executionTimeBuckets,
+      final long schedulingLatencyCount,
+      final long[] schedulingLatencyBuckets,
+      final int maxQueueLength) {
+    this.actorName = actorName;
+    this.executionCount = executionCount;
+    this.executionTimeNanos = executionTimeNanos;
+    this.maxExecutionTimeNanos = maxExecutionTimeNanos;
+    this.executionTimeBuckets = executionTimeBuckets;
+    this.schedulingLatencyCount = schedulingLatencyCount;
+    this.schedulingLatencyBuckets = schedulingLatencyBuckets;
+    this.maxQueueLength = maxQueueLength;
+  }
+
+  public String getActorName() {
+    return actorName;
+  }
+
+  /**
+   * @return how often the actor was executed
+   */
+  public long getExecutionCount() {
+    return executionCount;
+  }
+
+  /**
+   * @return the total time the actor was executed, in nanoseconds
+   */
+  public long getExecutionTimeNanos() {
+    return executionTimeNanos;
+  }
+
+  /**
+   * @return the longest single execution of the actor, in nanoseconds
+   */
+  public long getMaxExecutionTimeNanos() {
+    return maxExecutionTimeNanos;
+  }
+
+  /**
+   * @param percentile the percentile, between 0 and 100
+   * @return an upper bound of the given percentile of the execution times, in nanoseconds
+   */
+  public long getExecutionTimePercentile(final double percentile) {
+    return ProfileHistogram.valueAtPercentile(executionTimeBuckets, executionCount, percentile);
+  }
+
+  /**
+   * @return how many jobs of the actor were executed
+   */
+  public long getSchedulingLatencyCount() {
+    return schedulingLatencyCount;
+  }
+
+  /**
+   * @param percentile the percentile, between 0 and 100
+   * @return an upper bound of the given percentile of the time between scheduling and executing a
+   *     job of the actor, in nanoseconds
+   */
+  public long getSchedulingLatencyPercentile(final double percentile) {
+    return ProfileHistogram.valueAtPercentile(
+        schedulingLatencyBuckets, schedulingLatencyCount, percentile);
+  }
+
+  /**
+   * @return the longest job queue of the actor observed after one of its executions
+   */
+  public int getMaxQueueLength() {
+    return maxQueueLength;
+  }
+
+  /**
+   * Merges this profile with the profile of the same actor from another thread or window.
+   *
+   * @param other the profile to merge with this one
+   * @return a new profile containing the values of both profiles
+   */
+  public ActorProfile merge(final ActorProfile other) {
+    return new ActorProfile(
+        actorName,
+        executionCount + other.executionCount,
+        executionTimeNanos + other.executionTimeNanos,
+        Math.max(maxExecutionTimeNanos, other.maxExecutionTimeNanos),
+        ProfileHistogram.merge(executionTimeBuckets, other.executionTimeBuckets),
+        schedulingLatencyCount + other.schedulingLatencyCount,
+        ProfileHistogram.merge(schedulingLatencyBuckets, other.schedulingLatencyBuckets),
+        Math.max(maxQueueLength, other.maxQueueLength));
+  }
+
+  @Override
+  public String toString() {
+    return "ActorProfile{"
+        + "actorName='"
+        + actorName
+        + '\''
+        + ", executionCount="
+        + executionCount
+        + ", executionTimeNanos="
+        + executionTimeNanos
+        + ", maxExecutionTimeNanos="
+        + maxExecutionTimeNanos
+        + ", executionTimeBuckets="
+        + Arrays.toString(executionTimeBuckets)
+        + ", schedulingLatencyCount="
+        + schedulingLatencyCount
+        + ", schedulingLatencyBuckets="
+        + Arrays.toString(schedulingLatencyBuckets)
+        + ", maxQueueLength="
+        + maxQueueLength
+        + '}';
+  }
+}
@@ -0,0 +1,149 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.scheduler;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A low overhead profiler owned by a single {@link ActorThread}. It records the execution time, job
+ * scheduling latency and job queue length of the actors executed on the thread into plain,
+ * thread-confined histograms, so recording needs neither synchronization nor allocation.
+ *
+ * <p>Once per profiling window, the thread publishes what it recorded as an immutable {@link
+ * ActorThreadProfile} and starts a new window. Readers only ever see the published profile, which
+ * makes it safe to read from any thread, e.g. to merge the profiles of all threads.
+ */
+final class ActorProfiler {
+  static final Duration DEFAULT_WINDOW = Duration.ofSeconds(10);
+
+  private final String threadName;
+  private final long windowNanos;
+  private final Map<String, Recorder> recorders = new HashMap<>();
+  private Recorder currentRecorder;
+  private long windowStartNanos;
+  private long busyNanos;
+  private volatile ActorThreadProfile published;
+
+  ActorProfiler(final String threadName, final Duration window, final long nowNanos) {
+    this.threadName = threadName;
+    windowNanos = window.toNanos();
+    windowStartNanos = nowNanos;
+    published = new ActorThreadProfile(threadName, 0, 0, List.of());
+  }
+
+  /** Must be called by the owning thread before it executes the given actor. */
+  void onExecutionStarted(final String actorName) {
+    currentRecorder = recorders.computeIfAbsent(actorName, Recorder::new);
+  }
+
+  /** Must be called by the owning thread when a job of the currently executed actor is run. */
+  void recordSchedulingLatency(final long latencyNanos) {
+    if (currentRecorder != null) {
+      currentRecorder.recordSchedulingLatency(latencyNanos);
+    }
+  }
+
+  /** Must be called by the owning thread after it executed the current actor. */
+  void onExecutionEnded(final long executionTimeNanos, final int queueLength) {
+    if (currentRecorder != null) {
+      currentRecorder.recordExecution(executionTimeNanos, queueLength);
+      busyNanos += executionTimeNanos;
+      currentRecorder = null;
+    }
+  }
+
+  /**
+   * Publishes the recorded values and starts a new window if the current window has passed. Actors
+   * which were not executed during the window are forgotten, so closed actors do not accumulate.
+   */
+  void publishIfDue(final long nowNanos) {
+    final long elapsedNanos = nowNanos - windowStartNanos;
+    if (elapsedNanos < windowNanos) {
+      return;
+    }
+
+    final List<ActorProfile> actors = new ArrayList<>(recorders.size());
+    final Iterator<Recorder> iterator = recorders.values().iterator();
+    while (iterator.hasNext()) {
+      final Recorder recorder = iterator.next();
+      if (recorder.executionCount == 0 && recorder != currentRecorder) {
+        iterator.remove();
+      } else {
+        actors.add(recorder.toProfile());
+        recorder.reset();
+      }
+    }
+
+    published = new ActorThreadProfile(threadName, elapsedNanos, busyNanos, List.copyOf(actors));
+    busyNanos = 0;
+    windowStartNanos = nowNanos;
+  }
+
+  /**
+   * @return the profile of the last completed window; can be called from any thread
+   */
+  ActorThreadProfile getProfile() {
+    return published;
+  }
+
+  private static final class Recorder {
+    private final String actorName;
+    private long executionCount;
+    private long executionTimeNanos;
+    private long maxExecutionTimeNanos;
+    private final long[] executionTimeBuckets = ProfileHistogram.newHistogram();
+    private long schedulingLatencyCount;
+    private final long[] schedulingLatencyBuckets = ProfileHistogram.newHistogram();
+    private int maxQueueLength;
+
+    private Recorder(final String actorName) {
+      this.actorName = actorName;
+    }
+
+    private void recordExecution(final long executionTimeNanos, final int queueLength) {
+      executionCount++;
+      this.executionTimeNanos += executionTimeNanos;
+      maxExecutionTimeNanos = Math.max(maxExecutionTimeNanos, executionTimeNanos);
+      ProfileHistogram.record(executionTimeBuckets, executionTimeNanos);
+      maxQueueLength = Math.max(maxQueueLength, queueLength);
+    }
+
+    private void recordSchedulingLatency(final long latencyNanos) {
+      schedulingLatencyCount++;
+      ProfileHistogram.record(schedulingLatencyBuckets, latencyNanos);
+    }
+
+    private ActorProfile toProfile() {
+      return new ActorProfile(
+          actorName,
+          executionCount,
+          executionTimeNanos,
+          maxExecutionTimeNanos,
+          executionTimeBuckets.clone(),
+          schedulingLatencyCount,
+          schedulingLatencyBuckets.clone(),
+          maxQueueLength);
+    }
+
+    private void reset() {
+      executionCount = 0;
+      executionTimeNanos = 0;
+      maxExecutionTimeNanos = 0;
+      Arrays.fill(executionTimeBuckets, 0);
+      schedulingLatencyCount = 0;
+      Arrays.fill(schedulingLatencyBuckets, 0);
+      maxQueueLength = 0;
+    }
+  }
+}
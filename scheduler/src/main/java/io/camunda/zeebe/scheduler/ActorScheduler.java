@@ -9,6 +9,9 @@ package io.camunda.zeebe.scheduler;
 
 import io.camunda.zeebe.scheduler.clock.ActorClock;
 import io.camunda.zeebe.scheduler.future.ActorFuture;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.concurrent.Future;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicReference;
@@ -67,6 +70,19 @@ public final class ActorScheduler implements AutoCloseable, ActorSchedulingServi
     }
   }
 
+  /**
+   * Returns the profiles of all actor threads over their last completed profiling window. Each
+   * thread publishes its profile by itself, so reading them never blocks the actor threads.
+   *
+   * @return the profiles of all CPU and IO bound threads, or an empty list if profiling is disabled
+   */
+  public List<ActorThreadProfile> getProfiles() {
+    final List<ActorThreadProfile> profiles =
+        new ArrayList<>(actorTaskExecutor.getCpuBoundThreads().getProfiles());
+    profiles.addAll(actorTaskExecutor.getIoBoundThreads().getProfiles());
+    return profiles;
+  }
+
   public void start() {
     if (state.compareAndSet(SchedulerState.NEW, SchedulerState.RUNNING)) {
       actorTaskExecutor.start();
@@ -103,6 +119,8 @@ public final class ActorScheduler implements AutoCloseable, ActorSchedulingServi
     private int cpuBoundThreadsCount = Math.max(1, Runtime.getRuntime().availableProcessors() - 2);
     private ActorThreadGroup cpuBoundActorGroup;
     private int ioBoundThreadsCount = 2;
+    private int spareIoBoundThreadsCount = 0;
+    private Duration spareIoBoundThreadsKeepAlive = Duration.ofMinutes(1);
     private ActorThreadGroup ioBoundActorGroup;
 
     private ActorThreadFactory actorThreadFactory;
@@ -111,6 +129,9 @@ public final class ActorScheduler implements AutoCloseable, ActorSchedulingServi
     private ActorTimerQueue actorTimerQueue;
 
     private boolean enableMetrics = false;
+    private boolean enablePartitionAffinity = false;
+    private boolean enableProfiling = false;
+    private ActorThreadIdleStrategy idleStrategy = ActorThreadIdleStrategy.BACKOFF;
 
     public String getSchedulerName() {
       return schedulerName;
@@ -157,6 +178,35 @@ public final class ActorScheduler implements AutoCloseable, ActorSchedulingServi
       return this;
     }
 
+    public int getSpareIoBoundActorThreadCount() {
+      return spareIoBoundThreadsCount;
+    }
+
+    /**
+     * Sets the number of spare threads of the I/O bound group. A spare thread is only started when
+     * all other I/O threads are blocked, e.g. while persisting a snapshot, so that blocking I/O of
+     * one actor does not stall the other I/O bound actors, and stopped again once it is idle, see
+     * {@link #setSpareIoBoundActorThreadKeepAlive(Duration)}. Defaults to 0, i.e. no spare threads.
+     */
+    public ActorSchedulerBuilder setSpareIoBoundActorThreadCount(
+        final int spareIoBoundActorThreadCount) {
+      spareIoBoundThreadsCount = spareIoBoundActorThreadCount;
+      return this;
+    }
+
+    public Duration getSpareIoBoundActorThreadKeepAlive() {
+      return spareIoBoundThreadsKeepAlive;
+    }
+
+    /**
+     * Sets how long a started spare thread of the I/O bound group may be idle before it is stopped
+     * again. Defaults to 1 minute.
+     */
+    public ActorSchedulerBuilder setSpareIoBoundActorThreadKeepAlive(final Duration keepAlive) {
+      spareIoBoundThreadsKeepAlive = keepAlive;
+      return this;
+    }
+
     public ActorThreadFactory getActorThreadFactory() {
       return actorThreadFactory;
     }
@@ -188,6 +238,48 @@ public final class ActorScheduler implements AutoCloseable, ActorSchedulingServi
       return this;
     }
 
+    public boolean isPartitionAffinityEnabled() {
+      return enablePartitionAffinity;
+    }
+
+    /**
+     * If enabled, all actors of the same partition are submitted to the same thread of a group, and
+     * idle threads prefer to steal work from their neighbouring threads. This keeps the state of a
+     * partition on the same core (and its caches) as long as the load is balanced.
+     */
+    public ActorSchedulerBuilder setPartitionAffinityEnabled(
+        final boolean enablePartitionAffinity) {
+      this.enablePartitionAffinity = enablePartitionAffinity;
+      return this;
+    }
+
+    public boolean isProfilingEnabled() {
+      return enableProfiling;
+    }
+
+    /**
+     * If enabled, every actor thread records the execution time, job scheduling latency and job
+     * queue length of the actors it executes into thread-local histograms, which can be read via
+     * {@link ActorScheduler#getProfiles()}. Disabled by default.
+     */
+    public ActorSchedulerBuilder setProfilingEnabled(final boolean enableProfiling) {
+      this.enableProfiling = enableProfiling;
+      return this;
+    }
+
+    public ActorThreadIdleStrategy getIdleStrategy() {
+      return idleStrategy;
+    }
+
+    /**
+     * Sets how the actor threads wait for work when they have no task to execute. Defaults to
+     * {@link ActorThreadIdleStrategy#BACKOFF}.
+     */
+    public ActorSchedulerBuilder setIdleStrategy(final ActorThreadIdleStrategy idleStrategy) {
+      this.idleStrategy = idleStrategy;
+      return this;
+    }
+
     private void initActorThreadFactory() {
       if (actorThreadFactory == null) {
         actorThreadFactory = new DefaultActorThreadFactory();
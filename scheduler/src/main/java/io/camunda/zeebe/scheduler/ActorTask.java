@@ -31,6 +31,8 @@ import org.slf4j.LoggerFactory;
 @SuppressWarnings("restriction")
 public class ActorTask {
   private static final Logger LOG = LoggerFactory.getLogger(ActorTask.class);
+  private static final int UNKNOWN_PARTITION_ID = -2;
+  private static final int NO_PARTITION_ID = -1;
   private static final AtomicReferenceFieldUpdater<ActorTask, ActorLifecyclePhase>
       LIFECYCLE_UPDATER =
           AtomicReferenceFieldUpdater.newUpdater(
@@ -49,6 +51,7 @@ public class ActorTask {
   private Deque<ActorJob> fastLaneJobs = new ClosedQueue();
   private volatile ActorLifecyclePhase lifecyclePhase = ActorLifecyclePhase.CLOSED;
   private List<ActorSubscription> subscriptions = new ArrayList<>();
+  private int partitionId = UNKNOWN_PARTITION_ID;
 
   /**
    * jobs that are submitted to this task externally. A job is submitted "internally" if it is
@@ -466,6 +469,30 @@ public class ActorTask {
     return actor;
   }
 
+  /**
+   * @return the id of the partition the actor belongs to, as given by its context, or -1 if the
+   *     actor does not belong to a partition
+   */
+  int getPartitionId() {
+    if (partitionId == UNKNOWN_PARTITION_ID) {
+      partitionId = readPartitionId();
+    }
+    return partitionId;
+  }
+
+  private int readPartitionId() {
+    final String value = actor.getContext().get(Actor.ACTOR_PROP_PARTITION_ID);
+    if (value == null) {
+      return NO_PARTITION_ID;
+    }
+
+    try {
+      return Integer.parseInt(value);
+    } catch (final NumberFormatException e) {
+      return NO_PARTITION_ID;
+    }
+  }
+
   public boolean isClosing() {
     return lifecyclePhase == ActorLifecyclePhase.CLOSING;
   }
@@ -17,6 +17,7 @@ import java.util.concurrent.locks.LockSupport;
 import java.util.function.Consumer;
 import org.agrona.UnsafeAccess;
 import org.agrona.concurrent.BackoffIdleStrategy;
+import org.agrona.concurrent.IdleStrategy;
 import org.agrona.concurrent.ManyToManyConcurrentArrayQueue;
 import org.slf4j.Logger;
 import org.slf4j.MDC;
@@ -39,9 +40,18 @@ public class ActorThread extends Thread implements Consumer<Runnable> {
   public final ManyToManyConcurrentArrayQueue<Runnable> submittedCallbacks =
       new ManyToManyConcurrentArrayQueue<>(1024 * 24);
   protected final ActorTimerQueue timerJobQueue;
-  protected ActorTaskRunnerIdleStrategy idleStrategy = new ActorTaskRunnerIdleStrategy();
+  protected ActorTaskRunnerIdleStrategy idleStrategy;
   ActorTask currentTask;
   private final ActorMetrics actorMetrics;
+  private final ActorProfiler actorProfiler;
+  private final boolean trackBlocking;
+
+  /** the time at which the current task started executing, or 0 if no task is executed */
+  private volatile long taskStartedAtNanos;
+
+  /** the time at which this thread last executed a task, only tracked for spare threads */
+  private long lastTaskExecutedAtNanos;
+
   private final CompletableFuture<Void> terminationFuture = new CompletableFuture<>();
   private final ActorClock clock;
   private final int threadId;
@@ -66,12 +76,28 @@ public class ActorThread extends Thread implements Consumer<Runnable> {
     actorThreadGroup = threadGroup;
     this.taskScheduler = taskScheduler;
     actorMetrics = new ActorMetrics(metricsEnabled);
+    actorProfiler =
+        threadGroup != null && threadGroup.isProfilingEnabled()
+            ? new ActorProfiler(name, ActorProfiler.DEFAULT_WINDOW, System.nanoTime())
+            : null;
+    trackBlocking = threadGroup != null && threadGroup.hasSpareThreads();
+    idleStrategy =
+        threadGroup != null && threadGroup.getIdleStrategy() == ActorThreadIdleStrategy.ADAPTIVE
+            ? new ActorTaskRunnerIdleStrategy(new AdaptiveIdleStrategy(name, actorMetrics))
+            : new ActorTaskRunnerIdleStrategy();
   }
 
   ActorMetrics getActorMetrics() {
     return actorMetrics;
   }
 
+  /**
+   * @return the profiler of this thread, or null if profiling is disabled
+   */
+  ActorProfiler getActorProfiler() {
+    return actorProfiler;
+  }
+
   private void doWork() {
     submittedCallbacks.drain(this);
 
@@ -83,18 +109,54 @@ public class ActorThread extends Thread implements Consumer<Runnable> {
 
     if (currentTask != null) {
       final var actorName = currentTask.actor.getName();
-      try (final var timer = actorMetrics.startExecutionTimer(actorName)) {
-        executeCurrentTask();
+      if (actorProfiler != null) {
+        executeAndProfileCurrentTask(actorName);
+      } else {
+        try (final var timer = actorMetrics.startExecutionTimer(actorName)) {
+          executeCurrentTask();
+        }
       }
       if (actorMetrics.isEnabled()) {
         actorMetrics.updateJobQueueLength(actorName, currentTask.estimateQueueLength());
         actorMetrics.countExecution(actorName);
       }
     } else {
+      if (actorProfiler != null) {
+        actorProfiler.publishIfDue(System.nanoTime());
+      }
       idleStrategy.onIdle();
+      if (trackBlocking && actorThreadGroup.isSpareThread(threadId)) {
+        retireIfIdle();
+      }
     }
   }
 
+  /**
+   * Stops this spare thread once it was idle for the keep alive time. Timers and callbacks are
+   * bound to the thread which scheduled them, so it is only stopped if it has none of them.
+   */
+  private void retireIfIdle() {
+    if (System.nanoTime() - lastTaskExecutedAtNanos
+            >= actorThreadGroup.getSpareThreadKeepAliveNanos()
+        && timerJobQueue.timerCount() == 0
+        && submittedCallbacks.isEmpty()
+        && actorThreadGroup.retireSpareThread(this)) {
+      UNSAFE.compareAndSwapObject(
+          this, STATE_OFFSET, ActorThreadState.RUNNING, ActorThreadState.TERMINATING);
+    }
+  }
+
+  private void executeAndProfileCurrentTask(final String actorName) {
+    actorProfiler.onExecutionStarted(actorName);
+    final long startNanos = System.nanoTime();
+    try (final var timer = actorMetrics.startExecutionTimer(actorName)) {
+      executeCurrentTask();
+    }
+    final long endNanos = System.nanoTime();
+    actorProfiler.onExecutionEnded(endNanos - startNanos, currentTask.estimateQueueLength());
+    actorProfiler.publishIfDue(endNanos);
+  }
+
   private void executeCurrentTask() {
     final var properties = currentTask.getActor().getContext();
     MDC.setContextMap(properties);
@@ -102,12 +164,20 @@ public class ActorThread extends Thread implements Consumer<Runnable> {
 
     boolean resubmit = false;
 
+    if (trackBlocking) {
+      taskStartedAtNanos = System.nanoTime();
+    }
+
     try {
       resubmit = currentTask.execute(this);
     } catch (final Throwable e) {
       FATAL_ERROR_HANDLER.handleError(e);
       LOG.error("Unexpected error occurred in task {}", currentTask, e);
     } finally {
+      if (trackBlocking) {
+        taskStartedAtNanos = 0;
+        lastTaskExecutedAtNanos = System.nanoTime();
+      }
       MDC.remove("actor-name");
       clock.update();
     }
@@ -121,6 +191,16 @@ public class ActorThread extends Thread implements Consumer<Runnable> {
     idleStrategy.hintWorkAvailable();
   }
 
+  /**
+   * Only tracked for thread groups with spare threads; always false otherwise.
+   *
+   * @return true if this thread has been executing the same task for at least the given threshold
+   */
+  boolean isBlocked(final long nowNanos, final long thresholdNanos) {
+    final long startedAt = taskStartedAtNanos;
+    return startedAt != 0 && nowNanos - startedAt >= thresholdNanos;
+  }
+
   /** Must be called from this thread, schedules a job to be run later. */
   public void scheduleTimer(final TimerSubscription timer) {
     timerJobQueue.schedule(timer, clock);
@@ -192,6 +272,7 @@ public class ActorThread extends Thread implements Consumer<Runnable> {
   @Override
   public void run() {
     idleStrategy.init();
+    lastTaskExecutedAtNanos = System.nanoTime();
 
     while (state == ActorThreadState.RUNNING) {
       try {
@@ -250,13 +331,20 @@ public class ActorThread extends Thread implements Consumer<Runnable> {
   }
 
   protected class ActorTaskRunnerIdleStrategy {
-    final BackoffIdleStrategy backoff =
-        new BackoffIdleStrategy(100, 100, 1, TimeUnit.MILLISECONDS.toNanos(1));
+    final IdleStrategy backoff;
     boolean isIdle;
 
     long idleTimeStart;
     long busyTimeStart;
 
+    protected ActorTaskRunnerIdleStrategy() {
+      this(new BackoffIdleStrategy(100, 100, 1, TimeUnit.MILLISECONDS.toNanos(1)));
+    }
+
+    protected ActorTaskRunnerIdleStrategy(final IdleStrategy backoff) {
+      this.backoff = backoff;
+    }
+
     void init() {
       isIdle = true;
       idleTimeStart = System.nanoTime();
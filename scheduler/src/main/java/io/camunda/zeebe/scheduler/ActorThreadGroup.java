@@ -9,69 +9,234 @@ package io.camunda.zeebe.scheduler;
 
 import io.camunda.zeebe.scheduler.ActorScheduler.ActorSchedulerBuilder;
 import io.camunda.zeebe.util.Loggers;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * A thread group is a group of threads which process the same kind of tasks (ie. blocking I/O vs.
  * CPU bound).
  */
 public abstract class ActorThreadGroup {
+  /**
+   * A thread which executes the same task for at least this long is considered blocked, e.g. by
+   * blocking I/O, as actors are expected to yield the thread well before that.
+   */
+  static final long BLOCKED_THRESHOLD_NANOS = TimeUnit.MILLISECONDS.toNanos(10);
+
   protected final String groupName;
   protected final ActorThread[] threads;
   protected final WorkStealingGroup tasks;
   protected final int numOfThreads;
+  protected final int numOfSpareThreads;
+  private final AtomicInteger startedSpareThreads = new AtomicInteger();
+  private final long spareThreadKeepAliveNanos;
+  private final boolean partitionAffinity;
+  private final boolean profilingEnabled;
+  private final ActorSchedulerBuilder builder;
+  private final ActorThreadIdleStrategy idleStrategy;
+  private boolean closed;
 
   public ActorThreadGroup(
       final String groupName, final int numOfThreads, final ActorSchedulerBuilder builder) {
+    this(groupName, numOfThreads, 0, builder);
+  }
+
+  /**
+   * @param numOfSpareThreads the number of additional threads which are only started once all other
+   *     threads of the group are blocked, see {@link #BLOCKED_THRESHOLD_NANOS}
+   */
+  protected ActorThreadGroup(
+      final String groupName,
+      final int numOfThreads,
+      final int numOfSpareThreads,
+      final ActorSchedulerBuilder builder) {
     this.groupName = groupName;
     this.numOfThreads = numOfThreads;
+    this.numOfSpareThreads = numOfSpareThreads;
+    this.builder = builder;
+    spareThreadKeepAliveNanos = builder.getSpareIoBoundActorThreadKeepAlive().toNanos();
+    partitionAffinity = builder.isPartitionAffinityEnabled();
+    profilingEnabled = builder.isProfilingEnabled();
+    idleStrategy = builder.getIdleStrategy();
 
-    tasks = new WorkStealingGroup(numOfThreads);
+    final int numOfAllThreads = numOfThreads + numOfSpareThreads;
+    tasks = new WorkStealingGroup(numOfAllThreads, partitionAffinity);
 
-    threads = new ActorThread[numOfThreads];
+    threads = new ActorThread[numOfAllThreads];
 
-    for (int t = 0; t < numOfThreads; t++) {
-      final String threadName = String.format("%s-%d", groupName, t);
-      final ActorThread thread =
-          builder
-              .getActorThreadFactory()
-              .newThread(
-                  threadName,
-                  t,
-                  this,
-                  tasks,
-                  builder.getActorClock(),
-                  builder.getActorTimerQueue(),
-                  builder.isMetricsEnabled());
-
-      threads[t] = thread;
+    for (int t = 0; t < numOfAllThreads; t++) {
+      threads[t] = newThread(t);
     }
   }
 
+  private ActorThread newThread(final int threadId) {
+    final String threadName = String.format("%s-%d", groupName, threadId);
+    return builder
+        .getActorThreadFactory()
+        .newThread(
+            threadName,
+            threadId,
+            this,
+            tasks,
+            builder.getActorClock(),
+            builder.getActorTimerQueue(),
+            builder.isMetricsEnabled());
+  }
+
   public void submit(final ActorTask actorTask) {
     final ActorThread current = ActorThread.current();
-    if (current != null && current.getActorThreadGroup() == this) {
+    final int homeThreadId = getHomeThreadId(actorTask);
+    if (homeThreadId >= 0) {
+      tasks.submit(actorTask, homeThreadId);
+      if (current == null
+          || current.getActorThreadGroup() != this
+          || current.getRunnerId() != homeThreadId) {
+        threads[homeThreadId].hintWorkAvailable();
+      }
+    } else if (current != null && current.getActorThreadGroup() == this) {
       tasks.submit(actorTask, current.getRunnerId());
     } else {
       final int threadId = ThreadLocalRandom.current().nextInt(numOfThreads);
       tasks.submit(actorTask, threadId);
       threads[threadId].hintWorkAvailable();
     }
+
+    if (numOfSpareThreads > 0) {
+      compensateBlockedThreads();
+    }
+  }
+
+  /**
+   * Starts the next spare thread if all started threads of the group are blocked, i.e. have been
+   * executing the same task for at least {@link #BLOCKED_THRESHOLD_NANOS}, so that submitted tasks
+   * can make progress even while blocking I/O occupies every thread. Once started, a spare thread
+   * takes part in work stealing like any other thread of the group, until it is idle for the spare
+   * thread keep alive time, see {@link #retireSpareThread(ActorThread)}.
+   */
+  private void compensateBlockedThreads() {
+    final long now = System.nanoTime();
+    final int startedSpares = startedSpareThreads.get();
+    final int startedThreads = numOfThreads + startedSpares;
+    for (int t = 0; t < startedThreads; t++) {
+      if (!threads[t].isBlocked(now, BLOCKED_THRESHOLD_NANOS)) {
+        return;
+      }
+    }
+
+    if (startedSpares < numOfSpareThreads) {
+      startSpareThread(startedThreads);
+    }
+  }
+
+  private synchronized void startSpareThread(final int threadId) {
+    if (closed || threadId != numOfThreads + startedSpareThreads.get()) {
+      // a spare thread was started or retired concurrently, so the threads may not be blocked
+      return;
+    }
+
+    Loggers.ACTOR_LOGGER.debug(
+        "All threads of actor thread group '{}' are blocked, starting spare thread {}",
+        groupName,
+        threadId);
+    threads[threadId].start();
+    startedSpareThreads.incrementAndGet();
+  }
+
+  /**
+   * Called by an idle spare thread to stop it. Spare threads are retired in the reverse order in
+   * which they were started, such that the started threads are always the first ones of the group.
+   * The retired thread is replaced by a new one, which can be started again when needed.
+   *
+   * @return true if the given thread is retired and must stop, otherwise false
+   */
+  synchronized boolean retireSpareThread(final ActorThread thread) {
+    final int threadId = thread.getRunnerId();
+    if (closed
+        || threadId != numOfThreads + startedSpareThreads.get() - 1
+        || !tasks.isEmpty(threadId)) {
+      return false;
+    }
+
+    Loggers.ACTOR_LOGGER.debug(
+        "Spare thread {} of actor thread group '{}' is idle, stopping it", threadId, groupName);
+    threads[threadId] = newThread(threadId);
+    startedSpareThreads.decrementAndGet();
+    return true;
+  }
+
+  ActorThreadIdleStrategy getIdleStrategy() {
+    return idleStrategy;
+  }
+
+  boolean hasSpareThreads() {
+    return numOfSpareThreads > 0;
+  }
+
+  boolean isSpareThread(final int threadId) {
+    return threadId >= numOfThreads;
+  }
+
+  long getSpareThreadKeepAliveNanos() {
+    return spareThreadKeepAliveNanos;
+  }
+
+  /**
+   * Returns the thread to which all actors of the task's partition are submitted. Partitions are
+   * distributed round-robin over the threads of the group, starting with partition 1 on thread 0.
+   *
+   * @return the id of the home thread of the task, or -1 if partition affinity is disabled or the
+   *     task's actor does not belong to a partition
+   */
+  int getHomeThreadId(final ActorTask actorTask) {
+    if (!partitionAffinity) {
+      return -1;
+    }
+
+    final int partitionId = actorTask.getPartitionId();
+    if (partitionId < 0) {
+      return -1;
+    }
+
+    return Math.floorMod(partitionId - 1, numOfThreads);
+  }
+
+  boolean isProfilingEnabled() {
+    return profilingEnabled;
+  }
+
+  /**
+   * @return the profiles of the last completed profiling window of all threads of this group, or an
+   *     empty list if profiling is disabled
+   */
+  public List<ActorThreadProfile> getProfiles() {
+    final List<ActorThreadProfile> profiles = new ArrayList<>(numOfThreads);
+    for (final ActorThread thread : threads) {
+      final ActorProfiler profiler = thread.getActorProfiler();
+      if (profiler != null) {
+        profiles.add(profiler.getProfile());
+      }
+    }
+    return profiles;
   }
 
   public void start() {
-    for (final ActorThread actorThread : threads) {
-      actorThread.start();
+    for (int t = 0; t < numOfThreads; t++) {
+      threads[t].start();
     }
   }
 
-  public CompletableFuture<Void> closeAsync() {
+  public synchronized CompletableFuture<Void> closeAsync() {
     Loggers.ACTOR_LOGGER.debug("Closing actor thread ground '{}'", groupName);
 
-    final CompletableFuture<Void>[] terminationFutures = new CompletableFuture[numOfThreads];
+    closed = true;
+    final int startedThreads = numOfThreads + startedSpareThreads.get();
+    final CompletableFuture<Void>[] terminationFutures = new CompletableFuture[startedThreads];
 
-    for (int i = 0; i < numOfThreads; i++) {
+    for (int i = 0; i < startedThreads; i++) {
       final ActorThread thread = threads[i];
       try {
         terminationFutures[i] = thread.close();
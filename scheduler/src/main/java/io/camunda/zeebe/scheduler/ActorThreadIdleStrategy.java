@@ -0,0 +1,23 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.scheduler;
+
+/** Defines how an {@link ActorThread} waits for work when it has no task to execute. */
+public enum ActorThreadIdleStrategy {
+  /**
+   * Spins and yields a fixed number of times before parking with an exponential backoff of up to
+   * 1ms.
+   */
+  BACKOFF,
+
+  /**
+   * Adapts how long to spin and yield before parking to the observed time between two tasks, see
+   * {@link AdaptiveIdleStrategy}.
+   */
+  ADAPTIVE
+}
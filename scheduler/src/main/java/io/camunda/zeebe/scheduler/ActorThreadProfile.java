@@ -0,0 +1,29 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.scheduler;
+
+import java.util.List;
+
+/**
+ * The profile of one actor thread over its last completed profiling window.
+ *
+ * @param threadName the name of the actor thread
+ * @param windowNanos the length of the profiling window, in nanoseconds
+ * @param busyNanos the time the thread spent executing actors during the window, in nanoseconds
+ * @param actors the profiles of the actors executed by the thread during the window
+ */
+public record ActorThreadProfile(
+    String threadName, long windowNanos, long busyNanos, List<ActorProfile> actors) {
+
+  /**
+   * @return the fraction of the window during which the thread was executing actors
+   */
+  public double utilization() {
+    return windowNanos > 0 ? (double) busyNanos / windowNanos : 0;
+  }
+}
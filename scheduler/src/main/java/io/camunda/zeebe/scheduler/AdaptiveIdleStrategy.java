@@ -0,0 +1,133 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.scheduler;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.LongSupplier;
+import org.agrona.concurrent.IdleStrategy;
+
+/**
+ * An idle strategy which adapts to the observed time between two tasks (the idle time), tracked as
+ * an exponentially weighted moving average.
+ *
+ * <ul>
+ *   <li>If work typically arrives within {@link #MAX_SPIN_NANOS}, the thread busy spins for about
+ *       twice the average idle time, as parking and being woken up again would take longer.
+ *   <li>If work typically arrives within {@link #MAX_YIELD_NANOS}, the thread yields for the
+ *       remainder of that time.
+ *   <li>Otherwise, the thread parks right away, with an exponential backoff of up to {@link
+ *       #MAX_PARK_NANOS}, which keeps an idle broker from burning CPU.
+ * </ul>
+ *
+ * The maximum park time matches the fixed backoff strategy, so timers are not delayed any longer
+ * than before. When idling ends, the time spent spinning, yielding and parking is reported to the
+ * {@link ActorMetrics}.
+ */
+final class AdaptiveIdleStrategy implements IdleStrategy {
+  static final long MAX_SPIN_NANOS = TimeUnit.MICROSECONDS.toNanos(20);
+  static final long MAX_YIELD_NANOS = TimeUnit.MICROSECONDS.toNanos(100);
+  static final long MIN_PARK_NANOS = TimeUnit.MICROSECONDS.toNanos(1);
+  static final long MAX_PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(1);
+
+  /** the weight of a new observation is 1 / 2^AVERAGE_SHIFT */
+  private static final int AVERAGE_SHIFT = 3;
+
+  private static final long NOT_IDLE = -1;
+
+  private final String threadName;
+  private final ActorMetrics metrics;
+  private final LongSupplier nanoClock;
+
+  private long averageIdleNanos = MAX_PARK_NANOS;
+  private long idleStartedAtNanos = NOT_IDLE;
+  private long spinBudgetNanos;
+  private long yieldBudgetNanos;
+  private long parkPeriodNanos;
+
+  AdaptiveIdleStrategy(final String threadName, final ActorMetrics metrics) {
+    this(threadName, metrics, System::nanoTime);
+  }
+
+  AdaptiveIdleStrategy(
+      final String threadName, final ActorMetrics metrics, final LongSupplier nanoClock) {
+    this.threadName = threadName;
+    this.metrics = metrics;
+    this.nanoClock = nanoClock;
+    updateBudgets();
+  }
+
+  @Override
+  public void idle(final int workCount) {
+    if (workCount > 0) {
+      reset();
+    } else {
+      idle();
+    }
+  }
+
+  @Override
+  public void idle() {
+    final long now = nanoClock.getAsLong();
+    if (idleStartedAtNanos == NOT_IDLE) {
+      idleStartedAtNanos = now;
+      parkPeriodNanos = MIN_PARK_NANOS;
+    }
+
+    final long idleNanos = now - idleStartedAtNanos;
+    if (idleNanos < spinBudgetNanos) {
+      Thread.onSpinWait();
+    } else if (idleNanos < spinBudgetNanos + yieldBudgetNanos) {
+      Thread.yield();
+    } else {
+      LockSupport.parkNanos(parkPeriodNanos);
+      parkPeriodNanos = Math.min(parkPeriodNanos << 1, MAX_PARK_NANOS);
+    }
+  }
+
+  @Override
+  public void reset() {
+    if (idleStartedAtNanos == NOT_IDLE) {
+      return;
+    }
+
+    final long idleNanos = nanoClock.getAsLong() - idleStartedAtNanos;
+    idleStartedAtNanos = NOT_IDLE;
+
+    if (metrics.isEnabled()) {
+      final long spinNanos = Math.min(idleNanos, spinBudgetNanos);
+      final long yieldNanos = Math.min(idleNanos - spinNanos, yieldBudgetNanos);
+      final long parkNanos = idleNanos - spinNanos - yieldNanos;
+      metrics.countIdleTime(threadName, spinNanos, yieldNanos, parkNanos);
+    }
+
+    averageIdleNanos += (idleNanos - averageIdleNanos) >> AVERAGE_SHIFT;
+    updateBudgets();
+  }
+
+  long getAverageIdleNanos() {
+    return averageIdleNanos;
+  }
+
+  long getSpinBudgetNanos() {
+    return spinBudgetNanos;
+  }
+
+  long getYieldBudgetNanos() {
+    return yieldBudgetNanos;
+  }
+
+  private void updateBudgets() {
+    final long expectedIdleNanos = averageIdleNanos << 1;
+    spinBudgetNanos = averageIdleNanos <= MAX_SPIN_NANOS ? expectedIdleNanos : 0;
+    yieldBudgetNanos =
+        averageIdleNanos <= MAX_YIELD_NANOS
+            ? Math.max(0, Math.min(expectedIdleNanos, MAX_YIELD_NANOS) - spinBudgetNanos)
+            : 0;
+  }
+}
@@ -15,6 +15,7 @@ public final class IoThreadGroup extends ActorThreadGroup {
     super(
         String.format("%s-%s", builder.getSchedulerName(), "zb-fs-workers"),
         builder.getIoBoundActorThreadCount(),
+        builder.getSpareIoBoundActorThreadCount(),
         builder);
   }
 }
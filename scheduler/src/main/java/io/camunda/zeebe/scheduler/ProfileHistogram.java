@@ -0,0 +1,65 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.scheduler;
+
+/**
+ * Helpers for the histograms of the {@link ActorProfiler}. A histogram is a plain array of counts,
+ * where bucket {@code i} counts the values in {@code [2^i, 2^(i+1))} (and bucket 0 also counts 0).
+ * Recording a value is a single array increment, which keeps the overhead low enough to always
+ * record.
+ */
+final class ProfileHistogram {
+  static final int BUCKET_COUNT = Long.SIZE;
+
+  private ProfileHistogram() {}
+
+  static long[] newHistogram() {
+    return new long[BUCKET_COUNT];
+  }
+
+  static void record(final long[] buckets, final long value) {
+    buckets[bucketOf(value)]++;
+  }
+
+  static int bucketOf(final long value) {
+    return value <= 1 ? 0 : Long.SIZE - 1 - Long.numberOfLeadingZeros(value);
+  }
+
+  /**
+   * @return the upper bound of the bucket containing the given percentile, or 0 if the histogram is
+   *     empty
+   */
+  static long valueAtPercentile(final long[] buckets, final long count, final double percentile) {
+    if (count <= 0) {
+      return 0;
+    }
+
+    final long rank = Math.max(1, (long) Math.ceil(count * percentile / 100.0));
+    long seen = 0;
+    for (int bucket = 0; bucket < buckets.length; bucket++) {
+      seen += buckets[bucket];
+      if (seen >= rank) {
+        return upperBoundOf(bucket);
+      }
+    }
+
+    return upperBoundOf(buckets.length - 1);
+  }
+
+  static long[] merge(final long[] first, final long[] second) {
+    final long[] merged = newHistogram();
+    for (int bucket = 0; bucket < BUCKET_COUNT; bucket++) {
+      merged[bucket] = first[bucket] + second[bucket];
+    }
+    return merged;
+  }
+
+  private static long upperBoundOf(final int bucket) {
+    return bucket >= Long.SIZE - 2 ? Long.MAX_VALUE : (2L << bucket) - 1;
+  }
+}
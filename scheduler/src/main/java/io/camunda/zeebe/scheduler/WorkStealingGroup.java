@@ -16,12 +16,55 @@ public final class WorkStealingGroup implements TaskScheduler {
   private final int numOfThreads;
   private final ActorTaskQueue[] taskQueues;
 
+  /** if not null, the fixed order in which each runner looks at the other runners to steal work */
+  private final int[][] stealOrder;
+
   public WorkStealingGroup(final int numOfThreads) {
+    this(numOfThreads, false);
+  }
+
+  /**
+   * @param numOfThreads the number of threads of the group
+   * @param preferNeighbours if true, a runner steals from its nearest neighbours first instead of
+   *     starting at a random runner; this keeps stolen work close to the runner which owns it
+   */
+  public WorkStealingGroup(final int numOfThreads, final boolean preferNeighbours) {
     this.numOfThreads = numOfThreads;
     taskQueues = new ActorTaskQueue[numOfThreads];
     for (int i = 0; i < numOfThreads; i++) {
       taskQueues[i] = new ActorTaskQueue();
     }
+
+    stealOrder = preferNeighbours ? createNeighbourStealOrder(numOfThreads) : null;
+  }
+
+  /**
+   * Orders the victims of each runner by their distance to it, i.e. runner {@code r} looks at
+   * {@code r + 1}, {@code r - 1}, {@code r + 2}, {@code r - 2}, ... (modulo the number of runners).
+   */
+  private static int[][] createNeighbourStealOrder(final int numOfThreads) {
+    final int[][] order = new int[numOfThreads][];
+    for (int runnerId = 0; runnerId < numOfThreads; runnerId++) {
+      final int[] victims = new int[numOfThreads - 1];
+      int index = 0;
+      for (int distance = 1; index < victims.length; distance++) {
+        victims[index++] = (runnerId + distance) % numOfThreads;
+        final int lowerNeighbour = Math.floorMod(runnerId - distance, numOfThreads);
+        if (index < victims.length && lowerNeighbour != victims[index - 1]) {
+          victims[index++] = lowerNeighbour;
+        }
+      }
+      order[runnerId] = victims;
+    }
+    return order;
+  }
+
+  /**
+   * @return the runners in the order in which the given runner tries to steal from them, or null if
+   *     the runners are looked at starting from a random offset
+   */
+  int[] getStealOrder(final int runnerId) {
+    return stealOrder == null ? null : stealOrder[runnerId].clone();
   }
 
   /**
@@ -35,6 +78,14 @@ public final class WorkStealingGroup implements TaskScheduler {
     taskQueues[threadId].append(task);
   }
 
+  /**
+   * @param threadId the id of the thread whose queue is checked
+   * @return true if no task is queued for the given thread
+   */
+  boolean isEmpty(final int threadId) {
+    return taskQueues[threadId].isEmpty();
+  }
+
   /**
    * Attempts to acquire the next task to execute
    *
@@ -60,6 +111,10 @@ public final class WorkStealingGroup implements TaskScheduler {
    * there is more work to do than there is resources (threads) to run it.
    */
   private ActorTask trySteal(final ActorThread currentThread) {
+    if (stealOrder != null) {
+      return tryStealFromNeighbours(currentThread);
+    }
+
     /*
      * This implementation uses a random offset into the runner array. The idea is to
      *
@@ -91,4 +146,16 @@ public final class WorkStealingGroup implements TaskScheduler {
 
     return null;
   }
+
+  private ActorTask tryStealFromNeighbours(final ActorThread currentThread) {
+    for (final int runnerId : stealOrder[currentThread.getRunnerId()]) {
+      final ActorTask stolenActor = taskQueues[runnerId].trySteal();
+
+      if (stolenActor != null) {
+        return stolenActor;
+      }
+    }
+
+    return null;
+  }
 }
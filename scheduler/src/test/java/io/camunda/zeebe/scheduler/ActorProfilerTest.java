@@ -0,0 +1,154 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.scheduler;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import org.junit.jupiter.api.Test;
+
+final class ActorProfilerTest {
+  private static final long WINDOW_NANOS = Duration.ofSeconds(1).toNanos();
+
+  private final ActorProfiler profiler =
+      new ActorProfiler("thread", Duration.ofNanos(WINDOW_NANOS), 0);
+
+  @Test
+  void shouldNotPublishBeforeWindowHasPassed() {
+    // given
+    execute("actor", 100, 0);
+
+    // when
+    profiler.publishIfDue(WINDOW_NANOS - 1);
+
+    // then
+    assertThat(profiler.getProfile().actors()).isEmpty();
+    assertThat(profiler.getProfile().windowNanos()).isZero();
+  }
+
+  @Test
+  void shouldPublishExecutionsOfWindow() {
+    // given
+    execute("actor", 100, 3);
+    execute("actor", 300, 1);
+    execute("other", 1_000, 0);
+
+    // when
+    profiler.publishIfDue(WINDOW_NANOS);
+
+    // then
+    final var profile = profiler.getProfile();
+    assertThat(profile.threadName()).isEqualTo("thread");
+    assertThat(profile.windowNanos()).isEqualTo(WINDOW_NANOS);
+    assertThat(profile.busyNanos()).isEqualTo(1_400);
+    assertThat(profile.actors())
+        .extracting(ActorProfile::getActorName)
+        .containsExactlyInAnyOrder("actor", "other");
+
+    final var actor =
+        profile.actors().stream().filter(p -> p.getActorName().equals("actor")).findFirst().get();
+    assertThat(actor.getExecutionCount()).isEqualTo(2);
+    assertThat(actor.getExecutionTimeNanos()).isEqualTo(400);
+    assertThat(actor.getMaxExecutionTimeNanos()).isEqualTo(300);
+    assertThat(actor.getMaxQueueLength()).isEqualTo(3);
+  }
+
+  @Test
+  void shouldRecordSchedulingLatencyOfCurrentActor() {
+    // given
+    profiler.onExecutionStarted("actor");
+    profiler.recordSchedulingLatency(1_000);
+    profiler.recordSchedulingLatency(10);
+    profiler.onExecutionEnded(100, 0);
+
+    // when
+    profiler.publishIfDue(WINDOW_NANOS);
+
+    // then
+    final var actor = profiler.getProfile().actors().get(0);
+    assertThat(actor.getSchedulingLatencyCount()).isEqualTo(2);
+    assertThat(actor.getSchedulingLatencyPercentile(50)).isBetween(10L, 20L);
+    assertThat(actor.getSchedulingLatencyPercentile(100)).isBetween(1_000L, 2_000L);
+  }
+
+  @Test
+  void shouldStartNewWindowAfterPublishing() {
+    // given
+    execute("actor", 100, 0);
+    profiler.publishIfDue(WINDOW_NANOS);
+
+    // when
+    execute("actor", 50, 0);
+    profiler.publishIfDue(2 * WINDOW_NANOS);
+
+    // then
+    final var actor = profiler.getProfile().actors().get(0);
+    assertThat(actor.getExecutionCount()).isEqualTo(1);
+    assertThat(actor.getExecutionTimeNanos()).isEqualTo(50);
+    assertThat(profiler.getProfile().busyNanos()).isEqualTo(50);
+  }
+
+  @Test
+  void shouldForgetActorsWhichWereNotExecutedDuringWindow() {
+    // given
+    execute("closed", 100, 0);
+    profiler.publishIfDue(WINDOW_NANOS);
+
+    // when
+    execute("actor", 100, 0);
+    profiler.publishIfDue(2 * WINDOW_NANOS);
+
+    // then
+    assertThat(profiler.getProfile().actors())
+        .extracting(ActorProfile::getActorName)
+        .containsExactly("actor");
+  }
+
+  @Test
+  void shouldEstimateExecutionTimePercentiles() {
+    // given
+    for (int i = 0; i < 99; i++) {
+      execute("actor", 1_000, 0);
+    }
+    execute("actor", 1_000_000, 0);
+
+    // when
+    profiler.publishIfDue(WINDOW_NANOS);
+
+    // then
+    final var actor = profiler.getProfile().actors().get(0);
+    assertThat(actor.getExecutionTimePercentile(99)).isBetween(1_000L, 2_000L);
+    assertThat(actor.getExecutionTimePercentile(100)).isBetween(1_000_000L, 2_000_000L);
+  }
+
+  @Test
+  void shouldMergeProfilesOfSameActor() {
+    // given
+    execute("actor", 100, 2);
+    profiler.publishIfDue(WINDOW_NANOS);
+    final var first = profiler.getProfile().actors().get(0);
+    execute("actor", 1_000, 5);
+    profiler.publishIfDue(2 * WINDOW_NANOS);
+    final var second = profiler.getProfile().actors().get(0);
+
+    // when
+    final var merged = first.merge(second);
+
+    // then
+    assertThat(merged.getExecutionCount()).isEqualTo(2);
+    assertThat(merged.getExecutionTimeNanos()).isEqualTo(1_100);
+    assertThat(merged.getMaxExecutionTimeNanos()).isEqualTo(1_000);
+    assertThat(merged.getMaxQueueLength()).isEqualTo(5);
+    assertThat(merged.getExecutionTimePercentile(50)).isBetween(100L, 200L);
+  }
+
+  private void execute(final String actorName, final long executionTimeNanos, final int queue) {
+    profiler.onExecutionStarted(actorName);
+    profiler.onExecutionEnded(executionTimeNanos, queue);
+  }
+}
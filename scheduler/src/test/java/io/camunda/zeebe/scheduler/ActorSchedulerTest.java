@@ -7,6 +7,7 @@
  */
 package io.camunda.zeebe.scheduler;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.awaitility.Awaitility.await;
 
@@ -43,5 +44,34 @@ final class ActorSchedulerTest {
         .isInstanceOf(IllegalStateException.class);
   }
 
+  @Test
+  void shouldNotProvideProfilesIfProfilingIsDisabled() {
+    // given
+    final var sut = ActorScheduler.newActorScheduler().build();
+
+    // when
+    final var profiles = sut.getProfiles();
+
+    // then
+    assertThat(profiles).isEmpty();
+  }
+
+  @Test
+  void shouldProvideProfilePerThreadIfProfilingIsEnabled() {
+    // given
+    final var sut =
+        ActorScheduler.newActorScheduler()
+            .setCpuBoundActorThreadCount(2)
+            .setIoBoundActorThreadCount(1)
+            .setProfilingEnabled(true)
+            .build();
+
+    // when
+    final var profiles = sut.getProfiles();
+
+    // then
+    assertThat(profiles).hasSize(3);
+  }
+
   private static final class TestActor extends Actor {}
 }
@@ -0,0 +1,91 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.scheduler;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.camunda.zeebe.scheduler.ActorScheduler.ActorSchedulerBuilder;
+import io.camunda.zeebe.scheduler.ActorScheduler.DefaultActorThreadFactory;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+
+final class ActorThreadGroupTest {
+
+  @Test
+  void shouldNotAssignHomeThreadIfPartitionAffinityIsDisabled() {
+    // given
+    final var group = new CpuThreadGroup(newBuilder(false));
+
+    // when
+    final int homeThreadId = group.getHomeThreadId(new PartitionActor("1").actor.task);
+
+    // then
+    assertThat(homeThreadId).isEqualTo(-1);
+  }
+
+  @Test
+  void shouldAssignPartitionsRoundRobinToThreads() {
+    // given
+    final var group = new CpuThreadGroup(newBuilder(true));
+
+    // when - then
+    assertThat(group.getHomeThreadId(new PartitionActor("1").actor.task)).isEqualTo(0);
+    assertThat(group.getHomeThreadId(new PartitionActor("2").actor.task)).isEqualTo(1);
+    assertThat(group.getHomeThreadId(new PartitionActor("3").actor.task)).isEqualTo(2);
+    assertThat(group.getHomeThreadId(new PartitionActor("4").actor.task)).isEqualTo(0);
+  }
+
+  @Test
+  void shouldAssignActorsOfSamePartitionToSameThread() {
+    // given
+    final var group = new CpuThreadGroup(newBuilder(true));
+
+    // when
+    final int first = group.getHomeThreadId(new PartitionActor("5").actor.task);
+    final int second = group.getHomeThreadId(new PartitionActor("5").actor.task);
+
+    // then
+    assertThat(first).isEqualTo(second).isEqualTo(1);
+  }
+
+  @Test
+  void shouldNotAssignHomeThreadToActorWithoutPartition() {
+    // given
+    final var group = new CpuThreadGroup(newBuilder(true));
+
+    // when
+    final int withoutPartition = group.getHomeThreadId(new Actor() {}.actor.task);
+    final int invalidPartition = group.getHomeThreadId(new PartitionActor("foo").actor.task);
+
+    // then
+    assertThat(withoutPartition).isEqualTo(-1);
+    assertThat(invalidPartition).isEqualTo(-1);
+  }
+
+  private static ActorSchedulerBuilder newBuilder(final boolean partitionAffinity) {
+    return ActorScheduler.newActorScheduler()
+        .setCpuBoundActorThreadCount(3)
+        .setActorThreadFactory(new DefaultActorThreadFactory())
+        .setPartitionAffinityEnabled(partitionAffinity);
+  }
+
+  private static final class PartitionActor extends Actor {
+    private final String partitionId;
+
+    private PartitionActor(final String partitionId) {
+      this.partitionId = partitionId;
+    }
+
+    @Override
+    protected Map<String, String> createContext() {
+      final var context = super.createContext();
+      context.put(ACTOR_PROP_PARTITION_ID, partitionId);
+      return context;
+    }
+  }
+}
@@ -0,0 +1,90 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.scheduler;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.Test;
+
+final class AdaptiveIdleStrategyTest {
+  private final AtomicLong clock = new AtomicLong(1);
+  private final AdaptiveIdleStrategy idleStrategy =
+      new AdaptiveIdleStrategy("thread", new ActorMetrics(false), clock::get);
+
+  @Test
+  void shouldParkRightAwayInitially() {
+    // then
+    assertThat(idleStrategy.getSpinBudgetNanos()).isZero();
+    assertThat(idleStrategy.getYieldBudgetNanos()).isZero();
+  }
+
+  @Test
+  void shouldSpinIfWorkArrivesQuickly() {
+    // given
+    final long idleNanos = TimeUnit.MICROSECONDS.toNanos(5);
+
+    // when
+    idleRepeatedly(idleNanos, 100);
+
+    // then
+    assertThat(idleStrategy.getAverageIdleNanos()).isBetween(idleNanos, idleNanos + 100);
+    assertThat(idleStrategy.getSpinBudgetNanos()).isEqualTo(2 * idleStrategy.getAverageIdleNanos());
+    assertThat(idleStrategy.getYieldBudgetNanos()).isZero();
+  }
+
+  @Test
+  void shouldYieldIfWorkArrivesWithinYieldLimit() {
+    // given
+    final long idleNanos = TimeUnit.MICROSECONDS.toNanos(40);
+
+    // when
+    idleRepeatedly(idleNanos, 100);
+
+    // then
+    assertThat(idleStrategy.getSpinBudgetNanos()).isZero();
+    assertThat(idleStrategy.getYieldBudgetNanos())
+        .isEqualTo(
+            Math.min(2 * idleStrategy.getAverageIdleNanos(), AdaptiveIdleStrategy.MAX_YIELD_NANOS));
+  }
+
+  @Test
+  void shouldParkRightAwayAgainIfWorkArrivesRarely() {
+    // given
+    idleRepeatedly(TimeUnit.MICROSECONDS.toNanos(5), 100);
+
+    // when
+    idleRepeatedly(TimeUnit.MILLISECONDS.toNanos(10), 20);
+
+    // then
+    assertThat(idleStrategy.getSpinBudgetNanos()).isZero();
+    assertThat(idleStrategy.getYieldBudgetNanos()).isZero();
+  }
+
+  @Test
+  void shouldNotObserveIdleTimeIfNotIdle() {
+    // given
+    final long averageIdleNanos = idleStrategy.getAverageIdleNanos();
+
+    // when
+    clock.addAndGet(TimeUnit.SECONDS.toNanos(1));
+    idleStrategy.reset();
+
+    // then
+    assertThat(idleStrategy.getAverageIdleNanos()).isEqualTo(averageIdleNanos);
+  }
+
+  private void idleRepeatedly(final long idleNanos, final int times) {
+    for (int i = 0; i < times; i++) {
+      idleStrategy.idle();
+      clock.addAndGet(idleNanos);
+      idleStrategy.reset();
+    }
+  }
+}
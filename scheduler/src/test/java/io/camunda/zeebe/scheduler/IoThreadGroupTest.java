@@ -0,0 +1,122 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.scheduler;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+final class IoThreadGroupTest {
+  private final CountDownLatch unblock = new CountDownLatch(1);
+  private ActorScheduler.ActorSchedulerBuilder builder;
+  private ActorScheduler scheduler;
+
+  @BeforeEach
+  void setUp() {
+    builder =
+        ActorScheduler.newActorScheduler()
+            .setCpuBoundActorThreadCount(1)
+            .setIoBoundActorThreadCount(1)
+            .setSpareIoBoundActorThreadCount(1)
+            .setSpareIoBoundActorThreadKeepAlive(Duration.ofMillis(100));
+    scheduler = builder.build();
+    scheduler.start();
+  }
+
+  @AfterEach
+  void tearDown() throws Exception {
+    unblock.countDown();
+    scheduler.close();
+  }
+
+  @Test
+  void shouldNotStartSpareThreadIfThreadsAreNotBlocked() {
+    // given
+    final var group = builder.getIoBoundActorThreads();
+
+    // when
+    scheduler.submitActor(new ThreadRecordingActor(), SchedulingHints.ioBound()).join();
+    scheduler.submitActor(new ThreadRecordingActor(), SchedulingHints.ioBound()).join();
+
+    // then
+    assertThat(group.threads[1].getState()).isEqualTo(Thread.State.NEW);
+  }
+
+  @Test
+  void shouldRunActorOnSpareThreadIfAllThreadsAreBlocked() {
+    // given
+    final var group = builder.getIoBoundActorThreads();
+    final var spareThread = group.threads[1];
+    blockAllThreads(group);
+
+    // when
+    final var actor = new ThreadRecordingActor();
+    scheduler.submitActor(actor, SchedulingHints.ioBound()).join(5, TimeUnit.SECONDS);
+
+    // then
+    assertThat(actor.thread.get()).isSameAs(spareThread);
+  }
+
+  @Test
+  void shouldStopSpareThreadOnceItIsIdle() {
+    // given
+    final var group = builder.getIoBoundActorThreads();
+    final var spareThread = group.threads[1];
+    blockAllThreads(group);
+    scheduler
+        .submitActor(new ThreadRecordingActor(), SchedulingHints.ioBound())
+        .join(5, TimeUnit.SECONDS);
+
+    // when
+    unblock.countDown();
+
+    // then
+    await().until(() -> spareThread.getState() == Thread.State.TERMINATED);
+    assertThat(group.threads[1]).isNotSameAs(spareThread);
+    assertThat(group.threads[1].getState()).isEqualTo(Thread.State.NEW);
+  }
+
+  private void blockAllThreads(final ActorThreadGroup group) {
+    scheduler.submitActor(new BlockingActor(), SchedulingHints.ioBound()).join();
+    await()
+        .until(
+            () ->
+                group.threads[0].isBlocked(
+                    System.nanoTime(), ActorThreadGroup.BLOCKED_THRESHOLD_NANOS));
+  }
+
+  private final class BlockingActor extends Actor {
+    @Override
+    protected void onActorStarted() {
+      actor.run(
+          () -> {
+            try {
+              unblock.await();
+            } catch (final InterruptedException e) {
+              Thread.currentThread().interrupt();
+            }
+          });
+    }
+  }
+
+  private static final class ThreadRecordingActor extends Actor {
+    private final AtomicReference<Thread> thread = new AtomicReference<>();
+
+    @Override
+    protected void onActorStarting() {
+      thread.set(Thread.currentThread());
+    }
+  }
+}
@@ -0,0 +1,60 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.scheduler;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+
+final class WorkStealingGroupTest {
+
+  @Test
+  void shouldStealFromRandomRunnerByDefault() {
+    // given
+    final var group = new WorkStealingGroup(4);
+
+    // when
+    final int[] stealOrder = group.getStealOrder(0);
+
+    // then
+    assertThat(stealOrder).isNull();
+  }
+
+  @Test
+  void shouldStealFromNearestNeighboursFirst() {
+    // given
+    final var group = new WorkStealingGroup(5, true);
+
+    // when - then
+    assertThat(group.getStealOrder(0)).containsExactly(1, 4, 2, 3);
+    assertThat(group.getStealOrder(2)).containsExactly(3, 1, 4, 0);
+    assertThat(group.getStealOrder(4)).containsExactly(0, 3, 1, 2);
+  }
+
+  @Test
+  void shouldVisitEveryOtherRunnerOnce() {
+    // given
+    final var group = new WorkStealingGroup(4, true);
+
+    // when - then
+    assertThat(group.getStealOrder(0)).containsExactly(1, 3, 2);
+    assertThat(group.getStealOrder(3)).containsExactly(0, 2, 1);
+  }
+
+  @Test
+  void shouldNotStealFromItselfIfSingleRunner() {
+    // given
+    final var group = new WorkStealingGroup(1, true);
+
+    // when
+    final int[] stealOrder = group.getStealOrder(0);
+
+    // then
+    assertThat(stealOrder).isEmpty();
+  }
+}
@@ -9,6 +9,7 @@ package io.camunda.zeebe.snapshots;
 
 import io.camunda.zeebe.scheduler.future.ActorFuture;
 import java.nio.file.Path;
+import java.util.Map;
 
 /** Represents a snapshot, which was persisted at the {@link PersistedSnapshotStore}. */
 public interface PersistedSnapshot {
@@ -58,6 +59,16 @@ public interface PersistedSnapshot {
    */
   Path getChecksumPath();
 
+  /**
+   * Returns the checksum of each file of the snapshot, by file name. A leader may skip sending the
+   * files which the receiver of a new snapshot already holds with the same checksum.
+   *
+   * @return the checksums of the files of the snapshot, or an empty map if they are unknown
+   */
+  default Map<String, Long> getFileChecksums() {
+    return Map.of();
+  }
+
   /**
    * Returns an implementation specific compaction bound, e.g. a log stream position, index etc.,
    * used during compaction
@@ -39,4 +39,21 @@ public interface SnapshotChunk {
    * @return the checksum of the entire snapshot
    */
   long getSnapshotChecksum();
+
+  /**
+   * @return the position in the file at which the content of this chunk starts; files may be split
+   *     into multiple chunks, which are always sent in order
+   */
+  default long getFileBlockPosition() {
+    return 0;
+  }
+
+  /**
+   * @return the total size of the file to which the content of this chunk belongs; if the content
+   *     is empty but the file is not, the receiver already holds a copy of the file with the given
+   *     checksum, see {@link SnapshotChunkReader#setReusableFiles(java.util.Map)}
+   */
+  default long getTotalFileSize() {
+    return getContent().length;
+  }
 }
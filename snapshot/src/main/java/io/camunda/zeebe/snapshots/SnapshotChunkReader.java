@@ -10,6 +10,7 @@ package io.camunda.zeebe.snapshots;
 import io.camunda.zeebe.util.CloseableSilently;
 import java.nio.ByteBuffer;
 import java.util.Iterator;
+import java.util.Map;
 
 /**
  * Represents a snapshot chunk reader, which means it is used to chunk an {@link PersistedSnapshot}
@@ -32,4 +33,21 @@ public interface SnapshotChunkReader extends Iterator<SnapshotChunk>, CloseableS
    * @return the next chunk ID
    */
   ByteBuffer nextId();
+
+  /**
+   * Sets the maximum size of the content of the chunks which are read afterwards. Bigger files are
+   * split into multiple chunks. By default, each file is read as a single chunk.
+   *
+   * @param maximumChunkSize the maximum size of the content of a chunk, in bytes
+   */
+  default void setMaximumChunkSize(final int maximumChunkSize) {}
+
+  /**
+   * Sets the files which the receiver of the chunks read afterwards already holds, e.g. as part of
+   * its latest snapshot. Files of this snapshot with the same name and checksum are not read, but
+   * are replaced by a single chunk without content, such that the receiver can reuse its copy.
+   *
+   * @param fileChecksums the checksums of the files the receiver holds, by file name
+   */
+  default void setReusableFiles(final Map<String, Long> fileChecksums) {}
 }
@@ -67,12 +67,23 @@ public class FileBasedReceivedSnapshot implements ReceivedSnapshot {
         });
   }
 
-  private boolean containsChunk(final String chunkId) {
-    return Files.exists(directory.resolve(chunkId));
+  private boolean containsChunk(final String chunkName, final long fileBlockPosition) {
+    final var file = directory.resolve(chunkName);
+    if (fileBlockPosition == 0) {
+      return Files.exists(file);
+    }
+
+    // the blocks of a file are applied in order, so any block before its end was applied already
+    try {
+      return Files.exists(file) && Files.size(file) > fileBlockPosition;
+    } catch (final IOException e) {
+      return false;
+    }
   }
 
   private void applyInternal(final SnapshotChunk snapshotChunk) throws SnapshotWriteException {
-    if (containsChunk(snapshotChunk.getChunkName())) {
+    final long fileBlockPosition = snapshotChunk.getFileBlockPosition();
+    if (containsChunk(snapshotChunk.getChunkName(), fileBlockPosition)) {
       return;
     }
 
@@ -95,7 +106,11 @@ public class FileBasedReceivedSnapshot implements ReceivedSnapshot {
       return;
     }
 
-    checkChunkChecksumIsValid(snapshotChunk, snapshotId, chunkName);
+    final byte[] content = snapshotChunk.getContent();
+    final boolean isReusedFile = content.length == 0 && snapshotChunk.getTotalFileSize() > 0;
+    if (!isReusedFile) {
+      checkChunkChecksumIsValid(snapshotChunk, content, snapshotId, chunkName);
+    }
 
     final var tmpSnapshotDirectory = directory;
     try {
@@ -106,22 +121,108 @@ public class FileBasedReceivedSnapshot implements ReceivedSnapshot {
     }
 
     final var snapshotFile = tmpSnapshotDirectory.resolve(chunkName);
-    if (Files.exists(snapshotFile)) {
+    checkFileBlockPositionIsValid(snapshotFile, fileBlockPosition);
+
+    LOGGER.trace("Consume snapshot snapshotChunk {} of snapshot {}", chunkName, snapshotId);
+    if (isReusedFile) {
+      reuseFile(snapshotChunk, snapshotFile);
+    } else {
+      writeReceivedSnapshotChunk(snapshotChunk, content, snapshotFile);
+    }
+
+    final boolean isFileComplete =
+        fileBlockPosition + content.length >= snapshotChunk.getTotalFileSize();
+    if (isFileComplete && chunkName.equals(FileBasedSnapshotStore.METADATA_FILE_NAME)) {
+      try {
+        collectMetadata(
+            fileBlockPosition == 0 && !isReusedFile ? content : Files.readAllBytes(snapshotFile));
+      } catch (final IOException e) {
+        throw new SnapshotWriteException("Cannot decode snapshot metadata");
+      }
+    }
+  }
+
+  private void checkFileBlockPositionIsValid(final Path snapshotFile, final long fileBlockPosition)
+      throws SnapshotWriteException {
+    if (fileBlockPosition == 0) {
+      if (Files.exists(snapshotFile)) {
+        throw new SnapshotWriteException(
+            String.format(
+                "Received a snapshot snapshotChunk which already exist '%s'.", snapshotFile));
+      }
+      return;
+    }
+
+    long fileSize;
+    try {
+      fileSize = Files.size(snapshotFile);
+    } catch (final IOException e) {
+      fileSize = 0;
+    }
+
+    if (fileSize != fileBlockPosition) {
       throw new SnapshotWriteException(
           String.format(
-              "Received a snapshot snapshotChunk which already exist '%s'.", snapshotFile));
+              "Expected to receive the block of file '%s' at position %d, but received the block at position %d.",
+              snapshotFile, fileSize, fileBlockPosition));
     }
+  }
 
-    LOGGER.trace("Consume snapshot snapshotChunk {} of snapshot {}", chunkName, snapshotId);
-    writeReceivedSnapshotChunk(snapshotChunk, snapshotFile);
+  /**
+   * Links the given file from the latest snapshot of the store, which the sender found to be equal
+   * to its own copy, or copies it if linking is not supported.
+   */
+  private void reuseFile(final SnapshotChunk snapshotChunk, final Path snapshotFile)
+      throws SnapshotWriteException {
+    final var chunkName = snapshotChunk.getChunkName();
+    final var latestSnapshot =
+        snapshotStore
+            .getLatestSnapshot()
+            .orElseThrow(
+                () ->
+                    new SnapshotWriteException(
+                        String.format(
+                            "Expected to reuse file '%s' of the latest snapshot, but there is no snapshot.",
+                            chunkName)));
+    final var reusedFile = latestSnapshot.getPath().resolve(chunkName);
+    final Long checksum = latestSnapshot.getFileChecksums().get(chunkName);
+
+    long fileSize;
+    try {
+      fileSize = Files.size(reusedFile);
+    } catch (final IOException e) {
+      fileSize = -1;
+    }
 
-    if (snapshotChunk.getChunkName().equals(FileBasedSnapshotStore.METADATA_FILE_NAME)) {
+    if (checksum == null
+        || checksum != snapshotChunk.getChecksum()
+        || fileSize != snapshotChunk.getTotalFileSize()) {
+      throw new SnapshotWriteException(
+          String.format(
+              "Expected to reuse file '%s' with checksum %d and size %d, but it has checksum %d and size %d.",
+              reusedFile,
+              snapshotChunk.getChecksum(),
+              snapshotChunk.getTotalFileSize(),
+              checksum,
+              fileSize));
+    }
+
+    try {
+      Files.createLink(snapshotFile, reusedFile);
+    } catch (final UnsupportedOperationException | IOException linkException) {
       try {
-        collectMetadata(snapshotChunk.getContent());
+        Files.copy(reusedFile, snapshotFile);
+        try (final var channel = FileChannel.open(snapshotFile, StandardOpenOption.WRITE)) {
+          channel.force(true);
+        }
       } catch (final IOException e) {
-        throw new SnapshotWriteException("Cannot decode snapshot metadata");
+        e.addSuppressed(linkException);
+        throw new SnapshotWriteException(
+            String.format("Failed to reuse file '%s' of the latest snapshot", reusedFile), e);
       }
     }
+
+    LOGGER.trace("Reused file {} of the latest snapshot", reusedFile);
   }
 
   private void collectMetadata(final byte[] content) throws IOException {
@@ -129,10 +230,13 @@ public class FileBasedReceivedSnapshot implements ReceivedSnapshot {
   }
 
   private void checkChunkChecksumIsValid(
-      final SnapshotChunk snapshotChunk, final String snapshotId, final String chunkName)
+      final SnapshotChunk snapshotChunk,
+      final byte[] content,
+      final String snapshotId,
+      final String chunkName)
       throws SnapshotWriteException {
     final long expectedChecksum = snapshotChunk.getChecksum();
-    final long actualChecksum = SnapshotChunkUtil.createChecksum(snapshotChunk.getContent());
+    final long actualChecksum = SnapshotChunkUtil.createChecksum(content);
 
     if (expectedChecksum != actualChecksum) {
       throw new SnapshotWriteException(
@@ -186,10 +290,16 @@ public class FileBasedReceivedSnapshot implements ReceivedSnapshot {
   }
 
   private void writeReceivedSnapshotChunk(
-      final SnapshotChunk snapshotChunk, final Path snapshotFile) throws SnapshotWriteException {
-    try (final var channel =
-        FileChannel.open(snapshotFile, StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE)) {
-      final ByteBuffer buffer = ByteBuffer.wrap(snapshotChunk.getContent());
+      final SnapshotChunk snapshotChunk, final byte[] content, final Path snapshotFile)
+      throws SnapshotWriteException {
+    final var fileBlockPosition = snapshotChunk.getFileBlockPosition();
+    final var openOptions =
+        fileBlockPosition == 0
+            ? new StandardOpenOption[] {StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE}
+            : new StandardOpenOption[] {StandardOpenOption.WRITE, StandardOpenOption.APPEND};
+
+    try (final var channel = FileChannel.open(snapshotFile, openOptions)) {
+      final ByteBuffer buffer = ByteBuffer.wrap(content);
 
       while (buffer.hasRemaining()) {
         final int newLimit = Math.min(buffer.capacity(), buffer.position() + BLOCK_SIZE);
@@ -197,7 +307,10 @@ public class FileBasedReceivedSnapshot implements ReceivedSnapshot {
         buffer.limit(buffer.capacity());
       }
 
-      channel.force(true);
+      // only flush once the file is complete; partially received files are never persisted
+      if (fileBlockPosition + content.length >= snapshotChunk.getTotalFileSize()) {
+        channel.force(true);
+      }
     } catch (final IOException e) {
       throw new SnapshotWriteException(
           String.format("Failed to write snapshot chunk %s", snapshotChunk), e);
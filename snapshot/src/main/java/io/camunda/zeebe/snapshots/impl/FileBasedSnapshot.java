@@ -21,6 +21,7 @@ import java.io.UncheckedIOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.HashSet;
+import java.util.Map;
 import java.util.Set;
 import java.util.function.Consumer;
 import org.slf4j.Logger;
@@ -42,6 +43,8 @@ public final class FileBasedSnapshot implements PersistedSnapshot {
   private final ActorControl actor;
 
   private boolean deleted = false;
+  // read lazily from the checksum file, as it's only needed when replicating the snapshot
+  private volatile Map<String, Long> fileChecksums;
 
   FileBasedSnapshot(
       final Path directory,
@@ -86,7 +89,7 @@ public final class FileBasedSnapshot implements PersistedSnapshot {
   @Override
   public SnapshotChunkReader newChunkReader() {
     try {
-      return new FileBasedSnapshotChunkReader(directory, checksum);
+      return new FileBasedSnapshotChunkReader(directory, checksum, this::getFileChecksums);
     } catch (final IOException e) {
       throw new UncheckedIOException(e);
     }
@@ -102,6 +105,20 @@ public final class FileBasedSnapshot implements PersistedSnapshot {
     return checksumFile;
   }
 
+  @Override
+  public Map<String, Long> getFileChecksums() {
+    if (fileChecksums == null) {
+      try {
+        fileChecksums = SnapshotChecksum.read(checksumFile).getChecksums();
+      } catch (final IOException e) {
+        LOGGER.warn("Failed to read the file checksums of snapshot {}", getId(), e);
+        return Map.of();
+      }
+    }
+
+    return fileChecksums;
+  }
+
   @Override
   public long getCompactionBound() {
     return getIndex();
@@ -13,48 +13,68 @@ import io.camunda.zeebe.snapshots.SnapshotChunkReader;
 import java.io.IOException;
 import java.io.UncheckedIOException;
 import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
 import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Map;
 import java.util.NavigableSet;
 import java.util.NoSuchElementException;
 import java.util.TreeSet;
-import org.agrona.AsciiSequenceView;
-import org.agrona.DirectBuffer;
-import org.agrona.concurrent.UnsafeBuffer;
+import java.util.function.Supplier;
 
 /**
- * Implements a chunk reader where each chunk is a single file in a root directory. Chunks are then
- * ordered lexicographically, and the files are assumed to be immutable, i.e. no more are added to
- * the directory once this is created.
+ * Implements a chunk reader where each chunk is a single file, or a block of a file, in a root
+ * directory. Chunks are then ordered lexicographically by file name, and by position within the
+ * same file. The files are assumed to be immutable, i.e. no more are added to the directory once
+ * this is created.
+ *
+ * <p>The ID of a chunk is the name of its file. If the file is split into multiple chunks, the ID
+ * of each chunk after the first one also contains the position of its content in the file.
  */
 public final class FileBasedSnapshotChunkReader implements SnapshotChunkReader {
   static final Charset ID_CHARSET = StandardCharsets.US_ASCII;
+  // file names never contain a path separator, which makes it safe to use in chunk IDs
+  private static final char ID_POSITION_SEPARATOR = '/';
+  private static final byte[] NO_CONTENT = new byte[0];
 
   private final Path directory;
-  private final NavigableSet<CharSequence> chunks;
-  private final CharSequenceView chunkIdView;
+  private final NavigableSet<String> chunks;
+  private final Supplier<Map<String, Long>> fileChecksums;
 
-  private NavigableSet<CharSequence> chunksView;
+  private NavigableSet<String> chunksView;
   private final int totalCount;
   private final long snapshotChecksum;
   private final String snapshotID;
 
+  private int maximumChunkSize = Integer.MAX_VALUE;
+  private Map<String, Long> reusableFiles = Map.of();
+  // the file which was partially read, and the position of its next block
+  private String currentFile;
+  private long currentFilePosition;
+
   FileBasedSnapshotChunkReader(final Path directory, final long checksum) throws IOException {
+    this(directory, checksum, Map::of);
+  }
+
+  FileBasedSnapshotChunkReader(
+      final Path directory, final long checksum, final Supplier<Map<String, Long>> fileChecksums)
+      throws IOException {
     this.directory = directory;
+    this.fileChecksums = fileChecksums;
     chunks = collectChunks(directory);
     totalCount = chunks.size();
     chunksView = chunks;
-    chunkIdView = new CharSequenceView();
 
     snapshotChecksum = checksum;
 
     snapshotID = directory.getFileName().toString();
   }
 
-  private NavigableSet<CharSequence> collectChunks(final Path directory) throws IOException {
-    final var set = new TreeSet<>(CharSequence::compare);
+  private NavigableSet<String> collectChunks(final Path directory) throws IOException {
+    final var set = new TreeSet<String>();
     try (final var stream = Files.list(directory).sorted()) {
       stream.map(directory::relativize).map(Path::toString).forEach(set::add);
     }
@@ -67,62 +87,148 @@ public final class FileBasedSnapshotChunkReader implements SnapshotChunkReader {
       return;
     }
 
-    final var path = decodeChunkId(id);
-    chunksView = chunks.tailSet(path, true);
+    final var chunkId = decodeChunkId(id);
+    final int separatorIndex = chunkId.lastIndexOf(ID_POSITION_SEPARATOR);
+    if (separatorIndex < 0) {
+      currentFile = null;
+      chunksView = chunks.tailSet(chunkId, true);
+    } else {
+      currentFile = chunkId.substring(0, separatorIndex);
+      currentFilePosition = Long.parseLong(chunkId.substring(separatorIndex + 1));
+      chunksView = chunks.tailSet(currentFile, false);
+    }
   }
 
   @Override
   public ByteBuffer nextId() {
+    if (currentFile != null) {
+      return encodeChunkId(currentFile, currentFilePosition);
+    }
+
     if (chunksView.isEmpty()) {
       return null;
     }
 
-    return encodeChunkId(chunksView.first());
+    return encodeChunkId(chunksView.first(), 0);
+  }
+
+  @Override
+  public void setMaximumChunkSize(final int maximumChunkSize) {
+    if (maximumChunkSize <= 0) {
+      throw new IllegalArgumentException(
+          String.format(
+              "Expected the maximum chunk size to be greater than 0, but was %d",
+              maximumChunkSize));
+    }
+
+    this.maximumChunkSize = maximumChunkSize;
+  }
+
+  @Override
+  public void setReusableFiles(final Map<String, Long> fileChecksums) {
+    reusableFiles = fileChecksums;
   }
 
   @Override
   public void close() {
     chunks.clear();
     chunksView.clear();
+    currentFile = null;
   }
 
   @Override
   public boolean hasNext() {
-    return !chunksView.isEmpty();
+    return currentFile != null || !chunksView.isEmpty();
   }
 
   @Override
   public SnapshotChunk next() {
-    final var chunkName = chunksView.pollFirst();
-    if (chunkName == null) {
-      throw new NoSuchElementException();
+    final String fileName;
+    final long position;
+    if (currentFile != null) {
+      fileName = currentFile;
+      position = currentFilePosition;
+    } else {
+      fileName = chunksView.pollFirst();
+      position = 0;
     }
 
-    final var path = directory.resolve(chunkName.toString());
+    if (fileName == null) {
+      throw new NoSuchElementException();
+    }
 
     try {
-      return SnapshotChunkUtil.createSnapshotChunkFromFile(
-          path, snapshotID, totalCount, snapshotChecksum);
+      return readChunk(fileName, position);
     } catch (final IOException e) {
       throw new UncheckedIOException(e);
     }
   }
 
-  private ByteBuffer encodeChunkId(final CharSequence path) {
-    return ByteBuffer.wrap(path.toString().getBytes(ID_CHARSET)).order(Protocol.ENDIANNESS);
+  private SnapshotChunk readChunk(final String fileName, final long position) throws IOException {
+    try (final var channel =
+        FileChannel.open(directory.resolve(fileName), StandardOpenOption.READ)) {
+      final long fileSize = channel.size();
+
+      final Long reusableChecksum = position == 0 ? getReusableChecksum(fileName, fileSize) : null;
+      if (reusableChecksum != null) {
+        currentFile = null;
+        return SnapshotChunkUtil.createSnapshotChunk(
+            snapshotID,
+            totalCount,
+            fileName,
+            reusableChecksum,
+            NO_CONTENT,
+            snapshotChecksum,
+            position,
+            fileSize);
+      }
+
+      final var content = new byte[(int) Math.min(maximumChunkSize, fileSize - position)];
+      final var buffer = ByteBuffer.wrap(content);
+      while (buffer.hasRemaining()) {
+        if (channel.read(buffer, position + buffer.position()) < 0) {
+          throw new IOException(
+              String.format(
+                  "Expected to read %d bytes of file %s at position %d, but reached its end",
+                  content.length, fileName, position));
+        }
+      }
+
+      final long nextPosition = position + content.length;
+      currentFile = nextPosition < fileSize ? fileName : null;
+      currentFilePosition = nextPosition;
+
+      return SnapshotChunkUtil.createSnapshotChunk(
+          snapshotID,
+          totalCount,
+          fileName,
+          SnapshotChunkUtil.createChecksum(content),
+          content,
+          snapshotChecksum,
+          position,
+          fileSize);
+    }
   }
 
-  private CharSequence decodeChunkId(final ByteBuffer id) {
-    return chunkIdView.wrap(id);
+  /**
+   * Returns the checksum of the given file, if the receiver already holds the same file. Empty
+   * files are always sent, as a chunk without content would not refer to a reused file.
+   */
+  private Long getReusableChecksum(final String fileName, final long fileSize) {
+    final Long receiverChecksum = reusableFiles.get(fileName);
+    if (receiverChecksum == null || fileSize == 0) {
+      return null;
+    }
+
+    return receiverChecksum.equals(fileChecksums.get().get(fileName)) ? receiverChecksum : null;
   }
 
-  private static final class CharSequenceView {
-    private final DirectBuffer wrapper = new UnsafeBuffer();
-    private final AsciiSequenceView view = new AsciiSequenceView();
+  private ByteBuffer encodeChunkId(final String fileName, final long position) {
+    final var chunkId = position == 0 ? fileName : fileName + ID_POSITION_SEPARATOR + position;
+    return ByteBuffer.wrap(chunkId.getBytes(ID_CHARSET)).order(Protocol.ENDIANNESS);
+  }
 
-    private CharSequence wrap(final ByteBuffer buffer) {
-      wrapper.wrap(buffer);
-      return view.wrap(wrapper, 0, wrapper.capacity());
-    }
+  private String decodeChunkId(final ByteBuffer id) {
+    return ID_CHARSET.decode(id.duplicate()).toString();
   }
 }
@@ -17,6 +17,7 @@ import java.nio.ByteBuffer;
 import java.nio.channels.FileChannel;
 import java.nio.file.Path;
 import java.nio.file.StandardOpenOption;
+import java.util.Collections;
 import java.util.Map.Entry;
 import java.util.SortedMap;
 import java.util.TreeMap;
@@ -63,6 +64,13 @@ final class SfvChecksum {
     return combinedChecksum.getValue();
   }
 
+  /**
+   * @return the checksum of each file, by file name
+   */
+  public SortedMap<String, Long> getChecksums() {
+    return Collections.unmodifiableSortedMap(checksums);
+  }
+
   public void setSnapshotDirectoryComment(final String headerComment) {
     snapshotDirectoryComment = headerComment;
   }
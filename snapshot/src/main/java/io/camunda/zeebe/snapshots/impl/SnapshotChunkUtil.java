@@ -8,9 +8,6 @@
 package io.camunda.zeebe.snapshots.impl;
 
 import io.camunda.zeebe.snapshots.SnapshotChunk;
-import java.io.IOException;
-import java.nio.file.Files;
-import java.nio.file.Path;
 import java.util.zip.CRC32C;
 import java.util.zip.Checksum;
 
@@ -28,21 +25,24 @@ final class SnapshotChunkUtil {
     return new CRC32C();
   }
 
-  static SnapshotChunk createSnapshotChunkFromFile(
-      final Path chunkFile,
+  static SnapshotChunk createSnapshotChunk(
       final String snapshotId,
       final int totalCount,
-      final long snapshotChecksum)
-      throws IOException {
-    final byte[] content = Files.readAllBytes(chunkFile);
-    final long checksum = createChecksum(content);
+      final String chunkName,
+      final long checksum,
+      final byte[] content,
+      final long snapshotChecksum,
+      final long fileBlockPosition,
+      final long totalFileSize) {
     return new SnapshotChunkImpl(
         snapshotId,
         totalCount,
-        chunkFile.getFileName().toString(),
+        chunkName,
         checksum,
         content,
-        snapshotChecksum);
+        snapshotChecksum,
+        fileBlockPosition,
+        totalFileSize);
   }
 
   private static final class SnapshotChunkImpl implements SnapshotChunk {
@@ -52,6 +52,8 @@ final class SnapshotChunkUtil {
     private final byte[] content;
     private final long snapshotChecksum;
     private final long checksum;
+    private final long fileBlockPosition;
+    private final long totalFileSize;
 
     SnapshotChunkImpl(
         final String snapshotId,
@@ -59,13 +61,17 @@ final class SnapshotChunkUtil {
         final String chunkName,
         final long checksum,
         final byte[] content,
-        final long snapshotChecksum) {
+        final long snapshotChecksum,
+        final long fileBlockPosition,
+        final long totalFileSize) {
       this.snapshotId = snapshotId;
       this.totalCount = totalCount;
       this.chunkName = chunkName;
       this.checksum = checksum;
       this.content = content;
       this.snapshotChecksum = snapshotChecksum;
+      this.fileBlockPosition = fileBlockPosition;
+      this.totalFileSize = totalFileSize;
     }
 
     @Override
@@ -97,5 +103,15 @@ final class SnapshotChunkUtil {
     public long getSnapshotChecksum() {
       return snapshotChecksum;
     }
+
+    @Override
+    public long getFileBlockPosition() {
+      return fileBlockPosition;
+    }
+
+    @Override
+    public long getTotalFileSize() {
+      return totalFileSize;
+    }
   }
 }
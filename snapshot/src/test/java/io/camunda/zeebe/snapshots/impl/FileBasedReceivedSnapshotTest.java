@@ -343,6 +343,106 @@ public class FileBasedReceivedSnapshotTest {
                 name.getFileName().toString().equals(FileBasedSnapshotStore.METADATA_FILE_NAME));
   }
 
+  @Test
+  public void shouldReceiveFilesInMultipleChunks() {
+    // given
+    final var persistedSnapshot = takePersistedSnapshot(1L);
+    final var receivedSnapshot =
+        receiverSnapshotStore.newReceivedSnapshot(persistedSnapshot.getId());
+
+    // when
+    try (final var snapshotChunkReader = persistedSnapshot.newChunkReader()) {
+      snapshotChunkReader.setMaximumChunkSize(4);
+      while (snapshotChunkReader.hasNext()) {
+        receivedSnapshot.apply(snapshotChunkReader.next()).join();
+      }
+    }
+    final var receivedPersistedSnapshot = receivedSnapshot.persist().join();
+
+    // then
+    assertThat(receivedPersistedSnapshot.getChecksum()).isEqualTo(persistedSnapshot.getChecksum());
+    for (final var entry : SNAPSHOT_FILE_CONTENTS.entrySet()) {
+      assertThat(receivedPersistedSnapshot.getPath().resolve(entry.getKey()))
+          .hasContent(entry.getValue());
+    }
+  }
+
+  @Test
+  public void shouldNotWriteBlockOutOfOrder() {
+    // given
+    final var persistedSnapshot = takePersistedSnapshot(1L);
+    final var receivedSnapshot =
+        receiverSnapshotStore.newReceivedSnapshot(persistedSnapshot.getId());
+
+    try (final var snapshotChunkReader = persistedSnapshot.newChunkReader()) {
+      snapshotChunkReader.setMaximumChunkSize(4);
+      final var firstBlock = snapshotChunkReader.next();
+      snapshotChunkReader.next();
+      final var thirdBlock = snapshotChunkReader.next();
+      receivedSnapshot.apply(firstBlock).join();
+
+      // when
+      final var result = receivedSnapshot.apply(thirdBlock);
+
+      // then
+      assertThatThrownBy(result::join).hasCauseInstanceOf(SnapshotWriteException.class);
+      assertThat(receivedSnapshot.getPath().resolve(firstBlock.getChunkName()))
+          .hasBinaryContent(firstBlock.getContent());
+    }
+  }
+
+  @Test
+  public void shouldReuseFilesOfLatestSnapshot() {
+    // given
+    receiveSnapshot(takePersistedSnapshot(1L)).persist().join();
+    final var latestSnapshot = receiverSnapshotStore.getLatestSnapshot().orElseThrow();
+    final var persistedSnapshot = takePersistedSnapshot(2L);
+    final var receivedSnapshot =
+        receiverSnapshotStore.newReceivedSnapshot(persistedSnapshot.getId());
+
+    // when
+    try (final var snapshotChunkReader = persistedSnapshot.newChunkReader()) {
+      snapshotChunkReader.setReusableFiles(latestSnapshot.getFileChecksums());
+      while (snapshotChunkReader.hasNext()) {
+        final var chunk = snapshotChunkReader.next();
+        assertThat(chunk.getContent()).isEmpty();
+        receivedSnapshot.apply(chunk).join();
+      }
+    }
+    final var receivedPersistedSnapshot = receivedSnapshot.persist().join();
+
+    // then
+    assertThat(receivedPersistedSnapshot.getChecksum()).isEqualTo(persistedSnapshot.getChecksum());
+    for (final var entry : SNAPSHOT_FILE_CONTENTS.entrySet()) {
+      assertThat(receivedPersistedSnapshot.getPath().resolve(entry.getKey()))
+          .hasContent(entry.getValue());
+    }
+  }
+
+  @Test
+  public void shouldNotReuseFileWithDifferentChecksum() {
+    // given
+    receiveSnapshot(takePersistedSnapshot(1L)).persist().join();
+    final var latestSnapshot = receiverSnapshotStore.getLatestSnapshot().orElseThrow();
+    final var persistedSnapshot = takePersistedSnapshot(2L);
+    final var receivedSnapshot =
+        receiverSnapshotStore.newReceivedSnapshot(persistedSnapshot.getId());
+
+    try (final var snapshotChunkReader = persistedSnapshot.newChunkReader()) {
+      snapshotChunkReader.setReusableFiles(latestSnapshot.getFileChecksums());
+      final var reusedChunk = snapshotChunkReader.next();
+
+      // when
+      final var result =
+          receivedSnapshot.apply(
+              SnapshotChunkWrapper.withChecksum(reusedChunk, reusedChunk.getChecksum() + 1));
+
+      // then
+      assertThatThrownBy(result::join).hasCauseInstanceOf(SnapshotWriteException.class);
+      assertThat(receivedSnapshot.getPath().resolve(reusedChunk.getChunkName())).doesNotExist();
+    }
+  }
+
   private ReceivedSnapshot receiveSnapshot(final PersistedSnapshot persistedSnapshot) {
     final var receivedSnapshot =
         receiverSnapshotStore.newReceivedSnapshot(persistedSnapshot.getId());
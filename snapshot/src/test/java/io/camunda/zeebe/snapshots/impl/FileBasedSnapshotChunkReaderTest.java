@@ -20,6 +20,7 @@ import java.nio.file.Files;
 import java.nio.file.NoSuchFileException;
 import java.nio.file.Path;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.Map;
 import java.util.NoSuchElementException;
 import org.junit.Rule;
@@ -147,6 +148,97 @@ public final class FileBasedSnapshotChunkReaderTest {
     assertThatThrownBy(snapshotChunkReader::next).isInstanceOf(NoSuchElementException.class);
   }
 
+  @Test
+  public void shouldSplitFilesIntoChunksOfMaximumSize() throws IOException {
+    // given
+    final var snapshotChunks = new ArrayList<SnapshotChunk>();
+    final var snapshotChunkIds = new ArrayList<ByteBuffer>();
+
+    // when
+    try (final var snapshotChunkReader = newReader()) {
+      snapshotChunkReader.setMaximumChunkSize(3);
+      while (snapshotChunkReader.hasNext()) {
+        snapshotChunkIds.add(snapshotChunkReader.nextId());
+        snapshotChunks.add(snapshotChunkReader.next());
+      }
+    }
+
+    // then
+    assertThat(snapshotChunkIds)
+        .containsExactly(
+            asByteBuffer("file1"),
+            asByteBuffer("file1/3"),
+            asByteBuffer("file2"),
+            asByteBuffer("file3"),
+            asByteBuffer("file3/3"),
+            asByteBuffer("file3/6"));
+    assertThat(snapshotChunks)
+        .extracting(SnapshotChunk::getContent)
+        .extracting(String::new)
+        .containsExactly("thi", "s", "is", "con", "ten", "t");
+    assertThat(snapshotChunks)
+        .extracting(SnapshotChunk::getFileBlockPosition)
+        .containsExactly(0L, 3L, 0L, 0L, 3L, 6L);
+    assertThat(snapshotChunks)
+        .extracting(SnapshotChunk::getTotalFileSize)
+        .containsExactly(4L, 4L, 2L, 7L, 7L, 7L);
+    assertThat(snapshotChunks)
+        .allSatisfy(
+            chunk ->
+                assertThat(chunk.getChecksum())
+                    .isEqualTo(SnapshotChunkUtil.createChecksum(chunk.getContent())));
+  }
+
+  @Test
+  public void shouldSeekToChunkWithinFile() throws IOException {
+    // when
+    final var snapshotChunks = new ArrayList<SnapshotChunk>();
+    try (final var snapshotChunkReader = newReader()) {
+      snapshotChunkReader.setMaximumChunkSize(3);
+      snapshotChunkReader.seek(asByteBuffer("file3/3"));
+      while (snapshotChunkReader.hasNext()) {
+        snapshotChunks.add(snapshotChunkReader.next());
+      }
+    }
+
+    // then
+    assertThat(snapshotChunks)
+        .extracting(SnapshotChunk::getContent)
+        .extracting(String::new)
+        .containsExactly("ten", "t");
+  }
+
+  @Test
+  public void shouldNotReadReusableFiles() throws IOException {
+    // given
+    snapshotDirectory = temporaryFolder.getRoot().toPath();
+    final var checksums = new HashMap<String, Long>();
+    for (final var chunk : SNAPSHOT_CHUNK.entrySet()) {
+      final var content = chunk.getValue().getBytes(StandardCharsets.UTF_8);
+      Files.write(snapshotDirectory.resolve(chunk.getKey()), content);
+      checksums.put(chunk.getKey(), SnapshotChunkUtil.createChecksum(content));
+    }
+
+    // when
+    final var snapshotChunks = new ArrayList<SnapshotChunk>();
+    try (final var snapshotChunkReader =
+        new FileBasedSnapshotChunkReader(snapshotDirectory, SNAPSHOT_CHECKSUM, () -> checksums)) {
+      snapshotChunkReader.setReusableFiles(
+          Map.of("file1", checksums.get("file1"), "file3", checksums.get("file3") + 1));
+      while (snapshotChunkReader.hasNext()) {
+        snapshotChunks.add(snapshotChunkReader.next());
+      }
+    }
+
+    // then
+    assertThat(snapshotChunks)
+        .extracting(SnapshotChunk::getContent)
+        .extracting(String::new)
+        .containsExactly("", "is", "content");
+    assertThat(snapshotChunks.get(0).getChecksum()).isEqualTo(checksums.get("file1"));
+    assertThat(snapshotChunks.get(0).getTotalFileSize()).isEqualTo(4L);
+  }
+
   private ByteBuffer asByteBuffer(final String string) {
     return ByteBuffer.wrap(string.getBytes()).order(Protocol.ENDIANNESS);
   }
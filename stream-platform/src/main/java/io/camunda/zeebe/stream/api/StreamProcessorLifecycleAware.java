@@ -29,4 +29,18 @@ public interface StreamProcessorLifecycleAware {
    * called before.
    */
   default void onResumed() {}
+
+  /**
+   * Callback which is called periodically while the StreamProcessor only replays events, e.g. on a
+   * follower, if a warm up interval is configured. Allows to load the state which is needed right
+   * after becoming leader into the caches of the database.
+   *
+   * <p>Each call should only do a small chunk of the work, such that the StreamProcessor can replay
+   * events in between. As long as it returns {@code true}, it is called again for the next chunk.
+   *
+   * @return {@code true} if there is more to warm up, otherwise {@code false}
+   */
+  default boolean onWarmUp(final ReadonlyStreamProcessorContext context) {
+    return false;
+  }
 }
@@ -34,6 +34,7 @@ import io.camunda.zeebe.stream.api.records.TypedRecord;
 import io.camunda.zeebe.stream.api.state.MutableLastProcessedPositionState;
 import io.camunda.zeebe.stream.impl.metrics.ProcessingMetrics;
 import io.camunda.zeebe.stream.impl.metrics.StreamProcessorMetrics;
+import io.camunda.zeebe.stream.impl.records.CopiedRecords;
 import io.camunda.zeebe.stream.impl.records.RecordValues;
 import io.camunda.zeebe.stream.impl.records.TypedRecordImpl;
 import io.camunda.zeebe.stream.impl.records.UnwrittenRecord;
@@ -94,6 +95,8 @@ public final class ProcessingStateMachine {
 
   public static final String WARN_MESSAGE_BATCH_PROCESSING_RETRY =
       "Expected to process commands in a batch, but exceeded the resulting batch size after processing {} commands (maxCommandsInBatch: {}).";
+  public static final String WARN_MESSAGE_GROUP_PROCESSING_RETRY =
+      "Expected to process commands in a group, but failed after processing {} commands (maxCommandsInGroup: {}). Retry with the commands before the failed one.";
   private static final Logger LOG = Loggers.PROCESSOR_LOGGER;
   private static final String ERROR_MESSAGE_WRITE_RECORD_ABORTED =
       "Expected to write one or more follow-up records for record '{} {}' without errors, but exception was thrown.";
@@ -156,6 +159,20 @@ public final class ProcessingStateMachine {
   private boolean inProcessing;
   private final int maxCommandsInBatch;
   private int processedCommandsCount;
+  private final int maxCommandsInGroup;
+  // limits the next group to the commands which were processed before a grouped command failed
+  private int groupLimit;
+  private long groupStartPosition = StreamProcessor.UNSET_POSITION;
+  // the commands of the current group, and their results, except for the last one
+  private final List<TypedRecord<?>> groupedCommands = new ArrayList<>();
+  private final List<ProcessingResult> groupedProcessingResults = new ArrayList<>();
+  private final int maxCommandsInPipeline;
+  // true while the state changes of the written commands in groupedCommands are not committed
+  private boolean pipelining;
+  private long pipelinedPosition = StreamProcessor.UNSET_POSITION;
+  private final List<ProcessingResponse> pipelinedResponses = new ArrayList<>();
+  // the results of the current iteration whose post commit tasks did not succeed yet
+  private final List<ProcessingResult> pendingPostCommitResults = new ArrayList<>();
   private final ProcessingMetrics processingMetrics;
 
   public ProcessingStateMachine(
@@ -172,6 +189,8 @@ public final class ProcessingStateMachine {
     abortCondition = context.getAbortCondition();
     lastProcessedPositionState = context.getLastProcessedPositionState();
     maxCommandsInBatch = context.getMaxCommandsInBatch();
+    maxCommandsInGroup = context.getMaxCommandsInGroup();
+    maxCommandsInPipeline = context.getMaxCommandsInPipeline();
 
     writeRetryStrategy = new AbortableRetryStrategy(actor);
     sideEffectsRetryStrategy = new AbortableRetryStrategy(actor);
@@ -248,35 +267,51 @@ public final class ProcessingStateMachine {
     inProcessing = true;
 
     currentProcessingResult = EmptyProcessingResult.INSTANCE;
-
-    metadata.reset();
-    loggedEvent.readMetadata(metadata);
+    if (!pipelining) {
+      groupedCommands.clear();
+      groupedProcessingResults.clear();
+    }
 
     try {
-      // Here we need to get the current time, since we want to calculate
-      // how long it took between writing to the dispatcher and processing.
-      // In all other cases we should prefer to use the Prometheus Timer API.
-      final var processingStartTime = ActorClock.currentTimeMillis();
-      metrics.processingLatency(loggedEvent.getTimestamp(), processingStartTime);
+      readCommand(loggedEvent);
       processingTimer = metrics.startProcessingDurationTimer(metadata.getRecordType());
 
-      final var value = recordValues.readRecordValue(loggedEvent, metadata.getValueType());
-      typedCommand.wrap(loggedEvent, metadata, value);
-
       zeebeDbTransaction = transactionContext.getCurrentTransaction();
+      if (pipelining) {
+        // the records of the previous commands are written already, which is why an error may only
+        // roll back the state changes of this command
+        zeebeDbTransaction.setSavePoint();
+      }
       try (final var timer = processingMetrics.startBatchProcessingDurationTimer()) {
         zeebeDbTransaction.run(() -> batchProcessing(typedCommand));
         processingMetrics.observeCommandCount(processedCommandsCount);
       }
 
       if (currentProcessingResult.isEmpty()) {
-        skipRecord();
+        if (pipelining) {
+          notifySkippedListener(currentRecord);
+          metrics.eventSkipped();
+          actor.submit(this::readNextPipelinedCommand);
+        } else {
+          skipRecord();
+        }
         return;
       }
 
+      if (maxCommandsInGroup > 1) {
+        zeebeDbTransaction.run(this::groupProcessing);
+      }
+
       lastProcessedPositionState.markAsProcessed(typedCommand.getPosition());
       writeRecords();
       processedCommandsCount = 0;
+    } catch (final GroupProcessingException groupProcessingException) {
+      LOG.warn(
+          WARN_MESSAGE_GROUP_PROCESSING_RETRY,
+          groupProcessingException.processedCommands,
+          maxCommandsInGroup,
+          groupProcessingException.getCause());
+      onError(() -> processGroupAgain(groupProcessingException.processedCommands));
     } catch (final RecoverableException recoverableException) {
       // recoverable
       LOG.error(
@@ -312,6 +347,102 @@ public final class ProcessingStateMachine {
     }
   }
 
+  private void readCommand(final LoggedEvent loggedEvent) {
+    metadata.reset();
+    loggedEvent.readMetadata(metadata);
+
+    // Here we need to get the current time, since we want to calculate
+    // how long it took between writing to the dispatcher and processing.
+    // In all other cases we should prefer to use the Prometheus Timer API.
+    final var processingStartTime = ActorClock.currentTimeMillis();
+    metrics.processingLatency(loggedEvent.getTimestamp(), processingStartTime);
+
+    final var value = recordValues.readRecordValue(loggedEvent, metadata.getValueType());
+    typedCommand.wrap(loggedEvent, metadata, value);
+  }
+
+  /**
+   * Processes the commands which directly follow the current command on the log as part of the same
+   * transaction, until the group limit is reached or the next record is not a command. This way,
+   * the follow-up records of all commands in the group are written with a single write, and the
+   * state changes are committed once.
+   *
+   * <p>Each follow-up record still points to the command which caused it. If processing one of the
+   * grouped commands fails, the whole group is rolled back and processed again up to the failed
+   * command, which is then processed on its own.
+   */
+  private void groupProcessing() {
+    final var currentGroupLimit = groupLimit > 0 ? groupLimit : maxCommandsInGroup;
+    groupLimit = 0;
+    groupStartPosition = typedCommand.getPosition();
+
+    final var groupWrites = new ArrayList<LogAppendEntry>();
+    final var groupResponses = pendingResponses;
+    var groupWritesLength = 0;
+
+    while (groupedCommands.size() + 1 < currentGroupLimit && hasNextGroupableCommand()) {
+      // the reader reuses the buffer of the current record, which is why we keep a copy of it
+      final var previousCommandPosition = typedCommand.getPosition();
+      groupedCommands.add(
+          CopiedRecords.createCopiedTypedRecord(context.getPartitionId(), currentRecord));
+      groupedProcessingResults.add(currentProcessingResult);
+      for (final var entry : pendingWrites) {
+        groupWrites.add(LogAppendEntry.ofSourcePosition(entry, previousCommandPosition));
+        groupWritesLength += entry.getLength();
+      }
+
+      currentRecord = logStreamReader.next();
+      readCommand(currentRecord);
+
+      try (final var timer = processingMetrics.startBatchProcessingDurationTimer()) {
+        processedCommandsCount = 0;
+        batchProcessing(typedCommand);
+        processingMetrics.observeCommandCount(processedCommandsCount);
+      } catch (final UnrecoverableException unrecoverableException) {
+        throw unrecoverableException;
+      } catch (final Exception e) {
+        throw new GroupProcessingException(groupedCommands.size(), e);
+      }
+
+      final var writesCount = groupWrites.size() + pendingWrites.size();
+      final var writesLength =
+          groupWritesLength + pendingWrites.stream().mapToInt(LogAppendEntry::getLength).sum();
+      if (!logStreamWriter.canWriteEvents(writesCount, writesLength)) {
+        throw new GroupProcessingException(groupedCommands.size(), null);
+      }
+
+      groupResponses.addAll(pendingResponses);
+    }
+
+    if (!groupedCommands.isEmpty()) {
+      groupWrites.addAll(pendingWrites);
+      pendingWrites = groupWrites;
+      pendingResponses = groupResponses;
+    }
+  }
+
+  private boolean hasNextGroupableCommand() {
+    if (!shouldProcessNext.getAsBoolean() || !logStreamReader.hasNext()) {
+      return false;
+    }
+
+    final var nextRecord = logStreamReader.peekNext();
+    return eventFilter.applies(nextRecord) && !nextRecord.shouldSkipProcessing();
+  }
+
+  /**
+   * Processes the current group again from its first command, but limited to the given amount of
+   * commands. The state changes of the previous attempt must have been rolled back already.
+   */
+  private void processGroupAgain(final int commandsInGroup) {
+    groupLimit = commandsInGroup;
+    processedCommandsCount = 0;
+
+    logStreamReader.seek(groupStartPosition);
+    currentRecord = logStreamReader.next();
+    processCommand(currentRecord);
+  }
+
   /**
    * Starts the batch processing with the given initial command and iterates over ProcessingResult
    * and applies all follow-up commands until the command limit is reached or no more follow-up
@@ -416,7 +547,13 @@ public final class ProcessingStateMachine {
     final ActorFuture<Boolean> retryFuture =
         updateStateRetryStrategy.runWithRetry(
             () -> {
-              zeebeDbTransaction.rollback();
+              if (pipelining) {
+                zeebeDbTransaction.rollbackToSavePoint();
+                // keeps the save point, in case the error handling fails again
+                zeebeDbTransaction.setSavePoint();
+              } else {
+                zeebeDbTransaction.rollback();
+              }
               return true;
             },
             abortCondition);
@@ -468,28 +605,90 @@ public final class ProcessingStateMachine {
         (bool, t) -> {
           if (t != null) {
             LOG.error(ERROR_MESSAGE_WRITE_RECORD_ABORTED, currentRecord, metadata, t);
-            onError(
-                () -> {
-                  errorHandlingInTransaction(t);
-                  writeRecords();
-                });
+            if (pipelining || groupedCommands.isEmpty()) {
+              onError(
+                  () -> {
+                    errorHandlingInTransaction(t);
+                    writeRecords();
+                  });
+            } else {
+              // the error handling only applies to a single command, which is why the commands of
+              // the group are processed again one by one
+              onError(() -> processGroupAgain(1));
+            }
           } else {
             // We write various type of records. The positions are always increasing and
             // incremented by 1 for one record (even in a batch), so we can count the amount
             // of written records via the lastWritten and now written position.
             final var amount = writtenPosition - lastWrittenPosition;
             metrics.recordsWritten(amount);
-            updateState();
+            if (maxCommandsInPipeline > 1) {
+              addToPipeline();
+            } else {
+              updateState();
+            }
           }
         });
   }
 
+  /**
+   * Adds the current command, whose follow-up records are written, to the pipeline. Its state
+   * changes are not committed, its responses are not sent and its post commit tasks are not
+   * executed until the pipeline is committed. Meanwhile, the next command is processed against
+   * these state changes, while the follow-up records are appended to the log.
+   *
+   * <p>This is safe, since the follow-up records are the source of truth: if the pipeline can't be
+   * committed, or the leader fails before, the state is rebuilt by replaying them.
+   */
+  private void addToPipeline() {
+    pipelining = true;
+    // the reader reuses the buffer of the current record, which is why we keep a copy of it
+    groupedCommands.add(
+        CopiedRecords.createCopiedTypedRecord(context.getPartitionId(), currentRecord));
+    groupedProcessingResults.add(currentProcessingResult);
+    pipelinedResponses.addAll(pendingResponses);
+    pipelinedPosition = typedCommand.getPosition();
+    lastWrittenPosition = writtenPosition;
+    processingTimer.close();
+
+    readNextPipelinedCommand();
+  }
+
+  /**
+   * Processes the next available command as part of the pipeline, and skips the records in between.
+   * Commits the pipeline if it is full, or if no command is available right now.
+   */
+  private void readNextPipelinedCommand() {
+    while (groupedCommands.size() < maxCommandsInPipeline
+        && shouldProcessNext.getAsBoolean()
+        && logStreamReader.hasNext()) {
+      currentRecord = logStreamReader.next();
+      if (eventFilter.applies(currentRecord) && !currentRecord.shouldSkipProcessing()) {
+        processCommand(currentRecord);
+        return;
+      }
+
+      notifySkippedListener(currentRecord);
+      metrics.eventSkipped();
+    }
+
+    if (pipelining) {
+      currentProcessingResult = EmptyProcessingResult.INSTANCE;
+      pendingResponses = pipelinedResponses;
+      updateState();
+    } else {
+      inProcessing = false;
+      actor.submit(this::readNextRecord);
+    }
+  }
+
   private void updateState() {
     final ActorFuture<Boolean> retryFuture =
         updateStateRetryStrategy.runWithRetry(
             () -> {
               zeebeDbTransaction.commit();
-              lastSuccessfulProcessedRecordPosition = currentRecord.getPosition();
+              lastSuccessfulProcessedRecordPosition =
+                  pipelining ? pipelinedPosition : currentRecord.getPosition();
               metrics.setLastProcessedPosition(lastSuccessfulProcessedRecordPosition);
               lastWrittenPosition = writtenPosition;
               return true;
@@ -499,7 +698,13 @@ public final class ProcessingStateMachine {
     actor.runOnCompletion(
         retryFuture,
         (bool, throwable) -> {
-          if (throwable != null) {
+          if (throwable != null && pipelining) {
+            // the follow-up records are already written, so the state changes can't be rolled
+            // back; fail the stream processor like on any other unexpected error, which notifies
+            // its failure listeners, such that the partition transitions and rebuilds the state
+            // from the log
+            throw new PipelineCommitException(groupedCommands.size(), throwable);
+          } else if (throwable != null) {
             LOG.error(ERROR_MESSAGE_UPDATE_STATE_FAILED, currentRecord, metadata, throwable);
             onError(
                 () -> {
@@ -513,6 +718,10 @@ public final class ProcessingStateMachine {
   }
 
   private void executeSideEffects() {
+    pendingPostCommitResults.clear();
+    pendingPostCommitResults.addAll(groupedProcessingResults);
+    pendingPostCommitResults.add(currentProcessingResult);
+
     final ActorFuture<Boolean> retryFuture =
         sideEffectsRetryStrategy.runWithRetry(
             () -> {
@@ -547,10 +756,19 @@ public final class ProcessingStateMachine {
                 ERROR_MESSAGE_EXECUTE_SIDE_EFFECT_ABORTED, currentRecord, metadata, throwable);
           }
 
-          notifyProcessedListener(typedCommand);
+          groupedCommands.forEach(this::notifyProcessedListener);
+          if (pipelining) {
+            // the processing duration of a pipelined command is observed once it is written
+            pipelining = false;
+            groupedCommands.clear();
+            groupedProcessingResults.clear();
+            pipelinedResponses.clear();
+          } else {
+            notifyProcessedListener(typedCommand);
 
-          // observe the processing duration
-          processingTimer.close();
+            // observe the processing duration
+            processingTimer.close();
+          }
 
           // continue with next record
           inProcessing = false;
@@ -560,7 +778,10 @@ public final class ProcessingStateMachine {
 
   private boolean executePostCommitTasks() {
     try (final var timer = processingMetrics.startBatchProcessingPostCommitTasksTimer()) {
-      return currentProcessingResult.executePostCommitTasks();
+      // results are removed once their tasks succeeded, so a retry only executes the tasks of the
+      // results which failed before
+      pendingPostCommitResults.removeIf(ProcessingResult::executePostCommitTasks);
+      return pendingPostCommitResults.isEmpty();
     }
   }
 
@@ -613,6 +834,29 @@ public final class ProcessingStateMachine {
   private record BatchProcessingStepResult(
       List<TypedRecord<?>> toProcess, List<LogAppendEntry> toWrite) {}
 
+  /** Signals that processing a command of a group failed, after the given amount of commands. */
+  private static final class GroupProcessingException extends RuntimeException {
+    private final int processedCommands;
+
+    private GroupProcessingException(final int processedCommands, final Throwable cause) {
+      super(cause);
+      this.processedCommands = processedCommands;
+    }
+  }
+
+  /**
+   * Signals that the state changes of a pipeline, whose records are written, can't be committed.
+   */
+  private static final class PipelineCommitException extends RuntimeException {
+    private PipelineCommitException(final int pipelinedCommands, final Throwable cause) {
+      super(
+          String.format(
+              "Expected to commit the state changes of %d pipelined commands, whose follow-up records are already written, but caught an exception. Rebuild the state from the log.",
+              pipelinedCommands),
+          cause);
+    }
+  }
+
   @FunctionalInterface
   private interface NextProcessingStep {
     void run() throws Exception;
@@ -14,7 +14,6 @@ import io.camunda.zeebe.logstreams.impl.log.LogStreamBatchReaderImpl;
 import io.camunda.zeebe.logstreams.log.LogRecordAwaiter;
 import io.camunda.zeebe.logstreams.log.LogStream;
 import io.camunda.zeebe.logstreams.log.LogStreamBatchReader;
-import io.camunda.zeebe.logstreams.log.LogStreamBatchReader.Batch;
 import io.camunda.zeebe.logstreams.log.LoggedEvent;
 import io.camunda.zeebe.protocol.Protocol;
 import io.camunda.zeebe.protocol.impl.record.RecordMetadata;
@@ -69,9 +68,11 @@ public final class ReplayStateMachine implements LogRecordAwaiter {
   private final RetryStrategy replayStrategy;
 
   private final BooleanSupplier abortCondition;
+  private final int maxBatchesInReplay;
   // current iteration
   private long lastSourceEventPosition = StreamProcessor.UNSET_POSITION;
   private long batchSourceEventPosition = StreamProcessor.UNSET_POSITION;
+  private long replayedSourceEventPosition = StreamProcessor.UNSET_POSITION;
 
   private long snapshotPosition;
   private long lastReadRecordPosition = StreamProcessor.UNSET_POSITION;
@@ -108,6 +109,7 @@ public final class ReplayStateMachine implements LogRecordAwaiter {
     logStream = context.getLogStream();
     logStreamBatchReader = new LogStreamBatchReaderImpl(context.getLogStreamReader());
     replayMetrics = new ReplayMetrics(logStream.getPartitionId());
+    maxBatchesInReplay = context.getMaxBatchesInReplay();
   }
 
   /**
@@ -160,9 +162,9 @@ public final class ReplayStateMachine implements LogRecordAwaiter {
         currentState = State.REPLAY_EVENT;
 
         final var replayDurationTimer = replayMetrics.startReplayDurationTimer();
-        final var batch = logStreamBatchReader.next();
+        final var positionBeforeReplay = lastReadRecordPosition;
         replayStrategy
-            .runWithRetry(() -> tryToReplayBatch(batch), abortCondition)
+            .runWithRetry(() -> tryToReplayBatches(positionBeforeReplay), abortCondition)
             .onComplete(
                 (success, failure) -> {
                   if (failure != null) {
@@ -172,7 +174,7 @@ public final class ReplayStateMachine implements LogRecordAwaiter {
                     replayDurationTimer.close();
                     // the position should be visible only after the batch is replayed successfully
                     lastSourceEventPosition =
-                        Math.max(lastSourceEventPosition, batchSourceEventPosition);
+                        Math.max(lastSourceEventPosition, replayedSourceEventPosition);
                     replayMetrics.setLastSourcePosition(lastSourceEventPosition);
                     actor.submit(this::replayNextEvent);
                   }
@@ -194,21 +196,38 @@ public final class ReplayStateMachine implements LogRecordAwaiter {
     }
   }
 
-  private boolean tryToReplayBatch(final Batch batch) throws Exception {
+  /**
+   * Replays the next batch, and the batches which are already available after it up to {@link
+   * #maxBatchesInReplay}, within one transaction. This avoids committing the transaction, and
+   * scheduling the next replay iteration, for each batch when catching up on a long log.
+   *
+   * @param positionBeforeReplay the position of the last record that was read before the first
+   *     batch, used to read the batches again on retry
+   */
+  private boolean tryToReplayBatches(final long positionBeforeReplay) throws Exception {
     final boolean onRetry = zeebeDbTransaction != null;
     if (onRetry) {
       zeebeDbTransaction.rollback();
-      // reading the whole batch from the beginning again
-      batch.head();
+      // reading all batches from the beginning again
+      logStreamBatchReader.seekToNextBatch(
+          positionBeforeReplay > 0 ? positionBeforeReplay : snapshotPosition);
+      lastReadRecordPosition = positionBeforeReplay;
     }
 
     zeebeDbTransaction = transactionContext.getCurrentTransaction();
     zeebeDbTransaction.run(
         () -> {
-          batch.forEachRemaining(this::replayEvent);
-
-          if (batchSourceEventPosition > snapshotPosition) {
-            lastProcessedPositionState.markAsProcessed(batchSourceEventPosition);
+          replayedSourceEventPosition = StreamProcessor.UNSET_POSITION;
+          var replayedBatches = 0;
+          do {
+            logStreamBatchReader.next().forEachRemaining(this::replayEvent);
+            replayedSourceEventPosition =
+                Math.max(replayedSourceEventPosition, batchSourceEventPosition);
+            replayedBatches++;
+          } while (replayedBatches < maxBatchesInReplay && logStreamBatchReader.hasNext());
+
+          if (replayedSourceEventPosition > snapshotPosition) {
+            lastProcessedPositionState.markAsProcessed(replayedSourceEventPosition);
           }
         });
 
@@ -104,6 +104,8 @@ public class StreamProcessor extends Actor implements HealthMonitorable, LogReco
   private final CompletableActorFuture<Void> closeFuture = new CompletableActorFuture<>();
   private volatile long lastTickTime;
   private boolean shouldProcess = true;
+  // the index of the listener which is warmed up next, or -1 if no warm up is running
+  private int warmUpListenerIndex = -1;
   private ActorFuture<LastProcessingPositions> replayCompletedFuture;
 
   private final List<RecordProcessor> recordProcessors = new ArrayList<>();
@@ -203,6 +205,7 @@ public class StreamProcessor extends Actor implements HealthMonitorable, LogReco
                 onFailure(error);
               }
             });
+        scheduleWarmUp();
 
       } else {
         replayCompletedFuture.onComplete(
@@ -280,6 +283,51 @@ public class StreamProcessor extends Actor implements HealthMonitorable, LogReco
     actor.schedule(HEALTH_CHECK_TICK_DURATION, this::healthCheckTick);
   }
 
+  private void scheduleWarmUp() {
+    final var warmUpInterval = streamProcessorContext.getWarmUpInterval();
+    if (!warmUpInterval.isZero() && !warmUpInterval.isNegative()) {
+      actor.runAtFixedRate(warmUpInterval, this::warmUp);
+    }
+  }
+
+  private void warmUp() {
+    if (warmUpListenerIndex >= 0 || lifecycleAwareListeners.isEmpty()) {
+      // skip it while the previous warm up is still running
+      return;
+    }
+
+    warmUpListenerIndex = 0;
+    warmUpNextChunk();
+  }
+
+  private void warmUpNextChunk() {
+    if (!shouldProcess || isFailed() || actor.isClosing()) {
+      warmUpListenerIndex = -1;
+      return;
+    }
+
+    final var listener = lifecycleAwareListeners.get(warmUpListenerIndex);
+    boolean hasMoreChunks;
+    try {
+      hasMoreChunks = listener.onWarmUp(streamProcessorContext);
+    } catch (final Exception e) {
+      // warming up is only an optimization, the state is still read on demand when it failed
+      LOG.warn("Failed to warm up the state of partition {}", partitionId, e);
+      hasMoreChunks = false;
+    }
+
+    if (!hasMoreChunks) {
+      warmUpListenerIndex++;
+    }
+
+    if (warmUpListenerIndex < lifecycleAwareListeners.size()) {
+      // yield the thread after each chunk, to replay events in between
+      actor.submit(this::warmUpNextChunk);
+    } else {
+      warmUpListenerIndex = -1;
+    }
+  }
+
   private void chainSteps(final int index, final Step[] steps, final Runnable last) {
     if (index == steps.length) {
       last.run();
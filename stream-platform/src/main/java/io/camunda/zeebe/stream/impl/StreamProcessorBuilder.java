@@ -14,6 +14,7 @@ import io.camunda.zeebe.stream.api.CommandResponseWriter;
 import io.camunda.zeebe.stream.api.InterPartitionCommandSender;
 import io.camunda.zeebe.stream.api.RecordProcessor;
 import io.camunda.zeebe.stream.api.StreamProcessorLifecycleAware;
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
@@ -129,10 +130,51 @@ public final class StreamProcessorBuilder {
           "Batch processing limit must be >= 1 but was %s"
               .formatted(streamProcessorContext.getMaxCommandsInBatch()));
     }
+    if (streamProcessorContext.getMaxCommandsInGroup() < 1) {
+      throw new IllegalArgumentException(
+          "Group processing limit must be >= 1 but was %s"
+              .formatted(streamProcessorContext.getMaxCommandsInGroup()));
+    }
+    if (streamProcessorContext.getMaxCommandsInPipeline() < 1) {
+      throw new IllegalArgumentException(
+          "Pipeline processing limit must be >= 1 but was %s"
+              .formatted(streamProcessorContext.getMaxCommandsInPipeline()));
+    }
+    if (streamProcessorContext.getMaxCommandsInGroup() > 1
+        && streamProcessorContext.getMaxCommandsInPipeline() > 1) {
+      throw new IllegalArgumentException(
+          "Expected either group or pipeline processing to be enabled, but both were enabled");
+    }
+    if (streamProcessorContext.getMaxBatchesInReplay() < 1) {
+      throw new IllegalArgumentException(
+          "Replay batch limit must be >= 1 but was %s"
+              .formatted(streamProcessorContext.getMaxBatchesInReplay()));
+    }
+    Objects.requireNonNull(streamProcessorContext.getWarmUpInterval(), "No warm up interval set.");
   }
 
   public StreamProcessorBuilder maxCommandsInBatch(final int maxCommandsInBatch) {
     streamProcessorContext.maxCommandsInBatch(maxCommandsInBatch);
     return this;
   }
+
+  public StreamProcessorBuilder maxCommandsInGroup(final int maxCommandsInGroup) {
+    streamProcessorContext.maxCommandsInGroup(maxCommandsInGroup);
+    return this;
+  }
+
+  public StreamProcessorBuilder maxCommandsInPipeline(final int maxCommandsInPipeline) {
+    streamProcessorContext.maxCommandsInPipeline(maxCommandsInPipeline);
+    return this;
+  }
+
+  public StreamProcessorBuilder maxBatchesInReplay(final int maxBatchesInReplay) {
+    streamProcessorContext.maxBatchesInReplay(maxBatchesInReplay);
+    return this;
+  }
+
+  public StreamProcessorBuilder warmUpInterval(final Duration warmUpInterval) {
+    streamProcessorContext.warmUpInterval(warmUpInterval);
+    return this;
+  }
 }
@@ -22,11 +22,16 @@ import io.camunda.zeebe.stream.api.state.KeyGeneratorControls;
 import io.camunda.zeebe.stream.api.state.MutableLastProcessedPositionState;
 import io.camunda.zeebe.stream.impl.StreamProcessor.Phase;
 import io.camunda.zeebe.stream.impl.records.RecordValues;
+import java.time.Duration;
 import java.util.function.BooleanSupplier;
 
 public final class StreamProcessorContext implements ReadonlyStreamProcessorContext {
 
   public static final int DEFAULT_MAX_COMMANDS_IN_BATCH = 100;
+  public static final int DEFAULT_MAX_COMMANDS_IN_GROUP = 1;
+  public static final int DEFAULT_MAX_COMMANDS_IN_PIPELINE = 1;
+  public static final int DEFAULT_MAX_BATCHES_IN_REPLAY = 1;
+  public static final Duration DEFAULT_WARM_UP_INTERVAL = Duration.ZERO;
   private static final StreamProcessorListener NOOP_LISTENER =
       new StreamProcessorListener() {
         @Override
@@ -56,6 +61,10 @@ public final class StreamProcessorContext implements ReadonlyStreamProcessorCont
   private volatile StreamProcessor.Phase phase = Phase.INITIAL;
   private KeyGeneratorControls keyGeneratorControls;
   private int maxCommandsInBatch = DEFAULT_MAX_COMMANDS_IN_BATCH;
+  private int maxCommandsInGroup = DEFAULT_MAX_COMMANDS_IN_GROUP;
+  private int maxCommandsInPipeline = DEFAULT_MAX_COMMANDS_IN_PIPELINE;
+  private int maxBatchesInReplay = DEFAULT_MAX_BATCHES_IN_REPLAY;
+  private Duration warmUpInterval = DEFAULT_WARM_UP_INTERVAL;
 
   public StreamProcessorContext actor(final ActorControl actor) {
     this.actor = actor;
@@ -206,4 +215,40 @@ public final class StreamProcessorContext implements ReadonlyStreamProcessorCont
   public int getMaxCommandsInBatch() {
     return maxCommandsInBatch;
   }
+
+  public StreamProcessorContext maxCommandsInGroup(final int maxCommandsInGroup) {
+    this.maxCommandsInGroup = maxCommandsInGroup;
+    return this;
+  }
+
+  public int getMaxCommandsInGroup() {
+    return maxCommandsInGroup;
+  }
+
+  public StreamProcessorContext maxCommandsInPipeline(final int maxCommandsInPipeline) {
+    this.maxCommandsInPipeline = maxCommandsInPipeline;
+    return this;
+  }
+
+  public int getMaxCommandsInPipeline() {
+    return maxCommandsInPipeline;
+  }
+
+  public StreamProcessorContext maxBatchesInReplay(final int maxBatchesInReplay) {
+    this.maxBatchesInReplay = maxBatchesInReplay;
+    return this;
+  }
+
+  public int getMaxBatchesInReplay() {
+    return maxBatchesInReplay;
+  }
+
+  public StreamProcessorContext warmUpInterval(final Duration warmUpInterval) {
+    this.warmUpInterval = warmUpInterval;
+    return this;
+  }
+
+  public Duration getWarmUpInterval() {
+    return warmUpInterval;
+  }
 }
@@ -9,10 +9,12 @@ package io.camunda.zeebe.stream.impl.records;
 
 import static io.camunda.zeebe.stream.impl.TypedEventRegistry.EVENT_REGISTRY;
 
+import io.camunda.zeebe.logstreams.impl.log.LoggedEventImpl;
 import io.camunda.zeebe.logstreams.log.LoggedEvent;
 import io.camunda.zeebe.protocol.impl.record.CopiedRecord;
 import io.camunda.zeebe.protocol.impl.record.RecordMetadata;
 import io.camunda.zeebe.protocol.impl.record.UnifiedRecordValue;
+import io.camunda.zeebe.stream.api.records.TypedRecord;
 import io.camunda.zeebe.util.ReflectUtil;
 import org.agrona.DirectBuffer;
 import org.agrona.concurrent.UnsafeBuffer;
@@ -53,4 +55,24 @@ public final class CopiedRecords {
         rawEvent.getSourceEventPosition(),
         rawEvent.getTimestamp());
   }
+
+  public static TypedRecord<?> createCopiedTypedRecord(
+      final int partitionId, final LoggedEvent rawEvent) {
+    // copy the whole event, such that the record stays valid after the reader moved on
+    final var eventBuffer = new UnsafeBuffer(new byte[rawEvent.getLength()]);
+    rawEvent.write(eventBuffer, 0);
+    final var copiedEvent = new LoggedEventImpl();
+    copiedEvent.wrap(eventBuffer, 0);
+
+    final RecordMetadata metadata = new RecordMetadata();
+    copiedEvent.readMetadata(metadata);
+
+    final UnifiedRecordValue recordValue =
+        ReflectUtil.newInstance(EVENT_REGISTRY.get(metadata.getValueType()));
+    copiedEvent.readValue(recordValue);
+
+    final var typedRecord = new TypedRecordImpl(partitionId);
+    typedRecord.wrap(copiedEvent, metadata, recordValue);
+    return typedRecord;
+  }
 }
@@ -22,7 +22,15 @@ public final class RecordValues {
 
   public RecordValues() {
     final EnumMap<ValueType, UnifiedRecordValue> cache = new EnumMap<>(ValueType.class);
-    TypedEventRegistry.EVENT_REGISTRY.forEach((t, c) -> cache.put(t, ReflectUtil.newInstance(c)));
+    TypedEventRegistry.EVENT_REGISTRY.forEach(
+        (t, c) -> {
+          final UnifiedRecordValue value = ReflectUtil.newInstance(c);
+          // processors usually only access a few properties of each record; the encoded values
+          // are copied, as grouped and pipelined commands are only completed once later commands
+          // were read, and the reader may reuse the buffer of the logged event by then
+          value.setLazyDecoding(true);
+          cache.put(t, value);
+        });
 
     eventCache = Collections.unmodifiableMap(cache);
   }
@@ -40,6 +40,7 @@ import java.io.UncheckedIOException;
 import java.nio.file.FileAlreadyExistsException;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.time.Duration;
 import java.util.Arrays;
 import java.util.List;
 import java.util.NoSuchElementException;
@@ -66,8 +67,12 @@ public final class StreamPlatform {
   private boolean snapshotWasTaken = false;
   private final StreamProcessorMode defaultStreamProcessorMode = StreamProcessorMode.PROCESSING;
   private List<RecordProcessor> recordProcessors;
+  private int maxCommandsInGroup = StreamProcessorContext.DEFAULT_MAX_COMMANDS_IN_GROUP;
+  private int maxCommandsInPipeline = StreamProcessorContext.DEFAULT_MAX_COMMANDS_IN_PIPELINE;
+  private int maxBatchesInReplay = StreamProcessorContext.DEFAULT_MAX_BATCHES_IN_REPLAY;
+  private Duration warmUpInterval = StreamProcessorContext.DEFAULT_WARM_UP_INTERVAL;
   private final RecordProcessor defaultMockedRecordProcessor;
-  private final ZeebeDbFactory zeebeDbFactory;
+  private ZeebeDbFactory zeebeDbFactory;
   private final StreamProcessorLifecycleAware mockProcessorLifecycleAware;
   private final StreamProcessorListener mockStreamProcessorListener;
 
@@ -208,6 +213,31 @@ public final class StreamPlatform {
     return this;
   }
 
+  public StreamPlatform withMaxCommandsInGroup(final int maxCommandsInGroup) {
+    this.maxCommandsInGroup = maxCommandsInGroup;
+    return this;
+  }
+
+  public StreamPlatform withMaxCommandsInPipeline(final int maxCommandsInPipeline) {
+    this.maxCommandsInPipeline = maxCommandsInPipeline;
+    return this;
+  }
+
+  public StreamPlatform withMaxBatchesInReplay(final int maxBatchesInReplay) {
+    this.maxBatchesInReplay = maxBatchesInReplay;
+    return this;
+  }
+
+  public StreamPlatform withWarmUpInterval(final Duration warmUpInterval) {
+    this.warmUpInterval = warmUpInterval;
+    return this;
+  }
+
+  public StreamPlatform withZeebeDbFactory(final ZeebeDbFactory zeebeDbFactory) {
+    this.zeebeDbFactory = zeebeDbFactory;
+    return this;
+  }
+
   public StreamProcessorListener getMockStreamProcessorListener() {
     return mockStreamProcessorListener;
   }
@@ -258,6 +288,10 @@ public final class StreamPlatform {
             .commandResponseWriter(mockCommandResponseWriter)
             .recordProcessors(recordProcessors)
             .streamProcessorMode(processorMode)
+            .maxCommandsInGroup(maxCommandsInGroup)
+            .maxCommandsInPipeline(maxCommandsInPipeline)
+            .maxBatchesInReplay(maxBatchesInReplay)
+            .warmUpInterval(warmUpInterval)
             .listener(mockStreamProcessorListener)
             .partitionCommandSender(mock(InterPartitionCommandSender.class));
 
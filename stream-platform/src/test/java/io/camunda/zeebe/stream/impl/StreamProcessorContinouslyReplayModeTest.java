@@ -12,16 +12,22 @@ import static io.camunda.zeebe.protocol.record.intent.ProcessInstanceIntent.ELEM
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.awaitility.Awaitility.await;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.after;
+import static org.mockito.Mockito.atLeastOnce;
 import static org.mockito.Mockito.inOrder;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 
 import io.camunda.zeebe.protocol.Protocol;
+import io.camunda.zeebe.scheduler.clock.ControlledActorClock;
 import io.camunda.zeebe.stream.api.RecordProcessor;
 import io.camunda.zeebe.stream.impl.StreamProcessor.Phase;
 import io.camunda.zeebe.stream.util.RecordToWrite;
 import io.camunda.zeebe.stream.util.Records;
 import io.camunda.zeebe.test.util.junit.RegressionTest;
+import java.time.Duration;
 import org.assertj.core.api.Assertions;
 import org.awaitility.Awaitility;
 import org.junit.jupiter.api.Test;
@@ -39,6 +45,9 @@ public final class StreamProcessorContinouslyReplayModeTest {
   @SuppressWarnings("unused") // injected by the extension
   private StreamPlatform streamPlatform;
 
+  @SuppressWarnings("unused") // injected by the extension
+  private ControlledActorClock actorClock;
+
   @Test
   public void shouldReplayContinuously() {
     // given
@@ -319,4 +328,56 @@ public final class StreamProcessorContinouslyReplayModeTest {
     Assertions.assertThat(Protocol.decodeKeyInPartition(streamPlatform.getCurrentKey()))
         .isEqualTo(19L);
   }
+
+  @Test
+  public void shouldWarmUpPeriodically() {
+    // given
+    streamPlatform.withWarmUpInterval(Duration.ofMinutes(1)).startStreamProcessorInReplayOnlyMode();
+    final var lifecycleAware = streamPlatform.getMockProcessorLifecycleAware();
+
+    // when - the timer is scheduled asynchronously, so move the clock until it fires
+    await()
+        .untilAsserted(
+            () -> {
+              actorClock.addTime(Duration.ofMinutes(1));
+              verify(lifecycleAware).onWarmUp(any());
+            });
+    actorClock.addTime(Duration.ofMinutes(1));
+
+    // then
+    verify(lifecycleAware, TIMEOUT.times(2)).onWarmUp(any());
+  }
+
+  @Test
+  public void shouldWarmUpInChunks() {
+    // given
+    final var lifecycleAware = streamPlatform.getMockProcessorLifecycleAware();
+    when(lifecycleAware.onWarmUp(any())).thenReturn(true, true, false);
+    streamPlatform.withWarmUpInterval(Duration.ofMinutes(1)).startStreamProcessorInReplayOnlyMode();
+
+    // when
+    await()
+        .untilAsserted(
+            () -> {
+              actorClock.addTime(Duration.ofMinutes(1));
+              verify(lifecycleAware, atLeastOnce()).onWarmUp(any());
+            });
+
+    // then
+    verify(lifecycleAware, TIMEOUT.times(3)).onWarmUp(any());
+  }
+
+  @Test
+  public void shouldNotWarmUpWhenProcessing() {
+    // given
+    streamPlatform.withWarmUpInterval(Duration.ofMinutes(1)).startStreamProcessor();
+    final var lifecycleAware = streamPlatform.getMockProcessorLifecycleAware();
+    verify(lifecycleAware, TIMEOUT).onRecovered(any());
+
+    // when
+    actorClock.addTime(Duration.ofMinutes(2));
+
+    // then
+    verify(lifecycleAware, after(TIMEOUT_MILLIS).never()).onWarmUp(any());
+  }
 }
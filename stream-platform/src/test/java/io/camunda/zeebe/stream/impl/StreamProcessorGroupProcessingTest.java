@@ -0,0 +1,170 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.stream.impl;
+
+import static io.camunda.zeebe.protocol.record.intent.ProcessInstanceIntent.ACTIVATE_ELEMENT;
+import static io.camunda.zeebe.protocol.record.intent.ProcessInstanceIntent.ELEMENT_ACTIVATING;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import io.camunda.zeebe.protocol.record.RecordType;
+import io.camunda.zeebe.protocol.record.RejectionType;
+import io.camunda.zeebe.stream.api.ProcessingResultBuilder;
+import io.camunda.zeebe.stream.api.records.TypedRecord;
+import io.camunda.zeebe.stream.util.RecordToWrite;
+import io.camunda.zeebe.stream.util.Records;
+import java.util.ArrayList;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.verification.VerificationWithTimeout;
+
+@ExtendWith(StreamPlatformExtension.class)
+final class StreamProcessorGroupProcessingTest {
+
+  private static final long TIMEOUT_MILLIS = 2_000L;
+  private static final VerificationWithTimeout TIMEOUT = timeout(TIMEOUT_MILLIS);
+
+  @SuppressWarnings("unused") // injected by the extension
+  private StreamPlatform streamPlatform;
+
+  @Test
+  void shouldPointFollowUpRecordsOfGroupToTheirCommand() {
+    // given
+    final var defaultRecordProcessor = streamPlatform.getDefaultMockedRecordProcessor();
+    when(defaultRecordProcessor.process(any(), any()))
+        .thenAnswer(
+            invocation -> {
+              final TypedRecord<?> command = invocation.getArgument(0);
+              final ProcessingResultBuilder builder = invocation.getArgument(1);
+              builder.appendRecordReturnEither(
+                  command.getKey(),
+                  RecordType.EVENT,
+                  ELEMENT_ACTIVATING,
+                  RejectionType.NULL_VAL,
+                  "",
+                  Records.processInstance(1));
+              return builder.build();
+            });
+    streamPlatform.withMaxCommandsInGroup(3).startStreamProcessor();
+
+    // when
+    final var lastCommandPosition = streamPlatform.writeBatch(command(1), command(2), command(3));
+
+    // then
+    verify(defaultRecordProcessor, TIMEOUT.times(3)).process(any(), any());
+    verify(streamPlatform.getMockStreamProcessorListener(), TIMEOUT.times(3)).onProcessed(any());
+
+    final var logStreamReader = streamPlatform.getLogStream().newLogStreamReader();
+    logStreamReader.seekToNextEvent(lastCommandPosition);
+    final var followUpRecords = new ArrayList<FollowUpRecord>();
+    await("should write follow up events")
+        .untilAsserted(
+            () -> {
+              while (logStreamReader.hasNext()) {
+                final var record = logStreamReader.next();
+                followUpRecords.add(
+                    new FollowUpRecord(record.getKey(), record.getSourceEventPosition()));
+              }
+              assertThat(followUpRecords).hasSize(3);
+            });
+    assertThat(followUpRecords)
+        .containsExactly(
+            new FollowUpRecord(1, lastCommandPosition - 2),
+            new FollowUpRecord(2, lastCommandPosition - 1),
+            new FollowUpRecord(3, lastCommandPosition));
+  }
+
+  @Test
+  void shouldHandleErrorOfGroupedCommandOnItsOwn() {
+    // given
+    final var defaultRecordProcessor = streamPlatform.getDefaultMockedRecordProcessor();
+    final var processingError = new RuntimeException("processing error");
+    // the processed commands are recorded on invocation, as the command instance is reused
+    final var processedKeys = new CopyOnWriteArrayList<Long>();
+    final var failedKeys = new CopyOnWriteArrayList<Long>();
+    when(defaultRecordProcessor.process(any(), any()))
+        .thenAnswer(
+            invocation -> {
+              final TypedRecord<?> command = invocation.getArgument(0);
+              processedKeys.add(command.getKey());
+              if (command.getKey() == 2) {
+                throw processingError;
+              }
+              final ProcessingResultBuilder builder = invocation.getArgument(1);
+              builder.appendRecordReturnEither(
+                  command.getKey(),
+                  RecordType.EVENT,
+                  ELEMENT_ACTIVATING,
+                  RejectionType.NULL_VAL,
+                  "",
+                  Records.processInstance(1));
+              return builder.build();
+            });
+    when(defaultRecordProcessor.onProcessingError(any(), any(), any()))
+        .thenAnswer(
+            invocation -> {
+              final TypedRecord<?> command = invocation.getArgument(1);
+              failedKeys.add(command.getKey());
+              return invocation.<ProcessingResultBuilder>getArgument(2).build();
+            });
+    streamPlatform.withMaxCommandsInGroup(3).startStreamProcessor();
+
+    // when
+    streamPlatform.writeBatch(command(1), command(2), command(3));
+
+    // then
+    verify(streamPlatform.getMockStreamProcessorListener(), TIMEOUT.times(3)).onProcessed(any());
+    // the group is processed again up to the failed command, which is then processed on its own
+    assertThat(processedKeys).containsExactly(1L, 2L, 1L, 2L, 3L);
+    assertThat(failedKeys).containsExactly(2L);
+  }
+
+  @Test
+  void shouldOnlyRetryFailedPostCommitTasksOfGroup() {
+    // given
+    final var defaultRecordProcessor = streamPlatform.getDefaultMockedRecordProcessor();
+    final var firstTaskExecutions = new AtomicInteger();
+    final var secondTaskExecutions = new AtomicInteger();
+    when(defaultRecordProcessor.process(any(), any()))
+        .thenAnswer(
+            invocation -> {
+              final TypedRecord<?> command = invocation.getArgument(0);
+              final ProcessingResultBuilder builder = invocation.getArgument(1);
+              if (command.getKey() == 1) {
+                builder.appendPostCommitTask(() -> firstTaskExecutions.incrementAndGet() > 0);
+              } else {
+                // fails on the first execution
+                builder.appendPostCommitTask(() -> secondTaskExecutions.incrementAndGet() > 1);
+              }
+              return builder.build();
+            });
+    streamPlatform.withMaxCommandsInGroup(2).startStreamProcessor();
+
+    // when
+    streamPlatform.writeBatch(command(1), command(2));
+
+    // then
+    verify(streamPlatform.getMockStreamProcessorListener(), TIMEOUT.times(2)).onProcessed(any());
+    assertThat(secondTaskExecutions).hasValue(2);
+    assertThat(firstTaskExecutions).hasValue(1);
+  }
+
+  private static RecordToWrite command(final long key) {
+    return RecordToWrite.command()
+        .key(key)
+        .processInstance(ACTIVATE_ELEMENT, Records.processInstance(1));
+  }
+
+  private record FollowUpRecord(long key, long sourcePosition) {}
+}
@@ -0,0 +1,402 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.stream.impl;
+
+import static io.camunda.zeebe.protocol.record.intent.ProcessInstanceIntent.ACTIVATE_ELEMENT;
+import static io.camunda.zeebe.protocol.record.intent.ProcessInstanceIntent.ELEMENT_ACTIVATING;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import io.camunda.zeebe.db.ZeebeDb;
+import io.camunda.zeebe.db.impl.rocksdb.transaction.ZeebeTransactionDb;
+import io.camunda.zeebe.protocol.ZbColumnFamilies;
+import io.camunda.zeebe.protocol.impl.record.value.processinstance.ProcessInstanceModificationRecord;
+import io.camunda.zeebe.protocol.impl.record.value.processinstance.ProcessInstanceModificationTerminateInstruction;
+import io.camunda.zeebe.protocol.record.RecordType;
+import io.camunda.zeebe.protocol.record.RejectionType;
+import io.camunda.zeebe.protocol.record.ValueType;
+import io.camunda.zeebe.protocol.record.intent.ProcessInstanceModificationIntent;
+import io.camunda.zeebe.stream.api.ProcessingResult;
+import io.camunda.zeebe.stream.api.ProcessingResultBuilder;
+import io.camunda.zeebe.stream.api.RecordProcessor;
+import io.camunda.zeebe.stream.api.RecordProcessorContext;
+import io.camunda.zeebe.stream.api.records.TypedRecord;
+import io.camunda.zeebe.stream.impl.state.DbKeyGenerator;
+import io.camunda.zeebe.stream.util.DefaultZeebeDbFactory;
+import io.camunda.zeebe.stream.util.RecordToWrite;
+import io.camunda.zeebe.stream.util.Records;
+import io.camunda.zeebe.util.buffer.BufferWriter;
+import io.camunda.zeebe.util.health.FailureListener;
+import java.io.File;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.agrona.concurrent.UnsafeBuffer;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.rocksdb.Transaction;
+import org.rocksdb.WriteOptions;
+
+@ExtendWith(StreamPlatformExtension.class)
+final class StreamProcessorPipelinedProcessingTest {
+
+  private static final long TIMEOUT_MILLIS = 2_000L;
+
+  @SuppressWarnings("unused") // injected by the extension
+  private StreamPlatform streamPlatform;
+
+  @Test
+  void shouldProcessNextCommandOnUncommittedStateOfPreviousCommand() {
+    // given
+    final var processor = new KeyGeneratingProcessor(-1);
+    streamPlatform
+        .withRecordProcessors(List.of(processor))
+        .withMaxCommandsInPipeline(2)
+        .startStreamProcessor();
+
+    // when
+    streamPlatform.writeBatch(command(1), command(2));
+
+    // then
+    await("should process both commands").until(() -> processor.observedKeys.size() == 2);
+    final var first = processor.observedKeys.get(0);
+    final var second = processor.observedKeys.get(1);
+    assertThat(second.generatedKey())
+        .describedAs("the second command sees the state changes of the first one")
+        .isEqualTo(first.generatedKey() + 1);
+    assertThat(second.committedKey())
+        .describedAs("the state changes of the first command are not committed yet")
+        .isEqualTo(first.committedKey());
+  }
+
+  @Test
+  void shouldExecutePostCommitTasksOnceThePipelineIsCommitted() {
+    // given
+    final var processor = new KeyGeneratingProcessor(-1);
+    streamPlatform
+        .withRecordProcessors(List.of(processor))
+        .withMaxCommandsInPipeline(3)
+        .startStreamProcessor();
+
+    // when
+    streamPlatform.writeBatch(command(1), command(2), command(3));
+
+    // then
+    verify(streamPlatform.getMockStreamProcessorListener(), timeout(TIMEOUT_MILLIS).times(3))
+        .onProcessed(any());
+    final var lastGeneratedKey = processor.observedKeys.get(2).generatedKey();
+    assertThat(processor.committedKeysOnPostCommit)
+        .describedAs("the post commit tasks are executed after the whole pipeline is committed")
+        .containsExactly(lastGeneratedKey, lastGeneratedKey, lastGeneratedKey);
+  }
+
+  @Test
+  void shouldWriteFollowUpRecordsOfEachPipelinedCommand() {
+    // given
+    final var processor = new KeyGeneratingProcessor(-1);
+    streamPlatform
+        .withRecordProcessors(List.of(processor))
+        .withMaxCommandsInPipeline(3)
+        .startStreamProcessor();
+
+    // when
+    final var lastCommandPosition = streamPlatform.writeBatch(command(1), command(2), command(3));
+
+    // then
+    final var followUpRecords = new ArrayList<FollowUpRecord>();
+    await("should write follow up events")
+        .untilAsserted(
+            () -> {
+              followUpRecords.clear();
+              streamPlatform
+                  .events()
+                  .filter(event -> event.getPosition() > lastCommandPosition)
+                  .forEach(
+                      event ->
+                          followUpRecords.add(
+                              new FollowUpRecord(event.getKey(), event.getSourceEventPosition())));
+              assertThat(followUpRecords).hasSize(3);
+            });
+    final var firstKey = processor.observedKeys.get(0).generatedKey();
+    assertThat(followUpRecords)
+        .containsExactly(
+            new FollowUpRecord(firstKey, lastCommandPosition - 2),
+            new FollowUpRecord(firstKey + 1, lastCommandPosition - 1),
+            new FollowUpRecord(firstKey + 2, lastCommandPosition));
+  }
+
+  @Test
+  void shouldOnlyRollBackTheFailedCommandOfPipeline() {
+    // given
+    final var processor = new KeyGeneratingProcessor(2);
+    streamPlatform
+        .withRecordProcessors(List.of(processor))
+        .withMaxCommandsInPipeline(3)
+        .startStreamProcessor();
+
+    // when
+    streamPlatform.writeBatch(command(1), command(2), command(3));
+
+    // then
+    verify(streamPlatform.getMockStreamProcessorListener(), timeout(TIMEOUT_MILLIS).times(3))
+        .onProcessed(any());
+    final var first = processor.observedKeys.get(0);
+    final var third = processor.observedKeys.get(2);
+    assertThat(third.generatedKey())
+        .describedAs("the key generated by the failed command is rolled back")
+        .isEqualTo(first.generatedKey() + 1);
+    assertThat(processor.committedKeysOnPostCommit)
+        .describedAs("the state changes of the other commands are committed")
+        .containsOnly(third.generatedKey());
+  }
+
+  @Test
+  void shouldWriteDeferredResponseWithValueOfItsOwnCommand() {
+    // given
+    final var processor = new RespondingProcessor();
+    final var responseWriter = streamPlatform.getMockCommandResponseWriter();
+    when(responseWriter.valueWriter(any()))
+        .thenAnswer(
+            invocation -> {
+              final BufferWriter valueWriter = invocation.getArgument(0);
+              final var buffer = new UnsafeBuffer(new byte[valueWriter.getLength()]);
+              valueWriter.write(buffer, 0);
+              final var value = new ProcessInstanceModificationRecord();
+              value.wrap(buffer);
+              processor.steps.add(
+                  "respond " + value.getTerminateInstructions().get(0).getElementInstanceKey());
+              return responseWriter;
+            });
+    streamPlatform
+        .withRecordProcessors(List.of(processor))
+        .withMaxCommandsInPipeline(2)
+        .startStreamProcessor();
+
+    // when
+    streamPlatform.writeBatch(modification(1), modification(2));
+
+    // then
+    verify(responseWriter, timeout(TIMEOUT_MILLIS).times(2)).tryWriteResponse(anyInt(), anyLong());
+    assertThat(processor.steps)
+        .describedAs("the first response is written after the second command was read")
+        .containsExactly("process 1", "process 2", "respond 1", "respond 2");
+  }
+
+  @Test
+  void shouldRebuildStateFromLogAfterPipelineCouldNotBeCommitted() throws Exception {
+    // given
+    final var failNextTransaction = new AtomicBoolean();
+    final var processor = new KeyGeneratingProcessor(-1);
+    try (final var invalidWriteOptions = new WriteOptions().setSync(true).setDisableWAL(true)) {
+      streamPlatform
+          .withZeebeDbFactory(
+              path -> failingZeebeDb(path, failNextTransaction, invalidWriteOptions))
+          .withRecordProcessors(List.of(processor))
+          .withMaxCommandsInPipeline(2)
+          .startStreamProcessor();
+      final var failureListener = mock(FailureListener.class);
+      streamPlatform.getStreamProcessor().addFailureListener(failureListener);
+
+      // when - the state changes of the pipeline can't be committed
+      failNextTransaction.set(true);
+      final var lastCommandPosition = streamPlatform.writeBatch(command(1), command(2));
+
+      // then - the failure is handled like any other failure of the stream processor
+      verify(failureListener, timeout(TIMEOUT_MILLIS)).onFailure(any());
+      verify(streamPlatform.getMockProcessorLifecycleAware(), timeout(TIMEOUT_MILLIS)).onFailed();
+      assertThat(streamPlatform.getStreamProcessor().isFailed()).isTrue();
+
+      // when - the partition closes the failed stream processor and starts a new one
+      streamPlatform.getZeebeDb().close();
+      streamPlatform.resetMockInvocations();
+      streamPlatform.startStreamProcessor();
+
+      // then - the state is rebuilt by replaying the written follow-up records
+      final var lastGeneratedKey = processor.observedKeys.get(1).generatedKey();
+      assertThat(streamPlatform.getCurrentKey()).isEqualTo(lastGeneratedKey);
+      assertThat(streamPlatform.getLastSuccessfulProcessedRecordPosition())
+          .isEqualTo(lastCommandPosition);
+
+      // and the processing continues after the pipelined commands
+      streamPlatform.writeBatch(command(3));
+      await("should process the next command").until(() -> processor.observedKeys.size() == 3);
+      assertThat(processor.observedKeys.get(2).generatedKey()).isEqualTo(lastGeneratedKey + 1);
+    }
+  }
+
+  private static RecordToWrite command(final long key) {
+    return RecordToWrite.command()
+        .key(key)
+        .processInstance(ACTIVATE_ELEMENT, Records.processInstance(1));
+  }
+
+  private static RecordToWrite modification(final long elementInstanceKey) {
+    final var value =
+        new ProcessInstanceModificationRecord()
+            .setProcessInstanceKey(1)
+            .addTerminateInstruction(
+                new ProcessInstanceModificationTerminateInstruction()
+                    .setElementInstanceKey(elementInstanceKey));
+    return RecordToWrite.command().key(elementInstanceKey).modification(value);
+  }
+
+  /**
+   * Creates a database whose next transaction, once {@code failNextTransaction} is set, can't be
+   * committed due to its invalid write options. This failure is not recoverable.
+   */
+  private static ZeebeDb<ZbColumnFamilies> failingZeebeDb(
+      final File path,
+      final AtomicBoolean failNextTransaction,
+      final WriteOptions invalidWriteOptions) {
+    final var zeebeDb =
+        spy(
+            (ZeebeTransactionDb<ZbColumnFamilies>)
+                DefaultZeebeDbFactory.defaultFactory().createDb(path));
+    doAnswer(
+            invocation -> {
+              final var transaction = (Transaction) invocation.callRealMethod();
+              if (failNextTransaction.getAndSet(false)) {
+                transaction.setWriteOptions(invalidWriteOptions);
+              }
+              return transaction;
+            })
+        .when(zeebeDb)
+        .renewTransaction(any());
+    return zeebeDb;
+  }
+
+  /**
+   * Generates a key within the processing transaction for each command, and observes the key which
+   * is committed at that point and once the post commit task is executed.
+   */
+  private static final class KeyGeneratingProcessor implements RecordProcessor {
+
+    private final List<ObservedKeys> observedKeys = new CopyOnWriteArrayList<>();
+    private final List<Long> committedKeysOnPostCommit = new CopyOnWriteArrayList<>();
+    private final long failingCommandKey;
+    private DbKeyGenerator processingKeyGenerator;
+    private DbKeyGenerator committedKeyGenerator;
+
+    private KeyGeneratingProcessor(final long failingCommandKey) {
+      this.failingCommandKey = failingCommandKey;
+    }
+
+    @Override
+    public void init(final RecordProcessorContext recordProcessorContext) {
+      final var zeebeDb = recordProcessorContext.getZeebeDb();
+      processingKeyGenerator =
+          new DbKeyGenerator(1, zeebeDb, recordProcessorContext.getTransactionContext());
+      committedKeyGenerator = new DbKeyGenerator(1, zeebeDb, zeebeDb.createContext());
+    }
+
+    @Override
+    public boolean accepts(final ValueType valueType) {
+      return true;
+    }
+
+    @Override
+    public void replay(final TypedRecord record) {}
+
+    @Override
+    public ProcessingResult process(
+        final TypedRecord record, final ProcessingResultBuilder processingResultBuilder) {
+      final long generatedKey = processingKeyGenerator.nextKey();
+      observedKeys.add(new ObservedKeys(generatedKey, committedKeyGenerator.getCurrentKey()));
+      if (record.getKey() == failingCommandKey) {
+        throw new IllegalStateException("expected");
+      }
+
+      processingResultBuilder.appendRecordReturnEither(
+          generatedKey,
+          RecordType.EVENT,
+          ELEMENT_ACTIVATING,
+          RejectionType.NULL_VAL,
+          "",
+          Records.processInstance(1));
+      return processingResultBuilder
+          .appendPostCommitTask(
+              () -> committedKeysOnPostCommit.add(committedKeyGenerator.getCurrentKey()))
+          .build();
+    }
+
+    @Override
+    public ProcessingResult onProcessingError(
+        final Throwable processingException,
+        final TypedRecord record,
+        final ProcessingResultBuilder processingResultBuilder) {
+      return processingResultBuilder.build();
+    }
+  }
+
+  /**
+   * Responds to each command with its own value, which keeps its instructions encoded, as they are
+   * never accessed while processing.
+   */
+  private static final class RespondingProcessor implements RecordProcessor {
+
+    private final List<String> steps = new CopyOnWriteArrayList<>();
+
+    @Override
+    public void init(final RecordProcessorContext recordProcessorContext) {}
+
+    @Override
+    public boolean accepts(final ValueType valueType) {
+      return true;
+    }
+
+    @Override
+    public void replay(final TypedRecord record) {}
+
+    @Override
+    public ProcessingResult process(
+        final TypedRecord record, final ProcessingResultBuilder processingResultBuilder) {
+      steps.add("process " + record.getKey());
+      processingResultBuilder.appendRecordReturnEither(
+          record.getKey(),
+          RecordType.EVENT,
+          ProcessInstanceModificationIntent.MODIFIED,
+          RejectionType.NULL_VAL,
+          "",
+          record.getValue());
+      return processingResultBuilder
+          .withResponse(
+              RecordType.EVENT,
+              record.getKey(),
+              ProcessInstanceModificationIntent.MODIFIED,
+              record.getValue(),
+              ValueType.PROCESS_INSTANCE_MODIFICATION,
+              RejectionType.NULL_VAL,
+              "",
+              1,
+              1)
+          .build();
+    }
+
+    @Override
+    public ProcessingResult onProcessingError(
+        final Throwable processingException,
+        final TypedRecord record,
+        final ProcessingResultBuilder processingResultBuilder) {
+      return processingResultBuilder.build();
+    }
+  }
+
+  private record ObservedKeys(long generatedKey, long committedKey) {}
+
+  private record FollowUpRecord(long key, long sourcePosition) {}
+}
@@ -10,15 +10,20 @@ package io.camunda.zeebe.stream.impl;
 import static io.camunda.zeebe.protocol.record.intent.ProcessInstanceIntent.ACTIVATE_ELEMENT;
 import static io.camunda.zeebe.protocol.record.intent.ProcessInstanceIntent.ELEMENT_ACTIVATING;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.inOrder;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
 
 import io.camunda.zeebe.protocol.Protocol;
 import io.camunda.zeebe.stream.api.RecordProcessor;
 import io.camunda.zeebe.stream.api.records.TypedRecord;
 import io.camunda.zeebe.stream.util.RecordToWrite;
 import io.camunda.zeebe.stream.util.Records;
+import io.camunda.zeebe.util.exception.RecoverableException;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicBoolean;
 import org.assertj.core.api.Assertions;
 import org.awaitility.Awaitility;
 import org.junit.jupiter.api.Test;
@@ -282,4 +287,76 @@ final class StreamProcessorReplayTest {
     Assertions.assertThat(Protocol.decodeKeyInPartition(streamPlatform.getCurrentKey()))
         .isEqualTo(19L);
   }
+
+  @Test
+  void shouldReplayMultipleBatchesInOneTransaction() {
+    // given
+    writeCommandWithEvent(Protocol.encodePartitionId(1, 19));
+    writeCommandWithEvent(Protocol.encodePartitionId(1, 20));
+    writeCommandWithEvent(Protocol.encodePartitionId(1, 21));
+
+    // when
+    final var streamProcessor = streamPlatform.withMaxBatchesInReplay(2).startStreamProcessor();
+
+    // then
+    final RecordProcessor recordProcessor = streamPlatform.getDefaultMockedRecordProcessor();
+    verify(recordProcessor, TIMEOUT.times(3)).replay(any());
+
+    Awaitility.await("position has to be set on processing start")
+        .untilAsserted(
+            () ->
+                Assertions.assertThat(streamProcessor.getLastProcessedPositionAsync().join())
+                    .isEqualTo(5L));
+    Assertions.assertThat(streamPlatform.getLastSuccessfulProcessedRecordPosition()).isEqualTo(5);
+    Assertions.assertThat(Protocol.decodeKeyInPartition(streamPlatform.getCurrentKey()))
+        .isEqualTo(21L);
+  }
+
+  @Test
+  void shouldReplayAllBatchesOfTransactionAgainOnRetry() {
+    // given
+    final var keyOfFirstEvent = Protocol.encodePartitionId(1, 19);
+    final var keyOfFailingEvent = Protocol.encodePartitionId(1, 20);
+    writeCommandWithEvent(keyOfFirstEvent);
+    writeCommandWithEvent(keyOfFailingEvent);
+
+    // the replayed records are reused, so their keys are captured when they are replayed
+    final var replayedKeys = new CopyOnWriteArrayList<Long>();
+    final var failed = new AtomicBoolean();
+    final RecordProcessor recordProcessor = streamPlatform.getDefaultMockedRecordProcessor();
+    doAnswer(
+            invocation -> {
+              final TypedRecord<?> event = invocation.getArgument(0);
+              replayedKeys.add(event.getKey());
+              if (event.getKey() == keyOfFailingEvent && failed.compareAndSet(false, true)) {
+                throw new RecoverableException("expected");
+              }
+              return null;
+            })
+        .when(recordProcessor)
+        .replay(any());
+
+    // when - all batches fit into the same transaction
+    final var streamProcessor = streamPlatform.withMaxBatchesInReplay(10).startStreamProcessor();
+
+    // then - the first event is replayed again, as its transaction was rolled back
+    Awaitility.await("position has to be set on processing start")
+        .untilAsserted(
+            () ->
+                Assertions.assertThat(streamProcessor.getLastProcessedPositionAsync().join())
+                    .isEqualTo(3L));
+    Assertions.assertThat(replayedKeys)
+        .containsExactly(keyOfFirstEvent, keyOfFailingEvent, keyOfFirstEvent, keyOfFailingEvent);
+    Assertions.assertThat(Protocol.decodeKeyInPartition(streamPlatform.getCurrentKey()))
+        .isEqualTo(20L);
+  }
+
+  private void writeCommandWithEvent(final long eventKey) {
+    streamPlatform.writeBatch(
+        RecordToWrite.command().processInstance(ACTIVATE_ELEMENT, Records.processInstance(1)),
+        RecordToWrite.event()
+            .key(eventKey)
+            .processInstance(ELEMENT_ACTIVATING, Records.processInstance(1))
+            .causedBy(0));
+  }
 }
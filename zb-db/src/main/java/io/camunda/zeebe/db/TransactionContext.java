@@ -34,4 +34,15 @@ public interface TransactionContext {
    * @return the transaction object
    */
   ZeebeDbTransaction getCurrentTransaction();
+
+  /**
+   * Registers a listener which is called whenever a transaction of this context is rolled back
+   * after it was started. This allows to discard in-memory state which was derived from the
+   * uncommitted changes of the transaction.
+   *
+   * <p>The listener is called on the thread which rolls back the transaction.
+   *
+   * @param listener the listener to call after a rollback
+   */
+  void addRollbackListener(Runnable listener);
 }
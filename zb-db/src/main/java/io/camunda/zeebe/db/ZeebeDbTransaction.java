@@ -38,4 +38,23 @@ public interface ZeebeDbTransaction {
    * @throws Exception if the underlying database has a non recoverable exception thrown
    */
   void rollback() throws Exception;
+
+  /**
+   * Sets a save point, to which the transaction can be rolled back with {@link
+   * #rollbackToSavePoint()}, without discarding the changes made before.
+   *
+   * @throws ZeebeDbException if the underlying database has a recoverable exception thrown
+   * @throws Exception if the underlying database has a non recoverable exception thrown
+   */
+  void setSavePoint() throws Exception;
+
+  /**
+   * Rolls the transaction back to the latest save point, discards all changes made since then and
+   * removes the save point. The rollback listeners are notified, as they can't tell which of their
+   * changes are discarded.
+   *
+   * @throws ZeebeDbException if the underlying database has a recoverable exception thrown
+   * @throws Exception if the underlying database has a non recoverable exception thrown
+   */
+  void rollbackToSavePoint() throws Exception;
 }
@@ -0,0 +1,75 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.db.impl;
+
+import io.camunda.zeebe.db.KeyValuePairVisitor;
+import io.camunda.zeebe.db.TransactionContext;
+import io.camunda.zeebe.db.ZeebeDb;
+import io.camunda.zeebe.util.buffer.BufferUtil;
+import org.agrona.DirectBuffer;
+import org.agrona.collections.MutableInteger;
+import org.agrona.collections.MutableReference;
+
+/**
+ * Reads the entries of a column family in small chunks, without deserializing them. This loads the
+ * entries into the caches of the database, such that later reads of them are served from memory.
+ * Only the public column family API is used, so this works with any {@link ZeebeDb}.
+ */
+public final class ColumnFamilyWarmUp {
+
+  private ColumnFamilyWarmUp() {}
+
+  /**
+   * Reads a chunk of the entries of the given column. A column can be read in several small chunks
+   * by passing the returned key to the next call.
+   *
+   * @param zeebeDb the database to read from
+   * @param column the enum of the column to read
+   * @param context the context that is used to access the database
+   * @param startAtKey the serialized key to start reading at, as returned by the previous call, or
+   *     {@code null} to start at the first entry of the column
+   * @param maxEntries the maximum number of entries to read
+   * @return the serialized key of the entry to continue reading at, or {@code null} if the end of
+   *     the column was reached
+   */
+  public static <ColumnFamilyType extends Enum<ColumnFamilyType>> DirectBuffer readChunk(
+      final ZeebeDb<ColumnFamilyType> zeebeDb,
+      final ColumnFamilyType column,
+      final TransactionContext context,
+      final DirectBuffer startAtKey,
+      final int maxEntries) {
+    if (maxEntries <= 0) {
+      return startAtKey;
+    }
+
+    final var columnFamily =
+        zeebeDb.createColumnFamily(column, context, new DbRawKey(), DbNil.INSTANCE);
+    final var readEntries = new MutableInteger();
+    final var nextKey = new MutableReference<DirectBuffer>();
+    final KeyValuePairVisitor<DbRawKey, DbNil> visitor =
+        (key, value) -> {
+          if (readEntries.getAndIncrement() < maxEntries) {
+            return true;
+          }
+
+          // the key is only a view of the iterator, which is closed after the iteration
+          nextKey.set(BufferUtil.cloneBuffer(key.getKey()));
+          return false;
+        };
+
+    if (startAtKey == null) {
+      columnFamily.whileTrue(visitor);
+    } else {
+      final var startAt = new DbRawKey();
+      startAt.wrap(startAtKey, 0, startAtKey.capacity());
+      columnFamily.whileTrue(startAt, visitor);
+    }
+
+    return nextKey.get();
+  }
+}
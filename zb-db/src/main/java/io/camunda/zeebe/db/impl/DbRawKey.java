@@ -0,0 +1,42 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.db.impl;
+
+import io.camunda.zeebe.db.DbKey;
+import org.agrona.DirectBuffer;
+import org.agrona.MutableDirectBuffer;
+import org.agrona.concurrent.UnsafeBuffer;
+
+/**
+ * This class is used only internally by {@link ColumnFamilyWarmUp} to iterate over the keys of a
+ * column family without knowing their type. It is a view of the serialized key, without the column
+ * family prefix.
+ */
+final class DbRawKey implements DbKey {
+
+  private final DirectBuffer keyView = new UnsafeBuffer(0, 0);
+
+  @Override
+  public void wrap(final DirectBuffer buffer, final int offset, final int length) {
+    keyView.wrap(buffer, offset, length);
+  }
+
+  @Override
+  public void write(final MutableDirectBuffer buffer, final int offset) {
+    buffer.putBytes(offset, keyView, 0, keyView.capacity());
+  }
+
+  @Override
+  public int getLength() {
+    return keyView.capacity();
+  }
+
+  DirectBuffer getKey() {
+    return keyView;
+  }
+}
@@ -7,6 +7,8 @@
  */
 package io.camunda.zeebe.db.impl.rocksdb;
 
+import java.util.HashMap;
+import java.util.Map;
 import java.util.Properties;
 
 public final class RocksDbConfiguration {
@@ -42,6 +44,18 @@ public final class RocksDbConfiguration {
 
   public static final int DEFAULT_IO_RATE_BYTES_PER_SECOND = 0;
 
+  /**
+   * Stores each logical column family in a separate RocksDB column family, instead of prefixing the
+   * keys of all of them and storing them together in the default column family. This allows to tune
+   * each column family separately, and avoids that small but frequently scanned column families
+   * share memtables, filters and compactions with large ones.
+   *
+   * <p>Existing databases are migrated when they are opened with this setting enabled. This is a
+   * one way migration: a database with separate column families can't be opened with this setting
+   * disabled anymore.
+   */
+  public static final boolean DEFAULT_SEPARATE_COLUMN_FAMILIES_ENABLED = false;
+
   private Properties columnFamilyOptions = new Properties();
   private boolean statisticsEnabled = DEFAULT_STATISTICS_ENABLED;
   private long memoryLimit = DEFAULT_MEMORY_LIMIT;
@@ -51,6 +65,15 @@ public final class RocksDbConfiguration {
 
   private boolean sstPartitioningEnabled = DEFAULT_SST_PARTITIONING_ENABLED;
 
+  private boolean separateColumnFamiliesEnabled = DEFAULT_SEPARATE_COLUMN_FAMILIES_ENABLED;
+
+  /**
+   * Options of specific column families, by column family name. Only used if separate column
+   * families are enabled. Like {@link #columnFamilyOptions}, these replace the default options of
+   * the column family completely.
+   */
+  private Map<String, Properties> separateColumnFamilyOptions = new HashMap<>();
+
   /**
    * Defines how many files are kept open by RocksDB, per default it is unlimited (-1). This is done
    * for performance reasons, if we set a value higher then zero it needs to keep track of open
@@ -154,4 +177,24 @@ public final class RocksDbConfiguration {
     this.sstPartitioningEnabled = sstPartitioningEnabled;
     return this;
   }
+
+  public boolean isSeparateColumnFamiliesEnabled() {
+    return separateColumnFamiliesEnabled;
+  }
+
+  public RocksDbConfiguration setSeparateColumnFamiliesEnabled(
+      final boolean separateColumnFamiliesEnabled) {
+    this.separateColumnFamiliesEnabled = separateColumnFamiliesEnabled;
+    return this;
+  }
+
+  public Map<String, Properties> getSeparateColumnFamilyOptions() {
+    return separateColumnFamilyOptions;
+  }
+
+  public RocksDbConfiguration setSeparateColumnFamilyOptions(
+      final Map<String, Properties> separateColumnFamilyOptions) {
+    this.separateColumnFamilyOptions = separateColumnFamilyOptions;
+    return this;
+  }
 }
@@ -36,22 +36,45 @@ import org.rocksdb.SstPartitionerFixedPrefixFactory;
 import org.rocksdb.Statistics;
 import org.rocksdb.StatsLevel;
 import org.rocksdb.TableFormatConfig;
+import org.slf4j.Logger;
 
 public final class ZeebeRocksDbFactory<ColumnFamilyType extends Enum<ColumnFamilyType>>
     implements ZeebeDbFactory<ColumnFamilyType> {
 
+  private static final Logger LOG = Loggers.DB_LOGGER;
+
   static {
     RocksDB.loadLibrary();
   }
 
   private final RocksDbConfiguration rocksDbConfiguration;
   private final ConsistencyChecksSettings consistencyChecksSettings;
+  private final Class<ColumnFamilyType> columnFamilyType;
 
   public ZeebeRocksDbFactory(
       final RocksDbConfiguration rocksDbConfiguration,
       final ConsistencyChecksSettings consistencyChecksSettings) {
+    this(rocksDbConfiguration, consistencyChecksSettings, null);
+  }
+
+  /**
+   * @param columnFamilyType the enum which defines all column families; required if separate column
+   *     families are enabled or the database was migrated to them already, as all of them are
+   *     created when the database is opened
+   */
+  public ZeebeRocksDbFactory(
+      final RocksDbConfiguration rocksDbConfiguration,
+      final ConsistencyChecksSettings consistencyChecksSettings,
+      final Class<ColumnFamilyType> columnFamilyType) {
     this.rocksDbConfiguration = Objects.requireNonNull(rocksDbConfiguration);
     this.consistencyChecksSettings = Objects.requireNonNull(consistencyChecksSettings);
+    this.columnFamilyType = columnFamilyType;
+
+    if (rocksDbConfiguration.isSeparateColumnFamiliesEnabled() && columnFamilyType == null) {
+      throw new IllegalArgumentException(
+          "Expected the column family type to be known when separate column families are enabled,"
+              + " but none was given");
+    }
   }
 
   @Override
@@ -65,24 +88,80 @@ public final class ZeebeRocksDbFactory<ColumnFamilyType extends Enum<ColumnFamil
       final var dbOptions = createDefaultDbOptions(closeables);
       closeables.add(dbOptions);
 
-      final var options = new Options(dbOptions, columnFamilyOptions);
-      closeables.add(options);
+      if (useSeparateColumnFamilies(pathName, dbOptions)) {
+        dbOptions
+            // without WAL, only atomic flushes keep the column families consistent with each other
+            .setAtomicFlush(true)
+            .setCreateMissingColumnFamilies(true)
+            // the memtable budget is computed for a single column family; without a shared limit,
+            // each column family could use all of it
+            .setDbWriteBufferSize(
+                columnFamilyOptions.writeBufferSize() * columnFamilyOptions.maxWriteBufferNumber());
+        db =
+            ZeebeTransactionDb.openTransactionalDbWithSeparateColumnFamilies(
+                dbOptions,
+                columnFamilyOptions,
+                columnFamilyType,
+                name -> createSeparateColumnFamilyOptions(name, columnFamilyOptions, closeables),
+                pathName.getAbsolutePath(),
+                closeables,
+                rocksDbConfiguration,
+                consistencyChecksSettings);
+      } else {
+        final var options = new Options(dbOptions, columnFamilyOptions);
+        closeables.add(options);
 
-      db =
-          ZeebeTransactionDb.openTransactionalDb(
-              options,
-              pathName.getAbsolutePath(),
-              closeables,
-              rocksDbConfiguration,
-              consistencyChecksSettings);
+        db =
+            ZeebeTransactionDb.openTransactionalDb(
+                options,
+                pathName.getAbsolutePath(),
+                closeables,
+                rocksDbConfiguration,
+                consistencyChecksSettings);
+      }
 
     } catch (final RocksDBException e) {
       CloseHelper.quietCloseAll(closeables);
       throw new IllegalStateException("Unexpected error occurred trying to open the database", e);
+    } catch (final RuntimeException e) {
+      CloseHelper.quietCloseAll(closeables);
+      throw e;
     }
     return db;
   }
 
+  /**
+   * The migration to separate column families is one-way: once the entries of a database were moved
+   * to separate column families, it can only be opened with them. The existing layout of the
+   * database therefore takes precedence over the configuration, e.g. when the setting is disabled
+   * again or a snapshot is received from a node which has it enabled.
+   */
+  private boolean useSeparateColumnFamilies(final File pathName, final DBOptions dbOptions) {
+    if (rocksDbConfiguration.isSeparateColumnFamiliesEnabled()) {
+      return true;
+    }
+
+    final var path = pathName.getAbsolutePath();
+    if (!ZeebeTransactionDb.hasSeparateColumnFamilies(path, dbOptions)) {
+      return false;
+    }
+
+    if (columnFamilyType == null) {
+      throw new IllegalStateException(
+          String.format(
+              "Expected to open the database at '%s' without separate column families, but it"
+                  + " was migrated to separate column families already; it can only be opened"
+                  + " if the column family type is known",
+              path));
+    }
+
+    LOG.info(
+        "Opening the database at '{}' with separate column families, although they are disabled,"
+            + " as it was migrated to separate column families already",
+        path);
+    return true;
+  }
+
   private DBOptions createDefaultDbOptions(final List<AutoCloseable> closeables) {
     final var dbOptions =
         new DBOptions()
@@ -92,7 +171,6 @@ public final class ZeebeRocksDbFactory<ColumnFamilyType extends Enum<ColumnFamil
             .setMaxOpenFiles(rocksDbConfiguration.getMaxOpenFiles())
             // 1 flush, 1 compaction
             .setMaxBackgroundJobs(2)
-            // we only use the default CF
             .setCreateMissingColumnFamilies(false)
             // may not be necessary when WAL is disabled, but nevertheless recommended to avoid
             // many small SST files
@@ -141,6 +219,26 @@ public final class ZeebeRocksDbFactory<ColumnFamilyType extends Enum<ColumnFamil
     return createDefaultColumnFamilyOptions(closeables);
   }
 
+  /**
+   * @return the options of a separate column family, which are the options of the default column
+   *     family unless the user provided options for this specific column family
+   */
+  private ColumnFamilyOptions createSeparateColumnFamilyOptions(
+      final String columnFamilyName,
+      final ColumnFamilyOptions defaultOptions,
+      final List<AutoCloseable> closeables) {
+    final var userProvidedOptions =
+        rocksDbConfiguration.getSeparateColumnFamilyOptions().get(columnFamilyName);
+    if (userProvidedOptions == null || userProvidedOptions.isEmpty()) {
+      return defaultOptions;
+    }
+
+    final var columnFamilyOptions = createFromUserOptions(userProvidedOptions);
+    // column family options have to be closed as last
+    closeables.add(0, columnFamilyOptions);
+    return columnFamilyOptions;
+  }
+
   private ColumnFamilyOptions createFromUserOptions(
       final Properties userProvidedColumnFamilyOptions) {
     final var columnFamilyOptions =
@@ -22,6 +22,7 @@ import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.function.BiConsumer;
 import java.util.function.Consumer;
 import org.agrona.DirectBuffer;
+import org.rocksdb.ColumnFamilyHandle;
 import org.rocksdb.ReadOptions;
 import org.rocksdb.RocksIterator;
 
@@ -52,6 +53,8 @@ class TransactionalColumnFamily<
   private final ValueType valueInstance;
   private final KeyType keyInstance;
   private final ColumnFamilyContext columnFamilyContext;
+  private final ColumnFamilyHandle columnFamilyHandle;
+  private final long columnFamilyNativeHandle;
 
   private final ForeignKeyChecker foreignKeyChecker;
 
@@ -69,6 +72,8 @@ class TransactionalColumnFamily<
     this.keyInstance = keyInstance;
     this.valueInstance = valueInstance;
     columnFamilyContext = new ColumnFamilyContext(columnFamily.ordinal());
+    columnFamilyHandle = transactionDb.getColumnFamilyHandle(columnFamily);
+    columnFamilyNativeHandle = transactionDb.getColumnFamilyNativeHandle(columnFamily);
     foreignKeyChecker = new ForeignKeyChecker(transactionDb, consistencyChecksSettings);
   }
 
@@ -82,7 +87,7 @@ class TransactionalColumnFamily<
           assertKeyDoesNotExist(transaction);
           assertForeignKeysExist(transaction, key, value);
           transaction.put(
-              transactionDb.getDefaultNativeHandle(),
+              columnFamilyNativeHandle,
               columnFamilyContext.getKeyBufferArray(),
               columnFamilyContext.getKeyLength(),
               columnFamilyContext.getValueBufferArray(),
@@ -99,7 +104,7 @@ class TransactionalColumnFamily<
           assertKeyExists(transaction);
           assertForeignKeysExist(transaction, key, value);
           transaction.put(
-              transactionDb.getDefaultNativeHandle(),
+              columnFamilyNativeHandle,
               columnFamilyContext.getKeyBufferArray(),
               columnFamilyContext.getKeyLength(),
               columnFamilyContext.getValueBufferArray(),
@@ -115,7 +120,7 @@ class TransactionalColumnFamily<
           columnFamilyContext.writeValue(value);
           assertForeignKeysExist(transaction, key, value);
           transaction.put(
-              transactionDb.getDefaultNativeHandle(),
+              columnFamilyNativeHandle,
               columnFamilyContext.getKeyBufferArray(),
               columnFamilyContext.getKeyLength(),
               columnFamilyContext.getValueBufferArray(),
@@ -130,7 +135,7 @@ class TransactionalColumnFamily<
           columnFamilyContext.writeKey(key);
           final byte[] value =
               transaction.get(
-                  transactionDb.getDefaultNativeHandle(),
+                  columnFamilyNativeHandle,
                   transactionDb.getReadOptionsNativeHandle(),
                   columnFamilyContext.getKeyBufferArray(),
                   columnFamilyContext.getKeyLength());
@@ -213,7 +218,7 @@ class TransactionalColumnFamily<
           columnFamilyContext.writeKey(key);
           assertKeyExists(transaction);
           transaction.delete(
-              transactionDb.getDefaultNativeHandle(),
+              columnFamilyNativeHandle,
               columnFamilyContext.getKeyBufferArray(),
               columnFamilyContext.getKeyLength());
         });
@@ -225,7 +230,7 @@ class TransactionalColumnFamily<
         transaction -> {
           columnFamilyContext.writeKey(key);
           transaction.delete(
-              transactionDb.getDefaultNativeHandle(),
+              columnFamilyNativeHandle,
               columnFamilyContext.getKeyBufferArray(),
               columnFamilyContext.getKeyLength());
         });
@@ -238,7 +243,7 @@ class TransactionalColumnFamily<
           columnFamilyContext.writeKey(key);
           final byte[] value =
               transaction.get(
-                  transactionDb.getDefaultNativeHandle(),
+                  columnFamilyNativeHandle,
                   transactionDb.getReadOptionsNativeHandle(),
                   columnFamilyContext.getKeyBufferArray(),
                   columnFamilyContext.getKeyLength());
@@ -280,7 +285,7 @@ class TransactionalColumnFamily<
     }
     final var value =
         transaction.get(
-            transactionDb.getDefaultNativeHandle(),
+            columnFamilyNativeHandle,
             transactionDb.getReadOptionsNativeHandle(),
             columnFamilyContext.getKeyBufferArray(),
             columnFamilyContext.getKeyLength());
@@ -296,7 +301,7 @@ class TransactionalColumnFamily<
     }
     final var value =
         transaction.get(
-            transactionDb.getDefaultNativeHandle(),
+            columnFamilyNativeHandle,
             transactionDb.getReadOptionsNativeHandle(),
             columnFamilyContext.getKeyBufferArray(),
             columnFamilyContext.getKeyLength());
@@ -318,7 +323,7 @@ class TransactionalColumnFamily<
 
   RocksIterator newIterator(final TransactionContext context, final ReadOptions options) {
     final var currentTransaction = (ZeebeTransaction) context.getCurrentTransaction();
-    return currentTransaction.newIterator(options, transactionDb.getDefaultHandle());
+    return currentTransaction.newIterator(options, columnFamilyHandle);
   }
 
   /**
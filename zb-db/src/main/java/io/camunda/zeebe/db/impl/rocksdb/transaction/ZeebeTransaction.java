@@ -12,6 +12,8 @@ import static io.camunda.zeebe.db.impl.rocksdb.transaction.RocksDbInternal.isRoc
 import io.camunda.zeebe.db.TransactionOperation;
 import io.camunda.zeebe.db.ZeebeDbException;
 import io.camunda.zeebe.db.ZeebeDbTransaction;
+import java.util.ArrayList;
+import java.util.List;
 import org.rocksdb.ColumnFamilyHandle;
 import org.rocksdb.ReadOptions;
 import org.rocksdb.RocksDBException;
@@ -22,8 +24,10 @@ public class ZeebeTransaction implements ZeebeDbTransaction, AutoCloseable {
 
   private final long nativeHandle;
   private final TransactionRenovator transactionRenovator;
+  private final List<Runnable> rollbackListeners = new ArrayList<>();
 
   private boolean inCurrentTransaction;
+  private boolean uncommitted;
   private Transaction transaction;
 
   public ZeebeTransaction(
@@ -72,6 +76,11 @@ public class ZeebeTransaction implements ZeebeDbTransaction, AutoCloseable {
   void resetTransaction() {
     transaction = transactionRenovator.renewTransaction(transaction);
     inCurrentTransaction = true;
+    uncommitted = true;
+  }
+
+  void addRollbackListener(final Runnable listener) {
+    rollbackListeners.add(listener);
   }
 
   boolean isInCurrentTransaction() {
@@ -117,13 +126,50 @@ public class ZeebeTransaction implements ZeebeDbTransaction, AutoCloseable {
     }
   }
 
+  @Override
+  public void setSavePoint() throws RocksDBException {
+    try {
+      transaction.setSavePoint();
+    } catch (final RocksDBException rdbex) {
+      final String errorMessage =
+          "Unexpected error occurred during RocksDB transaction save point.";
+      if (isRocksDbExceptionRecoverable(rdbex)) {
+        throw new ZeebeDbException(errorMessage, rdbex);
+      }
+      throw rdbex;
+    }
+  }
+
+  @Override
+  public void rollbackToSavePoint() throws RocksDBException {
+    try {
+      rollbackListeners.forEach(Runnable::run);
+      transaction.rollbackToSavePoint();
+    } catch (final RocksDBException rdbex) {
+      final String errorMessage =
+          "Unexpected error occurred during RocksDB transaction rollback to save point.";
+      if (isRocksDbExceptionRecoverable(rdbex)) {
+        throw new ZeebeDbException(errorMessage, rdbex);
+      }
+      throw rdbex;
+    }
+  }
+
   void commitInternal() throws RocksDBException {
     inCurrentTransaction = false;
     transaction.commit();
+    uncommitted = false;
   }
 
   void rollbackInternal() throws RocksDBException {
     inCurrentTransaction = false;
+
+    // the context always rolls back after committing, which must not be reported as a rollback
+    if (uncommitted) {
+      uncommitted = false;
+      rollbackListeners.forEach(Runnable::run);
+    }
+
     transaction.rollback();
   }
 
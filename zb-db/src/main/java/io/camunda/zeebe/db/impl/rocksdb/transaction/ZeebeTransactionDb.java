@@ -15,20 +15,35 @@ import io.camunda.zeebe.db.TransactionContext;
 import io.camunda.zeebe.db.ZeebeDb;
 import io.camunda.zeebe.db.ZeebeDbException;
 import io.camunda.zeebe.db.impl.DbNil;
+import io.camunda.zeebe.db.impl.ZeebeDbConstants;
 import io.camunda.zeebe.db.impl.rocksdb.Loggers;
 import io.camunda.zeebe.db.impl.rocksdb.RocksDbConfiguration;
 import java.io.File;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
 import org.rocksdb.Checkpoint;
+import org.rocksdb.ColumnFamilyDescriptor;
 import org.rocksdb.ColumnFamilyHandle;
+import org.rocksdb.ColumnFamilyOptions;
+import org.rocksdb.DBOptions;
+import org.rocksdb.FlushOptions;
 import org.rocksdb.OptimisticTransactionDB;
 import org.rocksdb.Options;
 import org.rocksdb.ReadOptions;
+import org.rocksdb.RocksDB;
 import org.rocksdb.RocksDBException;
+import org.rocksdb.RocksIterator;
 import org.rocksdb.RocksObject;
 import org.rocksdb.Transaction;
+import org.rocksdb.WriteBatch;
 import org.rocksdb.WriteOptions;
 import org.slf4j.Logger;
 
@@ -38,6 +53,10 @@ public class ZeebeTransactionDb<ColumnFamilyNames extends Enum<ColumnFamilyNames
   private static final Logger LOG = Loggers.DB_LOGGER;
   private static final String ERROR_MESSAGE_CLOSE_RESOURCE =
       "Expected to close RocksDB resource successfully, but exception was thrown. Will continue to close remaining resources.";
+  // number of entries moved per write batch when migrating to separate column families
+  private static final int MIGRATION_BATCH_SIZE = 10_000;
+  // these properties describe the block cache, which is shared by all column families
+  private static final String SHARED_PROPERTY_PREFIX = "rocksdb.block-cache";
   private final OptimisticTransactionDB optimisticTransactionDB;
   private final List<AutoCloseable> closables;
   private final ReadOptions prefixReadOptions;
@@ -45,17 +64,48 @@ public class ZeebeTransactionDb<ColumnFamilyNames extends Enum<ColumnFamilyNames
   private final WriteOptions defaultWriteOptions;
   private final ColumnFamilyHandle defaultHandle;
   private final long defaultNativeHandle;
+  private final long readOptionsNativeHandle;
   private final ConsistencyChecksSettings consistencyChecksSettings;
 
+  // only set if each logical column family is stored in a separate RocksDB column family; indexed
+  // by the ordinal of the logical column family
+  private final ColumnFamilyHandle[] separateColumnFamilyHandles;
+  private final long[] separateColumnFamilyNativeHandles;
+
   protected ZeebeTransactionDb(
       final ColumnFamilyHandle defaultHandle,
       final OptimisticTransactionDB optimisticTransactionDB,
       final List<AutoCloseable> closables,
       final RocksDbConfiguration rocksDbConfiguration,
       final ConsistencyChecksSettings consistencyChecksSettings) {
+    this(
+        defaultHandle,
+        optimisticTransactionDB,
+        closables,
+        rocksDbConfiguration,
+        consistencyChecksSettings,
+        null);
+  }
+
+  private ZeebeTransactionDb(
+      final ColumnFamilyHandle defaultHandle,
+      final OptimisticTransactionDB optimisticTransactionDB,
+      final List<AutoCloseable> closables,
+      final RocksDbConfiguration rocksDbConfiguration,
+      final ConsistencyChecksSettings consistencyChecksSettings,
+      final ColumnFamilyHandle[] separateColumnFamilyHandles) {
     this.defaultHandle = defaultHandle;
     defaultNativeHandle = getNativeHandle(defaultHandle);
     this.optimisticTransactionDB = optimisticTransactionDB;
+    this.separateColumnFamilyHandles = separateColumnFamilyHandles;
+    if (separateColumnFamilyHandles != null) {
+      separateColumnFamilyNativeHandles =
+          Arrays.stream(separateColumnFamilyHandles)
+              .mapToLong(ZeebeTransactionDb::getNativeHandle)
+              .toArray();
+    } else {
+      separateColumnFamilyNativeHandles = null;
+    }
     this.closables = closables;
     this.consistencyChecksSettings = consistencyChecksSettings;
 
@@ -70,6 +120,7 @@ public class ZeebeTransactionDb<ColumnFamilyNames extends Enum<ColumnFamilyNames
     closables.add(prefixReadOptions);
     defaultReadOptions = new ReadOptions();
     closables.add(defaultReadOptions);
+    readOptionsNativeHandle = getNativeHandle(defaultReadOptions);
     defaultWriteOptions = new WriteOptions().setDisableWAL(rocksDbConfiguration.isWalDisabled());
     closables.add(defaultWriteOptions);
   }
@@ -95,6 +146,95 @@ public class ZeebeTransactionDb<ColumnFamilyNames extends Enum<ColumnFamilyNames
         consistencyChecksSettings);
   }
 
+  /**
+   * Opens a database which stores each logical column family in a separate RocksDB column family,
+   * instead of multiplexing all of them in the default column family. The RocksDB column families
+   * are named after the logical column families, and missing ones are created when the database is
+   * opened. Entries which are still stored in the default column family, e.g. because the database
+   * was created without separate column families, are moved to their separate column family before
+   * this method returns, such that the database is never used while it is only partly migrated.
+   *
+   * <p>Keys keep their column family prefix, such that the key layout is the same in both modes.
+   *
+   * @param columnFamilyType the enum which defines all logical column families
+   * @param columnFamilyOptions returns the options of the RocksDB column family with the given
+   *     name; the returned options must be closed by the caller after the database is closed
+   */
+  public static <ColumnFamilyNames extends Enum<ColumnFamilyNames>>
+      ZeebeTransactionDb<ColumnFamilyNames> openTransactionalDbWithSeparateColumnFamilies(
+          final DBOptions dbOptions,
+          final ColumnFamilyOptions defaultColumnFamilyOptions,
+          final Class<ColumnFamilyNames> columnFamilyType,
+          final Function<String, ColumnFamilyOptions> columnFamilyOptions,
+          final String path,
+          final List<AutoCloseable> closables,
+          final RocksDbConfiguration rocksDbConfiguration,
+          final ConsistencyChecksSettings consistencyChecksSettings)
+          throws RocksDBException {
+    final var columnFamilies = columnFamilyType.getEnumConstants();
+    final List<ColumnFamilyDescriptor> descriptors = new ArrayList<>();
+    final Set<String> names = new HashSet<>();
+    descriptors.add(
+        new ColumnFamilyDescriptor(RocksDB.DEFAULT_COLUMN_FAMILY, defaultColumnFamilyOptions));
+    for (final var columnFamily : columnFamilies) {
+      final var name = columnFamily.name();
+      names.add(name);
+      descriptors.add(
+          new ColumnFamilyDescriptor(
+              name.getBytes(StandardCharsets.UTF_8), columnFamilyOptions.apply(name)));
+    }
+
+    // RocksDB requires to open all existing column families, even those which are not used anymore
+    for (final byte[] name : listExistingColumnFamilies(path, dbOptions)) {
+      if (!Arrays.equals(name, RocksDB.DEFAULT_COLUMN_FAMILY)
+          && !names.contains(new String(name, StandardCharsets.UTF_8))) {
+        descriptors.add(new ColumnFamilyDescriptor(name, defaultColumnFamilyOptions));
+      }
+    }
+
+    final List<ColumnFamilyHandle> handles = new ArrayList<>();
+    final OptimisticTransactionDB optimisticTransactionDB =
+        OptimisticTransactionDB.open(dbOptions, path, descriptors, handles);
+    closables.add(optimisticTransactionDB);
+    closables.addAll(handles);
+
+    final ZeebeTransactionDb<ColumnFamilyNames> db =
+        new ZeebeTransactionDb<>(
+            handles.get(0),
+            optimisticTransactionDB,
+            closables,
+            rocksDbConfiguration,
+            consistencyChecksSettings,
+            handles.subList(1, columnFamilies.length + 1).toArray(ColumnFamilyHandle[]::new));
+    db.moveFromDefaultColumnFamily(handles);
+    return db;
+  }
+
+  /**
+   * Returns whether the database at the given path stores its logical column families in separate
+   * RocksDB column families, i.e. whether it was opened with {@link
+   * #openTransactionalDbWithSeparateColumnFamilies} before. RocksDB persists the column families of
+   * a database in its manifest, which is part of every checkpoint, so they mark the layout of the
+   * database independently of the configuration it is opened with.
+   *
+   * @return true if the database exists and has any column family besides the default one
+   */
+  public static boolean hasSeparateColumnFamilies(final String path, final DBOptions dbOptions) {
+    return listExistingColumnFamilies(path, dbOptions).stream()
+        .anyMatch(name -> !Arrays.equals(name, RocksDB.DEFAULT_COLUMN_FAMILY));
+  }
+
+  private static List<byte[]> listExistingColumnFamilies(
+      final String path, final DBOptions dbOptions) {
+    try (final var columnFamilyOptions = new ColumnFamilyOptions();
+        final var options = new Options(dbOptions, columnFamilyOptions)) {
+      return RocksDB.listColumnFamilies(options, path);
+    } catch (final RocksDBException e) {
+      // the database does not exist yet
+      return List.of();
+    }
+  }
+
   static long getNativeHandle(final RocksObject object) {
     try {
       return RocksDbInternal.nativeHandle.getLong(object);
@@ -113,11 +253,78 @@ public class ZeebeTransactionDb<ColumnFamilyNames extends Enum<ColumnFamilyNames
   }
 
   protected long getReadOptionsNativeHandle() {
-    return getNativeHandle(defaultReadOptions);
+    return readOptionsNativeHandle;
+  }
+
+  /**
+   * @return the handle of the RocksDB column family in which the entries of the given logical
+   *     column family are stored
+   */
+  protected ColumnFamilyHandle getColumnFamilyHandle(final Enum<?> columnFamily) {
+    if (separateColumnFamilyHandles == null) {
+      return defaultHandle;
+    }
+
+    return separateColumnFamilyHandles[columnFamily.ordinal()];
   }
 
-  protected long getDefaultNativeHandle() {
-    return defaultNativeHandle;
+  protected long getColumnFamilyNativeHandle(final Enum<?> columnFamily) {
+    if (separateColumnFamilyNativeHandles == null) {
+      return defaultNativeHandle;
+    }
+
+    return separateColumnFamilyNativeHandles[columnFamily.ordinal()];
+  }
+
+  /**
+   * Moves all entries of the default column family to the separate column family given by their
+   * prefix. Every write batch moves its entries atomically, so an entry is never lost nor stored
+   * twice. If the migration is interrupted, the remaining entries are moved when the database is
+   * opened the next time.
+   */
+  private void moveFromDefaultColumnFamily(final List<ColumnFamilyHandle> handles)
+      throws RocksDBException {
+    long movedEntries = 0;
+    try (final var readOptions = new ReadOptions().setTotalOrderSeek(true);
+        final RocksIterator iterator =
+            optimisticTransactionDB.newIterator(defaultHandle, readOptions);
+        final WriteBatch batch = new WriteBatch()) {
+      for (iterator.seekToFirst(); iterator.isValid(); iterator.next()) {
+        final byte[] key = iterator.key();
+        final var prefix =
+            key.length < Long.BYTES
+                ? -1
+                : ByteBuffer.wrap(key).order(ZeebeDbConstants.ZB_DB_BYTE_ORDER).getLong();
+        if (prefix < 0 || prefix >= separateColumnFamilyHandles.length) {
+          // not written by a known column family; keep it where it is
+          continue;
+        }
+
+        batch.put(separateColumnFamilyHandles[(int) prefix], key, iterator.value());
+        batch.delete(defaultHandle, key);
+        movedEntries++;
+
+        if (batch.count() >= 2 * MIGRATION_BATCH_SIZE) {
+          optimisticTransactionDB.write(defaultWriteOptions, batch);
+          batch.clear();
+        }
+      }
+
+      if (batch.count() > 0) {
+        optimisticTransactionDB.write(defaultWriteOptions, batch);
+      }
+    }
+
+    if (movedEntries > 0) {
+      // persist the migration before the database is used, as the WAL may be disabled
+      try (final var flushOptions = new FlushOptions().setWaitForFlush(true)) {
+        optimisticTransactionDB.flush(flushOptions, handles);
+      }
+
+      LOG.info(
+          "Moved {} entries from the default column family to separate column families",
+          movedEntries);
+    }
   }
 
   @Override
@@ -147,13 +354,25 @@ public class ZeebeTransactionDb<ColumnFamilyNames extends Enum<ColumnFamilyNames
   public Optional<String> getProperty(final String propertyName) {
     String propertyValue = null;
     try {
-      propertyValue = optimisticTransactionDB.getProperty(defaultHandle, propertyName);
+      if (separateColumnFamilyHandles == null || propertyName.startsWith(SHARED_PROPERTY_PREFIX)) {
+        propertyValue = optimisticTransactionDB.getProperty(defaultHandle, propertyName);
+      } else {
+        propertyValue = String.valueOf(sumPropertyOfAllColumnFamilies(propertyName));
+      }
     } catch (final RocksDBException rde) {
       LOG.debug(rde.getMessage(), rde);
     }
     return Optional.ofNullable(propertyValue);
   }
 
+  private long sumPropertyOfAllColumnFamilies(final String propertyName) throws RocksDBException {
+    long sum = optimisticTransactionDB.getLongProperty(defaultHandle, propertyName);
+    for (final ColumnFamilyHandle handle : separateColumnFamilyHandles) {
+      sum += optimisticTransactionDB.getLongProperty(handle, propertyName);
+    }
+    return sum;
+  }
+
   @Override
   public TransactionContext createContext() {
     final Transaction transaction = optimisticTransactionDB.beginTransaction(defaultWriteOptions);
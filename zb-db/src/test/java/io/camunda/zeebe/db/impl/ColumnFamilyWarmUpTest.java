@@ -0,0 +1,107 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.db.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.camunda.zeebe.db.ColumnFamily;
+import io.camunda.zeebe.db.ZeebeDb;
+import io.camunda.zeebe.db.ZeebeDbFactory;
+import java.io.File;
+import org.agrona.concurrent.UnsafeBuffer;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public final class ColumnFamilyWarmUpTest {
+
+  @Rule public final TemporaryFolder temporaryFolder = new TemporaryFolder();
+  private final ZeebeDbFactory<DefaultColumnFamily> dbFactory =
+      DefaultZeebeDbFactory.getDefaultFactory();
+  private ZeebeDb<DefaultColumnFamily> zeebeDb;
+  private ColumnFamily<DbCompositeKey<DbLong, DbLong>, DbNil> columnFamily;
+  private DbLong firstKey;
+  private DbLong secondKey;
+  private DbCompositeKey<DbLong, DbLong> compositeKey;
+
+  @Before
+  public void setup() throws Exception {
+    final File pathName = temporaryFolder.newFolder();
+    zeebeDb = dbFactory.createDb(pathName);
+
+    firstKey = new DbLong();
+    secondKey = new DbLong();
+    compositeKey = new DbCompositeKey<>(firstKey, secondKey);
+    columnFamily =
+        zeebeDb.createColumnFamily(
+            DefaultColumnFamily.DEFAULT, zeebeDb.createContext(), compositeKey, DbNil.INSTANCE);
+  }
+
+  @Test
+  public void shouldReadAllEntries() {
+    // given
+    insertEntries(3, 5);
+
+    // when
+    final var nextKey =
+        ColumnFamilyWarmUp.readChunk(
+            zeebeDb, DefaultColumnFamily.DEFAULT, zeebeDb.createContext(), null, 15);
+
+    // then
+    assertThat(nextKey).isNull();
+  }
+
+  @Test
+  public void shouldContinueAtReturnedKey() {
+    // given
+    insertEntries(3, 5);
+
+    // when
+    final var nextKey =
+        ColumnFamilyWarmUp.readChunk(
+            zeebeDb, DefaultColumnFamily.DEFAULT, zeebeDb.createContext(), null, 4);
+
+    // then
+    firstKey.wrapLong(0);
+    secondKey.wrapLong(4);
+    final var expectedKey = new UnsafeBuffer(new byte[compositeKey.getLength()]);
+    compositeKey.write(expectedKey, 0);
+    assertThat(nextKey).isEqualTo(expectedKey);
+  }
+
+  @Test
+  public void shouldReadInChunks() {
+    // given
+    insertEntries(3, 5);
+    final var context = zeebeDb.createContext();
+
+    // when
+    var chunks = 1;
+    var nextKey =
+        ColumnFamilyWarmUp.readChunk(zeebeDb, DefaultColumnFamily.DEFAULT, context, null, 4);
+    while (nextKey != null) {
+      nextKey =
+          ColumnFamilyWarmUp.readChunk(zeebeDb, DefaultColumnFamily.DEFAULT, context, nextKey, 4);
+      chunks++;
+    }
+
+    // then
+    assertThat(chunks).isEqualTo(4);
+  }
+
+  private void insertEntries(final long prefixes, final long suffixes) {
+    for (long prefix = 0; prefix < prefixes; prefix++) {
+      firstKey.wrapLong(prefix);
+      for (long suffix = 0; suffix < suffixes; suffix++) {
+        secondKey.wrapLong(suffix);
+        columnFamily.upsert(compositeKey, DbNil.INSTANCE);
+      }
+    }
+  }
+}
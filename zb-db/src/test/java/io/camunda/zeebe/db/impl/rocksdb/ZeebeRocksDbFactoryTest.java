@@ -13,17 +13,29 @@ import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import io.camunda.zeebe.db.ConsistencyChecksSettings;
 import io.camunda.zeebe.db.ZeebeDb;
 import io.camunda.zeebe.db.ZeebeDbFactory;
+import io.camunda.zeebe.db.impl.DbLong;
 import io.camunda.zeebe.db.impl.DefaultColumnFamily;
 import io.camunda.zeebe.db.impl.DefaultZeebeDbFactory;
 import io.camunda.zeebe.util.ByteValue;
 import java.io.File;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
 import java.util.Properties;
+import java.util.concurrent.atomic.AtomicInteger;
 import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.TemporaryFolder;
+import org.rocksdb.ColumnFamilyDescriptor;
+import org.rocksdb.ColumnFamilyHandle;
 import org.rocksdb.ColumnFamilyOptions;
 import org.rocksdb.CompactionPriority;
+import org.rocksdb.DBOptions;
+import org.rocksdb.Options;
+import org.rocksdb.RocksDB;
+import org.rocksdb.RocksDBException;
 
 public final class ZeebeRocksDbFactoryTest {
 
@@ -118,4 +130,214 @@ public final class ZeebeRocksDbFactoryTest {
         .hasMessageContaining(
             "Expected to create column family options for RocksDB, but one or many values are undefined in the context of RocksDB");
   }
+
+  @Test
+  public void shouldStoreColumnFamiliesSeparately() throws Exception {
+    // given
+    final File pathName = temporaryFolder.newFolder();
+    final var factory =
+        new ZeebeRocksDbFactory<TestColumnFamilies>(
+            new RocksDbConfiguration().setSeparateColumnFamiliesEnabled(true),
+            new ConsistencyChecksSettings(true, true),
+            TestColumnFamilies.class);
+
+    // when
+    try (final var db = factory.createDb(pathName)) {
+      putValue(db, TestColumnFamilies.FIRST, 1, 10);
+      putValue(db, TestColumnFamilies.SECOND, 1, 20);
+    }
+
+    // then
+    assertThat(listColumnFamilies(pathName)).contains("FIRST", "SECOND");
+    try (final var db = factory.createDb(pathName)) {
+      assertThat(getValue(db, TestColumnFamilies.FIRST, 1)).isEqualTo(10);
+      assertThat(getValue(db, TestColumnFamilies.SECOND, 1)).isEqualTo(20);
+    }
+  }
+
+  @Test
+  public void shouldMoveEntriesToSeparateColumnFamilies() throws Exception {
+    // given
+    final File pathName = temporaryFolder.newFolder();
+    final ZeebeDbFactory<TestColumnFamilies> prefixedFactory =
+        DefaultZeebeDbFactory.getDefaultFactory();
+    try (final var db = prefixedFactory.createDb(pathName)) {
+      putValue(db, TestColumnFamilies.FIRST, 1, 10);
+      putValue(db, TestColumnFamilies.FIRST, 2, 11);
+      putValue(db, TestColumnFamilies.SECOND, 1, 20);
+    }
+
+    final var separateFactory =
+        new ZeebeRocksDbFactory<TestColumnFamilies>(
+            new RocksDbConfiguration().setSeparateColumnFamiliesEnabled(true),
+            new ConsistencyChecksSettings(true, true),
+            TestColumnFamilies.class);
+
+    // when
+    separateFactory.createDb(pathName).close();
+
+    // then
+    assertThat(countRawEntries(pathName, RocksDB.DEFAULT_COLUMN_FAMILY)).isZero();
+    assertThat(countRawEntries(pathName, "FIRST".getBytes(StandardCharsets.UTF_8))).isEqualTo(2);
+    try (final var db = separateFactory.createDb(pathName)) {
+      assertThat(getValue(db, TestColumnFamilies.FIRST, 1)).isEqualTo(10);
+      assertThat(getValue(db, TestColumnFamilies.FIRST, 2)).isEqualTo(11);
+      assertThat(getValue(db, TestColumnFamilies.SECOND, 1)).isEqualTo(20);
+      assertThat(countEntries(db, TestColumnFamilies.FIRST)).isEqualTo(2);
+    }
+
+    assertThat(listColumnFamilies(pathName)).contains("FIRST", "SECOND");
+  }
+
+  @Test
+  public void shouldFailIfSeparateColumnFamilyPropertiesDontExist() throws Exception {
+    // given
+    final var customProperties = new Properties();
+    customProperties.put("notExistingProperty", String.valueOf(ByteValue.ofMegabytes(16)));
+    final File pathName = temporaryFolder.newFolder();
+
+    final var factory =
+        new ZeebeRocksDbFactory<TestColumnFamilies>(
+            new RocksDbConfiguration()
+                .setSeparateColumnFamiliesEnabled(true)
+                .setSeparateColumnFamilyOptions(Map.of("FIRST", customProperties)),
+            new ConsistencyChecksSettings(),
+            TestColumnFamilies.class);
+
+    // expect
+    assertThatThrownBy(() -> factory.createDb(pathName))
+        .isInstanceOf(IllegalStateException.class)
+        .hasMessageContaining(
+            "Expected to create column family options for RocksDB, but one or many values are undefined in the context of RocksDB");
+  }
+
+  @Test
+  public void shouldOpenSeparateColumnFamiliesEvenIfDisabled() throws Exception {
+    // given
+    final File pathName = temporaryFolder.newFolder();
+    final var separateFactory =
+        new ZeebeRocksDbFactory<TestColumnFamilies>(
+            new RocksDbConfiguration().setSeparateColumnFamiliesEnabled(true),
+            new ConsistencyChecksSettings(true, true),
+            TestColumnFamilies.class);
+    try (final var db = separateFactory.createDb(pathName)) {
+      putValue(db, TestColumnFamilies.FIRST, 1, 10);
+    }
+
+    final var disabledFactory =
+        new ZeebeRocksDbFactory<TestColumnFamilies>(
+            new RocksDbConfiguration(),
+            new ConsistencyChecksSettings(true, true),
+            TestColumnFamilies.class);
+
+    // when
+    try (final var db = disabledFactory.createDb(pathName)) {
+      putValue(db, TestColumnFamilies.SECOND, 1, 20);
+
+      // then
+      assertThat(getValue(db, TestColumnFamilies.FIRST, 1)).isEqualTo(10);
+      assertThat(getValue(db, TestColumnFamilies.SECOND, 1)).isEqualTo(20);
+    }
+
+    assertThat(countRawEntries(pathName, RocksDB.DEFAULT_COLUMN_FAMILY)).isZero();
+    assertThat(countRawEntries(pathName, "SECOND".getBytes(StandardCharsets.UTF_8))).isEqualTo(1);
+  }
+
+  @Test
+  public void shouldFailToOpenSeparateColumnFamiliesWithoutColumnFamilyType() throws Exception {
+    // given
+    final File pathName = temporaryFolder.newFolder();
+    new ZeebeRocksDbFactory<TestColumnFamilies>(
+            new RocksDbConfiguration().setSeparateColumnFamiliesEnabled(true),
+            new ConsistencyChecksSettings(),
+            TestColumnFamilies.class)
+        .createDb(pathName)
+        .close();
+
+    final ZeebeDbFactory<TestColumnFamilies> untypedFactory =
+        DefaultZeebeDbFactory.getDefaultFactory();
+
+    // expect
+    assertThatThrownBy(() -> untypedFactory.createDb(pathName))
+        .isInstanceOf(IllegalStateException.class)
+        .hasMessageContaining("was migrated to separate column families already");
+  }
+
+  @Test
+  public void shouldRequireColumnFamilyTypeForSeparateColumnFamilies() {
+    // expect
+    assertThatThrownBy(
+            () ->
+                new ZeebeRocksDbFactory<TestColumnFamilies>(
+                    new RocksDbConfiguration().setSeparateColumnFamiliesEnabled(true),
+                    new ConsistencyChecksSettings()))
+        .isInstanceOf(IllegalArgumentException.class);
+  }
+
+  private static void putValue(
+      final ZeebeDb<TestColumnFamilies> db,
+      final TestColumnFamilies columnFamily,
+      final long key,
+      final long value) {
+    final var dbKey = new DbLong();
+    final var dbValue = new DbLong();
+    dbKey.wrapLong(key);
+    dbValue.wrapLong(value);
+    db.createColumnFamily(columnFamily, db.createContext(), dbKey, dbValue).upsert(dbKey, dbValue);
+  }
+
+  private static long getValue(
+      final ZeebeDb<TestColumnFamilies> db, final TestColumnFamilies columnFamily, final long key) {
+    final var dbKey = new DbLong();
+    dbKey.wrapLong(key);
+    return db.createColumnFamily(columnFamily, db.createContext(), dbKey, new DbLong())
+        .get(dbKey)
+        .getValue();
+  }
+
+  private static int countEntries(
+      final ZeebeDb<TestColumnFamilies> db, final TestColumnFamilies columnFamily) {
+    final var count = new AtomicInteger();
+    db.createColumnFamily(columnFamily, db.createContext(), new DbLong(), new DbLong())
+        .forEach(value -> count.incrementAndGet());
+    return count.get();
+  }
+
+  private static int countRawEntries(final File pathName, final byte[] columnFamilyName)
+      throws RocksDBException {
+    final var descriptors =
+        listColumnFamilies(pathName).stream()
+            .map(name -> new ColumnFamilyDescriptor(name.getBytes(StandardCharsets.UTF_8)))
+            .toList();
+    final List<ColumnFamilyHandle> handles = new ArrayList<>();
+    try (final var options = new DBOptions();
+        final var db =
+            RocksDB.openReadOnly(options, pathName.getAbsolutePath(), descriptors, handles)) {
+      int count = 0;
+      for (int i = 0; i < descriptors.size(); i++) {
+        if (Arrays.equals(descriptors.get(i).getName(), columnFamilyName)) {
+          try (final var iterator = db.newIterator(handles.get(i))) {
+            for (iterator.seekToFirst(); iterator.isValid(); iterator.next()) {
+              count++;
+            }
+          }
+        }
+      }
+      handles.forEach(ColumnFamilyHandle::close);
+      return count;
+    }
+  }
+
+  private static List<String> listColumnFamilies(final File pathName) throws RocksDBException {
+    try (final var options = new Options()) {
+      return RocksDB.listColumnFamilies(options, pathName.getAbsolutePath()).stream()
+          .map(name -> new String(name, StandardCharsets.UTF_8))
+          .toList();
+    }
+  }
+
+  private enum TestColumnFamilies {
+    FIRST,
+    SECOND
+  }
 }
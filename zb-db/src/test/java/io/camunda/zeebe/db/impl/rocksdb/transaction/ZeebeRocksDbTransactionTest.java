@@ -7,6 +7,7 @@
  */
 package io.camunda.zeebe.db.impl.rocksdb.transaction;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.spy;
@@ -20,6 +21,7 @@ import io.camunda.zeebe.db.impl.DefaultColumnFamily;
 import io.camunda.zeebe.db.impl.DefaultZeebeDbFactory;
 import io.camunda.zeebe.util.exception.RecoverableException;
 import java.io.File;
+import java.util.concurrent.atomic.AtomicInteger;
 import org.junit.Before;
 import org.junit.Rule;
 import org.junit.Test;
@@ -214,4 +216,32 @@ public final class ZeebeRocksDbTransactionTest {
     // when
     currentTransaction.rollback();
   }
+
+  @Test
+  public void shouldNotifyRollbackListenerOnRollback() throws Exception {
+    // given
+    final var rollbacks = new AtomicInteger();
+    transactionContext.addRollbackListener(rollbacks::incrementAndGet);
+    final ZeebeDbTransaction currentTransaction = transactionContext.getCurrentTransaction();
+
+    // when
+    currentTransaction.rollback();
+
+    // then
+    assertThat(rollbacks).hasValue(1);
+  }
+
+  @Test
+  public void shouldNotNotifyRollbackListenerOnCommit() throws Exception {
+    // given
+    final var rollbacks = new AtomicInteger();
+    transactionContext.addRollbackListener(rollbacks::incrementAndGet);
+
+    // when
+    transactionContext.getCurrentTransaction().commit();
+    transactionContext.runInTransaction(() -> {});
+
+    // then
+    assertThat(rollbacks).hasValue(0);
+  }
 }